@@ -49,4 +49,8 @@ public class JSONException extends RuntimeException { // BSI
   public JSONException(String s) {
     super(s);
   }
+
+  public JSONException(String s, Throwable cause) { // BSI
+    super(s, cause);
+  }
 }
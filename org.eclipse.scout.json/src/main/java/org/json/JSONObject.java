@@ -20,6 +20,8 @@
  ******************************************************************************/
 package org.json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -696,6 +698,27 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string directly to the given writer, without building the whole string in
+   * memory. The writer is not flushed nor closed.
+   *
+   * @return the given writer
+   */
+  public Writer write(Writer writer) throws IOException { // BSI
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (JSONException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw e;
+    }
+    stringer.flush();
+    return writer;
+  }
+
   void writeTo(JSONStringer stringer) throws JSONException {
     stringer.object();
     for (Map.Entry<String, Object> entry : nameValuePairs.entrySet()) {
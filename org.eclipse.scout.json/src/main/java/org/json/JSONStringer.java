@@ -20,6 +20,8 @@
  ******************************************************************************/
 package org.json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -70,6 +72,26 @@ public class JSONStringer {
   /** The output data, containing at most one top-level array or object. */
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Number of characters in {@link #out} after which the data is passed to the {@link #writer}.
+   */
+  private static final int WRITER_FLUSH_THRESHOLD = 8192;
+
+  /**
+   * Optional writer the output data is streamed to, null if the data is kept in memory.
+   */
+  private final Writer writer;
+
+  /**
+   * Number of characters already passed to the {@link #writer}.
+   */
+  private long writtenLength;
+
+  /**
+   * Reusable buffer used to pass the output data to the {@link #writer} without copying it into a string.
+   */
+  private char[] writeBuffer;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -120,12 +142,56 @@ public class JSONStringer {
 
   public JSONStringer() {
     indent = null;
+    writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     indent = new String(indentChars);
+    writer = null;
+  }
+
+  /**
+   * Creates a stringer which streams the encoded data to the given writer instead of keeping it in memory. Call
+   * {@link #flush()} after the last value has been encoded. {@link #toString()} always returns null for such a
+   * stringer.
+   */
+  public JSONStringer(Writer writer) { // BSI
+    if (writer == null) {
+      throw new JSONException("Writer must be non-null");
+    }
+    indent = null;
+    this.writer = writer;
+  }
+
+  /**
+   * Passes the encoded data to the writer of this stringer, if any.
+   */
+  public void flush() throws IOException {
+    if (writer == null || out.length() == 0) {
+      return;
+    }
+    int length = out.length();
+    if (writeBuffer == null || writeBuffer.length < length) {
+      writeBuffer = new char[Math.max(length, WRITER_FLUSH_THRESHOLD * 2)];
+    }
+    out.getChars(0, length, writeBuffer, 0);
+    writer.write(writeBuffer, 0, length);
+    writtenLength += length;
+    out.setLength(0);
+  }
+
+  private void flushIfNecessary() throws JSONException {
+    if (writer == null || out.length() < WRITER_FLUSH_THRESHOLD) {
+      return;
+    }
+    try {
+      flush();
+    }
+    catch (IOException e) {
+      throw new JSONException("Cannot write JSON data", e);
+    }
   }
 
   /**
@@ -168,7 +234,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) throws JSONException {
-    if (stack.isEmpty() && out.length() > 0) {
+    if (stack.isEmpty() && (out.length() > 0 || writtenLength > 0)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -191,6 +257,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -250,6 +317,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    flushIfNecessary();
     return this;
   }
 
@@ -373,6 +441,7 @@ public class JSONStringer {
     }
     beforeKey();
     string(name);
+    flushIfNecessary();
     return this;
   }
 
@@ -428,6 +497,6 @@ public class JSONStringer {
    */
   @Override
   public String toString() {
-    return out.length() == 0 ? null : out.toString();
+    return out.length() == 0 || writer != null ? null : out.toString();
   }
 }
@@ -12,13 +12,18 @@ package org.eclipse.scout.rt.client.ui.basic.table;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.exception.VetoException;
 import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData.ColumnType;
 import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
 import org.junit.Test;
 
@@ -70,6 +75,17 @@ public class TableImportTest {
     assertTrue(m_table.getCell(0, 0).isHtmlEnabled());
   }
 
+  @Test
+  public void testColumnarImport() {
+    ColumnarTableData data = new ColumnarTableData(ColumnType.STRING);
+    data.setValueAt(data.addRow(), 0, TEST_VALUE);
+    data.addRow();
+    m_table.replaceRowsByMatrix(new AtomicReference<Object>(data));
+    assertEquals(2, m_table.getRowCount());
+    assertEquals(TEST_VALUE, m_table.getDefaultColumn().getValue(0));
+    assertNull(m_table.getDefaultColumn().getValue(1));
+  }
+
   public static class P_Table extends AbstractTable {
 
     public DefaultColumn getDefaultColumn() {
@@ -17,7 +17,9 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
@@ -338,6 +340,154 @@ public class TableTest {
     Assert.assertEquals("Ipsum", table.getSecondColumn().getValue(table.findRowByKey(Arrays.asList(11, 12, 13))));
   }
 
+  @Test
+  public void testFindRowByKey_KeyChanged() {
+    P_Table table = createTestTable(ITableRow.STATUS_NON_CHANGED);
+    ITableRow row = table.findRowByKey(Collections.singletonList(10));
+    table.getFirstColumn().setValue(row, 12);
+    assertNull(table.findRowByKey(Collections.singletonList(10)));
+    assertEquals(row, table.findRowByKey(Collections.singletonList(12)));
+  }
+
+  @Test
+  public void testFindRowByKey_KeyChangedWhileRowChanging() {
+    P_Table table = createTestTable(ITableRow.STATUS_NON_CHANGED);
+    ITableRow row = table.findRowByKey(Collections.singletonList(10));
+    row.setRowChanging(true);
+    try {
+      table.getFirstColumn().setValue(row, 12);
+      assertEquals(row, table.findRowByKey(Collections.singletonList(12)));
+      assertNull(table.findRowByKey(Collections.singletonList(10)));
+    }
+    finally {
+      row.setRowChanging(false);
+    }
+    assertEquals(row, table.findRowByKey(Collections.singletonList(12)));
+    assertNull(table.findRowByKey(Collections.singletonList(10)));
+  }
+
+  @Test
+  public void testFindRowByKey_RowDeletedWhileRowChanging() {
+    P_Table table = createTestTable(ITableRow.STATUS_NON_CHANGED);
+    ITableRow deletedRow = table.findRowByKey(Collections.singletonList(10));
+    deletedRow.setRowChanging(true);
+    table.deleteRow(deletedRow);
+    deletedRow.setRowChanging(false);
+    assertNull(table.findRowByKey(Collections.singletonList(10)));
+
+    ITableRow row = table.findRowByKey(Collections.singletonList(11));
+    row.setRowChanging(true);
+    try {
+      table.getFirstColumn().setValue(row, 12);
+      assertEquals(row, table.findRowByKey(Collections.singletonList(12)));
+    }
+    finally {
+      row.setRowChanging(false);
+    }
+    assertEquals(row, table.findRowByKey(Collections.singletonList(12)));
+  }
+
+  @Test
+  public void testFindRowByKey_AddedAndDeleted() {
+    P_Table table = createTestTable(ITableRow.STATUS_NON_CHANGED);
+    assertEquals("Lorem", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(10))));
+    addTableRow(table, 20, "Dolor", 1);
+    assertEquals("Dolor", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(20))));
+    table.deleteRow(table.findRowByKey(Collections.singletonList(10)));
+    assertNull(table.findRowByKey(Collections.singletonList(10)));
+    table.deleteAllRows();
+    assertNull(table.findRowByKey(Collections.singletonList(20)));
+  }
+
+  @Test
+  public void testFindRowByKey_DuplicateKeys() {
+    P_Table table = new P_Table();
+    table.initTable();
+    table.setSortEnabled(false);
+    table.addRowsByMatrix(new Object[][]{new Object[]{10, "Lorem"}, new Object[]{11, "Ipsum"}, new Object[]{10, "Dolor"}});
+    assertEquals("Lorem", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(10))));
+    table.moveRow(2, 0);
+    assertEquals("Dolor", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(10))));
+    table.deleteRow(0);
+    assertEquals("Lorem", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(10))));
+  }
+
+  @Test
+  public void testReplaceRows_ByKey() {
+    P_Table table = createTestTable(ITableRow.STATUS_NON_CHANGED);
+    ITableRow lorem = table.findRowByKey(Collections.singletonList(10));
+    ITableRow ipsum = table.findRowByKey(Collections.singletonList(11));
+    final CapturingTableAdapter ta = new CapturingTableAdapter();
+    table.addTableListener(ta);
+
+    table.replaceRows(table.createRowsByMatrix(new Object[][]{new Object[]{12, "Dolor"}, new Object[]{11, "Ipsum"}, new Object[]{10, "Sit"}}, ITableRow.STATUS_NON_CHANGED));
+    assertRowCount(3, 0, table);
+    assertEquals(lorem, table.findRowByKey(Collections.singletonList(10)));
+    assertEquals(ipsum, table.findRowByKey(Collections.singletonList(11)));
+    assertEquals("Sit", table.getSecondColumn().getValue(lorem));
+    assertEquals("Dolor", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(12))));
+    // only the changed row is updated
+    List<ITableRow> updatedRows = new ArrayList<ITableRow>();
+    for (TableEvent e : ta.getEvents()) {
+      if (e.getType() == TableEvent.TYPE_ROWS_UPDATED) {
+        updatedRows.addAll(e.getRows());
+      }
+    }
+    assertEquals(Collections.singletonList(lorem), updatedRows);
+
+    table.replaceRows(table.createRowsByMatrix(new Object[][]{new Object[]{11, "Ipsum"}}, ITableRow.STATUS_NON_CHANGED));
+    assertRowCount(1, 2, table);
+    assertEquals(ipsum, table.getRow(0));
+    assertNull(table.findRowByKey(Collections.singletonList(10)));
+  }
+
+  /**
+   * Reloads a large table where only a few rows are deleted, inserted and changed.
+   */
+  @Test
+  public void testReplaceRows_SmallDelta() {
+    P_Table table = new P_Table();
+    table.initTable();
+    table.addRowsByMatrix(createMatrix(0, 1000, 1000), ITableRow.STATUS_NON_CHANGED);
+    Map<Integer, ITableRow> rowsByKey = new HashMap<Integer, ITableRow>();
+    for (ITableRow row : table.getRows()) {
+      rowsByKey.put(table.getFirstColumn().getValue(row), row);
+    }
+    final CapturingTableAdapter ta = new CapturingTableAdapter();
+    table.addTableListener(ta);
+
+    // keys 0-9 are deleted, 990-999 are changed and 1000-1009 are inserted
+    table.replaceRows(table.createRowsByMatrix(createMatrix(10, 1000, 980), ITableRow.STATUS_NON_CHANGED));
+    assertRowCount(1000, 10, table);
+    for (int key = 0; key < 10; key++) {
+      assertNull(table.findRowByKey(Collections.singletonList(key)));
+    }
+    for (int key = 10; key < 1000; key++) {
+      assertEquals(rowsByKey.get(key), table.findRowByKey(Collections.singletonList(key)));
+    }
+    for (int key = 1000; key < 1010; key++) {
+      assertEquals("Row " + key + " v1", table.getSecondColumn().getValue(table.findRowByKey(Collections.singletonList(key))));
+    }
+
+    List<ITableRow> updatedRows = new ArrayList<ITableRow>();
+    int insertedRowCount = 0;
+    for (TableEvent e : ta.getEvents()) {
+      if (e.getType() == TableEvent.TYPE_ROWS_UPDATED) {
+        updatedRows.addAll(e.getRows());
+      }
+      else if (e.getType() == TableEvent.TYPE_ROWS_INSERTED) {
+        insertedRowCount += e.getRowCount();
+      }
+    }
+    assertEquals(10, insertedRowCount);
+    assertEquals(10, updatedRows.size());
+    for (ITableRow row : updatedRows) {
+      int key = table.getFirstColumn().getValue(row);
+      assertTrue(key >= 990 && key < 1000);
+      assertEquals("Row " + key + " v1", table.getSecondColumn().getValue(row));
+    }
+  }
+
   /**
    * Test of {@link AbstractTable#sort()}. Only sorted by ThridColumn (defined with AlwaysIncludeSortAtBegin in the
    * column).
@@ -403,6 +553,19 @@ public class TableTest {
     return table;
   }
 
+  /**
+   * Creates rows with consecutive keys starting at the given key. The rows from the given index on are marked with a
+   * version in their text.
+   */
+  private static Object[][] createMatrix(int firstKey, int rowCount, int firstChangedRow) {
+    Object[][] rows = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      int key = firstKey + i;
+      rows[i] = new Object[]{key, "Row " + key + (i >= firstChangedRow ? " v1" : "")};
+    }
+    return rows;
+  }
+
   private void fillTable(P_Table table) {
     addTableRow(table, 10, "Lorem", 1);
     addTableRow(table, 1, "A Total", 2);
@@ -12,10 +12,13 @@ package org.eclipse.scout.rt.client.ui.basic.tree;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.tree.AbstractTreeNodeExtension;
@@ -207,6 +210,88 @@ public class AbstractTreeTest {
     assertDisposed(m_node1, m_node2, m_subNode1, m_node1Menu1, m_subNode1Menu1, m_subNode1Menu2);
   }
 
+  @Test
+  public void testFindNodes() {
+    m_node1.setPrimaryKey("node1");
+    m_node2.setPrimaryKey("node2");
+    m_subNode1.setPrimaryKey("subNode1");
+
+    assertSame(m_node1, m_tree.findNode("node1"));
+    assertSame(m_node2, m_tree.findNode("node2"));
+    assertSame(m_subNode1, m_tree.findNode("subNode1"));
+    assertNull(m_tree.findNode("unknown"));
+    assertNull(m_tree.findNode(null));
+    // nodes are returned in the order of the tree
+    assertEquals(CollectionUtility.arrayList(m_node1, m_node2, m_subNode1), m_tree.findNodes(CollectionUtility.arrayList("subNode1", "unknown", "node2", "node1")));
+    // nodes without primary key
+    assertEquals(CollectionUtility.arrayList(m_tree.getRootNode(), m_node1), m_tree.findNodes(Arrays.asList(null, "node1")));
+  }
+
+  @Test
+  public void testFindNodesAfterModifications() {
+    m_node1.setPrimaryKey("node1");
+    m_node2.setPrimaryKey("node2");
+    assertSame(m_node1, m_tree.findNode("node1"));
+    assertNull(m_tree.findNode("subNode1"));
+
+    // primary key changed
+    m_subNode1.setPrimaryKey("subNode1");
+    m_node1.setPrimaryKey("node1a");
+    assertSame(m_subNode1, m_tree.findNode("subNode1"));
+    assertSame(m_node1, m_tree.findNode("node1a"));
+    assertNull(m_tree.findNode("node1"));
+
+    // added subtree
+    P_TreeNode node3 = new P_TreeNode("node3");
+    node3.setPrimaryKey("node3");
+    P_TreeNode subNode3 = new P_TreeNode("subNode3");
+    subNode3.setPrimaryKey("subNode3");
+    node3.addChildNodesInternal(0, CollectionUtility.arrayList(subNode3), true);
+    assertNull(m_tree.findNode("node3"));
+    m_tree.addChildNode(m_tree.getRootNode(), node3);
+    assertSame(node3, m_tree.findNode("node3"));
+    assertSame(subNode3, m_tree.findNode("subNode3"));
+
+    // removed subtree, kept as deleted node
+    m_tree.setAutoDiscardOnDelete(false);
+    m_tree.removeNode(m_node2);
+    assertEquals(1, m_tree.getDeletedNodeCount());
+    assertNull(m_tree.findNode("node2"));
+    assertNull(m_tree.findNode("subNode1"));
+    m_tree.clearDeletedNodes();
+    assertNull(m_tree.findNode("node2"));
+
+    // new root node
+    P_TreeNode root = new P_TreeNode("root");
+    root.addChildNodesInternal(0, CollectionUtility.arrayList(m_node2), true);
+    m_tree.setRootNode(root);
+    assertNull(m_tree.findNode("node1a"));
+    assertNull(m_tree.findNode("node3"));
+    assertSame(m_node2, m_tree.findNode("node2"));
+    assertSame(m_subNode1, m_tree.findNode("subNode1"));
+  }
+
+  @Test
+  public void testFindNodesDuplicateKeys() {
+    m_node2.setPrimaryKey("node2");
+    m_subNode1.setPrimaryKey("duplicate");
+    assertSame(m_subNode1, m_tree.findNode("duplicate"));
+
+    // first node in the order of the tree wins
+    P_TreeNode node3 = new P_TreeNode("node3");
+    node3.setPrimaryKey("duplicate");
+    m_tree.addChildNode(m_tree.getRootNode(), node3);
+    assertSame(m_subNode1, m_tree.findNode("duplicate"));
+    m_node1.setPrimaryKey("duplicate");
+    assertSame(m_node1, m_tree.findNode("duplicate"));
+    assertEquals(CollectionUtility.arrayList(m_node1, m_node2), m_tree.findNodes(CollectionUtility.arrayList("node2", "duplicate")));
+
+    m_tree.removeNode(m_node1);
+    assertSame(m_subNode1, m_tree.findNode("duplicate"));
+    m_subNode1.setPrimaryKey(null);
+    assertSame(node3, m_tree.findNode("duplicate"));
+  }
+
   private static void assertDisposed(ITestDisposable... disposables) {
     for (ITestDisposable disposable : disposables) {
       assertTrue("should be desposed, but is not: " + disposable.getName(), disposable.isDisposed());
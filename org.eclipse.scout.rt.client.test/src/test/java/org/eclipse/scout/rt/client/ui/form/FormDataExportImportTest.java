@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.form;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fixture.TestForm;
+import org.eclipse.scout.rt.shared.data.form.fixture.TestFormData;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link AbstractForm#exportFormData(org.eclipse.scout.rt.shared.data.form.AbstractFormData)} and
+ * {@link AbstractForm#importFormData(org.eclipse.scout.rt.shared.data.form.AbstractFormData)}, which map the fields of
+ * the form to the fields of the form data and copy their properties.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class FormDataExportImportTest {
+
+  @Test
+  public void testExportImportFormData() {
+    TestForm source = new TestForm();
+    source.getText1Field().setValue("t1");
+    source.getG1Box().getText1Field().setValue("g1t1");
+    source.getG3G4Text2Field().setValue("g3g2");
+    TestForm target = new TestForm();
+
+    TestFormData formData = new TestFormData();
+    source.exportFormData(formData);
+    assertEquals("t1", formData.getText1().getValue());
+    assertEquals("g1t1", formData.getG1Box().getText1().getValue());
+    assertEquals("g3g2", formData.getText2().getValue());
+    assertNull(formData.getText4().getValue());
+
+    target.importFormData(formData);
+    assertEquals("t1", target.getText1Field().getValue());
+    assertEquals("g1t1", target.getG1Box().getText1Field().getValue());
+    assertEquals("g3g2", target.getG3G4Text2Field().getValue());
+    assertNull(target.getText4Field().getValue());
+  }
+
+  /**
+   * Repeated round trips between the same forms transfer the current values.
+   */
+  @Test
+  public void testRepeatedExportImportFormData() {
+    TestForm source = new TestForm();
+    TestForm target = new TestForm();
+    for (int i = 0; i < 3; i++) {
+      source.getG1Box().getText1Field().setValue("g1t1 " + i);
+      source.getG3G4Text2Field().setValue(i % 2 == 0 ? "g3g2 " + i : null);
+
+      TestFormData formData = new TestFormData();
+      source.exportFormData(formData);
+      target.importFormData(formData);
+      assertEquals("g1t1 " + i, target.getG1Box().getText1Field().getValue());
+      assertEquals(i % 2 == 0 ? "g3g2 " + i : null, target.getG3G4Text2Field().getValue());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.form;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.client.ui.form.fixture.TestForm;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the instantiation of forms, which reads the model structure and the overwritten hooks of all fields using
+ * {@link ConfigurationUtility}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class FormInstantiationTest {
+
+  /**
+   * Forms created from the cached class metadata have the same structure, but their own fields.
+   */
+  @Test
+  public void testCreateForms() {
+    TestForm first = new TestForm();
+    TestForm second = new TestForm();
+    List<IFormField> firstFields = first.getAllFields();
+    List<IFormField> secondFields = second.getAllFields();
+    assertEquals(getFieldClasses(firstFields), getFieldClasses(secondFields));
+    for (int i = 0; i < firstFields.size(); i++) {
+      assertNotSame(firstFields.get(i), secondFields.get(i));
+      assertEquals(second, secondFields.get(i).getForm());
+    }
+    assertEquals(TestForm.MainBox.G3Box.G4Box.Text2Field.class, second.getG3G4Text2Field().getClass());
+  }
+
+  private static List<Class<?>> getFieldClasses(List<IFormField> fields) {
+    List<Class<?>> classes = new ArrayList<Class<?>>(fields.size());
+    for (IFormField field : fields) {
+      classes.add(field.getClass());
+    }
+    return classes;
+  }
+}
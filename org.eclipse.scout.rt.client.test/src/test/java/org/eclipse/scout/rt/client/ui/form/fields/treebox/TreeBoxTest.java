@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.client.ui.form.fields.treebox;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -264,6 +265,29 @@ public class TreeBoxTest {
     assertTrue(CollectionUtility.equalsCollection(getCheckedTreeNodeKeys(treeBox), CollectionUtility.hashSet(6L, 10L)));
   }
 
+  /**
+   * Finds the nodes of the tree box by their key, as done when the value is synchronized with the tree.
+   */
+  @Test
+  public void testFindNodes() {
+    SimpleTreeBox treeBox = createSimpleTreeBox();
+    ITree tree = treeBox.getTree();
+    for (long key = 1; key <= 14; key++) {
+      assertEquals(Long.valueOf(key), tree.findNode(key).getPrimaryKey());
+    }
+    assertNull(tree.findNode(99L));
+
+    Set<Long> keys = CollectionUtility.hashSet(1L, 9L, 14L, 99L);
+    Set<Object> foundKeys = new HashSet<Object>();
+    for (ITreeNode node : tree.findNodes(keys)) {
+      foundKeys.add(node.getPrimaryKey());
+    }
+    assertEquals(CollectionUtility.<Object> hashSet(1L, 9L, 14L), foundKeys);
+
+    treeBox.setValue(CollectionUtility.hashSet(5L, 12L));
+    assertEquals(CollectionUtility.hashSet(5L, 12L), getCheckedTreeNodeKeys(treeBox));
+  }
+
   private SimpleTreeBox createSimpleTreeBox() {
     SimpleTreeBox treeBox = new SimpleTreeBox();
     treeBox.initField();
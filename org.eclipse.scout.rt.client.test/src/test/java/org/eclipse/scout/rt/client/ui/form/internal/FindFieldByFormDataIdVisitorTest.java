@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.client.ui.form.internal;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
@@ -204,6 +205,33 @@ public class FindFieldByFormDataIdVisitorTest {
     assertSame(innerInnerForm.getThirdField(), field);
   }
 
+  /* --------------------------------------------------------------------------
+   * form data field index
+   * --------------------------------------------------------------------------
+   */
+  @Test
+  public void testFormDataFieldIndex() throws Exception {
+    InnerForm innerForm = m_mainForm.getWrappedFormField().getInnerForm();
+    InnerInnerForm innerInnerForm = innerForm.getWrappedFormField().getInnerForm();
+    String[] fieldQIds = new String[]{
+        FIRST_FIELD_DATA_ID,
+        SECOND_FIELD_DATA_ID,
+        THIRD_FIELD_DATA_ID,
+        "WrappedForm/" + SECOND_FIELD_DATA_ID,
+        "WrappedForm/WrappedForm/" + FIRST_FIELD_DATA_ID,
+        "Unknown"};
+    for (AbstractForm form : new AbstractForm[]{m_mainForm, innerForm, innerInnerForm}) {
+      FormDataFieldIndex index = new FormDataFieldIndex(form);
+      for (String fieldQId : fieldQIds) {
+        FindFieldByFormDataIdVisitor visitor = new FindFieldByFormDataIdVisitor(fieldQId, form);
+        form.visitFields(visitor);
+        assertSame(fieldQId, visitor.getField(), index.findField(fieldQId));
+      }
+    }
+    assertSame(innerInnerForm.getThirdField(), new FormDataFieldIndex(m_mainForm).findField(THIRD_FIELD_DATA_ID));
+    assertNull(new FormDataFieldIndex(m_mainForm).findField("Unknown"));
+  }
+
   /* --------------------------------------------------------------------------
    * fixture
    * --------------------------------------------------------------------------
@@ -61,9 +61,7 @@ public abstract class AbstractActionNode<T extends IActionNode> extends Abstract
    * Configuration
    */
   private List<Class<? extends IActionNode>> getConfiguredChildActions() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IActionNode>> filtered = ConfigurationUtility.filterClasses(dca, IActionNode.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IActionNode.class);
   }
 
   @Override
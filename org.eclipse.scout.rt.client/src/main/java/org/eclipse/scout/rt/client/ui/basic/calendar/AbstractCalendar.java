@@ -173,9 +173,7 @@ public abstract class AbstractCalendar extends AbstractPropertyObserver implemen
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> filtered = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   @ConfigOperation
@@ -119,9 +119,7 @@ public abstract class AbstractCalendarItemProvider extends AbstractPropertyObser
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> filtered = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   /**
@@ -14,6 +14,7 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -153,6 +154,16 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
   private List<ITableRow> m_cachedRows;
 
   private final Map<CompositeObject, ITableRow> m_deletedRows;
+  /**
+   * index of {@link #m_rows} by key, created when first used, see {@link #getRowKeyIndex()}
+   */
+  private TableRowKeyIndex m_rowKeyIndex;
+  /**
+   * number of rows of this table within {@link ITableRow#setRowChanging(boolean)}, see
+   * {@link #setRowChangingInternal(boolean)}
+   */
+  private int m_changingRowCount;
+  private Boolean m_areCellsEqualOverwritten;
   private List<ITableRow/* ordered by rowIndex */> m_selectedRows = new ArrayList<ITableRow>();
   private Set<ITableRow/* ordered by rowIndex */> m_checkedRows = new LinkedHashSet<ITableRow>();
   private Map<Class<?>, Class<? extends IMenu>> m_menuReplacementMapping;
@@ -836,27 +847,19 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> filtered = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   protected List<Class<? extends ITableControl>> getConfiguredTableControls() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<ITableControl>> filtered = ConfigurationUtility.filterClasses(dca, ITableControl.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), ITableControl.class);
   }
 
   private List<Class<? extends IColumn>> getConfiguredColumns() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IColumn>> foca = ConfigurationUtility.filterClasses(dca, IColumn.class);
-    return ConfigurationUtility.removeReplacedClasses(foca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IColumn.class);
   }
 
   private List<Class<? extends IKeyStroke>> getConfiguredKeyStrokes() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IKeyStroke>> fca = ConfigurationUtility.filterClasses(dca, IKeyStroke.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IKeyStroke.class);
   }
 
   protected final void interceptInitConfig() {
@@ -2022,7 +2025,7 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
   private List<CompositeObject> getSelectedKeys() {
     ArrayList<CompositeObject> selectedKeys = new ArrayList<CompositeObject>();
     for (ITableRow r : getSelectedRows()) {
-      selectedKeys.add(new CompositeObject(getRowKeys(r)));
+      selectedKeys.add(TableRowKeyIndex.createKey(getRowKeys(r)));
     }
     return selectedKeys;
   }
@@ -2030,12 +2033,11 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
   private void restoreSelection(List<CompositeObject> selectedKeys) {
     ArrayList<ITableRow> selectedRows = new ArrayList<ITableRow>();
     if (selectedKeys.size() > 0) {
-      for (ITableRow r : m_rows) {
-        if (selectedKeys.remove(new CompositeObject(getRowKeys(r)))) {
-          selectedRows.add(r);
-          if (selectedKeys.size() == 0) {
-            break;
-          }
+      TableRowKeyIndex rowKeyIndex = getRowKeyIndex();
+      for (CompositeObject key : selectedKeys) {
+        ITableRow row = rowKeyIndex.getRow(key);
+        if (row != null) {
+          selectedRows.add(row);
         }
       }
     }
@@ -2043,61 +2045,48 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
   }
 
   /**
-   * Replace rows by applying insert/update/delete on existing rows by primary key match
+   * Replace rows by applying insert/update/delete on existing rows by primary key match. Existing rows are found using
+   * the key index, only rows whose values actually changed are updated.
    */
   private void replaceRowsCase2(List<? extends ITableRow> newRows) {
     try {
       setTableChanging(true);
       //
-      int[] oldToNew = new int[getRowCount()];
-      int[] newToOld = new int[newRows.size()];
-      Arrays.fill(oldToNew, -1);
-      Arrays.fill(newToOld, -1);
-      HashMap<CompositeObject, Integer> newRowIndexMap = new HashMap<CompositeObject, Integer>();
-      for (int i = newRows.size() - 1; i >= 0; i--) {
-        newRowIndexMap.put(new CompositeObject(getRowKeys(newRows.get(i))), Integer.valueOf(i));
-      }
+      TableRowKeyIndex rowKeyIndex = getRowKeyIndex();
+      int rowCount = getRowCount();
+      boolean[] mappedRows = new boolean[rowCount];
       int mappedCount = 0;
-      for (int i = 0, ni = getRowCount(); i < ni; i++) {
-        ITableRow existingRow = m_rows.get(i);
-        Integer newIndex = newRowIndexMap.remove(new CompositeObject(getRowKeys(existingRow)));
-        if (newIndex != null) {
-          oldToNew[i] = newIndex.intValue();
-          newToOld[newIndex.intValue()] = i;
+      List<ITableRow> updatedRows = new ArrayList<ITableRow>();
+      List<ITableRow> insertedRows = new ArrayList<ITableRow>();
+      int[] insertedRowIndexes = new int[newRows.size()];
+      for (int i = 0; i < newRows.size(); i++) {
+        ITableRow newRow = newRows.get(i);
+        ITableRow existingRow = rowKeyIndex.getRow(TableRowKeyIndex.createKey(getRowKeys(newRow)));
+        if (existingRow != null && !mappedRows[existingRow.getRowIndex()]) {
+          mappedRows[existingRow.getRowIndex()] = true;
           mappedCount++;
+          if (replaceRowValues(existingRow, newRow)) {
+            updatedRows.add(existingRow);
+          }
         }
-      }
-      List<ITableRow> updatedRows = new ArrayList<ITableRow>(mappedCount);
-      for (int i = 0; i < oldToNew.length; i++) {
-        if (oldToNew[i] >= 0) {
-          ITableRow existingRow = getRow(i);
-          ITableRow newRow = newRows.get(oldToNew[i]);
-
-          replaceRowValues(existingRow, newRow);
-          updatedRows.add(existingRow);
+        else {
+          insertedRowIndexes[insertedRows.size()] = i;
+          insertedRows.add(newRow);
         }
       }
 
-      List<ITableRow> deletedRows = new ArrayList<ITableRow>(getRowCount() - mappedCount);
-      for (int i = 0; i < oldToNew.length; i++) {
-        if (oldToNew[i] < 0) {
-          deletedRows.add(m_rows.get(i));
-        }
-      }
-      List<ITableRow> insertedRows = new ArrayList<ITableRow>(newRows.size() - mappedCount);
-      int[] insertedRowIndexes = new int[newRows.size() - mappedCount];
-      int index = 0;
-      for (int i = 0; i < newToOld.length; i++) {
-        if (newToOld[i] < 0) {
-          insertedRows.add(newRows.get(i));
-          insertedRowIndexes[index] = i;
-          index++;
+      List<ITableRow> deletedRows = new ArrayList<ITableRow>(rowCount - mappedCount);
+      if (mappedCount < rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+          if (!mappedRows[i]) {
+            deletedRows.add(m_rows.get(i));
+          }
         }
       }
       //
       updateRows(updatedRows);
       deleteRows(deletedRows);
-      addRows(insertedRows, false, insertedRowIndexes);
+      addRows(insertedRows, false, Arrays.copyOf(insertedRowIndexes, insertedRows.size()));
     }
     finally {
       setTableChanging(false);
@@ -2106,12 +2095,17 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
 
   /**
    * Update existing row with values from new row
+   *
+   * @return <code>true</code> if the existing row has changed
    */
-  private void replaceRowValues(ITableRow existingRow, ITableRow newRow) {
+  private boolean replaceRowValues(ITableRow existingRow, ITableRow newRow) {
+    boolean changed;
     try {
       existingRow.setRowChanging(true);
       //
-      existingRow.setEnabled(newRow.isEnabled());
+      if (existingRow.isEnabled() != newRow.isEnabled()) {
+        existingRow.setEnabled(newRow.isEnabled());
+      }
       existingRow.setStatus(newRow.getStatus());
 
       //map values
@@ -2127,9 +2121,11 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
       }
     }
     finally {
+      changed = existingRow.isRowPropertiesChanged();
       existingRow.setRowPropertiesChanged(false);
       existingRow.setRowChanging(false);
     }
+    return changed;
   }
 
   @Override
@@ -2206,6 +2202,9 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
        */
       ensureInvalidColumnsVisible(row);
       Set<Integer> changedColumnValues = row.getUpdatedColumnIndexes(ICell.VALUE_BIT);
+      if (m_rowKeyIndex != null) {
+        m_rowKeyIndex.update(row);
+      }
       if (!changedColumnValues.isEmpty()) {
         enqueueValueChangeTasks(row, changedColumnValues);
       }
@@ -2955,6 +2954,9 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
       newIRow.setTableInternal(this);
       m_rows.add(newIRow);
     }
+    if (m_rowKeyIndex != null) {
+      m_rowKeyIndex.add(newIRow);
+    }
 
     Set<Integer> indexes = new HashSet<Integer>();
     for (int idx : getColumnSet().getAllColumnIndexes()) {
@@ -3108,6 +3110,9 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
             m_rows.clear();
             m_cachedRows = null;
           }
+          if (m_rowKeyIndex != null) {
+            m_rowKeyIndex.clear();
+          }
           for (int i = deletedRows.size() - 1; i >= 0; i--) {
             ITableRow candidateRow = deletedRows.get(i);
             if (candidateRow != null) {
@@ -3128,6 +3133,9 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
                 }
               }
               if (removed) {
+                if (m_rowKeyIndex != null) {
+                  m_rowKeyIndex.remove(candidateRow);
+                }
                 deleteRowImpl(candidateRow);
               }
             }
@@ -3286,6 +3294,21 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
       return null; // no columns in the table: cannot search by keys
     }
 
+    if (isRowKeyIndexApplicable(keys, keyColumns)) {
+      ITableRow row = getRowKeyIndex().getRow(TableRowKeyIndex.createKey(keys.subList(0, keyColumns.size())));
+      if (row != null && areCellsEqual(keys, keyColumns, row)) {
+        return row;
+      }
+      if (row != null) {
+        // the key of the row has changed but the row was not updated yet
+        m_rowKeyIndex = null;
+      }
+      else if (m_changingRowCount <= 0) {
+        return null;
+      }
+      // else: a changing row may already have the searched key, the index is updated when the row change is finished
+    }
+
     for (ITableRow row : m_rows) {
       if (areCellsEqual(keys, keyColumns, row)) {
         return row;
@@ -3294,6 +3317,53 @@ public abstract class AbstractTable extends AbstractPropertyObserver implements
     return null;
   }
 
+  /**
+   * do not use this internal method
+   * <p>
+   * Called by {@link InternalTableRow} when one of its rows starts (<code>true</code>) or finishes
+   * (<code>false</code>) changing, or is attached to or detached from this table while changing. The changes of such a
+   * row are not yet reflected in the key index.
+   */
+  public void setRowChangingInternal(boolean changing) {
+    if (changing) {
+      m_changingRowCount++;
+    }
+    else {
+      m_changingRowCount--;
+    }
+  }
+
+  /**
+   * @return the index of all rows by key, which is maintained from now on
+   */
+  private TableRowKeyIndex getRowKeyIndex() {
+    if (m_rowKeyIndex == null || !m_rowKeyIndex.isValidFor(getColumnSet())) {
+      m_rowKeyIndex = new TableRowKeyIndex(getColumnSet(), getRows());
+    }
+    return m_rowKeyIndex;
+  }
+
+  /**
+   * The key index compares the key values with {@link Object#equals(Object)}. It is only used if the values are
+   * searched for all key columns, no value requires the special handling of {@link CompareUtility#equals(Object, Object)}
+   * and {@link #areCellsEqual(List, List, ITableRow)} is not overwritten.
+   */
+  private boolean isRowKeyIndexApplicable(List<?> searchValues, List<IColumn<?>> keyColumns) {
+    if (searchValues.size() < keyColumns.size()) {
+      return false;
+    }
+    for (int i = 0; i < keyColumns.size(); i++) {
+      Object value = searchValues.get(i);
+      if (value != null && (value.getClass().isArray() || value instanceof Timestamp)) {
+        return false;
+      }
+    }
+    if (m_areCellsEqualOverwritten == null) {
+      m_areCellsEqualOverwritten = ConfigurationUtility.isMethodOverwrite(AbstractTable.class, "areCellsEqual", new Class[]{List.class, List.class, ITableRow.class}, getClass());
+    }
+    return !m_areCellsEqualOverwritten.booleanValue();
+  }
+
   /**
    * Gets if the given cell values are equal to the given search values
    *
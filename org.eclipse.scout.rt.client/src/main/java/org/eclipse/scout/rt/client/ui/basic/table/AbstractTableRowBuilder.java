@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 import org.eclipse.scout.rt.shared.services.common.code.ICode;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 
@@ -113,6 +114,12 @@ public abstract class AbstractTableRowBuilder<T> {
     if (dataMatrix == null) {
       dataMatrix = new Object[0][0];
     }
+    if (dataMatrix instanceof ColumnarTableData) {
+      if (isRef) {
+        ((AtomicReference<?>) dataMatrixOrReference).set(null);
+      }
+      return createRowsByColumnarData((ColumnarTableData) dataMatrix, rowStatus);
+    }
     if (!dataMatrix.getClass().isArray()) {
       throw new IllegalArgumentException("argument must be a matrix value [][]");
     }
@@ -146,6 +153,25 @@ public abstract class AbstractTableRowBuilder<T> {
     return rows;
   }
 
+  /**
+   * Creates a row for each row of the columnar data, the columns are mapped by index. No <code>Object[][]</code> is
+   * materialized.
+   */
+  public List<ITableRow> createRowsByColumnarData(ColumnarTableData data, int rowStatus) {
+    int rowCount = data.getRowCount();
+    int columnCount = data.getColumnCount();
+    List<ITableRow> rows = new ArrayList<ITableRow>(rowCount);
+    for (int r = 0; r < rowCount; r++) {
+      ITableRow row = createEmptyTableRow();
+      for (int c = 0; c < columnCount; c++) {
+        row.setCellValue(c, data.getValueAt(r, c));
+      }
+      row.setStatus(rowStatus);
+      rows.add(row);
+    }
+    return rows;
+  }
+
   public List<ITableRow> createRowsByCodes(Collection<? extends ICode<?>> codes) {
     List<ITableRow> result = new ArrayList<ITableRow>(codes.size());
     for (ICode<?> code : codes) {
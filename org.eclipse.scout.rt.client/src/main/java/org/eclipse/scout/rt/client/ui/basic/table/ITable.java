@@ -35,6 +35,7 @@ import org.eclipse.scout.rt.platform.classid.ITypeWithClassId;
 import org.eclipse.scout.rt.platform.reflect.IPropertyObserver;
 import org.eclipse.scout.rt.platform.status.IStatus;
 import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
 import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldData;
 import org.eclipse.scout.rt.shared.security.CreateCustomColumnPermission;
@@ -620,6 +621,7 @@ public interface ITable extends IPropertyObserver, IDNDSupport, ITypeWithClassId
    * Performance note:<br>
    * Since the matrix may contain large amount of data, the Object[][] can be passed as new AtomicReference
    * <Object>(Object[][]) so that the further processing can set the content of the holder to null while processing.
+   * For large amounts of data a {@link ColumnarTableData} may be passed instead of the Object[][].
    */
   void replaceRowsByMatrix(Object dataMatrix);
 
@@ -986,7 +988,8 @@ public interface ITable extends IPropertyObserver, IDNDSupport, ITypeWithClassId
    * </p>
    *
    * @param dataMatrixOrReference
-   *          Can be an Object[][] or an <code>AtomicReference&lt;Object&gt;</code>(that holds Object[][])
+   *          Can be an Object[][], a {@link ColumnarTableData} or an <code>AtomicReference&lt;Object&gt;</code>(that
+   *          holds one of them)
    * @return the list of the created table rows
    */
   List<ITableRow> createRowsByMatrix(Object dataMatrixOrReference);
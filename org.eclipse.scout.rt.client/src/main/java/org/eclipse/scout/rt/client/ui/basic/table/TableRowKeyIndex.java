@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+
+/**
+ * Index of the rows of a table by their key values (see {@link ITableRow#getKeyValues()}). The index is maintained
+ * incrementally by {@link AbstractTable} when rows are added, updated or deleted.
+ * <p>
+ * Several rows may have the same key values, in this case {@link #getRow(CompositeObject)} returns the one with the
+ * smallest row index, as a linear search over the rows would.
+ *
+ * @since 5.2
+ */
+class TableRowKeyIndex {
+
+  private final ColumnSet m_columnSet;
+  private final int[] m_keyColumnIndexes;
+  private final int m_columnCount;
+  private final Map<CompositeObject, ITableRow> m_rowsByKey;
+  /**
+   * All rows of a key contained more than once, usually empty.
+   */
+  private final Map<CompositeObject, List<ITableRow>> m_duplicateRowsByKey;
+  private final Map<ITableRow, CompositeObject> m_keysByRow;
+
+  TableRowKeyIndex(ColumnSet columnSet, Collection<? extends ITableRow> rows) {
+    m_columnSet = columnSet;
+    m_keyColumnIndexes = columnSet.getKeyColumnIndexes();
+    m_columnCount = columnSet.getColumnCount();
+    m_rowsByKey = new HashMap<CompositeObject, ITableRow>(Math.max(16, rows.size() * 4 / 3 + 1));
+    m_duplicateRowsByKey = new HashMap<CompositeObject, List<ITableRow>>();
+    m_keysByRow = new IdentityHashMap<ITableRow, CompositeObject>(rows.size());
+    for (ITableRow row : rows) {
+      add(row);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if this index was built for the given column set and its (key) columns did not change
+   *         since.
+   */
+  boolean isValidFor(ColumnSet columnSet) {
+    return m_columnSet == columnSet
+        && m_columnCount == columnSet.getColumnCount()
+        && Arrays.equals(m_keyColumnIndexes, columnSet.getKeyColumnIndexes());
+  }
+
+  static CompositeObject createKey(List<?> keyValues) {
+    return new CompositeObject(keyValues);
+  }
+
+  /**
+   * @return the row with the given key or <code>null</code> if no such row exists.
+   */
+  ITableRow getRow(CompositeObject key) {
+    List<ITableRow> duplicateRows = m_duplicateRowsByKey.get(key);
+    if (duplicateRows == null) {
+      return m_rowsByKey.get(key);
+    }
+    ITableRow firstRow = null;
+    for (ITableRow row : duplicateRows) {
+      if (firstRow == null || row.getRowIndex() < firstRow.getRowIndex()) {
+        firstRow = row;
+      }
+    }
+    return firstRow;
+  }
+
+  void add(ITableRow row) {
+    CompositeObject key = createKey(row.getKeyValues());
+    m_keysByRow.put(row, key);
+    addImpl(key, row);
+  }
+
+  void remove(ITableRow row) {
+    CompositeObject key = m_keysByRow.remove(row);
+    if (key != null) {
+      removeImpl(key, row);
+    }
+  }
+
+  /**
+   * Updates the key of the given row, if it has changed.
+   */
+  void update(ITableRow row) {
+    CompositeObject oldKey = m_keysByRow.get(row);
+    if (oldKey == null) {
+      return;
+    }
+    CompositeObject newKey = createKey(row.getKeyValues());
+    if (oldKey.equals(newKey)) {
+      return;
+    }
+    removeImpl(oldKey, row);
+    m_keysByRow.put(row, newKey);
+    addImpl(newKey, row);
+  }
+
+  void clear() {
+    m_rowsByKey.clear();
+    m_duplicateRowsByKey.clear();
+    m_keysByRow.clear();
+  }
+
+  private void addImpl(CompositeObject key, ITableRow row) {
+    ITableRow existingRow = m_rowsByKey.put(key, row);
+    if (existingRow == null) {
+      return;
+    }
+    List<ITableRow> duplicateRows = m_duplicateRowsByKey.get(key);
+    if (duplicateRows == null) {
+      duplicateRows = new ArrayList<ITableRow>(2);
+      duplicateRows.add(existingRow);
+      m_duplicateRowsByKey.put(key, duplicateRows);
+    }
+    duplicateRows.add(row);
+  }
+
+  private void removeImpl(CompositeObject key, ITableRow row) {
+    List<ITableRow> duplicateRows = m_duplicateRowsByKey.get(key);
+    if (duplicateRows == null) {
+      m_rowsByKey.remove(key);
+      return;
+    }
+    for (int i = 0; i < duplicateRows.size(); i++) {
+      if (duplicateRows.get(i) == row) {
+        duplicateRows.remove(i);
+        break;
+      }
+    }
+    m_rowsByKey.put(key, duplicateRows.get(0));
+    if (duplicateRows.size() == 1) {
+      m_duplicateRowsByKey.remove(key);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import java.util.Set;
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.TableRow;
@@ -231,19 +232,35 @@ public class InternalTableRow extends TableRow implements ITableRow, ICellObserv
   public void setRowChanging(boolean b) {
     if (b) {
       m_rowChanging++;
+      if (m_rowChanging == 1) {
+        notifyTableRowChanging(m_table, true);
+      }
     }
     else {
       m_rowChanging--;
-      if (m_rowChanging == 0 && m_rowPropertiesChanged) {
-        m_rowPropertiesChanged = false;
-        if (getTable() != null) {
-          getTable().updateRow(this);
+      if (m_rowChanging == 0) {
+        try {
+          if (m_rowPropertiesChanged) {
+            m_rowPropertiesChanged = false;
+            if (getTable() != null) {
+              getTable().updateRow(this);
+            }
+            m_updatedCells.clear();
+          }
+        }
+        finally {
+          notifyTableRowChanging(m_table, false);
         }
-        m_updatedCells.clear();
       }
     }
   }
 
+  private void notifyTableRowChanging(ITable table, boolean changing) {
+    if (table instanceof AbstractTable) {
+      ((AbstractTable) table).setRowChangingInternal(changing);
+    }
+  }
+
   @Override
   public boolean isRowPropertiesChanged() {
     return m_rowPropertiesChanged;
@@ -279,6 +296,10 @@ public class InternalTableRow extends TableRow implements ITableRow, ICellObserv
    * do not use this internal method
    */
   public void setTableInternal(ITable table) {
+    if (m_rowChanging > 0 && table != m_table) {
+      notifyTableRowChanging(m_table, false);
+      notifyTableRowChanging(table, true);
+    }
     m_table = table;
   }
 
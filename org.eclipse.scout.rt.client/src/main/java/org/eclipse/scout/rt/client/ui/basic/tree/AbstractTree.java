@@ -98,6 +98,11 @@ public abstract class AbstractTree extends AbstractPropertyObserver implements I
   private boolean m_autoDiscardOnDelete;
   private boolean m_autoTitle;
   private final HashMap<Object, ITreeNode> m_deletedNodes;
+  /**
+   * Index of the nodes by their primary key, created by the first {@link #findNode(Object)} or
+   * {@link #findNodes(Collection)}.
+   */
+  private TreeNodeKeyIndex m_nodeKeyIndex;
   private AbstractEventBuffer<TreeEvent> m_eventBuffer;
 
   private Set<ITreeNode> m_nodeDecorationBuffer = new HashSet<ITreeNode>();
@@ -343,15 +348,11 @@ public abstract class AbstractTree extends AbstractPropertyObserver implements I
   }
 
   private List<Class<? extends IKeyStroke>> getConfiguredKeyStrokes() {
-    Class<?>[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IKeyStroke>> fca = ConfigurationUtility.filterClasses(dca, IKeyStroke.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IKeyStroke.class);
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class<?>[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> filtered = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   @Override
@@ -1038,13 +1039,10 @@ public abstract class AbstractTree extends AbstractPropertyObserver implements I
 
   @Override
   public ITreeNode findNode(Object primaryKey) {
-    Collection<ITreeNode> a = findNodes(CollectionUtility.hashSet(primaryKey));
-    if (a != null && a.size() > 0) {
-      return CollectionUtility.firstElement(a);
-    }
-    else {
+    if (primaryKey == null) {
       return null;
     }
+    return getNodeKeyIndex().getNode(primaryKey);
   }
 
   @Override
@@ -1054,17 +1052,73 @@ public abstract class AbstractTree extends AbstractPropertyObserver implements I
     }
 
     final Set<Object> keySet = new HashSet<Object>(primaryKeys);
-    P_AbstractCollectingTreeVisitor v = new P_AbstractCollectingTreeVisitor() {
-      @Override
-      public boolean visit(ITreeNode node) {
-        if (keySet.remove(node.getPrimaryKey())) {
-          addNodeToList(node);
+    if (keySet.contains(null)) {
+      // nodes without primary key are not indexed
+      P_AbstractCollectingTreeVisitor v = new P_AbstractCollectingTreeVisitor() {
+        @Override
+        public boolean visit(ITreeNode node) {
+          if (keySet.remove(node.getPrimaryKey())) {
+            addNodeToList(node);
+          }
+          return !keySet.isEmpty();
         }
-        return !keySet.isEmpty();
+      };
+      visitNode(getRootNode(), v);
+      return v.getNodes();
+    }
+
+    TreeNodeKeyIndex index = getNodeKeyIndex();
+    List<ITreeNode> nodes = new ArrayList<ITreeNode>(keySet.size());
+    for (Object key : keySet) {
+      ITreeNode node = index.getNode(key);
+      if (node != null) {
+        nodes.add(node);
       }
-    };
-    visitNode(getRootNode(), v);
-    return v.getNodes();
+    }
+    TreeNodeKeyIndex.sortPreOrder(nodes);
+    return nodes;
+  }
+
+  private TreeNodeKeyIndex getNodeKeyIndex() {
+    if (m_nodeKeyIndex == null) {
+      final TreeNodeKeyIndex index = new TreeNodeKeyIndex();
+      visitTree(new ITreeVisitor() {
+        @Override
+        public boolean visit(ITreeNode node) {
+          index.add(node);
+          return true;
+        }
+      });
+      m_nodeKeyIndex = index;
+    }
+    return m_nodeKeyIndex;
+  }
+
+  /**
+   * Called by {@link AbstractTreeNode#setTreeInternal(ITree, boolean)} when a node is attached to this tree.
+   */
+  void nodeAttachedInternal(ITreeNode node) {
+    if (m_nodeKeyIndex != null) {
+      m_nodeKeyIndex.add(node);
+    }
+  }
+
+  /**
+   * Called by {@link AbstractTreeNode#setTreeInternal(ITree, boolean)} when a node is detached from this tree.
+   */
+  void nodeDetachedInternal(ITreeNode node) {
+    if (m_nodeKeyIndex != null) {
+      m_nodeKeyIndex.remove(node);
+    }
+  }
+
+  /**
+   * Called by {@link AbstractTreeNode#setPrimaryKey(Object)} when the primary key of a node of this tree is changed.
+   */
+  void nodePrimaryKeyChangedInternal(ITreeNode node) {
+    if (m_nodeKeyIndex != null) {
+      m_nodeKeyIndex.update(node);
+    }
   }
 
   @Override
@@ -1330,7 +1384,7 @@ public abstract class AbstractTree extends AbstractPropertyObserver implements I
   @Override
   public boolean isNodeChecked(ITreeNode node) {
     if (node != null) {
-      return getCheckedNodes().contains(node);
+      return m_checkedNodes.contains(node);
     }
     else {
       return false;
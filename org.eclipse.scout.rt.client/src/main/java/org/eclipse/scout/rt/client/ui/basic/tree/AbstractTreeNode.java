@@ -197,9 +197,7 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class<?>[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> filtered = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    return ConfigurationUtility.removeReplacedClasses(filtered);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   protected final void interceptInitConfig() {
@@ -743,6 +741,9 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
   @Override
   public void setPrimaryKey(Object key) {
     m_primaryKey = key;
+    if (m_tree instanceof AbstractTree) {
+      ((AbstractTree) m_tree).nodePrimaryKeyChangedInternal(this);
+    }
   }
 
   @Override
@@ -1076,7 +1077,17 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
    */
   @Override
   public void setTreeInternal(ITree tree, boolean includeSubtree) {
+    ITree oldTree = m_tree;
     m_tree = tree;
+    // keep the primary key index of the trees up to date
+    if (oldTree != tree) {
+      if (oldTree instanceof AbstractTree) {
+        ((AbstractTree) oldTree).nodeDetachedInternal(this);
+      }
+      if (tree instanceof AbstractTree) {
+        ((AbstractTree) tree).nodeAttachedInternal(this);
+      }
+    }
     if (includeSubtree) {
       synchronized (m_childNodeListLock) {
         for (Iterator<ITreeNode> it = m_childNodeList.iterator(); it.hasNext();) {
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.basic.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the nodes of a tree by their primary key (see {@link ITreeNode#getPrimaryKey()}). Nodes without primary key
+ * are not indexed. The index is created by {@link AbstractTree} on the first lookup of a node and then maintained
+ * incrementally when nodes are attached to or detached from the tree (see
+ * {@link ITreeNode#setTreeInternal(ITree, boolean)}) or their primary key changes.
+ * <p>
+ * Several nodes may have the same primary key, in this case {@link #getNode(Object)} returns the first one in pre-order,
+ * as {@link ITree#visitTree(ITreeVisitor)} would.
+ *
+ * @since 5.2
+ */
+class TreeNodeKeyIndex {
+
+  private final Map<Object, ITreeNode> m_nodesByKey;
+  /**
+   * All nodes of a key contained more than once, usually empty.
+   */
+  private final Map<Object, List<ITreeNode>> m_duplicateNodesByKey;
+  private final Map<ITreeNode, Object> m_keysByNode;
+
+  TreeNodeKeyIndex() {
+    m_nodesByKey = new HashMap<Object, ITreeNode>();
+    m_duplicateNodesByKey = new HashMap<Object, List<ITreeNode>>();
+    m_keysByNode = new IdentityHashMap<ITreeNode, Object>();
+  }
+
+  /**
+   * @return the node with the given primary key or <code>null</code> if no such node exists.
+   */
+  ITreeNode getNode(Object key) {
+    List<ITreeNode> duplicateNodes = m_duplicateNodesByKey.get(key);
+    if (duplicateNodes == null) {
+      return m_nodesByKey.get(key);
+    }
+    ITreeNode firstNode = null;
+    int[] firstPath = null;
+    for (ITreeNode node : duplicateNodes) {
+      int[] path = getChildIndexPath(node);
+      if (firstNode == null || comparePaths(path, firstPath) < 0) {
+        firstNode = node;
+        firstPath = path;
+      }
+    }
+    return firstNode;
+  }
+
+  void add(ITreeNode node) {
+    Object key = node.getPrimaryKey();
+    if (key == null || m_keysByNode.containsKey(node)) {
+      return;
+    }
+    m_keysByNode.put(node, key);
+    addImpl(key, node);
+  }
+
+  void remove(ITreeNode node) {
+    Object key = m_keysByNode.remove(node);
+    if (key != null) {
+      removeImpl(key, node);
+    }
+  }
+
+  /**
+   * Updates the primary key of the given node, which is attached to the tree.
+   */
+  void update(ITreeNode node) {
+    Object oldKey = m_keysByNode.get(node);
+    Object newKey = node.getPrimaryKey();
+    if (oldKey == null ? newKey == null : oldKey.equals(newKey)) {
+      return;
+    }
+    if (oldKey != null) {
+      m_keysByNode.remove(node);
+      removeImpl(oldKey, node);
+    }
+    if (newKey != null) {
+      m_keysByNode.put(node, newKey);
+      addImpl(newKey, node);
+    }
+  }
+
+  private void addImpl(Object key, ITreeNode node) {
+    ITreeNode existingNode = m_nodesByKey.put(key, node);
+    if (existingNode == null) {
+      return;
+    }
+    List<ITreeNode> duplicateNodes = m_duplicateNodesByKey.get(key);
+    if (duplicateNodes == null) {
+      duplicateNodes = new ArrayList<ITreeNode>(2);
+      duplicateNodes.add(existingNode);
+      m_duplicateNodesByKey.put(key, duplicateNodes);
+    }
+    duplicateNodes.add(node);
+  }
+
+  private void removeImpl(Object key, ITreeNode node) {
+    List<ITreeNode> duplicateNodes = m_duplicateNodesByKey.get(key);
+    if (duplicateNodes == null) {
+      m_nodesByKey.remove(key);
+      return;
+    }
+    for (int i = 0; i < duplicateNodes.size(); i++) {
+      if (duplicateNodes.get(i) == node) {
+        duplicateNodes.remove(i);
+        break;
+      }
+    }
+    m_nodesByKey.put(key, duplicateNodes.get(0));
+    if (duplicateNodes.size() == 1) {
+      m_duplicateNodesByKey.remove(key);
+    }
+  }
+
+  /**
+   * Sorts nodes of the same tree in the order {@link ITree#visitTree(ITreeVisitor)} visits them.
+   */
+  static void sortPreOrder(List<ITreeNode> nodes) {
+    if (nodes.size() < 2) {
+      return;
+    }
+    final Map<ITreeNode, int[]> paths = new IdentityHashMap<ITreeNode, int[]>(nodes.size());
+    for (ITreeNode node : nodes) {
+      paths.put(node, getChildIndexPath(node));
+    }
+    Collections.sort(nodes, new Comparator<ITreeNode>() {
+      @Override
+      public int compare(ITreeNode node1, ITreeNode node2) {
+        return comparePaths(paths.get(node1), paths.get(node2));
+      }
+    });
+  }
+
+  /**
+   * @return the child node indexes of the given node and its ancestors, starting at the root node.
+   */
+  private static int[] getChildIndexPath(ITreeNode node) {
+    int depth = 0;
+    for (ITreeNode n = node; n != null; n = n.getParentNode()) {
+      depth++;
+    }
+    int[] path = new int[depth];
+    for (ITreeNode n = node; n != null; n = n.getParentNode()) {
+      path[--depth] = n.getChildNodeIndex();
+    }
+    return path;
+  }
+
+  private static int comparePaths(int[] path1, int[] path2) {
+    int commonLength = Math.min(path1.length, path2.length);
+    for (int i = 0; i < commonLength; i++) {
+      if (path1[i] != path2[i]) {
+        return path1[i] < path2[i] ? -1 : 1;
+      }
+    }
+    // a node is visited before its descendants
+    return path1.length - path2.length;
+  }
+}
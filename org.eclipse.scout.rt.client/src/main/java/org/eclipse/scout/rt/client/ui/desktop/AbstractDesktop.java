@@ -293,9 +293,7 @@ public abstract class AbstractDesktop extends AbstractPropertyObserver implement
   }
 
   private List<Class<? extends IAction>> getConfiguredActions() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IAction>> fca = ConfigurationUtility.filterClasses(dca, IAction.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IAction.class);
   }
 
   /**
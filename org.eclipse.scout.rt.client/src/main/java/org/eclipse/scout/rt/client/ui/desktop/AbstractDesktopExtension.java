@@ -367,9 +367,7 @@ public abstract class AbstractDesktopExtension implements IDesktopExtension {
   }
 
   private List<Class<? extends IAction>> getConfiguredActions() {
-    Class<?>[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IAction>> fca = ConfigurationUtility.filterClasses(dca, IAction.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IAction.class);
   }
 
 }
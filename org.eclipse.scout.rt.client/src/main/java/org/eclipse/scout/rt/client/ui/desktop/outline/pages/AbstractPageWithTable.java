@@ -65,6 +65,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledException;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
 import org.eclipse.scout.rt.shared.ScoutTexts;
 import org.eclipse.scout.rt.shared.TEXTS;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 import org.eclipse.scout.rt.shared.data.page.AbstractTablePageData;
 import org.eclipse.scout.rt.shared.extension.IContributionOwner;
 import org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter;
@@ -700,6 +701,18 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     getTable().replaceRowsByMatrix(new AtomicReference<Object>(data));
   }
 
+  /**
+   * Import data stored column by column, e.g. selected with <code>SQL.selectColumnar</code>. Avoids the
+   * <code>Object[][]</code> matrix for pages with many rows.
+   *
+   * @param data
+   * @since 5.2
+   */
+  protected void importTableData(ColumnarTableData data) {
+    //do NOT reference the result data object and wrap it into a ref, so the processor is allowed to release it sooner
+    getTable().replaceRowsByMatrix(new AtomicReference<Object>(data));
+  }
+
   /**
    * load table data
    */
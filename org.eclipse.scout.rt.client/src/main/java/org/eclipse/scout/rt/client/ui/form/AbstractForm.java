@@ -84,8 +84,9 @@ import org.eclipse.scout.rt.client.ui.form.fields.composer.IComposerField;
 import org.eclipse.scout.rt.client.ui.form.fields.groupbox.IGroupBox;
 import org.eclipse.scout.rt.client.ui.form.fields.tabbox.ITabBox;
 import org.eclipse.scout.rt.client.ui.form.fields.wrappedform.IWrappedFormField;
-import org.eclipse.scout.rt.client.ui.form.internal.FindFieldByFormDataIdVisitor;
 import org.eclipse.scout.rt.client.ui.form.internal.FindFieldByXmlIdsVisitor;
+import org.eclipse.scout.rt.client.ui.form.internal.FormDataFieldIndex;
+import org.eclipse.scout.rt.client.ui.form.internal.FormDataPropertyCache;
 import org.eclipse.scout.rt.client.ui.form.internal.FormDataPropertyFilter;
 import org.eclipse.scout.rt.client.ui.messagebox.IMessageBox;
 import org.eclipse.scout.rt.client.ui.messagebox.MessageBoxes;
@@ -1006,7 +1007,7 @@ public abstract class AbstractForm extends AbstractPropertyObserver implements I
       Class<?> dto = getDataAnnotationValue(ex.getClass());
       if (dto != null && !Object.class.equals(dto)) {
         Object propertyTarget = target.getContribution(dto);
-        Map<String, Object> fieldProperties = BeanUtility.getProperties(ex, AbstractFormField.class, new FormDataPropertyFilter());
+        Map<String, Object> fieldProperties = FormDataPropertyCache.getProperties(ex, AbstractFormField.class, new FormDataPropertyFilter());
         BeanUtility.setProperties(propertyTarget, fieldProperties, false, null);
       }
     }
@@ -1020,25 +1021,24 @@ public abstract class AbstractForm extends AbstractPropertyObserver implements I
   @Override
   public void exportFormData(final AbstractFormData target) {
     // locally declared form properties
-    Map<String, Object> properties = BeanUtility.getProperties(this, AbstractForm.class, new FormDataPropertyFilter());
+    Map<String, Object> properties = FormDataPropertyCache.getProperties(this, AbstractForm.class, new FormDataPropertyFilter());
     BeanUtility.setProperties(target, properties, false, null);
     // properties in extensions of form
     exportExtensionProperties(this, target);
     final Set<IFormField> exportedFields = new HashSet<IFormField>();
 
     // all fields
+    FormDataFieldIndex fieldIndex = new FormDataFieldIndex(this);
     Map<Integer, Map<String/* qualified field id */, AbstractFormFieldData>> breadthFirstMap = target.getAllFieldsRec();
     for (Map<String/* qualified field id */, AbstractFormFieldData> targetMap : breadthFirstMap.values()) {
       for (Map.Entry<String, AbstractFormFieldData> e : targetMap.entrySet()) {
         String fieldQId = e.getKey();
         AbstractFormFieldData data = e.getValue();
 
-        FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, this);
-        visitFields(v);
-        IFormField f = v.getField();
+        IFormField f = fieldIndex.findField(fieldQId);
         if (f != null) {
           // field properties
-          properties = BeanUtility.getProperties(f, AbstractFormField.class, new FormDataPropertyFilter());
+          properties = FormDataPropertyCache.getProperties(f, AbstractFormField.class, new FormDataPropertyFilter());
           BeanUtility.setProperties(data, properties, false, null);
           exportExtensionProperties(f, data);
 
@@ -1105,7 +1105,7 @@ public abstract class AbstractForm extends AbstractPropertyObserver implements I
 
   private void importProperties(IPropertyHolder source, Object target, Class<?> stopClass, IPropertyFilter filter) {
     // local properties
-    Map<String, Object> properties = BeanUtility.getProperties(source, stopClass, filter);
+    Map<String, Object> properties = FormDataPropertyCache.getProperties(source, stopClass, filter);
     if (!properties.isEmpty()) {
       removeNotSetProperties(source, properties);
       BeanUtility.setProperties(target, properties, false, null);
@@ -1117,7 +1117,7 @@ public abstract class AbstractForm extends AbstractPropertyObserver implements I
       for (Object con : allContributions) {
         if (con instanceof IPropertyHolder) {
           IPropertyHolder data = (IPropertyHolder) con;
-          Map<String, Object> extensionProperties = BeanUtility.getProperties(data, stopClass, filter);
+          Map<String, Object> extensionProperties = FormDataPropertyCache.getProperties(data, stopClass, filter);
           if (!extensionProperties.isEmpty()) {
             Object clientPart = getClientPartOfExtensionOrContributionRec(data, target);
             if (clientPart != null) {
@@ -1209,14 +1209,13 @@ public abstract class AbstractForm extends AbstractPropertyObserver implements I
     HashMap<IFormField, AbstractFormFieldData> dataMap = new HashMap<IFormField, AbstractFormFieldData>();
 
     // collect fields and split them into masters/slaves
+    FormDataFieldIndex fieldIndex = new FormDataFieldIndex(this);
     Map<Integer, Map<String/* qualified field id */, AbstractFormFieldData>> breadthFirstMap = source.getAllFieldsRec();
     for (Map<String/* qualified field id */, AbstractFormFieldData> sourceMap : breadthFirstMap.values()) {
       for (Map.Entry<String, AbstractFormFieldData> e : sourceMap.entrySet()) {
         String fieldQId = e.getKey();
         AbstractFormFieldData data = e.getValue();
-        FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, this);
-        visitFields(v);
-        IFormField f = v.getField();
+        IFormField f = fieldIndex.findField(fieldQId);
         if (f != null) {
           if (formFieldFilter == null || formFieldFilter.accept(f)) {
             dataMap.put(f, data);
@@ -688,9 +688,7 @@ public abstract class AbstractFormField extends AbstractPropertyObserver impleme
   }
 
   private List<Class<? extends IKeyStroke>> getConfiguredKeyStrokes() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IKeyStroke>> fca = ConfigurationUtility.filterClasses(dca, IKeyStroke.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IKeyStroke.class);
   }
 
   @ConfigOperation
@@ -205,10 +205,7 @@ public abstract class AbstractButton extends AbstractFormField implements IButto
   }
 
   protected List<Class<? extends IMenu>> getDeclaredMenus() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<IMenu>> menuClasses = ConfigurationUtility.filterClasses(dca, IMenu.class);
-    List<Class<? extends IMenu>> a = ConfigurationUtility.removeReplacedClasses(menuClasses);
-    return a;
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), IMenu.class);
   }
 
   @Override
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.form.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.client.ui.form.IForm;
+import org.eclipse.scout.rt.client.ui.form.IFormFieldVisitor;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.FormDataUtility;
+
+/**
+ * Index of the fields of a form by their form data field id. Finds the same field as a
+ * {@link FindFieldByFormDataIdVisitor} visiting all fields of the form, but the fields are visited only once for all
+ * form data fields of an import or export, and only the fields with a matching id are ranked.
+ * <p>
+ * The index is a snapshot of the fields of the form when it is created.
+ *
+ * @since 5.2
+ */
+public class FormDataFieldIndex {
+  private static final Pattern FIELD_PATH_SPLIT_PATTERN = Pattern.compile("[" + AbstractFormData.FIELD_PATH_DELIM + "]");
+
+  private final IForm m_form;
+  private final Map<String/*field data id*/, List<IFormField>> m_fieldsByDataId;
+
+  public FormDataFieldIndex(IForm form) {
+    m_form = form;
+    m_fieldsByDataId = new HashMap<String, List<IFormField>>();
+    form.visitFields(new IFormFieldVisitor() {
+      @Override
+      public boolean visitField(IFormField field, int level, int fieldIndex) {
+        String fieldDataId = FormDataUtility.getFieldDataId(field.getFieldId());
+        List<IFormField> fields = m_fieldsByDataId.get(fieldDataId);
+        if (fields == null) {
+          fields = new ArrayList<IFormField>(1);
+          m_fieldsByDataId.put(fieldDataId, fields);
+        }
+        fields.add(field);
+        return true;
+      }
+    });
+  }
+
+  /**
+   * @param fieldQId
+   *          qualified form data field id, see {@link AbstractFormData#getAllFieldsRec()}
+   * @return the best matching field of the form or <code>null</code> if there is no such field
+   */
+  public IFormField findField(String fieldQId) {
+    String[] fieldIdParts = FIELD_PATH_SPLIT_PATTERN.split(fieldQId);
+    if (fieldIdParts.length == 0) {
+      return null;
+    }
+    List<IFormField> candidates = m_fieldsByDataId.get(fieldIdParts[fieldIdParts.length - 1]);
+    if (candidates == null) {
+      return null;
+    }
+    FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, m_form);
+    for (IFormField candidate : candidates) {
+      if (!v.visitField(candidate, 0, 0)) {
+        break;
+      }
+    }
+    return v.getField();
+  }
+}
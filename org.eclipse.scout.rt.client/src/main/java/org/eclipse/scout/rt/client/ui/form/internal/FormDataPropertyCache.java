@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.client.ui.form.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.reflect.IPropertyFilter;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+
+/**
+ * Reads the properties of forms, form fields, their extensions and form datas, which are exchanged by
+ * {@link org.eclipse.scout.rt.client.ui.form.IForm#exportFormData(org.eclipse.scout.rt.shared.data.form.AbstractFormData)
+ * exportFormData} and
+ * {@link org.eclipse.scout.rt.client.ui.form.IForm#importFormData(org.eclipse.scout.rt.shared.data.form.AbstractFormData)
+ * importFormData}.
+ * <p>
+ * The properties accepted by {@link FormDataPropertyFilter} only depend on the bean class and the stop class. They are
+ * computed once per class and reused for all instances. Properties filtered by any other {@link IPropertyFilter} are
+ * computed on each call.
+ *
+ * @since 5.2
+ */
+public final class FormDataPropertyCache {
+
+  private static final ClassValue<ConcurrentMap<Class<?>/*stopClass*/, FastPropertyDescriptor[]>> FORM_DATA_PROPERTIES = new ClassValue<ConcurrentMap<Class<?>, FastPropertyDescriptor[]>>() {
+    @Override
+    protected ConcurrentMap<Class<?>, FastPropertyDescriptor[]> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<Class<?>, FastPropertyDescriptor[]>();
+    }
+  };
+
+  private FormDataPropertyCache() {
+  }
+
+  /**
+   * @return all properties of from up to (and excluding) stopClazz, filtering with filter
+   * @see BeanUtility#getProperties(Object, Class, IPropertyFilter)
+   */
+  public static Map<String, Object> getProperties(Object from, Class<?> stopClazz, IPropertyFilter filter) {
+    return BeanUtility.getProperties(from, getPropertyDescriptors(from.getClass(), stopClazz, filter));
+  }
+
+  /**
+   * @return the properties of clazz up to (and excluding) stopClazz accepted by filter. The returned array must not be
+   *         modified.
+   */
+  public static FastPropertyDescriptor[] getPropertyDescriptors(Class<?> clazz, Class<?> stopClazz, IPropertyFilter filter) {
+    if (stopClazz == null || filter == null || filter.getClass() != FormDataPropertyFilter.class) {
+      return BeanUtility.getFastPropertyDescriptors(clazz, stopClazz, filter);
+    }
+    ConcurrentMap<Class<?>, FastPropertyDescriptor[]> propertiesByStopClass = FORM_DATA_PROPERTIES.get(clazz);
+    FastPropertyDescriptor[] props = propertiesByStopClass.get(stopClazz);
+    if (props == null) {
+      props = BeanUtility.getFastPropertyDescriptors(clazz, stopClazz, filter);
+      propertiesByStopClass.putIfAbsent(stopClazz, props);
+    }
+    return props;
+  }
+}
@@ -10,6 +10,14 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.platform;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Assert;
@@ -29,7 +37,73 @@ public class BeanRegisterUnregisterTest {
     Assert.assertEquals(0, context.getBeans(Object.class).size());
   }
 
+  @Test
+  public void testQueryAfterRegistrationChange() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    IBean<TestObject> reg = context.registerClass(TestObject.class);
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+
+    IBean<ReplacingTestObject> replacing = context.registerClass(ReplacingTestObject.class);
+    Assert.assertSame(replacing, context.getBean(TestObject.class));
+    Assert.assertEquals(1, context.getBeans(TestObject.class).size());
+
+    context.unregisterBean(replacing);
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+    context.unregisterBean(reg);
+    Assert.assertNull(context.optBean(TestObject.class));
+  }
+
+  /**
+   * Concurrent lookups see either the registered or the replacing bean while the replacing bean is registered and
+   * unregistered.
+   */
+  @Test
+  public void testConcurrentQueryWhileRegistering() throws Exception {
+    final BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    final IBean<TestObject> reg = context.registerClass(TestObject.class);
+    final AtomicBoolean done = new AtomicBoolean();
+    final int threadCount = 8;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<IBean<?>>> futures = new ArrayList<>(threadCount);
+      for (int t = 0; t < threadCount; t++) {
+        futures.add(executor.submit(new Callable<IBean<?>>() {
+
+          @Override
+          public IBean<?> call() throws Exception {
+            while (!done.get()) {
+              IBean<?> bean = context.getBean(TestObject.class);
+              if (bean != reg && bean.getBeanClazz() != ReplacingTestObject.class) {
+                return bean;
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      for (int i = 0; i < 1000; i++) {
+        context.unregisterBean(context.registerClass(ReplacingTestObject.class));
+      }
+      done.set(true);
+      for (Future<IBean<?>> future : futures) {
+        Assert.assertNull(future.get());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+  }
+
   private static class TestObject {
 
   }
+
+  @Replace
+  private static class ReplacingTestObject extends TestObject {
+
+  }
 }
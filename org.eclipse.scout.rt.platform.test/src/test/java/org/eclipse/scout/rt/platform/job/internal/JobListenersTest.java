@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.filter.IFilter;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IJobListenerRegistration;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.filter.event.JobEventFilterBuilder;
+import org.eclipse.scout.rt.platform.job.listener.IJobListener;
+import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.job.listener.JobEventData;
+import org.eclipse.scout.rt.platform.job.listener.JobEventType;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
+import org.junit.Test;
+
+/**
+ * JUnit test for the keyed listeners of {@link JobListeners}
+ */
+public class JobListenersTest {
+
+  @Test
+  public void testListenerKeyOfAndFilter() {
+    IExecutionSemaphore semaphore = mock(IExecutionSemaphore.class);
+    IFilter<JobEvent> filter = new JobEventFilterBuilder()
+        .andMatchExecutionHint("hint")
+        .andMatchExecutionSemaphore(semaphore)
+        .andMatchNotExecutionHint("other")
+        .toFilter();
+    assertEquals(JobListenerKey.forExecutionSemaphore(semaphore), ((IAdaptable) filter).getAdapter(JobListenerKey.class));
+  }
+
+  @Test
+  public void testKeyedListeners() {
+    JobListeners listeners = new JobListeners();
+    IExecutionSemaphore semaphore = mock(IExecutionSemaphore.class);
+    CountingListener semaphoreListener = new CountingListener();
+    CountingListener hintListener = new CountingListener();
+    CountingListener globalListener = new CountingListener();
+    IJobListenerRegistration registration = listeners.add(new JobEventFilterBuilder().andMatchExecutionSemaphore(semaphore).andMatchEventType(JobEventType.JOB_STATE_CHANGED).toFilter(), semaphoreListener);
+    listeners.add(new JobEventFilterBuilder().andMatchExecutionHint("hint").toFilter(), hintListener);
+    listeners.add(new JobEventFilterBuilder().andMatchEventType(JobEventType.JOB_STATE_CHANGED).toFilter(), globalListener);
+
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, semaphore, null, null));
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, mock(IExecutionSemaphore.class), "hint", null));
+    listeners.notifyListeners(createEvent(JobEventType.JOB_EXECUTION_HINT_ADDED, semaphore, "hint", null));
+    assertEquals(1, semaphoreListener.m_count);
+    assertEquals(2, hintListener.m_count);
+    assertEquals(2, globalListener.m_count);
+
+    registration.dispose();
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, semaphore, null, null));
+    assertEquals(1, semaphoreListener.m_count);
+  }
+
+  @Test
+  public void testRunContextAdapterKey() {
+    JobListeners listeners = new JobListeners();
+    CountingListener listener = new CountingListener();
+    P_AdapterFilter filter = new P_AdapterFilter(Long.class, 1L);
+    listeners.add(filter, listener);
+
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, null, null, 1L));
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, null, null, 2L));
+    listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, null, null, null));
+    assertEquals(1, listener.m_count);
+    // the filter is only evaluated for events of jobs matching the key
+    assertEquals(1, filter.m_evaluated.size());
+  }
+
+  /**
+   * With a listener registered per session, like the listeners of UI sessions, each event is only matched against the
+   * listener of its session.
+   */
+  @Test
+  public void testRunContextAdapterKeyManySessions() {
+    JobListeners listeners = new JobListeners();
+    int sessionCount = 100;
+    CountingListener[] sessionListeners = new CountingListener[sessionCount];
+    P_AdapterFilter[] filters = new P_AdapterFilter[sessionCount];
+    for (int i = 0; i < sessionCount; i++) {
+      sessionListeners[i] = new CountingListener();
+      filters[i] = new P_AdapterFilter(Long.class, Long.valueOf(i));
+      listeners.add(filters[i], sessionListeners[i]);
+    }
+
+    for (int run = 0; run < 2; run++) {
+      for (int i = 0; i < sessionCount; i++) {
+        listeners.notifyListeners(createEvent(JobEventType.JOB_STATE_CHANGED, null, null, Long.valueOf(i)));
+      }
+    }
+    for (int i = 0; i < sessionCount; i++) {
+      assertEquals(2, sessionListeners[i].m_count);
+      assertEquals(2, filters[i].m_evaluated.size());
+    }
+  }
+
+  /**
+   * Execution hints are no longer resolved once the last listener for that hint is disposed.
+   */
+  @Test
+  public void testDisposeKeyedListenersOfExecutionHint() {
+    JobListeners listeners = new JobListeners();
+    CountingListener listener = new CountingListener();
+    IJobListenerRegistration registration1 = listeners.add(new JobEventFilterBuilder().andMatchExecutionHint("hint").toFilter(), listener);
+    IJobListenerRegistration registration2 = listeners.add(new JobEventFilterBuilder().andMatchExecutionHint("hint").andMatchEventType(JobEventType.JOB_STATE_CHANGED).toFilter(), listener);
+    // keeps the keyed listeners from being empty
+    listeners.add(new JobEventFilterBuilder().andMatchExecutionSemaphore(mock(IExecutionSemaphore.class)).toFilter(), listener);
+
+    registration1.dispose();
+    registration1.dispose();
+    JobEvent event = createEvent(JobEventType.JOB_STATE_CHANGED, null, "hint", null);
+    listeners.notifyListeners(event);
+    assertEquals(1, listener.m_count);
+
+    registration2.dispose();
+    event = createEvent(JobEventType.JOB_STATE_CHANGED, null, "hint", null);
+    listeners.notifyListeners(event);
+    assertEquals(1, listener.m_count);
+    verify(event.getData().getFuture(), never()).containsExecutionHint("hint");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JobEvent createEvent(JobEventType type, IExecutionSemaphore semaphore, String hint, Long adapter) {
+    JobInput input = mock(JobInput.class);
+    when(input.getExecutionSemaphore()).thenReturn(semaphore);
+    if (adapter != null) {
+      RunContext runContext = mock(RunContext.class);
+      when(runContext.getAdapter(Long.class)).thenReturn(adapter);
+      when(input.getRunContext()).thenReturn(runContext);
+    }
+    JobFutureTask<Object> future = mock(JobFutureTask.class);
+    when(future.getJobInput()).thenReturn(input);
+    when(future.containsExecutionHint(hint)).thenReturn(hint != null);
+    when(future.getListeners()).thenReturn(Collections.<JobListenerWithFilter> emptyList());
+    return new JobEvent(mock(IJobManager.class), type, new JobEventData().withFuture(future));
+  }
+
+  private static class CountingListener implements IJobListener {
+    private int m_count;
+
+    @Override
+    public void changed(JobEvent event) {
+      m_count++;
+    }
+  }
+
+  /**
+   * Accepts events of jobs whose {@link RunContext} is adaptable to the given value.
+   */
+  private static class P_AdapterFilter implements IFilter<JobEvent>, IAdaptable {
+    private final Class<Long> m_type;
+    private final Long m_value;
+    private final List<JobEvent> m_evaluated = new ArrayList<>();
+
+    P_AdapterFilter(Class<Long> type, Long value) {
+      m_type = type;
+      m_value = value;
+    }
+
+    @Override
+    public boolean accept(JobEvent event) {
+      m_evaluated.add(event);
+      RunContext runContext = event.getData().getFuture().getJobInput().getRunContext();
+      return runContext != null && m_value.equals(runContext.getAdapter(m_type));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAdapter(Class<T> type) {
+      if (type == JobListenerKey.class) {
+        return (T) JobListenerKey.forRunContextAdapter(m_type, m_value);
+      }
+      return null;
+    }
+  }
+}
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.platform.nls;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Locale;
@@ -33,6 +35,61 @@ public class DynamicNlsTest {
     assertTrue(textMap.isEmpty());
   }
 
+  @Test
+  public void testGetText() {
+    TestResourceBundleTexts nls = TestResourceBundleTexts.getInstance();
+    assertEquals("default test text", nls.getText(Locale.GERMAN, "testTextKey"));
+    assertEquals("Deutscher Text", nls.getText(Locale.GERMAN, "testTextOverridden"));
+    assertEquals("Deutscher Text", nls.getText(Locale.GERMANY, "testTextOverridden"));
+    assertEquals("default text", nls.getText(Locale.ENGLISH, "testTextOverridden"));
+    assertNull(nls.getText(Locale.GERMAN, "non-existing-key"));
+    assertNull(nls.getText(Locale.GERMAN, null));
+  }
+
+  @Test
+  public void testGetTextWithArguments() {
+    TestResourceBundleTexts nls = TestResourceBundleTexts.getInstance();
+    assertEquals("File {0} in folder {1} not found", nls.getText(Locale.ENGLISH, "testTextWithArguments"));
+    assertEquals("File a.txt in folder /tmp not found", nls.getText(Locale.ENGLISH, "testTextWithArguments", "a.txt", "/tmp"));
+    assertEquals("File a.txt in folder {1} not found", nls.getText(Locale.ENGLISH, "testTextWithArguments", "a.txt"));
+    assertEquals("File  in folder /tmp not found", nls.getText(Locale.ENGLISH, "testTextWithArguments", null, "/tmp"));
+    assertEquals("default test text", nls.getText(Locale.ENGLISH, "testTextKey", "a"));
+  }
+
+  @Test
+  public void testTextTemplateSameAsBindText() {
+    String[] texts = {"{0}", "a{0}b{1}c", "{1}{0}{1}", "{x} {0} {", "{00}{2}", "{99999999999} {0}", "no arguments", ""};
+    String[][] arguments = {{"x"}, {"x", "y"}, {"x", null}, {"x", "y", "z"}};
+    for (String text : texts) {
+      NlsTextTemplate template = NlsTextTemplate.compile(text);
+      for (String[] args : arguments) {
+        if (template == null) {
+          assertEquals(text, NlsUtility.bindText(text, args));
+        }
+        else if (!text.contains("99999999999")) {
+          assertEquals(NlsUtility.bindText(text, args), template.bind(args));
+        }
+        else {
+          assertEquals("{99999999999} " + args[0], template.bind(args));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTextMapShared() {
+    TestResourceBundleTexts nls = TestResourceBundleTexts.getInstance();
+    Map<String, String> textMap = nls.getTextMap(Locale.GERMAN);
+    assertEquals("Deutscher Text", textMap.get("testTextOverridden"));
+    assertEquals("default test text", textMap.get("testTextKey"));
+    assertSame(textMap, nls.getTextMap(Locale.GERMAN));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testTextMapUnmodifiable() {
+    TestResourceBundleTexts.getInstance().getTextMap(Locale.GERMAN).put("testTextKey", "modified");
+  }
+
   @Ignore("Performance Test: Not reliable")
   @Test(timeout = 1000)
   public void testMissingKeyPerformance() {
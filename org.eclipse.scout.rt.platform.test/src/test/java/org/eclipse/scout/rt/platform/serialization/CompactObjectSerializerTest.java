@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CompactObjectSerializer}
+ */
+public class CompactObjectSerializerTest {
+
+  private static final long SERIAL_VERSION_UID = 0x0123456789abcdefL;
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null, Collections.<Class<?>> singletonList(P_Fixture.class));
+    byte[] compact = serializer.serialize(new P_Fixture("abc"));
+    assertEquals("abc", serializer.deserialize(compact, P_Fixture.class).getValue());
+
+    byte[] basic = new BasicObjectSerializer(null).serialize(new P_Fixture("abc"));
+    assertTrue(String.format("compact: %s, basic: %s", compact.length, basic.length), compact.length < basic.length);
+  }
+
+  @Test(expected = InvalidClassException.class)
+  public void testDictionaryMismatch() throws Exception {
+    byte[] buf = new CompactObjectSerializer(null, Collections.<Class<?>> singletonList(P_Fixture.class)).serialize(new P_Fixture("abc"));
+    new CompactObjectSerializer(null, Collections.<Class<?>> singletonList(String.class)).deserialize(buf, P_Fixture.class);
+  }
+
+  @Test(expected = InvalidClassException.class)
+  public void testSerialVersionUidMismatch() throws Exception {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null, Collections.<Class<?>> singletonList(P_Fixture.class));
+    byte[] buf = serializer.serialize(new P_Fixture("abc"));
+
+    // simulate a stream written by another version of the class
+    byte[] uid = ByteBuffer.allocate(8).putLong(SERIAL_VERSION_UID).array();
+    int pos = indexOf(buf, uid);
+    assertTrue(pos >= 0);
+    buf[pos + 7]++;
+
+    serializer.deserialize(buf, P_Fixture.class);
+  }
+
+  private static int indexOf(byte[] buf, byte[] part) {
+    for (int i = 0; i <= buf.length - part.length; i++) {
+      if (Arrays.equals(part, Arrays.copyOfRange(buf, i, i + part.length))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static class P_Fixture implements Serializable {
+    private static final long serialVersionUID = SERIAL_VERSION_UID;
+
+    private final String m_value;
+
+    public P_Fixture(String value) {
+      m_value = value;
+    }
+
+    public String getValue() {
+      return m_value;
+    }
+  }
+}
@@ -14,11 +14,21 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.lang.reflect.Constructor;
-
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastBeanInfo;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.reflect.IPropertyAccessor;
+import org.eclipse.scout.rt.platform.reflect.MethodHandlePropertyAccessor;
+import org.eclipse.scout.rt.platform.reflect.ReflectionPropertyAccessor;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.junit.Test;
 
@@ -244,6 +254,90 @@ public class BeanUtilityTest {
     }
   }
 
+  @Test
+  public void testGetAndSetProperties() throws Exception {
+    PropertyBean bean = new PropertyBean();
+    bean.setId(TEST_LONG_42);
+    bean.setCount(7);
+    bean.setText(HELLO);
+
+    Map<String, Object> props = BeanUtility.getProperties(bean, Object.class, null);
+    assertEquals(Long.valueOf(TEST_LONG_42), props.get("id"));
+    assertEquals(Integer.valueOf(7), props.get("count"));
+    assertEquals(HELLO, props.get("text"));
+    assertEquals(Boolean.TRUE, props.get("readOnly"));
+
+    PropertyBean copy = new PropertyBean();
+    BeanUtility.setProperties(copy, props, false, null);
+    assertEquals(Long.valueOf(TEST_LONG_42), copy.getId());
+    assertEquals(7, copy.getCount());
+    assertEquals(HELLO, copy.getText());
+  }
+
+  @Test
+  public void testSetPropertiesCastsValues() throws Exception {
+    Map<String, Object> props = new HashMap<String, Object>();
+    props.put("id", Integer.valueOf(42));
+    props.put("count", Long.valueOf(3));
+    PropertyBean bean = new PropertyBean();
+    BeanUtility.setProperties(bean, props, false, null);
+    assertEquals(Long.valueOf(TEST_LONG_42), bean.getId());
+    assertEquals(3, bean.getCount());
+  }
+
+  @Test
+  public void testSetPropertiesSetterThrowsException() throws Exception {
+    Map<String, Object> props = new HashMap<String, Object>();
+    props.put("failing", WORLD);
+    props.put("text", HELLO);
+    PropertyBean bean = new PropertyBean();
+    BeanUtility.setProperties(bean, props, true, null);
+    assertEquals(HELLO, bean.getText());
+    try {
+      BeanUtility.setProperties(bean, props, false, null);
+      fail("exception of setter expected");
+    }
+    catch (ProcessingException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testPropertyAccessor() throws Exception {
+    FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(PropertyBean.class, Object.class).getPropertyDescriptor("count");
+    IPropertyAccessor accessor = desc.getAccessor();
+    assertTrue(accessor instanceof MethodHandlePropertyAccessor);
+    assertSame(accessor, desc.getAccessor());
+
+    PropertyBean bean = new PropertyBean();
+    accessor.setValue(bean, Integer.valueOf(5));
+    assertEquals(Integer.valueOf(5), accessor.getValue(bean));
+
+    IPropertyAccessor reflectionAccessor = new ReflectionPropertyAccessor(desc.getReadMethod(), desc.getWriteMethod());
+    reflectionAccessor.setValue(bean, Integer.valueOf(6));
+    assertEquals(Integer.valueOf(6), reflectionAccessor.getValue(bean));
+  }
+
+  @Test
+  public void testPropertyAccessorExceptions() throws Exception {
+    FastBeanInfo info = BeanUtility.getFastBeanInfo(PropertyBean.class, Object.class);
+    PropertyBean bean = new PropertyBean();
+    try {
+      info.getPropertyDescriptor("failing").getAccessor().setValue(bean, HELLO);
+      fail("exception of setter expected");
+    }
+    catch (InvocationTargetException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    try {
+      info.getPropertyDescriptor("readOnly").getAccessor().setValue(bean, Boolean.FALSE);
+      fail("read only property");
+    }
+    catch (NoSuchMethodException e) {
+      // expected
+    }
+  }
+
   public static class OnlyDefalutConstructor {
   }
 
@@ -343,6 +437,44 @@ public class BeanUtilityTest {
     }
   }
 
+  public static class PropertyBean {
+    private Long m_id;
+    private int m_count;
+    private String m_text;
+
+    public Long getId() {
+      return m_id;
+    }
+
+    public void setId(Long id) {
+      m_id = id;
+    }
+
+    public int getCount() {
+      return m_count;
+    }
+
+    public void setCount(int count) {
+      m_count = count;
+    }
+
+    public String getText() {
+      return m_text;
+    }
+
+    public void setText(String text) {
+      m_text = text;
+    }
+
+    public boolean isReadOnly() {
+      return true;
+    }
+
+    public void setFailing(String failing) {
+      throw new IllegalStateException(failing);
+    }
+  }
+
   public static class A {
   }
 
@@ -13,16 +13,21 @@ package org.eclipse.scout.rt.platform.util;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -237,6 +242,106 @@ public class ConcurrentExpiringMapTest {
     assertEquals(Integer.valueOf(overflowSize), countEvicted.getValue());
   }
 
+  @Test
+  public void testBoundedSizeEvictsLeastRecentlyUsed() {
+    final List<Integer> evictedKeys = new ArrayList<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<Integer, String>(0, TimeUnit.MILLISECONDS, 4) {
+
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evictedKeys.add(key);
+      }
+    };
+    for (int i = 0; i < 5; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    // touch and overwrite the oldest entries
+    map.get(0);
+    map.put(1, "1.1");
+    map.put(5, "5");
+
+    assertEquals(Arrays.asList(2, 3), evictedKeys);
+    assertEquals(4, map.size());
+    assertEquals("1.1", map.get(1));
+  }
+
+  @Test
+  public void testBoundedSizeWithPopulatedElementMap() {
+    ConcurrentMap<Integer, ExpiringElement<String>> elementMap = new ConcurrentHashMap<>();
+    for (int i = 0; i < 5; i++) {
+      elementMap.put(i, new ExpiringElement<String>(String.valueOf(i)));
+    }
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(elementMap, 0, true, false, 4, 6);
+    map.put(5, "5");
+    assertEquals(4, map.size());
+    assertFalse(map.containsKey(0));
+    assertFalse(map.containsKey(1));
+
+    // entries added to the element map directly are evicted as well
+    for (int i = 6; i < 11; i++) {
+      elementMap.put(i, new ExpiringElement<String>(String.valueOf(i)));
+    }
+    map.put(11, "11");
+    assertEquals(4, map.size());
+  }
+
+  /**
+   * Many more entries than the target size are put, while a single entry is touched all the time.
+   */
+  @Test
+  public void testBoundedSizeManyPuts() {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(1, TimeUnit.HOURS, 100);
+    map.put(0, "0");
+    for (int i = 1; i < 20000; i++) {
+      map.put(i, String.valueOf(i));
+      assertEquals("0", map.get(0));
+      assertEquals(String.valueOf(i - 1), map.get(i - 1));
+      assertTrue(map.size() <= map.getOverflowSize());
+    }
+    assertFalse(map.containsKey(1));
+  }
+
+  @Test
+  public void testBoundedSizeManyTouches() {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, 10);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(String.valueOf(i % 10), map.get(i % 10));
+    }
+    assertEquals(10, map.size());
+  }
+
+  @Test
+  public void testTouchDoesNotReplaceElement() throws Exception {
+    ConcurrentMap<Integer, ExpiringElement<String>> elementMap = new ConcurrentHashMap<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(elementMap, 0, true, false, 4, 6);
+    map.put(1, "1");
+    ExpiringElement<String> element = elementMap.get(1);
+    long timestamp = element.getTimestamp();
+    Thread.sleep(5);
+
+    assertEquals("1", map.get(1));
+    assertSame(element, elementMap.get(1));
+    assertTrue(element.getTimestamp() > timestamp);
+  }
+
+  @Test
+  public void testBoundedSizeKeepsTouchedEntries() {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, 10);
+    map.put(0, "0");
+    for (int i = 1; i < 100; i++) {
+      // more touches than fit into a touch buffer
+      for (int j = 0; j < 5; j++) {
+        assertEquals("0", map.get(0));
+      }
+      map.put(i, String.valueOf(i));
+    }
+    assertEquals("0", map.get(0));
+    assertTrue(map.size() < 15);
+  }
+
   /**
    * Map with mocked timestamp
    */
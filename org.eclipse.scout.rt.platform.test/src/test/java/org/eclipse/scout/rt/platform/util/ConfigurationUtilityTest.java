@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.platform.util;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -144,6 +145,50 @@ public class ConfigurationUtilityTest {
     assertArrayEquals(new Class[]{PublicRoot.AbstractClass1.class, PublicRoot.AbstractClass2.class, PublicRoot.PublicClass1.class, PublicRoot.PublicClass2.class}, result);
   }
 
+  @Test
+  public void getDeclaredPublicClassesReturnsCopy() {
+    Class[] result = ConfigurationUtility.getDeclaredPublicClasses(PublicRoot.class);
+    result[0] = null;
+    result = ConfigurationUtility.getDeclaredPublicClasses(PublicRoot.class);
+    assertArrayEquals(new Class[]{PublicRoot.AbstractClass1.class, PublicRoot.AbstractClass2.class, PublicRoot.PublicClass1.class, PublicRoot.PublicClass2.class}, result);
+  }
+
+  @Test
+  public void getDeclaredPublicClassesWithoutReplaced() {
+    for (int i = 0; i < 2; i++) {
+      // second round reads the cached result
+      List<Class<? extends IReplaceableItem>> result = ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(ReplacementRoot.class, IReplaceableItem.class);
+      assertEquals(new HashSet<Class<?>>(classList(ReplacementRoot.Item2.class, ReplacementRoot.Item1Replacement.class)), new HashSet<Class<?>>(result));
+      assertEquals(2, result.size());
+      result.clear();
+    }
+  }
+
+  @Test
+  public void getDeclaredPublicClassesReplacementMapping() {
+    for (int i = 0; i < 2; i++) {
+      // second round reads the cached result
+      Map<Class<?>, Class<? extends IReplaceableItem>> result = ConfigurationUtility.getDeclaredPublicClassesReplacementMapping(ReplacementRoot.class, IReplaceableItem.class);
+      assertEquals(Collections.<Class<?>, Class<? extends IReplaceableItem>> singletonMap(ReplacementRoot.Item1.class, ReplacementRoot.Item1Replacement.class), result);
+      result.clear();
+    }
+    assertTrue(ConfigurationUtility.getDeclaredPublicClassesReplacementMapping(ReplacementRoot.class, ReplacementRoot.Item2.class).isEmpty());
+  }
+
+  @Test
+  public void isMethodOverwrite() {
+    for (int i = 0; i < 2; i++) {
+      // second round reads the cached results
+      assertFalse(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[0], HookBase.class));
+      assertFalse(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[0], HookNotOverwritten.class));
+      assertTrue(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[0], HookOverwritten.class));
+      assertTrue(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[0], HookInherited.class));
+      assertFalse(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[]{String.class}, HookOverwritten.class));
+      assertTrue(ConfigurationUtility.isMethodOverwrite(HookBase.class, "execHook", new Class[]{String.class}, HookNotOverwritten.class));
+      assertFalse(ConfigurationUtility.isMethodOverwrite(HookBase.class, "nonExistingHook", new Class[0], HookOverwritten.class));
+    }
+  }
+
   @Test(expected = NullPointerException.class)
   public void getReplacementMappingNull() {
     ConfigurationUtility.getReplacementMapping(null);
@@ -389,6 +434,47 @@ public class ConfigurationUtilityTest {
   public static class OtherReplacement extends Original {
   }
 
+  public static class HookBase {
+    protected void execHook() {
+    }
+
+    protected void execHook(String s) {
+    }
+  }
+
+  public static class HookNotOverwritten extends HookBase {
+    @Override
+    protected void execHook(String s) {
+    }
+  }
+
+  public static class HookOverwritten extends HookBase {
+    @Override
+    protected void execHook() {
+    }
+  }
+
+  public static class HookInherited extends HookOverwritten {
+  }
+
+  public interface IReplaceableItem {
+  }
+
+  public static class ReplacementRoot {
+    public class Item1 implements IReplaceableItem {
+    }
+
+    @Replace
+    public class Item1Replacement extends Item1 {
+    }
+
+    public class Item2 implements IReplaceableItem {
+    }
+
+    public class NoItem {
+    }
+  }
+
   public class PublicRoot {
     public class PublicClass1 {
     }
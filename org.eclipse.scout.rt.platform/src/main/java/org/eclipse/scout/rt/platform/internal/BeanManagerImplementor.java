@@ -18,6 +18,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -38,6 +40,8 @@ public class BeanManagerImplementor implements IBeanManager {
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
   private IBeanDecorationFactory m_beanDecorationFactory;
+  // query results of the current bean registrations, replaced whenever a bean is registered or unregistered
+  private volatile P_QuerySnapshot m_querySnapshot = new P_QuerySnapshot();
 
   public BeanManagerImplementor() {
     this(null);
@@ -55,38 +59,44 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Internal
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.<IBean<T>> emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    return getDecoratedBeans(query(beanClazz, true), beanClazz);
   }
 
   @Internal
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    return getDecoratedBeans(query(beanClazz, false), beanClazz);
+  }
+
+  /**
+   * Returns the undecorated beans of the given type from the current query snapshot without locking. If the type was
+   * not queried since the last registration change, the beans are resolved by the {@link BeanHierarchy} and added to
+   * the snapshot.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> List<IBean<T>> query(Class<T> beanClazz, boolean querySingle) {
+    P_QuerySnapshot snapshot = m_querySnapshot;
+    ConcurrentMap<Class<?>, List> cache = (querySingle ? snapshot.m_single : snapshot.m_all);
+    List<IBean<T>> beans = cache.get(beanClazz);
+    if (beans != null) {
+      return beans;
+    }
+
     m_lock.readLock().lock();
     try {
-      @SuppressWarnings("unchecked")
       BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
       if (h == null) {
-        return Collections.emptyList();
+        beans = Collections.emptyList();
+      }
+      else {
+        beans = (querySingle ? h.querySingle() : h.queryAll());
       }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
     }
     finally {
       m_lock.readLock().unlock();
     }
+    // a snapshot replaced in the meantime is not used by subsequent queries, hence the result may be added in any case
+    cache.put(beanClazz, beans);
+    return beans;
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -155,6 +165,7 @@ public class BeanManagerImplementor implements IBeanManager {
         }
         h.addBean(bean);
       }
+      m_querySnapshot = new P_QuerySnapshot();
       return bean;
     }
     finally {
@@ -174,6 +185,7 @@ public class BeanManagerImplementor implements IBeanManager {
           h.removeBean(bean);
         }
       }
+      m_querySnapshot = new P_QuerySnapshot();
       if (bean instanceof BeanImplementor) {
         ((BeanImplementor) bean).dispose();
       }
@@ -262,4 +274,14 @@ public class BeanManagerImplementor implements IBeanManager {
   public static boolean isApplicationScoped(IBean<?> bean) {
     return bean.getBeanAnnotation(ApplicationScoped.class) != null;
   }
+
+  /**
+   * Immutable lists of beans resolved by {@link BeanHierarchy#querySingle()} and {@link BeanHierarchy#queryAll()} for a
+   * given state of the bean registrations.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final class P_QuerySnapshot {
+    private final ConcurrentMap<Class<?>, List> m_single = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, List> m_all = new ConcurrentHashMap<>();
+  }
 }
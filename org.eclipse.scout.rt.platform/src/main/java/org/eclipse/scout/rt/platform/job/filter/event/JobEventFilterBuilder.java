@@ -36,6 +36,7 @@ import org.eclipse.scout.rt.platform.job.filter.future.SingleExecutionFutureFilt
 import org.eclipse.scout.rt.platform.job.internal.JobListeners;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.job.listener.JobEventType;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
@@ -60,7 +61,7 @@ public class JobEventFilterBuilder {
       case 1:
         return m_andFilters.get(0);
       default:
-        // Use 'AdaptableAndFilter' instead of 'AndFilter' to help 'JobListeners' to reduce contention by registering job event listeners locally on the involved Futures.
+        // Use 'AdaptableAndFilter' instead of 'AndFilter' to help 'JobListeners' to reduce contention by registering job event listeners locally on the involved Futures or by key.
         return new AdaptableAndFilter(m_andFilters);
     }
   }
@@ -212,16 +213,37 @@ public class JobEventFilterBuilder {
   }
 
   /**
-   * {@link AndFilter} that is adaptable to 'IFuture[]'. That functionality is used by {@link JobListeners} to reduce
-   * contention by registering job event listeners locally on the involved Futures.
+   * {@link AndFilter} that is adaptable to 'IFuture[]' and {@link JobListenerKey}. That functionality is used by
+   * {@link JobListeners} to reduce contention by registering job event listeners locally on the involved Futures, or
+   * for the most selective key of the joined filters.
    */
   protected static class AdaptableAndFilter extends AndFilter<JobEvent> implements IAdaptable {
 
     private IFuture<?>[] m_futureIntersection = null;
+    private JobListenerKey m_listenerKey = null;
 
     public AdaptableAndFilter(final Collection<IFilter<JobEvent>> filters) {
       super(filters);
       m_futureIntersection = calculateFutureIntersection(filters);
+      m_listenerKey = calculateListenerKey(filters);
+    }
+
+    /**
+     * Returns the most selective {@link JobListenerKey} of the given filters, or <code>null</code> if no filter
+     * provides a key. Since all filters must accept an event, an accepted event matches the key of every filter.
+     */
+    protected static JobListenerKey calculateListenerKey(final Collection<IFilter<JobEvent>> filters) {
+      JobListenerKey listenerKey = null;
+      for (final IFilter<JobEvent> filter : filters) {
+        if (!(filter instanceof IAdaptable)) {
+          continue;
+        }
+        final JobListenerKey key = ((IAdaptable) filter).getAdapter(JobListenerKey.class);
+        if (key != null && (listenerKey == null || key.getKind().ordinal() < listenerKey.getKind().ordinal())) {
+          listenerKey = key;
+        }
+      }
+      return listenerKey;
     }
 
     /**
@@ -270,6 +292,9 @@ public class JobEventFilterBuilder {
       if (adapterType == IFuture[].class) {
         return (T) m_futureIntersection;
       }
+      if (adapterType == JobListenerKey.class) {
+        return (T) m_listenerKey;
+      }
       return null;
     }
   }
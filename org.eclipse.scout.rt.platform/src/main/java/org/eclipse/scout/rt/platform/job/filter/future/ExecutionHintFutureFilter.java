@@ -12,13 +12,15 @@ package org.eclipse.scout.rt.platform.job.filter.future;
 
 import org.eclipse.scout.rt.platform.filter.IFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
  * Filter to accept Futures which are tagged with a specific execution hint.
  *
  * @since 5.2
  */
-public class ExecutionHintFutureFilter implements IFilter<IFuture<?>> {
+public class ExecutionHintFutureFilter implements IFilter<IFuture<?>>, IAdaptable {
 
   private final String m_hint;
 
@@ -30,4 +32,13 @@ public class ExecutionHintFutureFilter implements IFilter<IFuture<?>> {
   public boolean accept(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(final Class<T> type) {
+    if (type == JobListenerKey.class && m_hint != null) {
+      return (T) JobListenerKey.forExecutionHint(m_hint);
+    }
+    return null;
+  }
 }
@@ -13,14 +13,16 @@ package org.eclipse.scout.rt.platform.job.filter.future;
 import org.eclipse.scout.rt.platform.filter.IFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
 import org.eclipse.scout.rt.platform.util.CompareUtility;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
  * Filter which accepts all Futures that are assigned to the given {@link IExecutionSemaphore}.
  *
  * @since 5.1
  */
-public class ExecutionSemaphoreFutureFilter implements IFilter<IFuture<?>> {
+public class ExecutionSemaphoreFutureFilter implements IFilter<IFuture<?>>, IAdaptable {
 
   private final IExecutionSemaphore m_semaphore;
 
@@ -32,4 +34,13 @@ public class ExecutionSemaphoreFutureFilter implements IFilter<IFuture<?>> {
   public boolean accept(final IFuture<?> future) {
     return CompareUtility.equals(m_semaphore, future.getJobInput().getExecutionSemaphore());
   }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(final Class<T> type) {
+    if (type == JobListenerKey.class && m_semaphore != null) {
+      return (T) JobListenerKey.forExecutionSemaphore(m_semaphore);
+    }
+    return null;
+  }
 }
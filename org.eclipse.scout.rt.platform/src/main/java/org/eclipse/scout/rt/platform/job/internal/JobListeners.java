@@ -12,21 +12,29 @@ package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.filter.IFilter;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobListenerRegistration;
+import org.eclipse.scout.rt.platform.job.JobInput;
 import org.eclipse.scout.rt.platform.job.listener.IJobListener;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
  * Responsible for notifying all job listeners about job lifecycle events.
  * <p/>
- * This implementation works with global and local listeners to reduce contention among threads by registering listeners
- * directly on the related Future whenever possible. Also, a {@link CopyOnWriteArrayList} is used to hold global
+ * This implementation works with global, keyed and local listeners to reduce contention among threads by registering
+ * listeners directly on the related Future whenever possible. Listeners whose filter provides a {@link JobListenerKey},
+ * e.g. to only accept events of jobs of a given session, are indexed by that key, so that an event is only passed to the
+ * listeners of the keys matching the event's job. Also, a {@link CopyOnWriteArrayList} is used to hold global and keyed
  * listeners as more read than write operations occur.
  *
  * @since 5.1
@@ -35,6 +43,12 @@ import org.eclipse.scout.rt.platform.util.IAdaptable;
 public class JobListeners {
 
   private final List<JobListenerWithFilter> m_globalListeners = new CopyOnWriteArrayList<>();
+  // write access is guarded by the map itself
+  private final ConcurrentMap<JobListenerKey, List<JobListenerWithFilter>> m_keyedListeners = new ConcurrentHashMap<>();
+  // execution hints and RunContext adapter types used by keys with the number of their keyed listeners, to resolve the keys of an event
+  // write access is guarded by m_keyedListeners
+  private final ConcurrentMap<String, Integer> m_keyExecutionHints = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, Integer> m_keyAdapterTypes = new ConcurrentHashMap<>();
 
   /**
    * Registers the given listener to be notified about job lifecycle events. If the listener is already registered, that
@@ -52,6 +66,11 @@ public class JobListeners {
     if (futures != null) {
       return addLocalListener(filter, listener, futures); // register the listener directly on the future to reduce contention.
     }
+
+    final JobListenerKey key = getListenerKey(filter);
+    if (key != null) {
+      return addKeyedListener(filter, listener, key); // only notify the listener about events of jobs matching the key.
+    }
     else {
       return addGlobalListener(filter, listener);
     }
@@ -73,6 +92,79 @@ public class JobListeners {
     };
   }
 
+  /**
+   * Registers the given listener for events of jobs matching the given key.
+   */
+  protected IJobListenerRegistration addKeyedListener(final IFilter<JobEvent> filter, final IJobListener listener, final JobListenerKey key) {
+    final JobListenerWithFilter keyedListener = new JobListenerWithFilter(listener, filter);
+    synchronized (m_keyedListeners) {
+      switch (key.getKind()) {
+        case EXECUTION_HINT:
+          incrementUsage(m_keyExecutionHints, (String) key.getValue());
+          break;
+        case RUN_CONTEXT_ADAPTER:
+          incrementUsage(m_keyAdapterTypes, key.getAdapterType());
+          break;
+        default:
+          break;
+      }
+      List<JobListenerWithFilter> listeners = m_keyedListeners.get(key);
+      if (listeners == null) {
+        listeners = new CopyOnWriteArrayList<>();
+        m_keyedListeners.put(key, listeners);
+      }
+      listeners.add(keyedListener);
+    }
+
+    return new IJobListenerRegistration() {
+
+      @Override
+      public void dispose() {
+        synchronized (m_keyedListeners) {
+          final List<JobListenerWithFilter> listeners = m_keyedListeners.get(key);
+          if (listeners == null || !listeners.remove(keyedListener)) {
+            return; // already disposed
+          }
+          if (listeners.isEmpty()) {
+            m_keyedListeners.remove(key);
+          }
+          switch (key.getKind()) {
+            case EXECUTION_HINT:
+              decrementUsage(m_keyExecutionHints, (String) key.getValue());
+              break;
+            case RUN_CONTEXT_ADAPTER:
+              decrementUsage(m_keyAdapterTypes, key.getAdapterType());
+              break;
+            default:
+              break;
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Must be called while holding the lock of {@link #m_keyedListeners}.
+   */
+  private static <T> void incrementUsage(final ConcurrentMap<T, Integer> usages, final T value) {
+    final Integer count = usages.get(value);
+    usages.put(value, count == null ? 1 : count + 1);
+  }
+
+  /**
+   * Removes the value once it is no longer used by any keyed listener. Must be called while holding the lock of
+   * {@link #m_keyedListeners}.
+   */
+  private static <T> void decrementUsage(final ConcurrentMap<T, Integer> usages, final T value) {
+    final Integer count = usages.get(value);
+    if (count == null || count <= 1) {
+      usages.remove(value);
+    }
+    else {
+      usages.put(value, count - 1);
+    }
+  }
+
   /**
    * Registers the given listener locally on the given Futures to reduce contention.
    */
@@ -102,6 +194,7 @@ public class JobListeners {
    */
   public void notifyListeners(final JobEvent eventToFire) {
     notifyGlobalListeners(eventToFire);
+    notifyKeyedListeners(eventToFire);
     notifyLocalListeners(eventToFire);
   }
 
@@ -114,6 +207,49 @@ public class JobListeners {
     }
   }
 
+  /**
+   * Notifies all keyed listeners which are registered for a key matching the event's future and accept the given event.
+   */
+  public void notifyKeyedListeners(final JobEvent eventToFire) {
+    if (m_keyedListeners.isEmpty()) {
+      return;
+    }
+    final IFuture<?> future = eventToFire.getData().getFuture();
+    if (future == null) {
+      return;
+    }
+
+    final JobInput input = future.getJobInput();
+    final IExecutionSemaphore semaphore = input.getExecutionSemaphore();
+    if (semaphore != null) {
+      notifyKeyedListeners(JobListenerKey.forExecutionSemaphore(semaphore), eventToFire);
+    }
+    for (final String hint : m_keyExecutionHints.keySet()) {
+      if (future.containsExecutionHint(hint)) {
+        notifyKeyedListeners(JobListenerKey.forExecutionHint(hint), eventToFire);
+      }
+    }
+    final RunContext runContext = input.getRunContext();
+    if (runContext != null) {
+      for (final Class<?> adapterType : m_keyAdapterTypes.keySet()) {
+        final Object adapter = runContext.getAdapter(adapterType);
+        if (adapter != null) {
+          notifyKeyedListeners(JobListenerKey.forRunContextAdapter(adapterType, adapter), eventToFire);
+        }
+      }
+    }
+  }
+
+  protected void notifyKeyedListeners(final JobListenerKey key, final JobEvent eventToFire) {
+    final List<JobListenerWithFilter> listeners = m_keyedListeners.get(key);
+    if (listeners == null) {
+      return;
+    }
+    for (final JobListenerWithFilter keyedListener : listeners) {
+      keyedListener.changed(eventToFire);
+    }
+  }
+
   /**
    * Notifies all local listeners which are registered on the event's future and accept the given event.
    */
@@ -137,4 +273,17 @@ public class JobListeners {
     }
     return null;
   }
+
+  /**
+   * Returns the key which an event must match to be accepted by the given filter (if any), or <code>null</code>
+   * otherwise.<br/>
+   * For that to work, the given filter must implement {@link IAdaptable} for the type
+   * <code>JobListenerKey.class</code>.
+   */
+  protected JobListenerKey getListenerKey(final IFilter<JobEvent> filter) {
+    if (filter instanceof IAdaptable) {
+      return ((IAdaptable) filter).getAdapter(JobListenerKey.class);
+    }
+    return null;
+  }
 }
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.job.listener;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
+
+/**
+ * Key to index job listeners by a criterion which a job event must fulfill to be accepted by the listener's filter.
+ * <p>
+ * A job event filter which only accepts events of jobs with a given {@link IExecutionSemaphore}, execution hint or
+ * {@link RunContext} adapter (e.g. a session) provides such a key via {@link IAdaptable#getAdapter(Class)}. The job
+ * manager then only evaluates this filter for events of jobs that match the key.
+ *
+ * @since 5.2
+ */
+public final class JobListenerKey {
+
+  /**
+   * Kinds of keys, ordered from the most to the least selective kind.
+   */
+  public enum Kind {
+    RUN_CONTEXT_ADAPTER, EXECUTION_SEMAPHORE, EXECUTION_HINT
+  }
+
+  private final Kind m_kind;
+  private final Class<?> m_adapterType;
+  private final Object m_value;
+
+  private JobListenerKey(final Kind kind, final Class<?> adapterType, final Object value) {
+    m_kind = kind;
+    m_adapterType = adapterType;
+    m_value = Assertions.assertNotNull(value, "value must not be null");
+  }
+
+  /**
+   * Key for events of jobs whose {@link RunContext} is adaptable to the given adapter.
+   */
+  public static JobListenerKey forRunContextAdapter(final Class<?> adapterType, final Object adapter) {
+    return new JobListenerKey(Kind.RUN_CONTEXT_ADAPTER, Assertions.assertNotNull(adapterType), adapter);
+  }
+
+  /**
+   * Key for events of jobs assigned to the given {@link IExecutionSemaphore}.
+   */
+  public static JobListenerKey forExecutionSemaphore(final IExecutionSemaphore semaphore) {
+    return new JobListenerKey(Kind.EXECUTION_SEMAPHORE, null, semaphore);
+  }
+
+  /**
+   * Key for events of jobs tagged with the given execution hint, see {@link IFuture#containsExecutionHint(String)}.
+   */
+  public static JobListenerKey forExecutionHint(final String hint) {
+    return new JobListenerKey(Kind.EXECUTION_HINT, null, hint);
+  }
+
+  public Kind getKind() {
+    return m_kind;
+  }
+
+  /**
+   * @return the adapter type of a {@link Kind#RUN_CONTEXT_ADAPTER} key, or <code>null</code> otherwise.
+   */
+  public Class<?> getAdapterType() {
+    return m_adapterType;
+  }
+
+  /**
+   * @return the session or other {@link RunContext} adapter, the {@link IExecutionSemaphore} or the execution hint.
+   */
+  public Object getValue() {
+    return m_value;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + m_kind.hashCode();
+    result = prime * result + ((m_adapterType == null) ? 0 : m_adapterType.hashCode());
+    result = prime * result + m_value.hashCode();
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final JobListenerKey other = (JobListenerKey) obj;
+    return m_kind == other.m_kind && m_adapterType == other.m_adapterType && m_value.equals(other.m_value);
+  }
+
+  @Override
+  public String toString() {
+    return m_kind + (m_adapterType != null ? "[" + m_adapterType.getSimpleName() + "]" : "") + "=" + m_value;
+  }
+}
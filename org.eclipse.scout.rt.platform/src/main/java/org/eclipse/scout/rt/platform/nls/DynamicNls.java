@@ -10,7 +10,6 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.platform.nls;
 
-import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -18,19 +17,30 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 
 public class DynamicNls {
 
   private final List<NlsResourceBundleCache> m_resourceBundles;
+  /**
+   * Flattened texts of all resource bundles per locale, built on first access of a locale. Replaced by an empty map
+   * when a resource bundle is registered, so tables built from the previous bundles are not published anymore.
+   */
+  private volatile ConcurrentMap<Locale, NlsTextTable> m_textTables;
 
   /**
    * Performance optimization: sometimes a {@link ResourceBundle#containsKey(String)} is faster that the
    * {@link ResourceBundle#getString(String)}
    * <p>
    * default: true
+   *
+   * @deprecated see {@link #DO_CONTAINS_CHECK_IN_RESOURCE_BUNDLE}
    */
+  @Deprecated
   public static final String RESOURCE_BUNDLE_USE_CONTAINS_KEY = "scout.resourceBundle.checkContainsKey";
 
   /**
@@ -38,15 +48,21 @@ public class DynamicNls {
    * specific bundle. This operation may be slow some 1.6 IBM JREs.<br>
    * Setting the system property "scout.resourceBundle.checkContainsKey" to <code>false</code> is recommended for
    * affected environments.
+   *
+   * @deprecated texts are read from a flattened text table per locale, the resource bundles are no longer queried per
+   *             key. Will be removed in a future release.
    */
+  @Deprecated
   public static final boolean DO_CONTAINS_CHECK_IN_RESOURCE_BUNDLE = ConfigUtility.getPropertyBoolean(RESOURCE_BUNDLE_USE_CONTAINS_KEY, true);
 
   public DynamicNls() {
-    m_resourceBundles = new ArrayList<>();
+    m_resourceBundles = new CopyOnWriteArrayList<>();
+    m_textTables = new ConcurrentHashMap<>();
   }
 
   public void registerResourceBundle(String resourceBundleName, Class<?> wrapperClass) {
     m_resourceBundles.add(0, new NlsResourceBundleCache(resourceBundleName, wrapperClass));
+    m_textTables = new ConcurrentHashMap<>();
   }
 
   /**
@@ -80,45 +96,37 @@ public class DynamicNls {
       return null;
     }
 
-    String text = getTextInternal(locale, key);
-    return NlsUtility.bindText(text, messageArguments);
+    return getTextTable(locale).getText(key, messageArguments);
+  }
+
+  /**
+   * get all key/texts defined or redefined by the wrapper class for that locale
+   *
+   * @return an unmodifiable map, which is shared by all callers
+   */
+  public Map<String, String> getTextMap(Locale locale) {
+    return getTextTable(locale).getTextMap();
   }
 
-  private String getTextInternal(Locale locale, String key) {
+  private NlsTextTable getTextTable(Locale locale) {
     if (locale == null) {
       locale = getDefaultLocale();
     }
-
-    for (NlsResourceBundleCache c : m_resourceBundles) {
-      try {
-        ResourceBundle resourceBundle = c.getResourceBundle(locale);
-        if (resourceBundle != null) {
-          if (DO_CONTAINS_CHECK_IN_RESOURCE_BUNDLE) {
-            if (resourceBundle.containsKey(key)) {
-              return resourceBundle.getString(key);
-            }
-          }
-          else {
-            // legacy: do not call containsKey (may be slower on e.g. old IBM JREs)
-            return resourceBundle.getString(key);
-          }
-        }
-      }
-      catch (MissingResourceException e) {
-        //nop
+    // the map is read before the resource bundles, a table built concurrently to a registration goes to the old map
+    ConcurrentMap<Locale, NlsTextTable> textTables = m_textTables;
+    NlsTextTable table = textTables.get(locale);
+    if (table == null) {
+      table = createTextTable(locale);
+      NlsTextTable existingTable = textTables.putIfAbsent(locale, table);
+      if (existingTable != null) {
+        table = existingTable;
       }
     }
-    return null;
+    return table;
   }
 
-  /**
-   * get all key/texts defined or redefined by the wrapper class for that locale
-   */
-  public Map<String, String> getTextMap(Locale locale) {
+  private NlsTextTable createTextTable(Locale locale) {
     Map<String, String> map = new HashMap<>();
-    if (locale == null) {
-      locale = getDefaultLocale();
-    }
     for (NlsResourceBundleCache c : m_resourceBundles) {
       try {
         ResourceBundle r = c.getResourceBundle(locale);
@@ -127,9 +135,8 @@ public class DynamicNls {
         }
         for (Enumeration<String> en = r.getKeys(); en.hasMoreElements();) {
           String key = en.nextElement();
-          String text = r.getString(key);
           if (!map.containsKey(key)) {
-            map.put(key, text);
+            map.put(key, r.getString(key));
           }
         }
       }
@@ -137,7 +144,7 @@ public class DynamicNls {
         //nop
       }
     }
-    return map;
+    return new NlsTextTable(map);
   }
 
   /**
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.nls;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Immutable table of all texts of a {@link DynamicNls} for one locale. The texts of all registered resource bundles
+ * (and their parent bundles) are flattened into one map, texts with message arguments are precompiled. Lookups do not
+ * require any locks.
+ *
+ * @since 5.2
+ */
+final class NlsTextTable {
+  private final Map<String, String> m_texts;
+  private final Map<String, NlsTextTemplate> m_templates;
+
+  /**
+   * @param texts
+   *          the texts by key, the map is not copied and must not be modified afterwards
+   */
+  NlsTextTable(Map<String, String> texts) {
+    m_texts = Collections.unmodifiableMap(texts);
+    Map<String, NlsTextTemplate> templates = new HashMap<>();
+    for (Entry<String, String> e : texts.entrySet()) {
+      NlsTextTemplate template = NlsTextTemplate.compile(e.getValue());
+      if (template != null) {
+        templates.put(e.getKey(), template);
+      }
+    }
+    m_templates = templates;
+  }
+
+  /**
+   * @return the text with the given message arguments bound or <code>null</code> if there is no text for the key
+   */
+  String getText(String key, String... messageArguments) {
+    String text = m_texts.get(key);
+    if (text == null || messageArguments == null || messageArguments.length == 0) {
+      return text;
+    }
+    NlsTextTemplate template = m_templates.get(key);
+    if (template == null) {
+      return text;
+    }
+    return template.bind(messageArguments);
+  }
+
+  /**
+   * @return unmodifiable map of all texts by key
+   */
+  Map<String, String> getTextMap() {
+    return m_texts;
+  }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.nls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled form of a text with message arguments {0},{1},{2},... The text is parsed once, binding the arguments
+ * yields the same result as {@link NlsUtility#bindText(String, String...)}.
+ *
+ * @since 5.2
+ */
+final class NlsTextTemplate {
+  private static final Pattern MESSAGE_ARGUMENT_PATTERN = Pattern.compile("\\{([0-9]+)\\}");
+
+  /**
+   * Literal text parts, one more than there are arguments
+   */
+  private final String[] m_literals;
+  private final int[] m_argumentIndexes;
+
+  private NlsTextTemplate(String[] literals, int[] argumentIndexes) {
+    m_literals = literals;
+    m_argumentIndexes = argumentIndexes;
+  }
+
+  /**
+   * @return the template for the given text or <code>null</code> if the text does not contain any message arguments
+   */
+  static NlsTextTemplate compile(String text) {
+    if (text == null || text.indexOf('{') < 0) {
+      return null;
+    }
+    List<String> literals = new ArrayList<>();
+    List<Integer> argumentIndexes = new ArrayList<>();
+    Matcher m = MESSAGE_ARGUMENT_PATTERN.matcher(text);
+    StringBuilder literal = new StringBuilder();
+    int start = 0;
+    while (m.find(start)) {
+      literal.append(text, start, m.start());
+      try {
+        argumentIndexes.add(Integer.valueOf(m.group(1)));
+        literals.add(literal.toString());
+        literal.setLength(0);
+      }
+      catch (NumberFormatException e) {
+        // too many digits for an argument index
+        literal.append(m.group());
+      }
+      start = m.end();
+    }
+    if (argumentIndexes.isEmpty()) {
+      return null;
+    }
+    literal.append(text, start, text.length());
+    literals.add(literal.toString());
+
+    int[] indexes = new int[argumentIndexes.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = argumentIndexes.get(i).intValue();
+    }
+    return new NlsTextTemplate(literals.toArray(new String[literals.size()]), indexes);
+  }
+
+  /**
+   * Replaces the message arguments {0},{1},{2},... by the given values. Arguments without value are kept as they are.
+   */
+  String bind(String... messageArguments) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < m_argumentIndexes.length; i++) {
+      b.append(m_literals[i]);
+      int index = m_argumentIndexes[i];
+      if (index < messageArguments.length) {
+        if (messageArguments[index] != null) {
+          b.append(messageArguments[index]);
+        }
+      }
+      else {
+        b.append('{').append(index).append('}');
+      }
+    }
+    b.append(m_literals[m_literals.length - 1]);
+    return b.toString();
+  }
+}
@@ -14,12 +14,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
@@ -40,6 +43,37 @@ import org.slf4j.LoggerFactory;
 public final class ConfigurationUtility {
   private static final Logger LOG = LoggerFactory.getLogger(ConfigurationUtility.class);
 
+  /**
+   * Cache of {@link Class#getClasses()}, which is called for every model object created.
+   */
+  private static final ClassValue<Class[]> DECLARED_PUBLIC_CLASSES = new ClassValue<Class[]>() {
+    @Override
+    protected Class[] computeValue(Class<?> type) {
+      return type.getClasses();
+    }
+  };
+
+  /**
+   * Cache of {@link #isMethodOverwrite(Class, String, Class[], Class)} results per implementation type.
+   */
+  private static final ClassValue<ConcurrentMap<P_MethodSignature, Boolean>> METHOD_OVERWRITES = new ClassValue<ConcurrentMap<P_MethodSignature, Boolean>>() {
+    @Override
+    protected ConcurrentMap<P_MethodSignature, Boolean> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * Cache of {@link #getDeclaredPublicClassesWithoutReplaced(Class, Class)} and
+   * {@link #getDeclaredPublicClassesReplacementMapping(Class, Class)} results per class and filter.
+   */
+  private static final ClassValue<ConcurrentMap<Class<?>, P_FilteredClasses>> FILTERED_DECLARED_PUBLIC_CLASSES = new ClassValue<ConcurrentMap<Class<?>, P_FilteredClasses>>() {
+    @Override
+    protected ConcurrentMap<Class<?>, P_FilteredClasses> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private ConfigurationUtility() {
   }
 
@@ -174,9 +208,50 @@ public final class ConfigurationUtility {
 
   /**
    * get all declared classes (inner types) of the specified class and all its super classes
+   * <p>
+   * The classes are computed once per class, each call returns a new copy of the array.
    */
   public static Class[] getDeclaredPublicClasses(Class c) {
-    return c.getClasses();
+    return DECLARED_PUBLIC_CLASSES.get(c).clone();
+  }
+
+  /**
+   * Same as {@link #removeReplacedClasses(List)} of {@link #filterClasses(Class[], Class)} of
+   * {@link #getDeclaredPublicClasses(Class)}.
+   * <p>
+   * The classes are computed once per class and filter, each call returns a new list.
+   *
+   * @since 5.2
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> List<Class<? extends T>> getDeclaredPublicClassesWithoutReplaced(Class<?> c, Class<T> filter) {
+    List<?> classes = getFilteredClasses(c, filter).getClasses();
+    return new ArrayList<Class<? extends T>>((List<Class<? extends T>>) classes);
+  }
+
+  /**
+   * Same as {@link #getReplacementMapping(List)} of {@link #filterClasses(Class[], Class)} of
+   * {@link #getDeclaredPublicClasses(Class)}.
+   * <p>
+   * The mapping is computed once per class and filter, each call returns a new map.
+   *
+   * @since 5.2
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Map<Class<?>, Class<? extends T>> getDeclaredPublicClassesReplacementMapping(Class<?> c, Class<T> filter) {
+    Map<Class<?>, ?> replacements = getFilteredClasses(c, filter).getReplacements();
+    return new HashMap<Class<?>, Class<? extends T>>((Map<Class<?>, Class<? extends T>>) replacements);
+  }
+
+  private static <T> P_FilteredClasses getFilteredClasses(Class<?> c, Class<T> filter) {
+    ConcurrentMap<Class<?>, P_FilteredClasses> filteredClassesByFilter = FILTERED_DECLARED_PUBLIC_CLASSES.get(c);
+    P_FilteredClasses filteredClasses = filteredClassesByFilter.get(filter);
+    if (filteredClasses == null) {
+      List<Class<T>> classes = filterClasses(DECLARED_PUBLIC_CLASSES.get(c), filter);
+      filteredClasses = new P_FilteredClasses(removeReplacedClasses(classes), getReplacementMapping(classes));
+      filteredClassesByFilter.putIfAbsent(filter, filteredClasses);
+    }
+    return filteredClasses;
   }
 
   public static <T> T newInnerInstance(Object instance, Class<T> innerClass) {
@@ -197,18 +272,34 @@ public final class ConfigurationUtility {
 
   /**
    * @return true if the declared method is overwritten in implementationType
+   *         <p>
+   *         The result is computed once per implementationType and method.
    */
   public static boolean isMethodOverwrite(Class<?> declaringType, String methodName, Class[] parameterTypes, Class<?> implementationType) {
     Assertions.assertNotNull(declaringType, "declaringType must not be null");
     Assertions.assertNotNull(methodName, "methodName must not be null");
-    Method declaredMethod;
-    try {
-      declaredMethod = declaringType.getDeclaredMethod(methodName, parameterTypes);
-    }
-    catch (NoSuchMethodException | SecurityException e) {
-      LOG.error("cannot find declared method {}.{}", declaringType.getName(), methodName, e);
+    if (implementationType == null) {
       return false;
     }
+    ConcurrentMap<P_MethodSignature, Boolean> overwrites = METHOD_OVERWRITES.get(implementationType);
+    P_MethodSignature signature = new P_MethodSignature(declaringType, methodName, parameterTypes);
+    Boolean overwrite = overwrites.get(signature);
+    if (overwrite == null) {
+      Method declaredMethod;
+      try {
+        declaredMethod = declaringType.getDeclaredMethod(methodName, parameterTypes);
+      }
+      catch (NoSuchMethodException | SecurityException e) {
+        LOG.error("cannot find declared method {}.{}", declaringType.getName(), methodName, e);
+        return false;
+      }
+      overwrite = Boolean.valueOf(isMethodOverwriteImpl(declaredMethod, declaringType, implementationType));
+      overwrites.put(signature.copy(), overwrite);
+    }
+    return overwrite.booleanValue();
+  }
+
+  private static boolean isMethodOverwriteImpl(Method declaredMethod, Class<?> declaringType, Class<?> implementationType) {
     Class<?> c = implementationType;
     while (c != null && c != declaringType) {
       try {
@@ -435,4 +526,68 @@ public final class ConfigurationUtility {
     }
     return c;
   }
+
+  /**
+   * Value of {@link ConfigurationUtility#FILTERED_DECLARED_PUBLIC_CLASSES}
+   */
+  private static final class P_FilteredClasses {
+    private final List<? extends Class<?>> m_classes;
+    private final Map<Class<?>, ? extends Class<?>> m_replacements;
+
+    P_FilteredClasses(List<? extends Class<?>> classes, Map<Class<?>, ? extends Class<?>> replacements) {
+      m_classes = classes;
+      m_replacements = replacements;
+    }
+
+    List<? extends Class<?>> getClasses() {
+      return m_classes;
+    }
+
+    Map<Class<?>, ? extends Class<?>> getReplacements() {
+      return m_replacements;
+    }
+  }
+
+  /**
+   * Key of {@link ConfigurationUtility#METHOD_OVERWRITES}
+   */
+  private static final class P_MethodSignature {
+    private final Class<?> m_declaringType;
+    private final String m_methodName;
+    private final Class[] m_parameterTypes;
+    private final int m_hashCode;
+
+    P_MethodSignature(Class<?> declaringType, String methodName, Class[] parameterTypes) {
+      m_declaringType = declaringType;
+      m_methodName = methodName;
+      m_parameterTypes = parameterTypes;
+      m_hashCode = 31 * (31 * declaringType.hashCode() + methodName.hashCode()) + Arrays.hashCode(parameterTypes);
+    }
+
+    /**
+     * @return a copy which does not share the parameter types array with the caller
+     */
+    P_MethodSignature copy() {
+      return new P_MethodSignature(m_declaringType, m_methodName, m_parameterTypes == null ? null : m_parameterTypes.clone());
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_MethodSignature other = (P_MethodSignature) obj;
+      return m_declaringType == other.m_declaringType
+          && m_methodName.equals(other.m_methodName)
+          && Arrays.equals(m_parameterTypes, other.m_parameterTypes);
+    }
+  }
 }
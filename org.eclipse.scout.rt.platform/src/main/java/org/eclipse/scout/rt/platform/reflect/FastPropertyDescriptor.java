@@ -12,6 +12,9 @@ package org.eclipse.scout.rt.platform.reflect;
 
 import java.lang.reflect.Method;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * The java bean FastPropertyDescriptor tries to find a read <b>and</b> write method of the property, otherwise an
  * exception is thrown.
@@ -20,11 +23,14 @@ import java.lang.reflect.Method;
  * method so they exist.
  */
 public class FastPropertyDescriptor {
+  private static final Logger LOG = LoggerFactory.getLogger(FastPropertyDescriptor.class);
+
   private final Class<?> m_beanClass;
   private final String m_name;
   private Class<?> m_propertyType;
   private Method m_readMethod;
   private Method m_writeMethod;
+  private volatile IPropertyAccessor m_accessor;
 
   public FastPropertyDescriptor(Class<?> beanClazz, String name, Method readMethod, Method writeMethod) {
     m_beanClass = beanClazz;
@@ -105,6 +111,38 @@ public class FastPropertyDescriptor {
     }
   }
 
+  /**
+   * @return the {@link IPropertyAccessor} used to read and write the value of this property. The accessor is created on
+   *         first use, see {@link #createAccessor()}.
+   * @since 5.2
+   */
+  public IPropertyAccessor getAccessor() {
+    IPropertyAccessor accessor = m_accessor;
+    if (accessor == null) {
+      accessor = createAccessor();
+      m_accessor = accessor;
+    }
+    return accessor;
+  }
+
+  /**
+   * Creates a {@link MethodHandlePropertyAccessor}. If the read or write method is not accessible by a method handle,
+   * a {@link ReflectionPropertyAccessor} is used instead.
+   * <p>
+   * Subclasses may override this method to provide another accessor strategy.
+   *
+   * @since 5.2
+   */
+  protected IPropertyAccessor createAccessor() {
+    try {
+      return new MethodHandlePropertyAccessor(getReadMethod(), getWriteMethod());
+    }
+    catch (IllegalAccessException | RuntimeException e) {
+      LOG.debug("Using reflection to access property '{}' of {}", m_name, m_beanClass, e);
+      return new ReflectionPropertyAccessor(getReadMethod(), getWriteMethod());
+    }
+  }
+
   @Override
   public int hashCode() {
     int result = 0;
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.reflect;
+
+/**
+ * Reads and writes the value of a bean property described by a {@link FastPropertyDescriptor}.
+ *
+ * @see FastPropertyDescriptor#getAccessor()
+ * @since 5.2
+ */
+public interface IPropertyAccessor {
+
+  /**
+   * @return the value of the property of the given bean, using the read method of the property
+   * @throws ReflectiveOperationException
+   *           if the property cannot be read or the read method throws an exception
+   */
+  Object getValue(Object bean) throws ReflectiveOperationException;
+
+  /**
+   * Sets the value of the property of the given bean, using the write method of the property
+   *
+   * @throws ReflectiveOperationException
+   *           if the property cannot be written or the write method throws an exception
+   */
+  void setValue(Object bean, Object value) throws ReflectiveOperationException;
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link IPropertyAccessor} invoking the read and write methods of a property using {@link MethodHandle}s. In contrast
+ * to {@link Method#invoke(Object, Object...)} no argument array is created and the access check is done only once when
+ * the accessor is created.
+ *
+ * @since 5.2
+ */
+public class MethodHandlePropertyAccessor implements IPropertyAccessor {
+  private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final MethodHandle m_readHandle;
+  private final MethodHandle m_writeHandle;
+
+  /**
+   * @throws IllegalAccessException
+   *           if one of the methods is not accessible by a public lookup, e.g. because it is declared in a class which
+   *           is not public.
+   */
+  public MethodHandlePropertyAccessor(Method readMethod, Method writeMethod) throws IllegalAccessException {
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    m_readHandle = readMethod != null ? lookup.unreflect(readMethod).asType(READ_TYPE) : null;
+    m_writeHandle = writeMethod != null ? lookup.unreflect(writeMethod).asType(WRITE_TYPE) : null;
+  }
+
+  @Override
+  public Object getValue(Object bean) throws ReflectiveOperationException {
+    if (m_readHandle == null) {
+      throw new NoSuchMethodException("property is not readable");
+    }
+    try {
+      return (Object) m_readHandle.invokeExact(bean);
+    }
+    catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  @Override
+  public void setValue(Object bean, Object value) throws ReflectiveOperationException {
+    if (m_writeHandle == null) {
+      throw new NoSuchMethodException("property is not writable");
+    }
+    try {
+      m_writeHandle.invokeExact(bean, value);
+    }
+    catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.reflect;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link IPropertyAccessor} invoking the read and write methods of a property using {@link Method#invoke(Object,
+ * Object...)}.
+ *
+ * @since 5.2
+ */
+public class ReflectionPropertyAccessor implements IPropertyAccessor {
+  private final Method m_readMethod;
+  private final Method m_writeMethod;
+
+  public ReflectionPropertyAccessor(Method readMethod, Method writeMethod) {
+    m_readMethod = readMethod;
+    m_writeMethod = writeMethod;
+  }
+
+  @Override
+  public Object getValue(Object bean) throws ReflectiveOperationException {
+    if (m_readMethod == null) {
+      throw new NoSuchMethodException("property is not readable");
+    }
+    return m_readMethod.invoke(bean, (Object[]) null);
+  }
+
+  @Override
+  public void setValue(Object bean, Object value) throws ReflectiveOperationException {
+    if (m_writeMethod == null) {
+      throw new NoSuchMethodException("property is not writable");
+    }
+    m_writeMethod.invoke(bean, new Object[]{value});
+  }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.platform.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link IObjectSerializer} which writes the class descriptors of well known classes as a short index into a type
+ * dictionary instead of the full descriptor (class name, serialVersionUID and field layout). All other classes are
+ * serialized using standard Java serialization.
+ * <p>
+ * Both sides of a stream must use the same type dictionary, in the same order. Each dictionary reference is written
+ * along with the hash code of the class name and the serialVersionUID of the class. A dictionary mismatch or an
+ * incompatible class version is detected when reading, just like with standard Java serialization.
+ * <p>
+ * The field values of dictionary classes are still written and read by standard Java serialization, i.e. by
+ * reflection. Only the class descriptors are replaced.
+ *
+ * @since 5.2
+ */
+public class CompactObjectSerializer extends BasicObjectSerializer {
+
+  private static final int FULL_DESCRIPTOR = 0;
+  private static final int DICTIONARY_DESCRIPTOR = 1;
+
+  private final List<Class<?>> m_dictionary;
+  private final Map<Class<?>, Integer> m_dictionaryIndex;
+
+  public CompactObjectSerializer(IObjectReplacer objectReplacer, List<Class<?>> dictionary) {
+    super(objectReplacer);
+    if (dictionary.size() > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("type dictionary must not contain more than " + Short.MAX_VALUE + " classes");
+    }
+    m_dictionary = Collections.unmodifiableList(new ArrayList<>(dictionary));
+    m_dictionaryIndex = new HashMap<>(dictionary.size() * 2);
+    for (int i = 0; i < m_dictionary.size(); i++) {
+      m_dictionaryIndex.put(m_dictionary.get(i), i);
+    }
+  }
+
+  public List<Class<?>> getDictionary() {
+    return m_dictionary;
+  }
+
+  @Override
+  protected ObjectOutputStream createObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer) throws IOException {
+    return new CompactObjectOutputStream(out, objectReplacer);
+  }
+
+  @Override
+  protected ObjectInputStream createObjectInputStream(InputStream in, IObjectReplacer objectReplacer) throws IOException {
+    return new CompactObjectInputStream(in, objectReplacer);
+  }
+
+  protected class CompactObjectOutputStream extends ObjectOutputStream {
+
+    private final IObjectReplacer m_objectReplacer;
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer) throws IOException {
+      super(out);
+      m_objectReplacer = objectReplacer;
+      enableReplaceObject(objectReplacer != null);
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) throws IOException {
+      return m_objectReplacer.replaceObject(obj);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      Class<?> clazz = desc.forClass();
+      Integer index = (clazz != null ? m_dictionaryIndex.get(clazz) : null);
+      if (index == null) {
+        write(FULL_DESCRIPTOR);
+        super.writeClassDescriptor(desc);
+        return;
+      }
+      write(DICTIONARY_DESCRIPTOR);
+      writeShort(index.intValue());
+      writeInt(clazz.getName().hashCode());
+      writeLong(desc.getSerialVersionUID());
+    }
+  }
+
+  protected class CompactObjectInputStream extends ObjectInputStream {
+
+    private final IObjectReplacer m_objectReplacer;
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer) throws IOException {
+      super(in);
+      m_objectReplacer = objectReplacer;
+      enableResolveObject(objectReplacer != null);
+    }
+
+    @Override
+    protected Object resolveObject(Object obj) throws IOException {
+      return m_objectReplacer.resolveObject(obj);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      int type = read();
+      switch (type) {
+        case FULL_DESCRIPTOR:
+          return super.readClassDescriptor();
+        case DICTIONARY_DESCRIPTOR:
+          int index = readShort();
+          int nameHash = readInt();
+          long serialVersionUID = readLong();
+          if (index < 0 || index >= m_dictionary.size() || m_dictionary.get(index).getName().hashCode() != nameHash) {
+            throw new InvalidClassException("type dictionary mismatch at index " + index + ": both sides must use the same dictionary");
+          }
+          ObjectStreamClass desc = ObjectStreamClass.lookupAny(m_dictionary.get(index));
+          if (desc.getSerialVersionUID() != serialVersionUID) {
+            throw new InvalidClassException(desc.getName(), "local class incompatible: stream classdesc serialVersionUID = " + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+          }
+          return desc;
+        default:
+          throw new StreamCorruptedException("unexpected class descriptor type: " + type);
+      }
+    }
+  }
+}
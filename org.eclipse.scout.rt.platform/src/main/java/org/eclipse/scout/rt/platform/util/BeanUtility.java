@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.reflect.FastBeanInfo;
@@ -33,14 +35,12 @@ import org.slf4j.LoggerFactory;
 public final class BeanUtility {
   private static final Logger LOG = LoggerFactory.getLogger(BeanUtility.class);
 
-  private static final Object BEAN_INFO_CACHE_LOCK;
-  private static final Map<CompositeObject/*Class,Class*/, FastBeanInfo> BEAN_INFO_CACHE;
+  private static final ConcurrentMap<CompositeObject/*Class,Class*/, FastBeanInfo> BEAN_INFO_CACHE;
   private static final Map<Class, Class> PRIMITIVE_COMPLEX_CLASS_MAP;
   private static final Map<Class, Class> COMPLEX_PRIMITIVE_CLASS_MAP;
 
   static {
-    BEAN_INFO_CACHE_LOCK = new Object();
-    BEAN_INFO_CACHE = new HashMap<CompositeObject, FastBeanInfo>();
+    BEAN_INFO_CACHE = new ConcurrentHashMap<CompositeObject, FastBeanInfo>();
     // primitive -> complex classes mappings
     PRIMITIVE_COMPLEX_CLASS_MAP = new HashMap<Class, Class>();
     PRIMITIVE_COMPLEX_CLASS_MAP.put(boolean.class, Boolean.class);
@@ -65,14 +65,20 @@ public final class BeanUtility {
    * @return all properties of from up to (and excluding) to stopClazz, filtering with filter
    */
   public static Map<String, Object> getProperties(Object from, Class<?> stopClazz, IPropertyFilter filter) {
+    return getProperties(from, getFastPropertyDescriptors(from.getClass(), stopClazz, filter));
+  }
+
+  /**
+   * @return the values of the given properties of from. Properties without read method are ignored.
+   * @since 5.2
+   */
+  public static Map<String, Object> getProperties(Object from, FastPropertyDescriptor[] props) {
     HashMap<String, Object> map = new HashMap<String, Object>();
     try {
-      FastPropertyDescriptor[] props = getFastPropertyDescriptors(from.getClass(), stopClazz, filter);
       for (int i = 0; i < props.length; i++) {
         FastPropertyDescriptor fromProp = props[i];
-        Method readMethod = fromProp.getReadMethod();
-        if (readMethod != null) {
-          Object value = readMethod.invoke(from, (Object[]) null);
+        if (fromProp.getReadMethod() != null) {
+          Object value = fromProp.getAccessor().getValue(from);
           map.put(fromProp.getName(), value);
         }
       }
@@ -99,7 +105,7 @@ public final class BeanUtility {
         if (desc != null && (filter == null || filter.accept(desc))) {
           Method writeMethod = desc.getWriteMethod();
           if (writeMethod != null) {
-            writeMethod.invoke(to, new Object[]{TypeCastUtility.castValue(value, writeMethod.getParameterTypes()[0])});
+            desc.getAccessor().setValue(to, TypeCastUtility.castValue(value, writeMethod.getParameterTypes()[0]));
           }
         }
       }
@@ -127,24 +133,23 @@ public final class BeanUtility {
     if (beanClass == null) {
       return new FastBeanInfo(beanClass, stopClass);
     }
-    synchronized (BEAN_INFO_CACHE_LOCK) {
-      CompositeObject key = new CompositeObject(beanClass, stopClass);
-      FastBeanInfo info = BEAN_INFO_CACHE.get(key);
-      if (info == null) {
-        info = new FastBeanInfo(beanClass, stopClass);
-        BEAN_INFO_CACHE.put(key, info);
+    CompositeObject key = new CompositeObject(beanClass, stopClass);
+    FastBeanInfo info = BEAN_INFO_CACHE.get(key);
+    if (info == null) {
+      info = new FastBeanInfo(beanClass, stopClass);
+      FastBeanInfo existingInfo = BEAN_INFO_CACHE.putIfAbsent(key, info);
+      if (existingInfo != null) {
+        info = existingInfo;
       }
-      return info;
     }
+    return info;
   }
 
   /**
    * Clear the cache used by {@link #getBeanInfoEx(Class, Class)}
    */
   public static void clearFastBeanInfoCache() {
-    synchronized (BEAN_INFO_CACHE_LOCK) {
-      BEAN_INFO_CACHE.clear();
-    }
+    BEAN_INFO_CACHE.clear();
   }
 
   /**
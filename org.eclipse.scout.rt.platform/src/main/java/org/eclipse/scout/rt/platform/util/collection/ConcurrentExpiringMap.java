@@ -13,15 +13,19 @@ package org.eclipse.scout.rt.platform.util.collection;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -33,7 +37,12 @@ import java.util.concurrent.locks.ReentrantLock;
  * <p>
  * If the <tt>targetSize</tt> property is set, the maximum number of cached values is bounded. The provided size bound
  * is <em>not</em> enforced and is just a guidance value. In fact, the map grows up to <tt>overflowSize</tt> till it is
- * shrunk back to the targeted size.
+ * shrunk back to the targeted size. Bounded maps record each write and touch in an access queue, so that the least
+ * recently used entries are evicted without sorting the whole map.
+ * <p>
+ * A touch only updates the timestamp of the element, the decorated map is not written. Touches of a bounded map are
+ * first collected in one of several small buffers, selected by the current thread, and moved to the access queue in
+ * batches. Hence the least recently used order is approximate.
  * <p>
  * If the <tt>touchOnGet</tt> property is set, the {@link #get(Object)} operation does the same as
  * {@link #getAndTouch(Object)}.
@@ -60,6 +69,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * @since 5.2
  */
 public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int TOUCH_BUFFER_COUNT = touchBufferCount();
+  private static final int TOUCH_BUFFER_SIZE = 32;
+
   private final ConcurrentMap<K, ExpiringElement<V>> m_elementMap;
   private final long m_timeToLive;
   private final boolean m_touchOnGet;
@@ -68,6 +80,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   private final int m_targetSize;
   private final int m_overflowSize;
   private final Lock m_validateSizeLock = new ReentrantLock();
+  // write and touch order of the elements, only used if the map is bounded
+  private final ConcurrentLinkedQueue<AccessRecord<K, V>> m_accessQueue;
+  private final AtomicInteger m_accessQueueSize;
+  // touches not yet moved to the access queue, only used if the map is bounded
+  private final TouchBuffer<K, V>[] m_touchBuffers;
 
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
@@ -121,7 +138,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          unit of timeToLive
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, long timeToLiveDuration, TimeUnit timeToLiveUnit) {
-    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize);
+    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize, map.m_accessQueue, map.m_accessQueueSize, map.m_touchBuffers);
   }
 
   /**
@@ -136,7 +153,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, int targetSize) {
-    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, targetSize * map.m_overflowSize / map.m_targetSize);
+    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, targetSize * map.m_overflowSize / map.m_targetSize, map.m_accessQueue, map.m_accessQueueSize, map.m_touchBuffers);
   }
 
   /**
@@ -171,6 +188,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *           if targetSize is greater than zero but overflow size is not greater than targetSize
    */
   public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, touchOnIterate, targetSize, overflowSize, null, null, null);
+  }
+
+  private ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize,
+      ConcurrentLinkedQueue<AccessRecord<K, V>> accessQueue, AtomicInteger accessQueueSize, TouchBuffer<K, V>[] touchBuffers) {
     m_elementMap = elementMap;
     m_timeToLive = timeToLiveDurationMillis;
     m_touchOnGet = touchOnGet;
@@ -182,6 +204,61 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
     m_targetSize = targetSize;
     m_overflowSize = overflowSize;
+    if (overflowSize > 0 && accessQueue != null) {
+      // a copy shares the element map and therefore the access queue of the original map
+      m_accessQueue = accessQueue;
+      m_accessQueueSize = accessQueueSize;
+      m_touchBuffers = touchBuffers;
+    }
+    else if (overflowSize > 0) {
+      m_accessQueue = new ConcurrentLinkedQueue<AccessRecord<K, V>>();
+      m_accessQueueSize = new AtomicInteger();
+      m_touchBuffers = createTouchBuffers();
+      recordExistingElements();
+    }
+    else {
+      m_accessQueue = null;
+      m_accessQueueSize = null;
+      m_touchBuffers = null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> TouchBuffer<K, V>[] createTouchBuffers() {
+    TouchBuffer<K, V>[] buffers = new TouchBuffer[TOUCH_BUFFER_COUNT];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = new TouchBuffer<K, V>();
+    }
+    return buffers;
+  }
+
+  /**
+   * @return the number of touch buffers, the smallest power of two not less than the number of processors.
+   */
+  private static int touchBufferCount() {
+    int count = 1;
+    while (count < Runtime.getRuntime().availableProcessors()) {
+      count <<= 1;
+    }
+    return count;
+  }
+
+  /**
+   * Records the elements of a non-empty element map in the order of their timestamps.
+   */
+  private void recordExistingElements() {
+    if (m_elementMap.isEmpty()) {
+      return;
+    }
+    m_validateSizeLock.lock();
+    try {
+      for (Entry<K, ExpiringElement<V>> entry : sortByTimestamp()) {
+        recordAccess(entry.getKey(), entry.getValue());
+      }
+    }
+    finally {
+      m_validateSizeLock.unlock();
+    }
   }
 
   private static final int defaultOverflowSize(int targetSize) {
@@ -283,11 +360,26 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   @Override
   public void clear() {
     m_elementMap.clear();
+    if (m_accessQueue != null) {
+      for (TouchBuffer<K, V> buffer : m_touchBuffers) {
+        buffer.m_lock.lock();
+        try {
+          buffer.m_records.clear();
+        }
+        finally {
+          buffer.m_lock.unlock();
+        }
+      }
+      m_accessQueue.clear();
+      m_accessQueueSize.set(0);
+    }
   }
 
   @Override
   public V put(K key, V value) {
-    ExpiringElement<V> e = m_elementMap.put(key, createElement(value));
+    ExpiringElement<V> newElement = createElement(value);
+    ExpiringElement<V> e = m_elementMap.put(key, newElement);
+    recordAccess(key, newElement);
     validateSize();
     return extractValidElementValue(e);
   }
@@ -295,7 +387,9 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   @Override
   public void putAll(Map<? extends K, ? extends V> m) {
     for (Map.Entry<? extends K, ? extends V> e : m.entrySet()) {
-      m_elementMap.put(e.getKey(), createElement(e.getValue()));
+      ExpiringElement<V> newElement = createElement(e.getValue());
+      m_elementMap.put(e.getKey(), newElement);
+      recordAccess(e.getKey(), newElement);
     }
     validateSize();
   }
@@ -308,14 +402,19 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   @Override
   public V putIfAbsent(K key, V value) {
-    ExpiringElement<V> e = m_elementMap.putIfAbsent(key, createElement(value));
+    ExpiringElement<V> newElement = createElement(value);
+    ExpiringElement<V> e = m_elementMap.putIfAbsent(key, newElement);
     if (e != null && !isElementValid(e)) {
       // timeout
       if (m_elementMap.remove(key, e)) {
         execEntryEvicted(key, e.getValue());
       }
       // retry
-      e = m_elementMap.putIfAbsent(key, createElement(value));
+      newElement = createElement(value);
+      e = m_elementMap.putIfAbsent(key, newElement);
+    }
+    if (e == null) {
+      recordAccess(key, newElement);
     }
     validateSize();
     return e != null ? e.getValue() : null;
@@ -340,7 +439,12 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     if (currElement != null) {
       V currValue = currElement.getValue();
       if (currValue == oldValue /* null case too */ || (currValue != null && currValue.equals(oldValue))) {
-        return m_elementMap.replace(key, currElement, createElement(newValue));
+        ExpiringElement<V> newElement = createElement(newValue);
+        if (m_elementMap.replace(key, currElement, newElement)) {
+          recordAccess(key, newElement);
+          return true;
+        }
+        return false;
       }
     }
     // did not contain mapping / not correct mapping / no replace (see containsKey)
@@ -351,7 +455,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   public V replace(K key, V value) {
     ExpiringElement<V> e = getElement(key);
     if (e != null) {
-      e = m_elementMap.replace(key, createElement(value));
+      ExpiringElement<V> newElement = createElement(value);
+      e = m_elementMap.replace(key, newElement);
+      if (e != null) {
+        recordAccess(key, newElement);
+      }
     }
     return e != null ? e.getValue() : null;
   }
@@ -389,17 +497,72 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return null;
   }
 
+  /**
+   * Updates the timestamp of the given element. The decorated map is not written. A bounded map records the touch in
+   * the touch buffer of the current thread.
+   */
   protected ExpiringElement<V> touch(K key, ExpiringElement<V> e) {
-    while (e != null) {
-      if (m_elementMap.replace(key, e, createElement(e.getValue()))) {
-        return e;
-      }
-      // else we retry
-      e = m_elementMap.get(key);
+    if (e == null) {
+      return null;
+    }
+    e.m_timestamp = System.currentTimeMillis();
+    if (m_touchBuffers != null) {
+      AccessRecord<K, V> record = new AccessRecord<K, V>(key, e);
+      e.m_lastAccess = record;
+      bufferTouch(record);
     }
     return e;
   }
 
+  private void bufferTouch(AccessRecord<K, V> record) {
+    TouchBuffer<K, V> buffer = m_touchBuffers[(int) Thread.currentThread().getId() & (m_touchBuffers.length - 1)];
+    if (!buffer.m_lock.tryLock()) {
+      // buffer is used by another thread, record the touch directly
+      m_accessQueue.offer(record);
+      m_accessQueueSize.incrementAndGet();
+      validateSize();
+      return;
+    }
+    boolean drained = false;
+    try {
+      buffer.m_records.add(record);
+      if (buffer.m_records.size() >= TOUCH_BUFFER_SIZE) {
+        drainTouchBuffer(buffer);
+        drained = true;
+      }
+    }
+    finally {
+      buffer.m_lock.unlock();
+    }
+    if (drained) {
+      validateSize();
+    }
+  }
+
+  /**
+   * Moves the buffered touches to the access queue. Must be called while holding the lock of the buffer.
+   */
+  private void drainTouchBuffer(TouchBuffer<K, V> buffer) {
+    m_accessQueue.addAll(buffer.m_records);
+    m_accessQueueSize.addAndGet(buffer.m_records.size());
+    buffer.m_records.clear();
+  }
+
+  /**
+   * Moves the touches of all buffers to the access queue.
+   */
+  private void drainTouchBuffers() {
+    for (TouchBuffer<K, V> buffer : m_touchBuffers) {
+      buffer.m_lock.lock();
+      try {
+        drainTouchBuffer(buffer);
+      }
+      finally {
+        buffer.m_lock.unlock();
+      }
+    }
+  }
+
   protected boolean isElementValid(ExpiringElement<V> element) {
     return m_timeToLive <= 0 || element.getTimestamp() + m_timeToLive > System.currentTimeMillis();
   }
@@ -411,9 +574,28 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return null;
   }
 
+  /**
+   * Appends a written or touched element to the access queue of a bounded map.
+   */
+  protected void recordAccess(K key, ExpiringElement<V> element) {
+    if (m_accessQueue != null) {
+      AccessRecord<K, V> record = new AccessRecord<K, V>(key, element);
+      element.m_lastAccess = record;
+      m_accessQueue.offer(record);
+      m_accessQueueSize.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the given record is the last write or touch of an element which is still in the map.
+   */
+  private boolean isCurrentAccessRecord(AccessRecord<K, V> record) {
+    return record.m_element.m_lastAccess == record && m_elementMap.get(record.m_key) == record.m_element;
+  }
+
   protected void validateSize() {
     // note: in JRE 1.8 the performance of ConcurrentHashMap#size() is increased
-    if (m_overflowSize > 0 && m_elementMap.size() >= m_overflowSize) {
+    if (m_overflowSize > 0 && (m_elementMap.size() >= m_overflowSize || m_accessQueueSize.get() >= 2 * m_overflowSize)) {
       // maximum one thread at the time should shrink the map
       if (m_validateSizeLock.tryLock()) {
         try {
@@ -421,6 +603,10 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
           if (m_elementMap.size() >= m_overflowSize) {
             evictOldestEntries();
           }
+          // overwritten and touched entries leave outdated records in the access queue
+          if (m_accessQueueSize.get() >= 2 * m_overflowSize) {
+            removeOutdatedAccessRecords();
+          }
         }
         finally {
           m_validateSizeLock.unlock();
@@ -429,17 +615,44 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Evicts the least recently written or touched entries until the map is at its target size. Every record of the
+   * access queue is polled at most once, hence the costs of an eviction are constant per write or touch.
+   */
   protected void evictOldestEntries() {
-    TreeSet<Entry<K, ExpiringElement<V>>> set = new TreeSet<Entry<K, ExpiringElement<V>>>(new StableTimestampComparator());
+    drainTouchBuffers();
+    int numberOfEntriesToEvict = m_elementMap.size() - m_targetSize;
+    while (numberOfEntriesToEvict > 0) {
+      AccessRecord<K, V> record = m_accessQueue.poll();
+      if (record == null) {
+        break;
+      }
+      m_accessQueueSize.decrementAndGet();
+      // the element of an outdated record was touched again or is no longer in the map
+      if (record.m_element.m_lastAccess == record && m_elementMap.remove(record.m_key, record.m_element)) {
+        numberOfEntriesToEvict--;
+        execEntryEvicted(record.m_key, record.m_element.getValue());
+      }
+    }
+    if (numberOfEntriesToEvict > 0) {
+      // entries which were not added through this map, e.g. directly to the element map
+      evictOldestEntriesSorted(numberOfEntriesToEvict);
+    }
+  }
 
-    int counter = 0;
-    for (Entry<K, ExpiringElement<V>> entry : m_elementMap.entrySet()) {
-      entry.getValue().m_iterationIndex = counter;
-      set.add(entry);
-      counter++;
+  private void removeOutdatedAccessRecords() {
+    for (Iterator<AccessRecord<K, V>> it = m_accessQueue.iterator(); it.hasNext();) {
+      AccessRecord<K, V> record = it.next();
+      if (!isCurrentAccessRecord(record)) {
+        it.remove();
+        m_accessQueueSize.decrementAndGet();
+      }
     }
-    int numberOfEntriesToEvict = set.size() - m_targetSize;
-    while (numberOfEntriesToEvict > 0) {
+  }
+
+  private void evictOldestEntriesSorted(int numberOfEntriesToEvict) {
+    TreeSet<Entry<K, ExpiringElement<V>>> set = sortByTimestamp();
+    while (numberOfEntriesToEvict > 0 && !set.isEmpty()) {
       Entry<K, ExpiringElement<V>> oldestEntry = set.pollFirst();
       // try to remove entry from element map
       K key = oldestEntry.getKey();
@@ -451,16 +664,33 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Must be called while holding {@link #m_validateSizeLock}.
+   */
+  private TreeSet<Entry<K, ExpiringElement<V>>> sortByTimestamp() {
+    TreeSet<Entry<K, ExpiringElement<V>>> set = new TreeSet<Entry<K, ExpiringElement<V>>>(new StableTimestampComparator());
+
+    int counter = 0;
+    for (Entry<K, ExpiringElement<V>> entry : m_elementMap.entrySet()) {
+      // the timestamp may be touched concurrently, sort by a snapshot
+      entry.getValue().m_sortTimestamp = entry.getValue().getTimestamp();
+      entry.getValue().m_iterationIndex = counter;
+      set.add(entry);
+      counter++;
+    }
+    return set;
+  }
+
   private class StableTimestampComparator implements Comparator<Entry<K, ExpiringElement<V>>> {
 
     @Override
     public int compare(Entry<K, ExpiringElement<V>> o1, Entry<K, ExpiringElement<V>> o2) {
       ExpiringElement<V> e1 = o1.getValue();
       ExpiringElement<V> e2 = o2.getValue();
-      if (e1.m_timestamp < e2.m_timestamp) {
+      if (e1.m_sortTimestamp < e2.m_sortTimestamp) {
         return -1;
       }
-      else if (e1.m_timestamp > e2.m_timestamp) {
+      else if (e1.m_sortTimestamp > e2.m_sortTimestamp) {
         return 1;
       }
       else {
@@ -593,12 +823,33 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  private static final class AccessRecord<K, V> {
+    private final K m_key;
+    private final ExpiringElement<V> m_element;
+
+    private AccessRecord(K key, ExpiringElement<V> element) {
+      m_key = key;
+      m_element = element;
+    }
+  }
+
+  /**
+   * Touches of a bounded map which are not yet moved to the access queue.
+   */
+  private static final class TouchBuffer<K, V> {
+    private final Lock m_lock = new ReentrantLock();
+    private final List<AccessRecord<K, V>> m_records = new ArrayList<AccessRecord<K, V>>(TOUCH_BUFFER_SIZE);
+  }
+
   public static class ExpiringElement<V> {
-    private final long m_timestamp;
+    private volatile long m_timestamp;
     private final V m_value;
+    // last write or touch recorded in the access queue of a bounded map
+    private volatile Object m_lastAccess;
 
-    // temporary value / guarded by m_validateSizeLock
+    // temporary values / guarded by m_validateSizeLock
     private int m_iterationIndex;
+    private long m_sortTimestamp;
 
     public ExpiringElement(V value) {
       m_timestamp = System.currentTimeMillis();
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link GzipServletResponseWrapper}
+ */
+public class GzipServletResponseWrapperTest {
+  private HttpServletResponse m_responseMock;
+  private ByteArrayOutputStream m_out;
+
+  @Before
+  public void setup() throws IOException {
+    m_out = new ByteArrayOutputStream();
+    m_responseMock = mock(HttpServletResponse.class);
+    when(m_responseMock.getCharacterEncoding()).thenReturn("UTF-8");
+    when(m_responseMock.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        m_out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        m_out.write(b, off, len);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+      }
+    });
+  }
+
+  @Test
+  public void testSmallResponseIsBuffered() throws IOException {
+    byte[] content = createContent(1000);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_responseMock, 256);
+    wrapper.getOutputStream().write(content);
+    assertFalse(wrapper.isStreaming());
+    assertEquals(0, m_out.size());
+
+    assertTrue(wrapper.finish(256));
+    verify(m_responseMock).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_responseMock).setContentLength(m_out.size());
+    assertEquals(content.length, wrapper.getUncompressedLength());
+    assertEquals(m_out.size(), wrapper.getCompressedLength());
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+  }
+
+  @Test
+  public void testLargeResponseIsStreamed() throws IOException {
+    byte[] content = createContent(3 * GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_responseMock, 256);
+    ServletOutputStream out = wrapper.getOutputStream();
+    int chunk = 1000;
+    for (int i = 0; i < content.length; i += chunk) {
+      out.write(content, i, Math.min(chunk, content.length - i));
+    }
+    assertTrue(wrapper.isStreaming());
+    assertTrue(m_out.size() > 0);
+
+    assertTrue(wrapper.finish(256));
+    verify(m_responseMock).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_responseMock, never()).setContentLength(anyInt());
+    assertEquals(content.length, wrapper.getUncompressedLength());
+    assertEquals(m_out.size(), wrapper.getCompressedLength());
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+  }
+
+  @Test
+  public void testLargeResponseWithContentEncodingIsNotCompressed() throws IOException {
+    when(m_responseMock.containsHeader(GzipServletFilter.CONTENT_ENCODING)).thenReturn(true);
+    byte[] content = createContent(2 * GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_responseMock, 256);
+    wrapper.getOutputStream().write(content);
+    assertFalse(wrapper.isStreaming());
+
+    assertFalse(wrapper.finish(256));
+    verify(m_responseMock, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    assertArrayEquals(content, m_out.toByteArray());
+  }
+
+  @Test
+  public void testLargeResponseWithUnknownMinimumLengthIsBuffered() throws IOException {
+    byte[] content = createContent(2 * GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_responseMock);
+    wrapper.getWriter().write(new String(content, "UTF-8"));
+    assertFalse(wrapper.isStreaming());
+
+    assertTrue(wrapper.finish(256));
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+  }
+
+  private static byte[] createContent(int length) {
+    Random random = new Random(1);
+    byte[] content = new byte[length];
+    for (int i = 0; i < length; i++) {
+      content[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return content;
+  }
+}
@@ -80,7 +80,7 @@ public class GzipServletFilter implements Filter {
       }
     }
     if (requestAcceptsGzipEncoding(req) && supportsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+      resp = new GzipServletResponseWrapper(resp, minimumLengthToCompress(req));
     }
 
     chain.doFilter(req, resp);
@@ -10,20 +10,39 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
 
+/**
+ * Buffers the response and compresses it in {@link #finish(int)}. If the minimum length to compress is known in
+ * advance (see {@link #GzipServletResponseWrapper(HttpServletResponse, int)}), responses larger than
+ * {@link #STREAMING_THRESHOLD} are compressed while they are written instead, without a <code>Content-Length</code>
+ * header.
+ */
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
+  /**
+   * Number of uncompressed bytes after which a compressed response is streamed instead of buffered.
+   */
+  public static final int STREAMING_THRESHOLD = 64 * 1024;
+
+  private final int m_minimumLengthToCompress;
   private BufferedServletOutputStream m_buf;
+  private int m_writtenLength;
+  private GZIPOutputStream m_gzipOut;
+  private P_CountingOutputStream m_compressedOut;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
   //one of these two is used
@@ -31,7 +50,17 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   private PrintWriter m_writer;
 
   public GzipServletResponseWrapper(HttpServletResponse resp) throws IOException {
+    this(resp, -1);
+  }
+
+  /**
+   * @param minimumLengthToCompress
+   *          the minimum uncompressed size that is compressed, -1 if not known yet. Only if it is known, large
+   *          responses are streamed.
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, int minimumLengthToCompress) throws IOException {
     super(resp);
+    m_minimumLengthToCompress = minimumLengthToCompress;
   }
 
   protected BufferedServletOutputStream ensureBufferedStream() throws IOException {
@@ -61,7 +90,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
     if (m_servletOut == null) {
-      m_servletOut = ensureBufferedStream();
+      m_servletOut = new P_GzipServletOutputStream();
     }
     return m_servletOut;
   }
@@ -72,7 +101,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getOutputStream was previsouly called, getWriter is not available");
     }
     if (m_writer == null) {
-      m_writer = new PrintWriter(new OutputStreamWriter(ensureBufferedStream(), getResponse().getCharacterEncoding()));
+      m_writer = new PrintWriter(new OutputStreamWriter(new P_GzipServletOutputStream(), getResponse().getCharacterEncoding()));
     }
     return m_writer;
   }
@@ -87,15 +116,48 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (m_writer != null) {
       m_writer.flush();
     }
-    if (m_buf != null) {
+    if (m_gzipOut != null) {
+      m_gzipOut.flush();
+    }
+    else if (m_buf != null) {
       m_buf.flush();
     }
     super.flushBuffer();
   }
 
+  /**
+   * @return true if the response is compressed while it is written
+   */
+  public boolean isStreaming() {
+    return m_gzipOut != null;
+  }
+
+  /**
+   * Called before the given number of bytes is written. Switches to streaming if the response grows beyond
+   * {@link #STREAMING_THRESHOLD} and is going to be compressed anyway.
+   */
+  protected OutputStream ensureOutputStream(int len) throws IOException {
+    m_writtenLength += len;
+    if (m_gzipOut != null) {
+      return m_gzipOut;
+    }
+    BufferedServletOutputStream buf = ensureBufferedStream();
+    HttpServletResponse res = (HttpServletResponse) getResponse();
+    if (m_minimumLengthToCompress < 0 || m_writtenLength < Math.max(m_minimumLengthToCompress, STREAMING_THRESHOLD) || res.containsHeader(GzipServletFilter.CONTENT_ENCODING)) {
+      return buf;
+    }
+    res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    m_compressedOut = new P_CountingOutputStream(res.getOutputStream());
+    m_gzipOut = new GZIPOutputStream(m_compressedOut, 8192);
+    m_gzipOut.write(buf.getContent());
+    m_buf = null;
+    return m_gzipOut;
+  }
+
   /**
    * @param minimumLengthToCompress
-   *          is the minimum uncompressed size that is compressed, -1 disables compression
+   *          is the minimum uncompressed size that is compressed, -1 disables compression. Content is not compressed
+   *          if the response already has a {@link GzipServletFilter#CONTENT_ENCODING} header.
    * @return true if the content was compressed
    */
   public boolean finish(int minimumLengthToCompress) throws IOException {
@@ -103,6 +165,16 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       m_writer.close();
       m_writer = null;
     }
+    if (m_gzipOut != null) {
+      // streamed, the header was set when streaming started
+      m_gzipOut.finish();
+      m_gzipOut = null;
+      m_uncompressedLength = m_writtenLength;
+      m_compressedLength = m_compressedOut.getCount();
+      m_compressedOut = null;
+      super.flushBuffer();
+      return true;
+    }
     boolean compressed = false;
     if (m_buf != null) {
       m_buf.close();
@@ -112,7 +184,8 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
       HttpServletResponse res = (HttpServletResponse) getResponse();
       byte[] gzipped;
-      if (minimumLengthToCompress >= 0 && m_uncompressedLength >= minimumLengthToCompress) {
+      // content with a Content-Encoding (e.g. precompressed resources) is sent as is
+      if (minimumLengthToCompress >= 0 && m_uncompressedLength >= minimumLengthToCompress && !res.containsHeader(GzipServletFilter.CONTENT_ENCODING)) {
         gzipped = IOUtility.compressGzip(raw);
         res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
         compressed = true;
@@ -128,4 +201,75 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
     return compressed;
   }
+
+  /**
+   * Buffers the written bytes or compresses them directly, see {@link GzipServletResponseWrapper#ensureOutputStream(int)}.
+   */
+  private class P_GzipServletOutputStream extends ServletOutputStream {
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      if (writeListener == null) {
+        throw new NullPointerException("writeListener may not be null."); // as per ServletInputStream spec
+      }
+      try {
+        writeListener.onWritePossible();
+      }
+      catch (IOException e) {
+        writeListener.onError(e);
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      ensureOutputStream(1).write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      ensureOutputStream(len).write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (m_gzipOut != null) {
+        m_gzipOut.flush();
+      }
+    }
+  }
+
+  private static class P_CountingOutputStream extends FilterOutputStream {
+    private int m_count;
+
+    public P_CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      // the servlet container closes the response stream
+      flush();
+    }
+
+    public int getCount() {
+      return m_count;
+    }
+  }
 }
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData.TableFieldBeanDataRowData;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectColumnar(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectColumnarTest {
+
+  private static final Object[][] DATA = new Object[][]{
+      new Object[]{true, 1, "abc"},
+      new Object[]{null, 1, "abc"},
+      new Object[]{true, null, "abc"},
+      new Object[]{true, 1, null},
+  };
+
+  @Test
+  public void testSelectColumnar() throws Exception {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    ColumnarTableData data = sql.selectColumnar("SELECT A,B,C FROM T WHERE D=0");
+    assertEquals(4, data.getRowCount());
+    assertEquals(3, data.getColumnCount());
+    for (int i = 0; i < DATA.length; i++) {
+      assertArrayEquals(DATA[i], data.getRow(i));
+    }
+  }
+
+  @Test
+  public void testSelectColumnarLimited() throws Exception {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    ColumnarTableData data = sql.selectColumnarLimited("SELECT A,B,C FROM T WHERE D=0", 2);
+    assertEquals(2, data.getRowCount());
+    assertArrayEquals(DATA[1], data.getRow(1));
+  }
+
+  @Test
+  public void testSelectColumnarIntoTableBeanHolder() throws Exception {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    TableFieldBeanData holder = new TableFieldBeanData();
+    sql.selectColumnar("SELECT A,B,C FROM T WHERE D=0").exportTo(holder, "active", "state", "name");
+    TableFieldBeanDataRowData[] rows = holder.getRows();
+    assertEquals(4, rows.length);
+    for (int i = 0; i < DATA.length; i++) {
+      assertArrayEquals(DATA[i], new Object[]{rows[i].getActive(), rows[i].getState(), rows[i].getName()});
+    }
+  }
+}
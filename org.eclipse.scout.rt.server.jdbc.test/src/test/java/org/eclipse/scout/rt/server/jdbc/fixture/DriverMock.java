@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.fixture;
+
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver for the URL {@link #URL}, which creates mocked connections.
+ */
+public class DriverMock implements Driver {
+  public static final String URL = "jdbc:scout-mock:";
+
+  private static final AtomicBoolean FAILING = new AtomicBoolean();
+  private static final AtomicLong CONNECT_DELAY = new AtomicLong();
+
+  static {
+    try {
+      DriverManager.registerDriver(new DriverMock());
+    }
+    catch (SQLException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * @param failing
+   *          <code>true</code> to fail when creating connections.
+   */
+  public static void setFailing(boolean failing) {
+    FAILING.set(failing);
+  }
+
+  /**
+   * @param millis
+   *          time in milliseconds it takes to create a connection.
+   */
+  public static void setConnectDelay(long millis) {
+    CONNECT_DELAY.set(millis);
+  }
+
+  @Override
+  public Connection connect(String url, Properties info) throws SQLException {
+    if (!acceptsURL(url)) {
+      return null;
+    }
+    if (FAILING.get()) {
+      throw new SQLException("connection refused");
+    }
+    long delay = CONNECT_DELAY.get();
+    if (delay > 0) {
+      try {
+        Thread.sleep(delay);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("interrupted", e);
+      }
+    }
+    return mock(Connection.class);
+  }
+
+  @Override
+  public boolean acceptsURL(String url) throws SQLException {
+    return url != null && url.startsWith(URL);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+    return new DriverPropertyInfo[0];
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+}
@@ -72,6 +72,9 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public void clearWarnings() throws SQLException {
   }
 
+  public void clearParameters() throws SQLException {
+  }
+
   public boolean isClosed() throws SQLException {
     return false;
   }
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * JUnit test for {@link PreparedStatementCache}
+ */
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testCachedOnSecondUse() throws Exception {
+    Connection conn = createConnection();
+    PreparedStatementCache cache = new PreparedStatementCache(5);
+
+    PreparedStatement ps1 = cache.getPreparedStatement(conn, "SELECT 1");
+    cache.releasePreparedStatement(ps1);
+    verify(ps1).close();
+    assertEquals(0, cache.size());
+
+    PreparedStatement ps2 = cache.getPreparedStatement(conn, "SELECT 1");
+    cache.releasePreparedStatement(ps2);
+    assertSame(ps2, cache.getPreparedStatement(conn, "SELECT 1"));
+    cache.releasePreparedStatement(ps2);
+    verify(ps2, never()).close();
+
+    assertEquals(1, cache.getStatistics().getHitCount());
+    assertEquals(2, cache.getStatistics().getMissCount());
+  }
+
+  @Test
+  public void testStatementInUse() throws Exception {
+    Connection conn = createConnection();
+    PreparedStatementCache cache = new PreparedStatementCache(5);
+    PreparedStatement ps1 = cacheStatement(cache, conn, "SELECT 1");
+
+    assertSame(ps1, cache.getPreparedStatement(conn, "SELECT 1"));
+    PreparedStatement ps2 = cache.getPreparedStatement(conn, "SELECT 1");
+    assertNotSame(ps1, ps2);
+    cache.releasePreparedStatement(ps2);
+    verify(ps2).close();
+    cache.releasePreparedStatement(ps1);
+    verify(ps1, never()).close();
+  }
+
+  @Test
+  public void testKeyedByConnection() throws Exception {
+    Connection conn1 = createConnection();
+    Connection conn2 = createConnection();
+    PreparedStatementCache cache = new PreparedStatementCache(5);
+
+    PreparedStatement ps1 = cacheStatement(cache, conn1, "SELECT 1");
+    PreparedStatement ps2 = cacheStatement(cache, conn2, "SELECT 1");
+    assertNotSame(ps1, ps2);
+    assertEquals(2, cache.size());
+
+    cache.closeStatements(conn1);
+    verify(ps1).close();
+    verify(ps2, never()).close();
+    assertEquals(1, cache.size());
+
+    cache.release();
+    verify(ps2).close();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    Connection conn = createConnection();
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+
+    PreparedStatement ps1 = cacheStatement(cache, conn, "SELECT 1");
+    PreparedStatement ps2 = cacheStatement(cache, conn, "SELECT 2");
+    // touch ps1, so that ps2 is the least recently used statement
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 1"));
+
+    // ps3 is in use while ps2 is evicted
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 3"));
+    PreparedStatement ps3 = cache.getPreparedStatement(conn, "SELECT 3");
+    verify(ps2).close();
+    verify(ps1, never()).close();
+    assertEquals(2, cache.size());
+
+    // evicting a statement in use closes it on release
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 4"));
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 4"));
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 5"));
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 5"));
+    verify(ps3, never()).close();
+    cache.releasePreparedStatement(ps3);
+    verify(ps3).close();
+    assertEquals(3, cache.getStatistics().getEvictionCount());
+  }
+
+  @Test
+  public void testStatisticsPerConnection() throws Exception {
+    Connection conn1 = createConnection();
+    Connection conn2 = createConnection();
+    StatementCacheStatistics statistics1 = new StatementCacheStatistics();
+    StatementCacheStatistics statistics2 = new StatementCacheStatistics();
+    PreparedStatementCache cache = new PreparedStatementCache(5);
+    cache.registerStatistics(conn1, statistics1);
+    cache.registerStatistics(conn2, statistics2);
+
+    cacheStatement(cache, conn1, "SELECT 1");
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn1, "SELECT 1"));
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn2, "SELECT 1"));
+    cache.closeStatements(conn1);
+
+    assertEquals(1, statistics1.getHitCount());
+    assertEquals(2, statistics1.getMissCount());
+    assertEquals(1, statistics1.getEvictionCount());
+    assertEquals(0, statistics2.getHitCount());
+    assertEquals(1, statistics2.getMissCount());
+    assertEquals(0, cache.getStatistics().getMissCount());
+  }
+
+  /**
+   * Uses the statement twice, so that it is cached.
+   */
+  private static PreparedStatement cacheStatement(PreparedStatementCache cache, Connection conn, String s) throws SQLException {
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, s));
+    PreparedStatement ps = cache.getPreparedStatement(conn, s);
+    cache.releasePreparedStatement(ps);
+    return ps;
+  }
+
+  private static Connection createConnection() throws SQLException {
+    Connection conn = mock(Connection.class);
+    when(conn.prepareStatement(anyString())).thenAnswer(new Answer<PreparedStatement>() {
+      @Override
+      public PreparedStatement answer(InvocationOnMock invocation) throws Throwable {
+        return mock(PreparedStatement.class);
+      }
+    });
+    return conn;
+  }
+}
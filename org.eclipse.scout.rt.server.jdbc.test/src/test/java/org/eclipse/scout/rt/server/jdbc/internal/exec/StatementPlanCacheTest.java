@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link StatementPlanCache} and {@link StatementPlan}
+ */
+public class StatementPlanCacheTest {
+
+  private static final String STATEMENT = "SELECT A, B INTO :a, :{b} FROM T WHERE C = :c AND D IN (:{d}) AND E = #e#";
+
+  @Test
+  public void testHitAndMiss() {
+    StatementPlanCache cache = new StatementPlanCache(10);
+    StatementPlan plan = cache.getPlan(STATEMENT);
+    assertSame(plan, cache.getPlan(STATEMENT));
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertNotSame(plan, cache.getPlan(STATEMENT));
+  }
+
+  @Test
+  public void testDisabled() {
+    StatementPlanCache cache = new StatementPlanCache(0);
+    assertNotSame(cache.getPlan(STATEMENT), cache.getPlan(STATEMENT));
+    assertEquals(2, cache.getMissCount());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    StatementPlan plan = StatementPlan.parse(STATEMENT);
+    BindModel first = plan.createBindModel();
+    BindModel second = plan.createBindModel();
+    assertEquals(3, first.getIOTokens().length);
+    assertEquals(first.getFilteredStatement(), second.getFilteredStatement());
+
+    IToken token = first.getIOTokens()[0];
+    assertNotSame(token, second.getIOTokens()[0]);
+    token.setReplaceToken("?");
+    assertEquals(":c", second.getIOTokens()[0].getReplaceToken());
+    assertEquals("C", ((ValueInputToken) second.getIOTokens()[0]).getParsedAttribute());
+    assertEquals("=", ((ValueInputToken) second.getIOTokens()[0]).getParsedOp());
+    assertEquals(true, ((ValueInputToken) second.getIOTokens()[1]).isBatch());
+    assertEquals(true, ((ValueInputToken) second.getIOTokens()[2]).isPlainValue());
+
+    ValueOutputToken[] intoTokens = plan.createIntoTokens();
+    assertEquals(2, intoTokens.length);
+    assertEquals("a", intoTokens[0].getName());
+    assertEquals(true, intoTokens[1].isBatch());
+    assertEquals(true, intoTokens[1].isSelectInto());
+    assertNotSame(intoTokens[0], plan.createIntoTokens()[0]);
+  }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.mysql.MySqlSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for {@link StatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor, int)}
+ */
+@RunWith(PlatformTestRunner.class)
+public class StatementProcessorBatchTest {
+
+  @Test
+  public void testJdbcBatch() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{0, Statement.SUCCESS_NO_INFO});
+    when(ps.executeUpdate()).thenReturn(1);
+    IStatementCache cache = createCache(ps);
+
+    StatementProcessor sp = new StatementProcessor(createSqlService(new OracleSqlStyle()), "UPDATE T SET A = :{a} WHERE B = :{b}", new Object[]{
+        new NVPair("a", new Long[]{1L, 2L, 3L, 4L, 5L}),
+        new NVPair("b", new String[]{"v", "w", "x", "y", "z"})});
+    int[] counts = sp.processModificationBatch(mock(Connection.class), cache, null, 2);
+
+    // the last row is not sent as a batch of its own
+    assertArrayEquals(new int[]{1, 1, 0, Statement.SUCCESS_NO_INFO, 1}, counts);
+    verify(cache, times(3)).getPreparedStatement(any(Connection.class), anyString());
+    verify(ps, times(4)).addBatch();
+    verify(ps, times(2)).executeBatch();
+    verify(ps).executeUpdate();
+    verify(ps).setObject(1, 5L, Types.BIGINT);
+    verify(ps).setObject(2, "z", Types.VARCHAR);
+  }
+
+  @Test
+  public void testSingleRowIsNotBatched() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeUpdate()).thenReturn(1);
+    IStatementCache cache = createCache(ps);
+
+    StatementProcessor sp = new StatementProcessor(createSqlService(new OracleSqlStyle()), "UPDATE T SET A = :a WHERE B = :b", new Object[]{
+        new NVPair("a", 1L),
+        new NVPair("b", "x")});
+    int[] counts = sp.processModificationBatch(mock(Connection.class), cache, null, 10);
+
+    assertArrayEquals(new int[]{1}, counts);
+    verify(ps, never()).addBatch();
+    verify(ps, never()).executeBatch();
+    verify(ps).setObject(1, 1L, Types.BIGINT);
+    verify(ps).setObject(2, "x", Types.VARCHAR);
+  }
+
+  @Test
+  public void testMultiRowInsert() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeUpdate()).thenReturn(3);
+    IStatementCache cache = createCache(ps);
+
+    StatementProcessor sp = new StatementProcessor(createSqlService(new MySqlSqlStyle()), "INSERT INTO T (A, B) VALUES (:{a}, :{b})", new Object[]{
+        new NVPair("a", new Long[]{1L, 2L, 3L}),
+        new NVPair("b", new String[]{"x", "y", "z"})});
+    int[] counts = sp.processModificationBatch(mock(Connection.class), cache, null, 10);
+
+    assertArrayEquals(new int[]{1, 1, 1}, counts);
+    ArgumentCaptor<String> stm = ArgumentCaptor.forClass(String.class);
+    verify(cache).getPreparedStatement(any(Connection.class), stm.capture());
+    assertEquals("INSERT INTO T (A, B) VALUES (?, ?),(?, ?),(?, ?)", stm.getValue());
+    verify(ps).setObject(5, 3L, Types.BIGINT);
+    verify(ps).setObject(6, "z", Types.VARCHAR);
+  }
+
+  @Test
+  public void testMultiRowInsertMaxBindParameters() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeUpdate()).thenReturn(2, 1);
+    IStatementCache cache = createCache(ps);
+
+    MySqlSqlStyle style = new MySqlSqlStyle() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public int getMaxBindParameters() {
+        return 5;
+      }
+    };
+    StatementProcessor sp = new StatementProcessor(createSqlService(style), "INSERT INTO T (A, B) VALUES (:{a}, :{b})", new Object[]{
+        new NVPair("a", new Long[]{1L, 2L, 3L}),
+        new NVPair("b", new String[]{"x", "y", "z"})});
+    int[] counts = sp.processModificationBatch(mock(Connection.class), cache, null, 10);
+
+    assertArrayEquals(new int[]{1, 1, 1}, counts);
+    ArgumentCaptor<String> stm = ArgumentCaptor.forClass(String.class);
+    verify(cache, times(2)).getPreparedStatement(any(Connection.class), stm.capture());
+    assertEquals("INSERT INTO T (A, B) VALUES (?, ?),(?, ?)", stm.getAllValues().get(0));
+    assertEquals("INSERT INTO T (A, B) VALUES (?, ?)", stm.getAllValues().get(1));
+    verify(ps).setObject(1, 3L, Types.BIGINT);
+  }
+
+  @Test
+  public void testSplitInsertValues() {
+    assertArrayEquals(new String[]{"INSERT INTO T (A, B) VALUES ", "(?, UPPER(?))"}, StatementProcessor.splitInsertValues("INSERT INTO T (A, B) VALUES (?, UPPER(?))", 2));
+    assertArrayEquals(new String[]{"insert into T values", "('?', ?)"}, StatementProcessor.splitInsertValues("insert into T values('?', ?)", 1));
+    assertNull(StatementProcessor.splitInsertValues("INSERT INTO T (A) SELECT ? FROM DUAL", 1));
+    assertNull(StatementProcessor.splitInsertValues("INSERT INTO T (A) VALUES (?) ON DUPLICATE KEY UPDATE A = VALUES(A)", 1));
+    assertNull(StatementProcessor.splitInsertValues("INSERT INTO T (A, B) VALUES (?, (SELECT B FROM U WHERE C = ?))", 1));
+    assertNull(StatementProcessor.splitInsertValues("UPDATE T SET A = ?", 1));
+  }
+
+  private static IStatementCache createCache(PreparedStatement ps) throws Exception {
+    IStatementCache cache = mock(IStatementCache.class);
+    when(cache.getPreparedStatement(any(Connection.class), anyString())).thenReturn(ps);
+    return cache;
+  }
+
+  private static ISqlService createSqlService(ISqlStyle style) {
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.getSqlStyle()).thenReturn(style);
+    return sqlService;
+  }
+}
@@ -10,9 +10,19 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Date;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
 import org.eclipse.scout.rt.platform.holders.LongHolder;
@@ -20,6 +30,7 @@ import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
 import org.eclipse.scout.rt.server.TestJdbcServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData.ColumnType;
 import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
 import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
 import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldData;
@@ -101,6 +112,50 @@ public class StatementProcessorTest {
     assertFalse(sqlPlainTextDump.contains("UNPARSED"));
   }
 
+  @Test
+  public void testProcessResultRowOverridden() throws Exception {
+    AbstractSqlService sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeInstance(sqlService);
+    assertFalse(new StatementProcessor(sqlService, "SELECT 1 FROM DUAL", null).isProcessResultRowOverridden());
+
+    StatementProcessor sp = new StatementProcessor(sqlService, "SELECT 1 FROM DUAL", null) {
+      @Override
+      protected Object[] processResultRow(ResultSet rs) throws SQLException {
+        return new Object[]{"custom"};
+      }
+    };
+    assertTrue(sp.isProcessResultRowOverridden());
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getFetchSize()).thenReturn(10);
+    when(rs.next()).thenReturn(true, true, false);
+    List<Object[]> rows = sp.processResultRows(rs, 0);
+    assertEquals(2, rows.size());
+    assertArrayEquals(new Object[]{"custom"}, rows.get(0));
+    assertArrayEquals(new Object[]{"custom"}, rows.get(1));
+  }
+
+  @Test
+  public void testColumnarColumnType() throws Exception {
+    AbstractSqlService sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeInstance(sqlService);
+    StatementProcessor sp = new StatementProcessor(sqlService, "SELECT 1 FROM DUAL", null);
+    ResultSetMetaData meta = mock(ResultSetMetaData.class);
+    when(meta.getPrecision(1)).thenReturn(10);
+    when(meta.getScale(1)).thenReturn(0);
+    when(meta.getPrecision(2)).thenReturn(10);
+    when(meta.getScale(2)).thenReturn(2);
+    when(meta.getPrecision(3)).thenReturn(38);
+    when(meta.getScale(3)).thenReturn(0);
+    assertEquals(ColumnType.LONG, sp.getColumnarColumnType(meta, 1, Types.NUMERIC));
+    assertEquals(ColumnType.DOUBLE, sp.getColumnarColumnType(meta, 2, Types.DECIMAL));
+    assertEquals(ColumnType.DOUBLE, sp.getColumnarColumnType(meta, 3, Types.NUMERIC));
+    assertEquals(ColumnType.LONG, sp.getColumnarColumnType(meta, 4, Types.INTEGER));
+    assertEquals(ColumnType.DATE, sp.getColumnarColumnType(meta, 5, Types.TIMESTAMP));
+  }
+
   public static class PersonFormData extends AbstractFormData {
     private static final long serialVersionUID = 1L;
 
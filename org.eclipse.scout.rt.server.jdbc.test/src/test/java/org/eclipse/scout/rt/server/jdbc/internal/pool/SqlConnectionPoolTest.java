@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.DriverMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private AbstractSqlService m_service;
+  private SqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_service = mock(AbstractSqlService.class);
+    when(m_service.getJdbcDriverName()).thenReturn(DriverMock.class.getName());
+    when(m_service.getJdbcMappingName()).thenReturn(DriverMock.URL + "test");
+  }
+
+  @After
+  public void after() {
+    DriverMock.setFailing(false);
+    DriverMock.setConnectDelay(0L);
+    if (m_pool != null) {
+      m_pool.destroy();
+    }
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Throwable {
+    m_pool = createPool(2, 0, 60000L, 0L);
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn1, conn2);
+    assertEquals(2, m_pool.getActiveCount());
+    assertEquals(0, m_pool.getIdleCount());
+
+    m_pool.releaseConnection(conn2);
+    assertEquals(1, m_pool.getActiveCount());
+    assertEquals(1, m_pool.getIdleCount());
+
+    // the most recently released connection is leased first
+    assertSame(conn2, m_pool.leaseConnection(m_service));
+    assertEquals(2, m_pool.getCreatedCount());
+    assertEquals(3, m_pool.getLeaseCount());
+
+    // connection was idle for less than the validation idle time
+    verify(m_service, never()).callbackTestConnection(any(Connection.class));
+  }
+
+  @Test
+  public void testLeaseTimeout() throws Exception {
+    m_pool = createPool(1, 0, 0L, 50L);
+    Connection conn = m_pool.leaseConnection(m_service);
+    try {
+      m_pool.leaseConnection(m_service);
+      fail("timeout expected");
+    }
+    catch (PlatformException e) {
+      assertEquals(1, m_pool.getLeaseTimeoutCount());
+    }
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testDirtyConnectionReplaced() throws Throwable {
+    m_pool = createPool(1, 0, 0L, 0L);
+    Connection conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+
+    doThrow(new SQLException("connection reset")).when(m_service).callbackTestConnection(conn);
+    Connection newConn = m_pool.leaseConnection(m_service);
+    assertNotSame(conn, newConn);
+    verify(conn).close();
+    assertEquals(1, m_pool.getValidationFailureCount());
+    assertEquals(2, m_pool.getCreatedCount());
+  }
+
+  @Test
+  public void testCreationFailure() throws Exception {
+    m_pool = createPool(1, 0, 0L, 50L);
+    DriverMock.setFailing(true);
+    try {
+      m_pool.leaseConnection(m_service);
+      fail("creation failure expected");
+    }
+    catch (SQLException e) {
+      assertEquals(1, m_pool.getCreationFailureCount());
+    }
+
+    // neither the lease nor the connection slot is lost
+    DriverMock.setFailing(false);
+    DriverMock.setConnectDelay(0L);
+    m_pool.leaseConnection(m_service);
+    assertEquals(1, m_pool.getActiveCount());
+  }
+
+  @Test
+  public void testFillUp() throws Exception {
+    m_pool = createPool(5, 3, 60000L, 0L);
+    Connection conn = m_pool.leaseConnection(m_service);
+    long deadline = System.currentTimeMillis() + 10000L;
+    while (m_pool.getIdleCount() < 3 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(3, m_pool.getIdleCount());
+    assertEquals(4, m_pool.getCreatedCount());
+
+    m_pool.releaseConnection(conn);
+    assertEquals(4, m_pool.getIdleCount());
+    assertTrue(m_pool.getInventory().contains("Total connections: 4"));
+  }
+
+  /**
+   * All connection slots are reserved, but the connection created in the background is not idle yet.
+   */
+  @Test
+  public void testWaitForConnectionCreatedInBackground() throws Exception {
+    m_pool = createPool(2, 2, 60000L, 10000L);
+    DriverMock.setConnectDelay(300L);
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn1, conn2);
+    assertEquals(2, m_pool.getCreatedCount());
+    assertEquals(2, m_pool.getActiveCount());
+  }
+
+  @Test
+  public void testWaitForConnectionCreatedInBackgroundTimeout() throws Exception {
+    m_pool = createPool(2, 2, 60000L, 100L);
+    DriverMock.setConnectDelay(2000L);
+    m_pool.leaseConnection(m_service);
+    DriverMock.setConnectDelay(5000L);
+    // the remaining slot must be reserved by the background fill-up, otherwise the lease creates the connection itself
+    awaitTotalConnections(2);
+    long t0 = System.currentTimeMillis();
+    try {
+      m_pool.leaseConnection(m_service);
+      fail("timeout expected");
+    }
+    catch (PlatformException e) {
+      assertEquals(1, m_pool.getLeaseTimeoutCount());
+      assertTrue(System.currentTimeMillis() - t0 < 5000L);
+    }
+  }
+
+  private void awaitTotalConnections(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000L;
+    while (!m_pool.getInventory().contains("Total connections: " + count)) {
+      assertTrue("background connection not reserved in time", System.currentTimeMillis() < deadline);
+      Thread.sleep(10L);
+    }
+  }
+
+  private static SqlConnectionPool createPool(int poolSize, int minIdle, long validationIdleTime, long leaseTimeout) {
+    return new SqlConnectionPool(AbstractSqlService.class, poolSize, 300000L, 21600000L, minIdle, validationIdleTime, leaseTimeout);
+  }
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.eclipse.scout.rt.testing.shared.TestingUtility;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link AbstractSqlLookupService#getDataByKeys(List)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class AbstractSqlLookupServiceTest {
+
+  private static final Object[][] DATA = new Object[][]{
+      new Object[]{1L, "a"},
+      new Object[]{2L, "b"},
+  };
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @After
+  public void after() {
+    TestingUtility.unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testGetDataByKeys() {
+    registerSqlService(new SqlServiceMock());
+    List<List<ILookupRow<Long>>> result = new P_LookupService("SELECT ID, NAME FROM T WHERE 1=1 <key>AND ID = :key</key> <text>AND NAME LIKE :text</text>").getDataByKeys(createCalls(1L, 2L, 3L, 1L, 2L));
+    assertEquals(5, result.size());
+    assertEquals("a", result.get(0).get(0).getText());
+    assertEquals("b", result.get(1).get(0).getText());
+    assertEquals(0, result.get(2).size());
+    assertEquals("a", result.get(3).get(0).getText());
+    assertEquals("b", result.get(4).get(0).getText());
+    assertEquals(1, countStatements());
+    assertTrue(m_sqlService.getProtocol().toString().contains("IN (1,2,3)"));
+  }
+
+  @Test
+  public void testGetDataByKeysChunked() {
+    registerSqlService(new P_SqlService());
+    new P_LookupService("SELECT ID, NAME FROM T WHERE 1=1 <key>AND ID = :key</key>").getDataByKeys(createCalls(1L, 2L, 3L, 1L, 2L));
+    // 3 distinct keys in chunks of 2
+    assertEquals(2, countStatements());
+  }
+
+  @Test
+  public void testGetDataByKeysWithUnsupportedKeyTag() {
+    registerSqlService(new SqlServiceMock());
+    List<List<ILookupRow<Long>>> result = new P_LookupService("SELECT ID, NAME FROM T WHERE 1=1 <key>AND ID = NVL(:key,0)</key>").getDataByKeys(createCalls(1L, 2L, 3L, 1L, 2L));
+    assertEquals(5, result.size());
+    assertEquals(5, countStatements());
+  }
+
+  @Test
+  public void testGetDataByKeysWithUnresolvedKeyType() {
+    registerSqlService(new SqlServiceMock());
+    List<List<ILookupRow<Long>>> result = new P_GenericLookupService<Long>("SELECT ID, NAME FROM T WHERE 1=1 <key>AND ID = :key</key>").getDataByKeys(createCalls(1L, 2L, 3L));
+    assertEquals(3, result.size());
+    assertEquals("a", result.get(0).get(0).getText());
+    // the rows cannot be matched by key, hence the calls are resolved one by one
+    assertEquals(3, countStatements());
+  }
+
+  @Test(expected = ProcessingException.class)
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testGetDataByKeysWithWrongKeyType() {
+    registerSqlService(new SqlServiceMock());
+    List calls = createCalls(1L, 2L);
+    ((ILookupCall) calls.get(1)).setKey("b");
+    new P_LookupService("SELECT ID, NAME FROM T WHERE 1=1 <key>AND ID = :key</key>").getDataByKeys(calls);
+  }
+
+  private void registerSqlService(SqlServiceMock sqlService) {
+    BeanInstanceUtil.initializeInstance(sqlService);
+    sqlService.setResultData(DATA);
+    m_sqlService = sqlService;
+    m_beans = TestingUtility.registerBeans(new BeanMetaData(ISqlService.class).withInitialInstance(sqlService).withApplicationScoped(true));
+  }
+
+  private int countStatements() {
+    String protocol = m_sqlService.getProtocol().toString();
+    int count = 0;
+    for (int i = protocol.indexOf("prepareStatement"); i >= 0; i = protocol.indexOf("prepareStatement", i + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  private static List<ILookupCall<Long>> createCalls(Long... keys) {
+    List<ILookupCall<Long>> calls = new ArrayList<ILookupCall<Long>>();
+    for (Long key : keys) {
+      LookupCall<Long> call = new LookupCall<Long>();
+      call.setKey(key);
+      calls.add(call);
+    }
+    return calls;
+  }
+
+  private static class P_LookupService extends AbstractSqlLookupService<Long> {
+    private final String m_sql;
+
+    P_LookupService(String sql) {
+      m_sql = sql;
+    }
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return m_sql;
+    }
+  }
+
+  private static class P_GenericLookupService<T> extends AbstractSqlLookupService<T> {
+    private final String m_sql;
+
+    P_GenericLookupService(String sql) {
+      m_sql = sql;
+    }
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return m_sql;
+    }
+  }
+
+  private static class P_SqlService extends SqlServiceMock {
+
+    @Override
+    protected Class<? extends ISqlStyle> getConfiguredSqlStyle() {
+      return P_SqlStyle.class;
+    }
+  }
+
+  public static class P_SqlStyle extends OracleSqlStyle {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected int getMaxListSize() {
+      return 2;
+    }
+  }
+}
@@ -256,6 +256,58 @@ public class AbstractSqlStyleTest {
     assertTrue(o2 instanceof Long);
   }
 
+  /**
+   * Test for {@link AbstractSqlStyle#createColumnReader}: same values as {@link AbstractSqlStyle#readBind}
+   */
+  @Test
+  public void testCreateColumnReader() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.INTEGER);
+    Mockito.when(meta.getColumnType(2)).thenReturn(Types.VARCHAR);
+    Mockito.when(meta.getColumnType(3)).thenReturn(Types.DECIMAL);
+    Mockito.when(rs.getLong(1)).thenReturn(42L);
+    Mockito.when(rs.getString(2)).thenReturn("abc");
+    Mockito.when(rs.getBigDecimal(3)).thenReturn(BigDecimal.valueOf(987654L));
+
+    IResultSetColumnReader longReader = sql.createColumnReader(meta, 1);
+    IResultSetColumnReader stringReader = sql.createColumnReader(meta, 2);
+    IResultSetColumnReader decimalReader = new SqlStyleDecimalConversionLegacy().createColumnReader(meta, 3);
+    assertEquals(Types.INTEGER, longReader.getJdbcType());
+    assertEquals(Types.VARCHAR, stringReader.getJdbcType());
+    assertEquals(Long.valueOf(42L), longReader.read(rs));
+    assertEquals("abc", stringReader.read(rs));
+    assertEquals(Long.valueOf(987654L), decimalReader.read(rs));
+
+    Mockito.when(rs.wasNull()).thenReturn(true);
+    assertNull(longReader.read(rs));
+    assertNull(stringReader.read(rs));
+    Mockito.verify(meta, Mockito.times(1)).getColumnType(1);
+  }
+
+  /**
+   * Test for {@link AbstractSqlStyle#createColumnReader} of a style overriding {@link AbstractSqlStyle#readBind}
+   */
+  @Test
+  public void testCreateColumnReaderWithCustomReadBind() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.BIT);
+    Mockito.when(rs.getObject(1)).thenReturn(Boolean.TRUE);
+    AbstractSqlStyle booleanStyle = new SqlStyleDecimalConversionNone() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object readBind(ResultSet resultSet, ResultSetMetaData metaData, int type, int jdbcBindIndex) throws SQLException {
+        if (type == Types.BIT) {
+          return resultSet.getObject(jdbcBindIndex);
+        }
+        return super.readBind(resultSet, metaData, type, jdbcBindIndex);
+      }
+    };
+    assertEquals(Boolean.TRUE, booleanStyle.createColumnReader(meta, 1).read(rs));
+  }
+
   /**
    * SQL style decimal conversion with no conversion strategy
    */
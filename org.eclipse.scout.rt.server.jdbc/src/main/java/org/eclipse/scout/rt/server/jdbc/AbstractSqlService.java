@@ -39,11 +39,15 @@ import org.eclipse.scout.rt.platform.service.IServiceInventory;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverUnloadProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionValidationIdleTimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolMinIdleProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
@@ -55,6 +59,8 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlPasswordProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMemberIdProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementPlanCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
@@ -63,6 +69,7 @@ import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.transaction.ITransaction;
 import org.eclipse.scout.rt.server.transaction.ITransactionMember;
 import org.eclipse.scout.rt.shared.ScoutTexts;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeService;
 import org.eclipse.scout.rt.shared.services.common.security.IAccessControlService;
 import org.eclipse.scout.rt.shared.services.common.security.IPermissionService;
@@ -72,6 +79,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractSqlService implements ISqlService, IServiceInventory {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
+  public static final int DEFAULT_JDBC_BATCH_SIZE = 500;
 
   private volatile SqlConnectionPool m_pool;
   private final String m_transactionMemberId;
@@ -86,12 +94,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final int m_jdbcPoolMinIdle;
+  private final long m_jdbcPoolConnectionValidationIdleTime;
+  private final long m_jdbcPoolLeaseTimeout;
+  private final int m_jdbcBatchSize;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
   private final int m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
   private final Class<? extends ScoutTexts> m_nlsProvider;
   private final ISqlStyle m_sqlStyle;
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
 
   private final Map<String, List<Class<?>>> m_permissionNameToDescriptor;
   private final Map<String, List<Class<?>>> m_codeNameToDescriptor;
@@ -119,6 +132,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolMinIdle = getPropertyValue(SqlJdbcPoolMinIdleProperty.class, getConfiguredJdbcPoolMinIdle());
+    m_jdbcPoolConnectionValidationIdleTime = getPropertyValue(SqlJdbcPoolConnectionValidationIdleTimeProperty.class, getConfiguredJdbcPoolConnectionValidationIdleTime());
+    m_jdbcPoolLeaseTimeout = getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class, getConfiguredJdbcPoolLeaseTimeout());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_nlsProvider = getConfiguredNlsProvider();
 
     // load sql style
@@ -263,6 +280,51 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * Number of idle connections the pool is filled up with in the background. Default is <code>0</code>, meaning that
+   * connections are only created on demand.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(152)
+  protected int getConfiguredJdbcPoolMinIdle() {
+    return 0;
+  }
+
+  /**
+   * Time in milliseconds a pooled connection may be idle, before it is tested by {@link #execTestConnection(Connection)}
+   * when leased again. Use <code>0</code> to test every connection on lease.
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(154)
+  protected long getConfiguredJdbcPoolConnectionValidationIdleTime() {
+    return 5000L;
+  }
+
+  /**
+   * Maximum time in milliseconds to wait for a pooled connection if all connections are leased. Use <code>0</code> to
+   * wait infinitely, which is the default.
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(156)
+  protected long getConfiguredJdbcPoolLeaseTimeout() {
+    return 0L;
+  }
+
+  /**
+   * Maximum number of rows sent to the database in one JDBC batch, when {@link #insert(String, Object...)},
+   * {@link #update(String, Object...)} or {@link #delete(String, Object...)} is called with batch binds (arrays, table
+   * holders or bean array holders). Use <code>0</code> to send one statement per row.
+   * <p>
+   * Statements whose binds expand to a single row are executed as plain updates and return the exact update count. For
+   * rows sent in a batch, for which the JDBC driver reports no update count (see
+   * {@link java.sql.Statement#SUCCESS_NO_INFO}), the row count returned by these methods does not include them.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(158)
+  protected int getConfiguredJdbcBatchSize() {
+    return 0;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
@@ -513,17 +575,46 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public int getJdbcPoolMinIdle() {
+    return m_jdbcPoolMinIdle;
+  }
+
+  public long getJdbcPoolConnectionValidationIdleTime() {
+    return m_jdbcPoolConnectionValidationIdleTime;
+  }
+
+  public long getJdbcPoolLeaseTimeout() {
+    return m_jdbcPoolLeaseTimeout;
+  }
+
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
+  /**
+   * @return hit and miss counters of the prepared statement caches of all transactions of this service
+   */
+  public StatementCacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
   @Override
   public String getInventory() {
+    StringBuilder buf = new StringBuilder();
     final SqlConnectionPool pool = m_pool;
     if (pool != null) {
-      return pool.getInventory();
+      buf.append(pool.getInventory());
     }
-    return null;
+    buf.append("Statement cache: " + getStatementCacheStatistics());
+    buf.append("\n");
+    StatementPlanCache planCache = BEANS.get(StatementPlanCache.class);
+    buf.append("Statement plan cache: size: " + planCache.size() + ", hits: " + planCache.getHitCount() + ", misses: " + planCache.getMissCount());
+    buf.append("\n");
+    return buf.toString();
   }
 
   public Class<? extends ScoutTexts> getNlsProvider() {
@@ -594,7 +685,8 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
 
     if (m_pool == null) {
-      m_pool = SqlConnectionPool.getPool(getClass(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool = SqlConnectionPool.getPool(getClass(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(),
+          getJdbcPoolMinIdle(), getJdbcPoolConnectionValidationIdleTime(), getJdbcPoolLeaseTimeout());
     }
     return m_pool;
   }
@@ -612,6 +704,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
       Connection connection = leaseConnection();
       member = new SqlTransactionMember(getTransactionMemberId(), connection);
       tx.registerMember(member);
+      // the statements must be closed before the connection of this service is released
+      IStatementCache statementCache = getStatementCache(tx);
+      if (statementCache instanceof PreparedStatementCache) {
+        member.setStatementCache((PreparedStatementCache) statementCache);
+        // the cache is shared by all services of the transaction, count the statements of this service separately
+        ((PreparedStatementCache) statementCache).registerStatistics(connection, getStatementCacheStatistics());
+      }
       // this is the start of the transaction
       execBeginTransaction();
     }
@@ -622,7 +721,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
    * @return the statement cache used for this {@link ITransaction} transaction
    */
   protected final IStatementCache getStatementCache() {
-    ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
+    return getStatementCache(Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required"));
+  }
+
+  private IStatementCache getStatementCache(ITransaction tx) {
     IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
     if (res == null) {
       res = new PreparedStatementCache(getJdbcStatementCacheSize());
@@ -655,6 +757,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectInto(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public ColumnarTableData selectColumnar(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectColumnar(getTransaction(), getStatementCache());
+  }
+
+  @Override
+  public ColumnarTableData selectColumnarLimited(String s, int maxRowCount, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, maxRowCount).processSelectColumnar(getTransaction(), getStatementCache());
+  }
+
   @Override
   public void selectStreaming(String s, ISelectStreamHandler handler, Object... bindBases) {
     createStatementProcessor(s, bindBases, 0).processSelectStreaming(getTransaction(), getStatementCache(), handler);
@@ -667,17 +779,55 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   @Override
   public int insert(String s, Object... bindBases) {
-    return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
+    return processModification(s, bindBases);
   }
 
   @Override
   public int update(String s, Object... bindBases) {
-    return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
+    return processModification(s, bindBases);
   }
 
   @Override
   public int delete(String s, Object... bindBases) {
-    return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
+    return processModification(s, bindBases);
+  }
+
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return processModificationBatch(s, bindBases);
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return processModificationBatch(s, bindBases);
+  }
+
+  /**
+   * Executes a modification statement. The rows of batch binds are sent in JDBC batches if
+   * {@link #getJdbcBatchSize()} is greater than zero. A statement with a single row is always executed as a plain
+   * update.
+   */
+  protected int processModification(String s, Object[] bindBases) {
+    IStatementProcessor processor = createStatementProcessor(s, bindBases, 0);
+    if (getJdbcBatchSize() <= 0) {
+      return processor.processModification(getTransaction(), getStatementCache(), null);
+    }
+    int rowCount = 0;
+    for (int count : processor.processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize())) {
+      if (count > 0) {
+        rowCount += count;
+      }
+    }
+    return rowCount;
+  }
+
+  /**
+   * Executes a modification statement using JDBC batches of {@link #getJdbcBatchSize()} rows, or
+   * {@link #DEFAULT_JDBC_BATCH_SIZE} rows if no batch size is configured.
+   */
+  protected int[] processModificationBatch(String s, Object[] bindBases) {
+    int batchSize = (getJdbcBatchSize() > 0 ? getJdbcBatchSize() : DEFAULT_JDBC_BATCH_SIZE);
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, batchSize);
   }
 
   @Override
@@ -825,6 +975,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   private class SqlTransactionMember extends AbstractSqlTransactionMember {
     private final Connection m_conn;
+    private volatile PreparedStatementCache m_statementCache;
 
     public SqlTransactionMember(String transactionMemberId, Connection conn) {
       super(transactionMemberId);
@@ -835,6 +986,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
       return m_conn;
     }
 
+    public void setStatementCache(PreparedStatementCache statementCache) {
+      m_statementCache = statementCache;
+    }
+
     @Override
     public void commitPhase2() {
       try {
@@ -875,6 +1030,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void release() {
+      PreparedStatementCache statementCache = m_statementCache;
+      if (statementCache != null) {
+        statementCache.closeStatements(m_conn);
+      }
       releaseConnection(m_conn);
     }
   } // end private class
@@ -18,6 +18,7 @@ import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 
 /**
  * <p>
@@ -214,6 +215,32 @@ public interface ISqlService extends IService {
    */
   void selectIntoLimited(String s, int maxRowCount, Object... bindBases);
 
+  /**
+   * Selects data stored column by column. Numeric and date columns are kept in primitive arrays, string columns are
+   * dictionary encoded. Use it instead of {@link #select(String, Object...)} for large results, e.g. to load tables
+   * with many rows.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return the selected rows, cannot be <code>null</code>
+   * @see #select(String, Object...)
+   */
+  ColumnarTableData selectColumnar(String s, Object... bindBases);
+
+  /**
+   * Selects data stored column by column and limits the amount of returned rows.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param maxRowCount
+   *          the maximum number of rows returned
+   * @return the selected rows, cannot be <code>null</code>
+   * @see #selectColumnar(String, Object...)
+   */
+  ColumnarTableData selectColumnarLimited(String s, int maxRowCount, Object... bindBases);
+
   /**
    * The callback can handle each row individually and therefore stream data
    * <p>
@@ -258,6 +285,27 @@ public interface ISqlService extends IService {
    */
   int update(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batches
+   * <p>
+   * Instead of one statement per row, the rows of batch binds are sent to the database in batches. If supported by the
+   * {@link ISqlStyle}, the rows are inserted with a multi-row insert statement.
+   * </p>
+   *
+   * @return the update count of each row, see {@link java.sql.Statement#executeBatch()}
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using JDBC batches
+   * <p>
+   * Instead of one statement per row, the rows of batch binds are sent to the database in batches.
+   * </p>
+   *
+   * @return the update count of each row, see {@link java.sql.Statement#executeBatch()}
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
   /**
    * delete rows
    * <p>
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
+
 public interface IStatementProcessor {
 
   Object[][] processSelect(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
@@ -20,8 +22,22 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Like {@link #processSelect(Connection, IStatementCache, IStatementProcessorMonitor)} but stores the rows column by
+   * column instead of in an <code>Object[][]</code>. <code>INTO</code> binds are not supported.
+   */
+  ColumnarTableData processSelectColumnar(Connection conn, IStatementCache cache);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Like {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)} but sends the rows of
+   * batch binds in JDBC batches of at most <code>batchSize</code> rows instead of one statement per row.
+   *
+   * @return the update count of each row, see {@link java.sql.Statement#executeBatch()}
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -16,6 +16,7 @@ import java.sql.SQLException;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
 
 /**
  * <p>
@@ -117,6 +118,22 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectColumnar(String, Object...)
+   */
+  public static ColumnarTableData selectColumnar(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectColumnar(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectColumnarLimited(String, int, Object...)
+   */
+  public static ColumnarTableData selectColumnarLimited(String s, int maxRowCount, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectColumnarLimited(s, maxRowCount, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -133,6 +150,22 @@ public final class SQL {
     return service.update(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#delete(String, Object...)
    */
@@ -123,6 +123,30 @@ public class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcPoolConnectionValidationIdleTimeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.jdbc.AbstractSqlService#jdbcPoolConnectionValidationIdleTime";
+    }
+  }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.jdbc.AbstractSqlService#jdbcPoolLeaseTimeout";
+    }
+  }
+
+  public static class SqlJdbcPoolMinIdleProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.jdbc.AbstractSqlService#jdbcPoolMinIdle";
+    }
+  }
+
   public static class SqlJdbcStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -131,6 +155,31 @@ public class SqlConfigProperties {
     }
   }
 
+  /**
+   * Number of parsed statements kept by the {@link org.eclipse.scout.rt.server.jdbc.internal.exec.StatementPlanCache}
+   * (<code>1000</code> by default). <code>0</code> disables the cache. There is one cache shared by all SQL services.
+   */
+  public static class SqlStatementPlanCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.jdbc.statementPlanCacheSize";
+    }
+
+    @Override
+    protected Integer getDefaultValue() {
+      return Integer.valueOf(1000);
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.jdbc.AbstractSqlService#jdbcBatchSize";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
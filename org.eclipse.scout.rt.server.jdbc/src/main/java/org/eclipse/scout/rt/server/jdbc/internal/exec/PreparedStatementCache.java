@@ -14,100 +14,215 @@ import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.concurrent.TimeUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.transaction.AbstractTransactionMember;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Least recently used cache of prepared statements of a transaction, keyed by connection and SQL text.
+ * <p>
+ * A statement is cached when it is used for the second time within the transaction, so that statements used once only
+ * do not displace others. A cached statement is handed out to one caller at a time. If it is requested again before it
+ * was released, an uncached statement is prepared instead. Statements are closed when they are evicted, when the
+ * statements of their connection are closed by {@link #closeStatements(Connection)} or when the transaction is
+ * released.
+ * <p>
+ * The cache is shared by all SQL services taking part in the transaction. Hits, misses and evictions are counted in the
+ * statistics registered for the connection of a statement, see {@link #registerStatistics(Connection,
+ * StatementCacheStatistics)}, so that every SQL service reports its own statements.
+ */
 public class PreparedStatementCache extends AbstractTransactionMember implements IStatementCache {
   private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementCache.class);
 
   public static final String TRANSACTION_MEMBER_ID = "PreparedStatementCache";
 
-  private ConcurrentExpiringMap<String, Integer> m_countCache;
-  private ConcurrentExpiringMap<String, PreparedStatement> m_statementCache;
+  private final int m_statementCacheSize;
+  private final StatementCacheStatistics m_statistics;
+  private final Object m_lock = new Object();
+  // cached statements in least recently used order
+  private final LinkedHashMap<P_Key, P_Entry> m_entries;
+  // cached and evicted but not yet released statements by identity
+  private final IdentityHashMap<PreparedStatement, P_Entry> m_entriesByStatement;
+  // statements used once, candidates for the cache
+  private final LinkedHashMap<P_Key, Boolean> m_candidates;
+  // statistics of the SQL service owning a connection
+  private final IdentityHashMap<Connection, StatementCacheStatistics> m_statisticsByConnection;
 
   public PreparedStatementCache(int statementCacheSize) {
+    this(statementCacheSize, new StatementCacheStatistics());
+  }
+
+  public PreparedStatementCache(int statementCacheSize, StatementCacheStatistics statistics) {
     super(TRANSACTION_MEMBER_ID);
-    m_countCache = new ConcurrentExpiringMap<String, Integer>(2L, TimeUnit.MINUTES, 200);
-    m_statementCache = new ConcurrentExpiringMap<String, PreparedStatement>(1L, TimeUnit.HOURS, statementCacheSize) {
+    m_statementCacheSize = statementCacheSize;
+    m_statistics = statistics;
+    m_entries = new LinkedHashMap<P_Key, P_Entry>(16, 0.75f, true);
+    m_entriesByStatement = new IdentityHashMap<PreparedStatement, P_Entry>();
+    m_statisticsByConnection = new IdentityHashMap<Connection, StatementCacheStatistics>();
+    m_candidates = new LinkedHashMap<P_Key, Boolean>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
       @Override
-      protected void execEntryEvicted(String key, PreparedStatement value) {
-        closePreparedStatement(value);
+      protected boolean removeEldestEntry(Map.Entry<P_Key, Boolean> eldest) {
+        return size() > 2 * m_statementCacheSize;
       }
     };
   }
 
+  /**
+   * @return the statistics of the statements whose connection has no registered statistics.
+   */
+  public StatementCacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  /**
+   * Counts the hits, misses and evictions of the statements of the given connection in the given statistics, typically
+   * the ones of the SQL service owning the connection.
+   */
+  public void registerStatistics(Connection conn, StatementCacheStatistics statistics) {
+    synchronized (m_lock) {
+      m_statisticsByConnection.put(conn, statistics);
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  private StatementCacheStatistics getStatistics(Connection conn) {
+    StatementCacheStatistics statistics = m_statisticsByConnection.get(conn);
+    return statistics != null ? statistics : m_statistics;
+  }
+
   @Override
   public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
-    // a statement must be used at least 2 times within 2 minutes in order to be
-    // cached
-    PreparedStatement ps = m_statementCache.get(s);
-    if (ps == null) {
-      ps = conn.prepareStatement(s);
-      Integer count = m_countCache.get(s);
-      count = (count != null ? count : 0) + 1;
-      m_countCache.put(s, count);
-      if (count >= 2) {
-        // second access, cache it
-        m_statementCache.put(s, ps);
+    return getStatement(conn, s, false);
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    releaseStatement(ps);
+  }
+
+  @Override
+  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    return (CallableStatement) getStatement(conn, s, true);
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    releaseStatement(cs);
+  }
+
+  private PreparedStatement getStatement(Connection conn, String s, boolean callable) throws SQLException {
+    P_Key key = new P_Key(conn, s, callable);
+    PreparedStatement ps = null;
+    StatementCacheStatistics statistics;
+    synchronized (m_lock) {
+      statistics = getStatistics(conn);
+      P_Entry e = m_entries.get(key);
+      if (e != null && !e.m_inUse) {
+        e.m_inUse = true;
+        ps = e.m_statement;
       }
     }
-    else {
+    if (ps != null) {
+      statistics.hit();
       ps.clearParameters();
       ps.clearWarnings();
+      return ps;
     }
-    return ps;
-  }
 
-  @Override
-  public void releasePreparedStatement(PreparedStatement ps) {
-    // close statement when it is not cached
-    if (ps != null) {
-      if (!m_statementCache.containsValue(ps)) {
-        try {
-          ps.close();
-        }
-        catch (Throwable t) {
+    statistics.miss();
+    ps = (callable ? conn.prepareCall(s) : conn.prepareStatement(s));
+    if (m_statementCacheSize <= 0) {
+      return ps;
+    }
+    List<PreparedStatement> evicted = new ArrayList<PreparedStatement>(1);
+    synchronized (m_lock) {
+      // if the cached statement is in use, the new statement is not cached
+      if (!m_entries.containsKey(key) && m_candidates.put(key, Boolean.TRUE) != null) {
+        m_candidates.remove(key);
+        P_Entry e = new P_Entry(key, ps);
+        m_entries.put(key, e);
+        m_entriesByStatement.put(ps, e);
+        Iterator<P_Entry> it = m_entries.values().iterator();
+        while (m_entries.size() > m_statementCacheSize) {
+          evict(it.next(), evicted);
+          it.remove();
         }
       }
     }
+    closeStatements(evicted);
+    return ps;
   }
 
-  @Override
-  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
-    // a statement must be used at least 2 times within 2 minutes in order to be
-    // cached
-    CallableStatement cs = (CallableStatement) m_statementCache.get(s);
-    if (cs == null) {
-      cs = conn.prepareCall(s);
-      Integer count = m_countCache.get(s);
-      count = (count != null ? count : 0) + 1;
-      m_countCache.put(s, count);
-      if (count >= 2) {
-        // second access, cache it
-        m_statementCache.put(s, cs);
+  private void releaseStatement(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    synchronized (m_lock) {
+      P_Entry e = m_entriesByStatement.get(ps);
+      if (e != null && !e.m_evicted) {
+        e.m_inUse = false;
+        return;
       }
+      m_entriesByStatement.remove(ps);
     }
-    return cs;
+    // statement is not cached
+    closeStatement(ps);
   }
 
-  @Override
-  public void releaseCallableStatement(CallableStatement cs) {
-    // close statement when it is not cached
-    if (cs != null) {
-      if (!m_statementCache.containsValue(cs)) {
-        try {
-          cs.close();
+  /**
+   * Closes all cached statements of the given connection. Must be called before the connection is returned to a pool
+   * or closed.
+   */
+  public void closeStatements(Connection conn) {
+    List<PreparedStatement> evicted = new ArrayList<PreparedStatement>();
+    synchronized (m_lock) {
+      for (Iterator<P_Entry> it = m_entries.values().iterator(); it.hasNext();) {
+        P_Entry e = it.next();
+        if (e.m_key.m_conn == conn) {
+          evict(e, evicted);
+          it.remove();
         }
-        catch (Throwable t) {
+      }
+      for (Iterator<P_Key> it = m_candidates.keySet().iterator(); it.hasNext();) {
+        if (it.next().m_conn == conn) {
+          it.remove();
         }
       }
+      m_statisticsByConnection.remove(conn);
+    }
+    closeStatements(evicted);
+  }
+
+  /**
+   * Must be called while holding the lock. Statements in use are closed when they are released.
+   */
+  private void evict(P_Entry e, List<PreparedStatement> statementsToClose) {
+    e.m_evicted = true;
+    getStatistics(e.m_key.m_conn).evicted();
+    if (!e.m_inUse) {
+      m_entriesByStatement.remove(e.m_statement);
+      statementsToClose.add(e.m_statement);
+    }
+  }
+
+  /**
+   * @return the number of cached statements
+   */
+  public int size() {
+    synchronized (m_lock) {
+      return m_entries.size();
     }
   }
 
@@ -131,16 +246,23 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
 
   @Override
   public void release() {
-    for (Iterator<Entry<String, PreparedStatement>> iterator = m_statementCache.entrySet().iterator(); iterator.hasNext();) {
-      Entry<String, PreparedStatement> entry = iterator.next();
-      iterator.remove();
-      closePreparedStatement(entry.getValue());
+    List<PreparedStatement> statements;
+    synchronized (m_lock) {
+      statements = new ArrayList<PreparedStatement>(m_entriesByStatement.keySet());
+      m_entries.clear();
+      m_entriesByStatement.clear();
+      m_candidates.clear();
+    }
+    closeStatements(statements);
+  }
+
+  private void closeStatements(List<PreparedStatement> statements) {
+    for (PreparedStatement ps : statements) {
+      closeStatement(ps);
     }
-    m_countCache.clear();
   }
 
-  private void closePreparedStatement(Object value) {
-    PreparedStatement ps = (PreparedStatement) value;
+  private void closeStatement(PreparedStatement ps) {
     try {
       ps.close();
     }
@@ -148,4 +270,47 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
       LOG.warn("disposing prepared statement");
     }
   }
+
+  private static final class P_Key {
+    private final Connection m_conn;
+    private final String m_sql;
+    private final boolean m_callable;
+    private final int m_hash;
+
+    private P_Key(Connection conn, String sql, boolean callable) {
+      m_conn = conn;
+      m_sql = sql;
+      m_callable = callable;
+      m_hash = 31 * (31 * System.identityHashCode(conn) + sql.hashCode()) + (callable ? 1 : 0);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof P_Key)) {
+        return false;
+      }
+      P_Key other = (P_Key) obj;
+      return m_conn == other.m_conn && m_callable == other.m_callable && m_sql.equals(other.m_sql);
+    }
+  }
+
+  private static final class P_Entry {
+    private final P_Key m_key;
+    private final PreparedStatement m_statement;
+    private boolean m_inUse = true;
+    private boolean m_evicted;
+
+    private P_Entry(P_Key key, PreparedStatement statement) {
+      m_key = key;
+      m_statement = statement;
+    }
+  }
 }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit and miss counters of {@link PreparedStatementCache}s. Since a statement cache lives as long as a transaction, the
+ * counters are shared by all caches of a SQL service.
+ *
+ * @since 5.2
+ */
+public class StatementCacheStatistics {
+
+  private final AtomicLong m_hitCount = new AtomicLong();
+  private final AtomicLong m_missCount = new AtomicLong();
+  private final AtomicLong m_evictionCount = new AtomicLong();
+
+  void hit() {
+    m_hitCount.incrementAndGet();
+  }
+
+  void miss() {
+    m_missCount.incrementAndGet();
+  }
+
+  void evicted() {
+    m_evictionCount.incrementAndGet();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.get();
+  }
+
+  public long getMissCount() {
+    return m_missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCount.get();
+  }
+
+  /**
+   * @return the ratio of statement requests served from the cache, between 0 and 1
+   */
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long total = hits + getMissCount();
+    return total > 0 ? (double) hits / total : 0d;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("hits: %d, misses: %d, hit ratio: %.1f%%, evictions: %d", getHitCount(), getMissCount(), getHitRatio() * 100d, getEvictionCount());
+  }
+}
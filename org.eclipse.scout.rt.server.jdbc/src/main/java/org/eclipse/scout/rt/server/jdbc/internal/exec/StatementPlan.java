@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+
+/**
+ * Result of parsing a statement with the {@link IntoParser} and the {@link BindParser}.
+ * <p>
+ * A plan is immutable and may be shared by all {@link StatementProcessor}s executing the same statement. Because bind
+ * tokens are modified while a statement is processed (replace tokens, plain value flags), each processor must work on
+ * its own copy of the tokens obtained by {@link #createBindModel()} and {@link #createIntoTokens()}.
+ *
+ * @since 5.2
+ */
+public final class StatementPlan {
+
+  private final String m_statement;
+  private final String m_filteredStatement;
+  private final IToken[] m_tokens;
+  private final ValueOutputToken[] m_intoTokens;
+
+  private StatementPlan(String statement, String filteredStatement, IToken[] tokens, ValueOutputToken[] intoTokens) {
+    m_statement = statement;
+    m_filteredStatement = filteredStatement;
+    m_tokens = tokens;
+    m_intoTokens = intoTokens;
+  }
+
+  /**
+   * Parses the given statement.
+   */
+  public static StatementPlan parse(String statement) {
+    IntoModel intoModel = new IntoParser(statement).parse();
+    String filteredStatement = intoModel.getFilteredStatement();
+    BindModel bindModel = new BindParser(filteredStatement).parse();
+    return new StatementPlan(statement, filteredStatement, bindModel.getAllTokens(), intoModel.getOutputTokens());
+  }
+
+  /**
+   * @return the original statement
+   */
+  public String getStatement() {
+    return m_statement;
+  }
+
+  /**
+   * @return the statement without its select into clause
+   */
+  public String getFilteredStatement() {
+    return m_filteredStatement;
+  }
+
+  /**
+   * @return a new {@link BindModel} with a private copy of all tokens of the statement
+   */
+  public BindModel createBindModel() {
+    IToken[] tokens = new IToken[m_tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = copyToken(m_tokens[i]);
+    }
+    return new BindModel(tokens);
+  }
+
+  /**
+   * @return a private copy of the select into tokens of the statement
+   */
+  public ValueOutputToken[] createIntoTokens() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = copyValueOutputToken(m_intoTokens[i]);
+    }
+    return tokens;
+  }
+
+  private static IToken copyToken(IToken t) {
+    if (t instanceof ValueInputToken) {
+      ValueInputToken src = (ValueInputToken) t;
+      ValueInputToken copy = new ValueInputToken(src.getParsedToken(), src.getName(), src.isPlainValue(), src.isPlainSql());
+      copy.setBatch(src.isBatch());
+      copy.setParsedOp(src.getParsedOp());
+      copy.setParsedAttribute(src.getParsedAttribute());
+      return copy;
+    }
+    if (t instanceof ValueOutputToken) {
+      return copyValueOutputToken((ValueOutputToken) t);
+    }
+    if (t instanceof FunctionInputToken) {
+      FunctionInputToken src = (FunctionInputToken) t;
+      String[] args = src.getArgs();
+      FunctionInputToken copy = new FunctionInputToken(src.getParsedToken(), src.getName(), args != null ? args.clone() : null, src.isPlainValue(), src.isPlainSql());
+      copy.setPlainToken(src.isPlainToken());
+      return copy;
+    }
+    if (t instanceof DatabaseSpecificToken) {
+      DatabaseSpecificToken src = (DatabaseSpecificToken) t;
+      return new DatabaseSpecificToken(src.getParsedToken(), src.getName());
+    }
+    // text tokens are immutable
+    return t;
+  }
+
+  private static ValueOutputToken copyValueOutputToken(ValueOutputToken src) {
+    ValueOutputToken copy = new ValueOutputToken(src.getParsedToken(), src.getName(), src.isSelectInto());
+    copy.setBatch(src.isBatch());
+    return copy;
+  }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlStatementPlanCacheSizeProperty;
+
+/**
+ * Bounded cache of {@link StatementPlan}s by statement text, so that a statement executed repeatedly is parsed once
+ * only. The least recently used plans are evicted when the cache grows beyond
+ * {@link SqlStatementPlanCacheSizeProperty}.
+ *
+ * @since 5.2
+ */
+@ApplicationScoped
+public class StatementPlanCache {
+
+  private final ConcurrentExpiringMap<String, StatementPlan> m_plans;
+  private final AtomicLong m_hitCount = new AtomicLong();
+  private final AtomicLong m_missCount = new AtomicLong();
+
+  public StatementPlanCache() {
+    this(CONFIG.getPropertyValue(SqlStatementPlanCacheSizeProperty.class).intValue());
+  }
+
+  protected StatementPlanCache(int size) {
+    m_plans = (size > 0 ? new ConcurrentExpiringMap<String, StatementPlan>(0L, TimeUnit.MILLISECONDS, size) : null);
+  }
+
+  /**
+   * @return the cached plan of the given statement; the statement is parsed if no plan is cached yet
+   */
+  public StatementPlan getPlan(String statement) {
+    if (m_plans == null) {
+      m_missCount.incrementAndGet();
+      return StatementPlan.parse(statement);
+    }
+    StatementPlan plan = m_plans.get(statement);
+    if (plan != null) {
+      m_hitCount.incrementAndGet();
+      return plan;
+    }
+    m_missCount.incrementAndGet();
+    plan = StatementPlan.parse(statement);
+    StatementPlan existing = m_plans.putIfAbsent(statement, plan);
+    return existing != null ? existing : plan;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.get();
+  }
+
+  public long getMissCount() {
+    return m_missCount.get();
+  }
+
+  /**
+   * @return the number of cached plans
+   */
+  public int size() {
+    return m_plans != null ? m_plans.size() : 0;
+  }
+
+  /**
+   * Removes all cached plans and resets the statistics.
+   */
+  public void clear() {
+    if (m_plans != null) {
+      m_plans.clear();
+    }
+    m_hitCount.set(0);
+    m_missCount.set(0);
+  }
+}
@@ -20,10 +20,15 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -50,24 +55,27 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.server.jdbc.style.AbstractSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.IResultSetColumnReader;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.server.transaction.ITransaction;
 import org.eclipse.scout.rt.server.transaction.ITransactionMember;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData;
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData.ColumnType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class StatementProcessor implements IStatementProcessor {
   private static final Logger LOG = LoggerFactory.getLogger(StatementProcessor.class);
+  private static final ConcurrentMap<Class<?>, Boolean> PROCESS_RESULT_ROW_OVERRIDDEN = new ConcurrentHashMap<>();
+  private static final Pattern INSERT_VALUES_PATTERN = Pattern.compile("^(\\s*INSERT\\s+INTO\\s+.+?\\s+VALUES\\s*)(\\(.*\\))\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
   static {
     if (LOG.isDebugEnabled()) {
@@ -128,10 +136,9 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<IBindInput>();
       m_outputList = new ArrayList<IBindOutput>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      StatementPlan plan = BEANS.get(StatementPlanCache.class).getPlan(m_originalStm);
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = plan.createBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -164,7 +171,7 @@ public class StatementProcessor implements IStatementProcessor {
         }
       }
       // add select into out binds
-      for (IToken t : intoModel.getOutputTokens()) {
+      for (IToken t : plan.createIntoTokens()) {
         IBindOutput out = createOutput(t, m_bindBases);
         if (!out.isSelectInto()) {
           throw new ProcessingException("out parameter is not a 'select into': " + out);
@@ -190,16 +197,61 @@ public class StatementProcessor implements IStatementProcessor {
     return m_callerService;
   }
 
+  /**
+   * Reads the current row. Subclasses may override this method to customize how rows are read; the rows are then no
+   * longer read with the column readers of {@link #processResultRow(ResultSet, IResultSetColumnReader[])}.
+   */
   protected Object[] processResultRow(ResultSet rs) throws SQLException {
+    return processResultRow(rs, createColumnReaders(rs));
+  }
+
+  /**
+   * @return <code>true</code> if {@link #processResultRow(ResultSet)} is overridden by a subclass. Rows are then read
+   *         by that method instead of the column readers.
+   */
+  protected boolean isProcessResultRowOverridden() {
+    Class<?> c = getClass();
+    Boolean overridden = PROCESS_RESULT_ROW_OVERRIDDEN.get(c);
+    if (overridden == null) {
+      overridden = Boolean.FALSE;
+      for (Class<?> k = c; k != StatementProcessor.class; k = k.getSuperclass()) {
+        try {
+          k.getDeclaredMethod("processResultRow", ResultSet.class);
+          overridden = Boolean.TRUE;
+          break;
+        }
+        catch (NoSuchMethodException e) {
+          //nop
+        }
+      }
+      PROCESS_RESULT_ROW_OVERRIDDEN.put(c, overridden);
+    }
+    return overridden;
+  }
+
+  /**
+   * Reads the current row with the readers created by {@link #createColumnReaders(ResultSet)} for the same result set.
+   */
+  protected Object[] processResultRow(ResultSet rs, IResultSetColumnReader[] readers) throws SQLException {
+    Object[] row = new Object[readers.length];
+    for (int i = 0; i < readers.length; i++) {
+      row[i] = readers[i].read(rs);
+    }
+    return row;
+  }
+
+  /**
+   * Resolves the metadata of the result set once and creates a reader for each of its columns.
+   */
+  protected IResultSetColumnReader[] createColumnReaders(ResultSet rs) throws SQLException {
     ISqlStyle sqlStyle = m_callerService.getSqlStyle();
     ResultSetMetaData meta = rs.getMetaData();
     int colCount = meta.getColumnCount();
-    Object[] row = new Object[colCount];
+    IResultSetColumnReader[] readers = new IResultSetColumnReader[colCount];
     for (int i = 0; i < colCount; i++) {
-      int type = meta.getColumnType(i + 1);
-      row[i] = sqlStyle.readBind(rs, meta, type, i + 1);
+      readers[i] = sqlStyle.createColumnReader(meta, i + 1);
     }
-    return row;
+    return readers;
   }
 
   private int getMaxFetchSize(ResultSet rs) throws SQLException {
@@ -226,12 +278,23 @@ public class StatementProcessor implements IStatementProcessor {
       dynamicFetchSize = initialFetchSize;
     }
     ArrayList<Object[]> rows = new ArrayList<Object[]>();
+    boolean rowOverridden = isProcessResultRowOverridden();
+    IResultSetColumnReader[] readers = null;
     while (rs.next()) {
       if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(rs)) {
         dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(rs));
         rs.setFetchSize(dynamicFetchSize);
       }
-      Object[] row = processResultRow(rs);
+      Object[] row;
+      if (rowOverridden) {
+        row = processResultRow(rs);
+      }
+      else {
+        if (readers == null) {
+          readers = createColumnReaders(rs);
+        }
+        row = processResultRow(rs, readers);
+      }
       rows.add(row);
       if (maxRowCount > 0 && rows.size() >= maxRowCount) {
         break;
@@ -240,6 +303,45 @@ public class StatementProcessor implements IStatementProcessor {
     return rows;
   }
 
+  /**
+   * @return the storage type of a column of {@link #processSelectColumnar(Connection, IStatementCache)}. Integral
+   *         <code>DECIMAL</code> and <code>NUMERIC</code> columns are stored as {@link ColumnType#LONG}, the others
+   *         as {@link ColumnType#DOUBLE}. If the {@link ISqlStyle} reads values of another type (e.g.
+   *         <code>BigDecimal</code> with <code>DecimalConversion.NONE</code>), the column becomes an
+   *         {@link ColumnType#OBJECT} column.
+   */
+  protected ColumnType getColumnarColumnType(ResultSetMetaData meta, int jdbcBindIndex, int jdbcType) throws SQLException {
+    switch (jdbcType) {
+      case Types.DECIMAL:
+      case Types.NUMERIC: {
+        int precision = meta.getPrecision(jdbcBindIndex);
+        if (meta.getScale(jdbcBindIndex) == 0 && precision > 0 && precision <= 18) {
+          return ColumnType.LONG;
+        }
+        return ColumnType.DOUBLE;
+      }
+      case Types.BIT:
+      case Types.BIGINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.TINYINT:
+        return ColumnType.LONG;
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL:
+        return ColumnType.DOUBLE;
+      case Types.DATE:
+      case Types.TIMESTAMP:
+        return ColumnType.DATE;
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.LONGVARCHAR:
+        return ColumnType.STRING;
+      default:
+        return ColumnType.OBJECT;
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -347,11 +449,66 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public ColumnarTableData processSelectColumnar(Connection conn, IStatementCache cache) {
+    PreparedStatement ps = null;
+    ResultSet rs = null;
+    try {
+      ColumnarTableData data = null;
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        ps = cache.getPreparedStatement(conn, m_currentInputStm);
+        bindBatch(ps);
+        registerActiveStatement(ps);
+        try {
+          rs = ps.executeQuery();
+          IResultSetColumnReader[] readers = createColumnReaders(rs);
+          if (data == null) {
+            ResultSetMetaData meta = rs.getMetaData();
+            ColumnType[] columnTypes = new ColumnType[readers.length];
+            String[] columnNames = new String[readers.length];
+            for (int i = 0; i < readers.length; i++) {
+              columnTypes[i] = getColumnarColumnType(meta, i + 1, readers[i].getJdbcType());
+              columnNames[i] = meta.getColumnLabel(i + 1);
+            }
+            data = new ColumnarTableData(columnTypes, columnNames);
+          }
+          while ((m_maxRowCount <= 0 || data.getRowCount() < m_maxRowCount) && rs.next()) {
+            int row = data.addRow();
+            for (int i = 0; i < readers.length; i++) {
+              data.setValueAt(row, i, readers[i].read(rs));
+            }
+          }
+        }
+        finally {
+          unregisterActiveStatement(ps);
+          if (hasNextInputBatch()) {
+            releasePreparedStatementAndResultSet(ps, cache, rs);
+          }
+        }
+      }
+      finishOutputBatch();
+      if (data == null) {
+        data = new ColumnarTableData();
+      }
+      data.trimToSize();
+      return data;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      releasePreparedStatementAndResultSet(ps, cache, rs);
+    }
+  }
+
   @Override
   public void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler) {
     PreparedStatement ps = null;
     ResultSet rs = null;
-    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
     try {
       int rowCount = 0;
       while (hasNextInputBatch()) {
@@ -364,14 +521,11 @@ public class StatementProcessor implements IStatementProcessor {
         try {
           rs = ps.executeQuery();
 
-          ResultSetMetaData meta = rs.getMetaData();
-          int colCount = meta.getColumnCount();
+          IResultSetColumnReader[] readers = createColumnReaders(rs);
           while (rs.next()) {
-            ArrayList<SqlBind> row = new ArrayList<SqlBind>(colCount);
-            for (int i = 0; i < colCount; i++) {
-              int type = meta.getColumnType(i + 1);
-              Object value = sqlStyle.readBind(rs, meta, type, i + 1);
-              row.add(new SqlBind(type, value));
+            ArrayList<SqlBind> row = new ArrayList<SqlBind>(readers.length);
+            for (IResultSetColumnReader reader : readers) {
+              row.add(new SqlBind(reader.getJdbcType(), reader.read(rs)));
             }
             handler.handleRow(conn, ps, rs, rowCount, row);
             rowCount++;
@@ -442,6 +596,139 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize) {
+    int maxRows = Math.max(1, batchSize);
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    boolean multiRowInsert = m_outputList.isEmpty() && sqlStyle instanceof AbstractSqlStyle && ((AbstractSqlStyle) sqlStyle).isMultiRowInsertSupported();
+    int maxBindCount = (multiRowInsert ? ((AbstractSqlStyle) sqlStyle).getMaxBindParameters() : 0);
+    P_PendingRows pendingRows = new P_PendingRows();
+    P_UpdateCounts updateCounts = new P_UpdateCounts();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        String[] insertValues = (multiRowInsert ? splitInsertValues(m_currentInputStm, m_currentInputBindMap.size()) : null);
+        String head = (insertValues != null ? insertValues[0] : m_currentInputStm);
+        // rows are only sent together if their statements only differ in the bind values
+        if (pendingRows.size() >= maxRows
+            || !pendingRows.accepts(head, insertValues != null)
+            || (insertValues != null && pendingRows.getBindCount() + m_currentInputBindMap.size() > maxBindCount)) {
+          executePendingRows(conn, cache, pendingRows, updateCounts);
+        }
+        pendingRows.add(head, insertValues != null ? insertValues[1] : null, m_currentInputBindMap);
+      }
+      executePendingRows(conn, cache, pendingRows, updateCounts);
+      return updateCounts.toArray();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+  }
+
+  /**
+   * Sends the pending rows either as one multi-row insert or as one JDBC batch. A single row is executed as a plain
+   * update, so that its update count is reported exactly as by {@link #processModification}.
+   */
+  private void executePendingRows(Connection conn, IStatementCache cache, P_PendingRows pendingRows, P_UpdateCounts updateCounts) throws SQLException {
+    if (pendingRows.size() == 0) {
+      return;
+    }
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    PreparedStatement ps = cache.getPreparedStatement(conn, pendingRows.createStatement());
+    registerActiveStatement(ps);
+    try {
+      if (pendingRows.size() == 1) {
+        for (Map.Entry<Integer, SqlBind> e : pendingRows.getBinds().get(0).entrySet()) {
+          sqlStyle.writeBind(ps, e.getKey(), e.getValue());
+        }
+        updateCounts.add(ps.executeUpdate());
+      }
+      else if (pendingRows.isMultiRowInsert()) {
+        int jdbcBindIndex = 1;
+        for (TreeMap<Integer, SqlBind> binds : pendingRows.getBinds()) {
+          for (SqlBind bind : binds.values()) {
+            sqlStyle.writeBind(ps, jdbcBindIndex++, bind);
+          }
+        }
+        updateCounts.addMultiRowInsert(pendingRows.size(), ps.executeUpdate());
+      }
+      else {
+        for (TreeMap<Integer, SqlBind> binds : pendingRows.getBinds()) {
+          for (Map.Entry<Integer, SqlBind> e : binds.entrySet()) {
+            sqlStyle.writeBind(ps, e.getKey(), e.getValue());
+          }
+          ps.addBatch();
+        }
+        updateCounts.addAll(ps.executeBatch());
+      }
+    }
+    catch (SQLException | RuntimeException e) {
+      // the statement may be cached, do not keep the rows of a failed batch
+      try {
+        ps.clearBatch();
+      }
+      catch (SQLException | RuntimeException e2) {
+        LOG.debug("Could not clear batch", e2);
+      }
+      throw e;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+      cache.releasePreparedStatement(ps);
+      pendingRows.clear();
+    }
+  }
+
+  /**
+   * Splits a single row insert statement <code>INSERT INTO ... VALUES (...)</code> into the part before the values and
+   * the values, so that the values of several rows can be sent in one multi-row insert.
+   *
+   * @return <code>null</code> if the statement is not a plain single row insert or if not all jdbc binds are part of the
+   *         values.
+   */
+  static String[] splitInsertValues(String stm, int jdbcBindCount) {
+    Matcher m = INSERT_VALUES_PATTERN.matcher(stm);
+    if (!m.matches()) {
+      return null;
+    }
+    String head = m.group(1);
+    String values = m.group(2);
+    if (head.indexOf('?') >= 0) {
+      return null;
+    }
+    // the values must consist of exactly one group, i.e. no "VALUES (...) ON DUPLICATE KEY UPDATE A = VALUES(A)"
+    int depth = 0;
+    int bindCount = 0;
+    boolean quoted = false;
+    for (int i = 0, n = values.length(); i < n; i++) {
+      char ch = values.charAt(i);
+      if (ch == '\'') {
+        quoted = !quoted;
+      }
+      else if (!quoted) {
+        if (ch == '?') {
+          bindCount++;
+        }
+        else if (ch == '(') {
+          depth++;
+        }
+        else if (ch == ')') {
+          depth--;
+          if (depth == 0 && i < n - 1) {
+            return null;
+          }
+        }
+      }
+    }
+    if (quoted || depth != 0 || bindCount != jdbcBindCount) {
+      return null;
+    }
+    return new String[]{head, values};
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -1503,4 +1790,103 @@ public class StatementProcessor implements IStatementProcessor {
     }
     cache.releasePreparedStatement(ps);
   }
+
+  /**
+   * Rows collected for one round trip to the database.
+   */
+  private static final class P_PendingRows {
+    private final List<TreeMap<Integer, SqlBind>> m_binds = new ArrayList<TreeMap<Integer, SqlBind>>();
+    private final List<String> m_insertValues = new ArrayList<String>();
+    private String m_head;
+    private boolean m_multiRowInsert;
+    private int m_bindCount;
+
+    private boolean accepts(String head, boolean multiRowInsert) {
+      return m_binds.isEmpty() || (m_multiRowInsert == multiRowInsert && m_head.equals(head));
+    }
+
+    private void add(String head, String insertValues, TreeMap<Integer, SqlBind> binds) {
+      m_head = head;
+      m_multiRowInsert = (insertValues != null);
+      if (insertValues != null) {
+        m_insertValues.add(insertValues);
+      }
+      m_binds.add(new TreeMap<Integer, SqlBind>(binds));
+      m_bindCount += binds.size();
+    }
+
+    private String createStatement() {
+      if (!m_multiRowInsert) {
+        return m_head;
+      }
+      StringBuilder b = new StringBuilder(m_head);
+      for (int i = 0; i < m_insertValues.size(); i++) {
+        if (i > 0) {
+          b.append(",");
+        }
+        b.append(m_insertValues.get(i));
+      }
+      return b.toString();
+    }
+
+    private boolean isMultiRowInsert() {
+      return m_multiRowInsert;
+    }
+
+    private List<TreeMap<Integer, SqlBind>> getBinds() {
+      return m_binds;
+    }
+
+    private int size() {
+      return m_binds.size();
+    }
+
+    /**
+     * @return total number of jdbc binds of all pending rows.
+     */
+    private int getBindCount() {
+      return m_bindCount;
+    }
+
+    private void clear() {
+      m_binds.clear();
+      m_insertValues.clear();
+      m_head = null;
+      m_bindCount = 0;
+    }
+  }
+
+  /**
+   * Update counts of all rows of a batch modification.
+   */
+  private static final class P_UpdateCounts {
+    private int[] m_counts = new int[16];
+    private int m_size;
+
+    private void add(int count) {
+      if (m_size == m_counts.length) {
+        m_counts = Arrays.copyOf(m_counts, m_size * 2);
+      }
+      m_counts[m_size++] = count;
+    }
+
+    private void addAll(int[] counts) {
+      for (int count : counts) {
+        add(count);
+      }
+    }
+
+    /**
+     * A multi-row insert only reports the total count. Each row counts as one if all rows were inserted.
+     */
+    private void addMultiRowInsert(int rowCount, int totalCount) {
+      for (int i = 0; i < rowCount; i++) {
+        add(totalCount == rowCount ? 1 : Statement.SUCCESS_NO_INFO);
+      }
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(m_counts, m_size);
+    }
+  }
 }
@@ -16,5 +16,6 @@ class PoolEntry {
   public Connection conn;
   public long createTime;
   public long leaseBegin;
+  public long lastUsedTime;
   public int leaseCount;
 }
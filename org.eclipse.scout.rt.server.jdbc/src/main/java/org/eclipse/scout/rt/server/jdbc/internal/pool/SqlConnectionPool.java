@@ -15,13 +15,21 @@ import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -32,9 +40,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
- * possible, every scout Session is provided with always the same connection it had in the last request this class is
- * thread-safe
+ * System-wide connection pool for pooling connections. There is one pool for every ISqlService sub class type. This
+ * class is thread-safe.
+ * <p>
+ * Leasing and releasing connections does not require a pool-wide lock: idle connections are kept on a lock-free stack
+ * (the most recently used connection is leased first), and the number of concurrently leased connections is bounded by
+ * a fair semaphore. Physical connections are created and tested by the leasing thread without blocking other threads.
+ * If all connections exist but none is idle, e.g. because a connection is still being created in the background, the
+ * leasing thread waits until a connection is released or a connection slot becomes free.
+ * An idle connection is only tested if it was idle for longer than the validation idle time. If a minimum number of
+ * idle connections is configured, the pool is filled up in the background.
  */
 public final class SqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
@@ -49,10 +64,23 @@ public final class SqlConnectionPool {
   private static final Map<Class, SqlConnectionPool> poolStore = new HashMap<Class, SqlConnectionPool>();
 
   public static SqlConnectionPool getPool(Class serviceType, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    return getPool(serviceType, poolSize, connectionLifetime, connectionBusyTimeout, 0, 0L, 0L);
+  }
+
+  /**
+   * @param minIdle
+   *          number of idle connections the pool is filled up with in the background
+   * @param validationIdleTime
+   *          time in milliseconds a connection may be idle before it is tested when leased again
+   * @param leaseTimeout
+   *          maximum time in milliseconds to wait for a connection if all connections are leased, <code>0</code> to
+   *          wait infinitely
+   */
+  public static SqlConnectionPool getPool(Class serviceType, int poolSize, long connectionLifetime, long connectionBusyTimeout, int minIdle, long validationIdleTime, long leaseTimeout) {
     synchronized (poolStoreLock) {
       SqlConnectionPool pool = poolStore.get(serviceType);
       if (pool == null) {
-        pool = new SqlConnectionPool(serviceType, poolSize, connectionLifetime, connectionBusyTimeout);
+        pool = new SqlConnectionPool(serviceType, poolSize, connectionLifetime, connectionBusyTimeout, minIdle, validationIdleTime, leaseTimeout);
         poolStore.put(serviceType, pool);
       }
       return pool;
@@ -62,19 +90,46 @@ public final class SqlConnectionPool {
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<PoolEntry>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<PoolEntry>();
+  private final ConcurrentLinkedDeque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final ConcurrentHashMap<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final Semaphore m_leasePermits;
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private final AtomicBoolean m_fillingUp = new AtomicBoolean();
+  /*
+   * Signalled when an idle connection or a free connection slot becomes available. Only used if there are waiting
+   * threads, see m_entryWaiterCount.
+   */
+  private final Lock m_entryLock = new ReentrantLock();
+  private final Condition m_entryAvailable = m_entryLock.newCondition();
+  private final AtomicInteger m_entryWaiterCount = new AtomicInteger();
+  private volatile AbstractSqlService m_service;
+
   private final Class m_serviceType;
   private final int m_poolSize;
   private final long m_connectionLifetime;
   private final long m_connectionBusyTimeout;
+  private final int m_minIdle;
+  private final long m_validationIdleTime;
+  private final long m_leaseTimeout;
+
+  // metrics
+  private final AtomicLong m_leaseCount = new AtomicLong();
+  private final AtomicLong m_leaseWaitTimeNanos = new AtomicLong();
+  private final AtomicLong m_maxLeaseWaitTimeNanos = new AtomicLong();
+  private final AtomicLong m_leaseTimeoutCount = new AtomicLong();
+  private final AtomicLong m_createdCount = new AtomicLong();
+  private final AtomicLong m_creationFailureCount = new AtomicLong();
+  private final AtomicLong m_validationFailureCount = new AtomicLong();
 
-  private SqlConnectionPool(Class serviceType, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+  SqlConnectionPool(Class serviceType, int poolSize, long connectionLifetime, long connectionBusyTimeout, int minIdle, long validationIdleTime, long leaseTimeout) {
     m_serviceType = serviceType;
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_minIdle = Math.min(minIdle, poolSize);
+    m_validationIdleTime = validationIdleTime;
+    m_leaseTimeout = leaseTimeout;
+    m_leasePermits = new Semaphore(poolSize, true);
 
     Jobs.schedule(new IRunnable() {
 
@@ -91,152 +146,357 @@ public final class SqlConnectionPool {
   }
 
   public Connection leaseConnection(AbstractSqlService service) throws Exception {
-    managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    m_service = service;
 
-      PoolEntry candidate = null;
+    final long deadline = (m_leaseTimeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_leaseTimeout) : 0L);
+    acquireLeasePermit();
+    PoolEntry candidate = null;
+    try {
       while (candidate == null) {
-        if (candidate == null) {
-          // get next available conn
-          for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-            candidate = (PoolEntry) it.next();
-            break;
-          }
-        }
-        if (candidate == null) {
-          if (m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-            // create new connection
-            PoolEntry test = new PoolEntry();
-            test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-            LOG.info("created jdbc connection {}", test.conn);
-            service.callbackAfterConnectionCreated(test.conn);
-            test.createTime = System.currentTimeMillis();
-            m_idleEntries.add(test);
-            candidate = test;
-          }
-        }
-        if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (java.lang.InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedException("Interrupted while leasing database connection");
-          }
-        }
-        // test candidate connection
+        Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+        candidate = m_idleEntries.pollFirst();
         if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
-          }
-          catch (Throwable t) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn);
-            try {
-              candidate.conn.close();
-            }
-            catch (Throwable fatal) {
-            }
+          if (!isValid(candidate, service)) {
+            discard(candidate, "closing dirty connection: {}");
             candidate = null;
           }
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
-      candidate.leaseBegin = System.currentTimeMillis();
-      candidate.leaseCount++;
-      m_busyEntries.add(candidate);
-      LOG.debug("lease   {}", candidate.conn);
-      return candidate.conn;
+        else if (tryReserveConnection()) {
+          candidate = createEntry(service);
+        }
+        else {
+          // all connections exist, but a released or newly created connection is not yet on the idle stack
+          awaitEntryAvailable(deadline);
+        }
+      }
+    }
+    catch (Exception | Error e) {
+      m_leasePermits.release();
+      throw e;
     }
+
+    // move to busy pool
+    candidate.leaseBegin = System.currentTimeMillis();
+    candidate.leaseCount++;
+    m_busyEntries.put(candidate.conn, candidate);
+    LOG.debug("lease   {}", candidate.conn);
+    fillUpAsync();
+    return candidate.conn;
   }
 
-  public void releaseConnection(Connection conn) {
-    LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
-
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
+  private void acquireLeasePermit() {
+    long t0 = System.nanoTime();
+    try {
+      if (m_leaseTimeout > 0) {
+        if (!m_leasePermits.tryAcquire(m_leaseTimeout, TimeUnit.MILLISECONDS)) {
+          m_leaseTimeoutCount.incrementAndGet();
+          throw new PlatformException("Timeout while waiting for a database connection [poolSize={}, timeout={}ms]", m_poolSize, m_leaseTimeout);
         }
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Throwable e) {
-          // ignore
-          candidate = null;
-        }
+      else {
+        m_leasePermits.acquire();
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-            // candidate=null;
-          }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedException("Interrupted while leasing database connection");
+    }
+    finally {
+      long waitTime = System.nanoTime() - t0;
+      m_leaseCount.incrementAndGet();
+      m_leaseWaitTimeNanos.addAndGet(waitTime);
+      long max = m_maxLeaseWaitTimeNanos.get();
+      while (waitTime > max && !m_maxLeaseWaitTimeNanos.compareAndSet(max, waitTime)) {
+        max = m_maxLeaseWaitTimeNanos.get();
+      }
+    }
+  }
+
+  /**
+   * Waits until an idle connection or a free connection slot is available.
+   *
+   * @param deadline
+   *          {@link System#nanoTime()} to wait until, <code>0</code> to wait infinitely
+   */
+  private void awaitEntryAvailable(long deadline) {
+    m_entryWaiterCount.incrementAndGet();
+    m_entryLock.lock();
+    try {
+      while (m_idleEntries.isEmpty() && m_connectionCount.get() >= m_poolSize && !isDestroyed()) {
+        if (deadline == 0L) {
+          m_entryAvailable.await();
+          continue;
         }
-        catch (Throwable e) {
-          // ignore
-          candidate = null;
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L) {
+          m_leaseTimeoutCount.incrementAndGet();
+          throw new PlatformException("Timeout while waiting for a database connection [poolSize={}, timeout={}ms]", m_poolSize, m_leaseTimeout);
         }
+        m_entryAvailable.awaitNanos(remaining);
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedException("Interrupted while leasing database connection");
+    }
+    finally {
+      m_entryLock.unlock();
+      m_entryWaiterCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Wakes up threads waiting in {@link #awaitEntryAvailable(long)}. Must be called after an idle connection was added
+   * or a connection slot was freed.
+   */
+  private void signalEntryAvailable() {
+    if (m_entryWaiterCount.get() == 0) {
+      return;
+    }
+    m_entryLock.lock();
+    try {
+      m_entryAvailable.signalAll();
+    }
+    finally {
+      m_entryLock.unlock();
+    }
+  }
+
+  /**
+   * Reserves a slot for a new physical connection, unless the pool is full.
+   */
+  private boolean tryReserveConnection() {
+    while (true) {
+      int count = m_connectionCount.get();
+      if (count >= m_poolSize) {
+        return false;
+      }
+      if (m_connectionCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Creates a new physical connection for a slot reserved by {@link #tryReserveConnection()}.
+   */
+  private PoolEntry createEntry(AbstractSqlService service) throws Exception {
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = new SqlConnectionBuilder().createJdbcConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      entry.lastUsedTime = entry.createTime;
+      m_createdCount.incrementAndGet();
+      return entry;
+    }
+    catch (Exception | Error e) {
+      m_connectionCount.decrementAndGet();
+      m_creationFailureCount.incrementAndGet();
+      signalEntryAvailable();
+      throw e;
+    }
+  }
+
+  /**
+   * Tests an idle connection, if it was idle for longer than the validation idle time.
+   */
+  private boolean isValid(PoolEntry entry, AbstractSqlService service) {
+    if (System.currentTimeMillis() - entry.lastUsedTime < m_validationIdleTime) {
+      return true;
+    }
+    try {
+      service.callbackTestConnection(entry.conn);
+      return true;
+    }
+    catch (Throwable t) {
+      m_validationFailureCount.incrementAndGet();
+      return false;
+    }
+  }
+
+  private void discard(PoolEntry entry, String logMessage) {
+    m_connectionCount.decrementAndGet();
+    signalEntryAvailable();
+    LOG.warn(logMessage, entry.conn);
+    try {
+      entry.conn.close();
+    }
+    catch (Throwable fatal) {
+      // NOOP
+    }
+  }
+
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // the connection was closed by the pool in the meantime, e.g. because it exceeded the busy timeout
+      LOG.warn("closing unknown connection: {}", conn);
+      try {
+        conn.close();
+      }
+      catch (SQLException e) {
+        // ignored
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
+      return;
+    }
+
+    try {
+      if (isReusable(candidate)) {
         candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+        candidate.lastUsedTime = System.currentTimeMillis();
+        m_idleEntries.offerFirst(candidate);
+        signalEntryAvailable();
       }
       else {
-        LOG.warn("closing dirty connection: {}", conn);
+        discard(candidate, "closing dirty connection: {}");
+      }
+    }
+    finally {
+      m_leasePermits.release();
+    }
+  }
+
+  /**
+   * @return <code>false</code> if the given connection is closed or in an invalid state.
+   */
+  private boolean isReusable(PoolEntry entry) {
+    try {
+      if (entry.conn.isClosed()) {
+        return false;
+      }
+      if (entry.conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        entry.conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Throwable e) {
+      return false;
+    }
+  }
+
+  /**
+   * Fills the pool up to the minimum number of idle connections in the background.
+   */
+  private void fillUpAsync() {
+    if (m_minIdle <= 0 || m_idleEntries.size() >= m_minIdle || isDestroyed() || !m_fillingUp.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(new IRunnable() {
+
+      @Override
+      public void run() throws Exception {
         try {
-          conn.close();
+          fillUp();
         }
-        catch (SQLException e) {
-          // ignored
+        finally {
+          m_fillingUp.set(false);
         }
       }
-      m_poolLock.notifyAll();
+    }, Jobs.newInput()
+        .withName("Filling up SQL connection pool for {}", m_serviceType.getName())
+        .withExecutionHint(m_identity));
+  }
+
+  private void fillUp() {
+    AbstractSqlService service = m_service;
+    while (service != null && !isDestroyed() && m_idleEntries.size() < m_minIdle && tryReserveConnection()) {
+      try {
+        m_idleEntries.offerLast(createEntry(service));
+        signalEntryAvailable();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to create SQL connection for {}", m_serviceType.getName(), e);
+        return;
+      }
     }
-    managePool();
+  }
+
+  /**
+   * @return number of leased connections.
+   */
+  public int getActiveCount() {
+    return m_busyEntries.size();
+  }
+
+  /**
+   * @return number of idle connections.
+   */
+  public int getIdleCount() {
+    return m_idleEntries.size();
+  }
+
+  /**
+   * @return number of threads waiting for a connection.
+   */
+  public int getWaitingCount() {
+    return m_leasePermits.getQueueLength();
+  }
+
+  public long getLeaseCount() {
+    return m_leaseCount.get();
+  }
+
+  /**
+   * @return average time in milliseconds a lease waited for a connection to become available.
+   */
+  public double getAverageLeaseWaitTime() {
+    long count = m_leaseCount.get();
+    return count == 0 ? 0d : m_leaseWaitTimeNanos.get() / 1e6d / count;
+  }
+
+  /**
+   * @return maximum time in milliseconds a lease waited for a connection to become available.
+   */
+  public long getMaxLeaseWaitTime() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxLeaseWaitTimeNanos.get());
+  }
+
+  public long getLeaseTimeoutCount() {
+    return m_leaseTimeoutCount.get();
+  }
+
+  public long getCreatedCount() {
+    return m_createdCount.get();
+  }
+
+  public long getCreationFailureCount() {
+    return m_creationFailureCount.get();
+  }
+
+  public long getValidationFailureCount() {
+    return m_validationFailureCount.get();
   }
 
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: " + (m_busyEntries.size() + m_idleEntries.size()));
-      buf.append("\n");
-      buf.append("Busy: " + m_busyEntries.size());
+    buf.append("Total connections: " + m_connectionCount.get());
+    buf.append("\n");
+    buf.append("Leases: " + getLeaseCount() + ", waiting: " + getWaitingCount() + ", average wait: " + String.format("%.3f", getAverageLeaseWaitTime()) + "ms, max wait: " + getMaxLeaseWaitTime() + "ms, timeouts: " + getLeaseTimeoutCount());
+    buf.append("\n");
+    buf.append("Created: " + getCreatedCount() + ", creation failures: " + getCreationFailureCount() + ", validation failures: " + getValidationFailureCount());
+    buf.append("\n");
+    buf.append("Busy: " + m_busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : m_busyEntries.values()) {
+      buf.append("  class=" + e.conn.getClass().getName() + ", created=" + fmt.format(new Date(e.createTime)) + ", leaseCount=" + e.leaseCount + ", leaseBegin=" + fmt.format(new Date(e.leaseBegin)));
       buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=" + e.conn.getClass().getName() + ", created=" + fmt.format(new Date(e.createTime)) + ", leaseCount=" + e.leaseCount + ", leaseBegin=" + fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
-      }
-      buf.append("Idle: " + m_idleEntries.size());
+    }
+    buf.append("Idle: " + m_idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : m_idleEntries) {
+      buf.append("  class=" + e.conn.getClass().getName() + ", created=" + fmt.format(new Date(e.createTime)) + ", leaseCount=" + e.leaseCount);
       buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=" + e.conn.getClass().getName() + ", created=" + fmt.format(new Date(e.createTime)) + ", leaseCount=" + e.leaseCount);
-        buf.append("\n");
-      }
     }
     return buf.toString();
   }
@@ -246,30 +506,30 @@ public final class SqlConnectionPool {
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, m_serviceType.getName(), "expired idle connection");
-            e.conn = null;
-            it.remove();
-          }
+      // close old idle connections
+      for (Iterator<PoolEntry> it = m_idleEntries.iterator(); it.hasNext();) {
+        PoolEntry e = it.next();
+        if (System.currentTimeMillis() - e.createTime > m_connectionLifetime && m_idleEntries.removeFirstOccurrence(e)) {
+          m_connectionCount.decrementAndGet();
+          signalEntryAvailable();
+          closeConnectionAsync(e.conn, m_serviceType.getName(), "expired idle connection");
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, m_serviceType.getName(), "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+      }
+      // close timed out busy connections
+      for (Iterator<PoolEntry> it = m_busyEntries.values().iterator(); it.hasNext();) {
+        PoolEntry e = it.next();
+        if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          m_connectionCount.decrementAndGet();
+          m_leasePermits.release();
+          signalEntryAvailable();
+          closeConnectionAsync(e.conn, m_serviceType.getName(), "timed out busy connection");
         }
       }
+      fillUpAsync();
     }
     catch (Throwable t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
@@ -291,26 +551,28 @@ public final class SqlConnectionPool {
       return;
     }
 
-    synchronized (m_poolLock) {
+    synchronized (this) {
       if (isDestroyed()) {
         return; // double-checked locking
       }
       m_destroyed = true;
+    }
+    signalEntryAvailable();
 
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
 
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, m_serviceType.getName(), "destroying SQL connection pool");
-      }
-      m_idleEntries.clear();
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, m_serviceType.getName(), "destroying SQL connection pool");
+    }
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, m_serviceType.getName(), "destroying SQL connection pool");
-      }
-      m_busyEntries.clear();
+    for (Iterator<PoolEntry> it = m_busyEntries.values().iterator(); it.hasNext();) {
+      PoolEntry busyEntry = it.next();
+      it.remove();
+      closeConnectionAsync(busyEntry.conn, m_serviceType.getName(), "destroying SQL connection pool");
     }
   }
 
@@ -10,7 +10,14 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,16 +27,21 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SQL;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
 import org.eclipse.scout.rt.shared.ScoutTexts;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +69,8 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
 
   private static final Pattern REFUSING_ALL_TAGS_REGEX = Pattern.compile("<all>\\s*and\\s*([0-9]+)\\s*=\\s*([0-9]+)\\s*</all>", Pattern.DOTALL);
+  private static final Pattern MULTI_KEY_TAG_REGEX = Pattern.compile("<key>\\s*(and\\s+)?[\\w.]+\\s*=\\s*:key\\s*</key>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+  private static final Pattern KEY_BIND_REGEX = Pattern.compile(":key\\b");
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlLookupService.class);
 
@@ -85,30 +99,150 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
   @Order(10)
   protected List<ILookupRow<T>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<T> call) {
     Object[][] data = SQL.selectLimited(preprocessedSql, call.getMaxRowCount(), call);
+    return createLookupRows(data, call);
+  }
+
+  /**
+   * Loads the lookup rows of several keys with one statement, see {@link #getDataByKeys(List)}. The keys are bound as
+   * array to <code>:key</code>.
+   */
+  protected List<ILookupRow<T>> loadLookupRowsByKeys(String preprocessedSql, ILookupCall<T> call, Object[] keys) {
+    Object[][] data = SQL.select(preprocessedSql, new NVPair("key", keys), call);
+    return createLookupRows(data, call);
+  }
+
+  private List<ILookupRow<T>> createLookupRows(Object[][] data, ILookupCall<T> call) {
     if (getConfiguredSortColumn() >= 0) {
       sortData(data, getConfiguredSortColumn());
     }
     try {
-      Class<?> genericsParameterClass = Object.class;
-      try {
-        genericsParameterClass = TypeCastUtility.getGenericsParameterClass(getClass(), ILookupService.class);
-      }
-      catch (IllegalArgumentException e) {
-        LOG.warn("Unable to calculate type parameters for lookup service '" + getClass().getName() + "'. No key type validation will be performed.");
-      }
-      return createLookupRowArray(data, call, genericsParameterClass);
+      return createLookupRowArray(data, call, getKeyClass());
     }
     catch (IllegalArgumentException e) {
       throw new ProcessingException("Unable to load lookup rows for lookup service '" + getClass().getName() + "'.", e);
     }
   }
 
+  private Class<?> getKeyClass() {
+    try {
+      return TypeCastUtility.getGenericsParameterClass(getClass(), ILookupService.class);
+    }
+    catch (IllegalArgumentException e) {
+      LOG.warn("Unable to calculate type parameters for lookup service '" + getClass().getName() + "'. No key type validation will be performed.");
+      return Object.class;
+    }
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByKey(ILookupCall<T> call) {
     String sql = getConfiguredSqlSelect();
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  /**
+   * Calls differing only in their key are resolved with one statement per chunk of keys, the chunk size is limited by
+   * {@link ISqlStyle#getMaxInListSize()}. This requires a <code>&lt;key&gt;</code> tag comparing a column with
+   * <code>:key</code>, e.g. <code>&lt;key&gt;AND P.PERSON_NR=:key&lt;/key&gt;</code>, and that neither
+   * {@link #getDataByKey(ILookupCall)} nor {@link #execLoadLookupRows(String, String, ILookupCall)} is overridden.
+   * The key type must be resolvable from the type parameter of the lookup service, since the rows are matched to the
+   * calls by key. Otherwise the calls are resolved one by one.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<List<ILookupRow<T>>> getDataByKeys(List<ILookupCall<T>> calls) {
+    String sql = getConfiguredSqlSelect();
+    if (calls.size() < 2 || !isMultiKeyLookupSupported(sql)) {
+      return super.getDataByKeys(calls);
+    }
+    Class<?> keyClass = getKeyClass();
+    if (keyClass == Object.class) {
+      return super.getDataByKeys(calls);
+    }
+    List<List<ILookupRow<T>>> result = new ArrayList<List<ILookupRow<T>>>(calls.size());
+    // group the calls by a copy without key
+    Map<ILookupCall<T>, List<Integer>> groups = new LinkedHashMap<ILookupCall<T>, List<Integer>>();
+    for (int i = 0; i < calls.size(); i++) {
+      ILookupCall<T> call = calls.get(i);
+      result.add(null);
+      if (call instanceof LookupCall && call.getKey() != null && BatchLookupResultCache.isCacheable(call.getClass())) {
+        ILookupCall<T> template = (ILookupCall<T>) ((LookupCall<T>) call).clone();
+        template.setKey(null);
+        List<Integer> indexes = groups.get(template);
+        if (indexes == null) {
+          indexes = new ArrayList<Integer>();
+          groups.put(template, indexes);
+        }
+        indexes.add(i);
+      }
+      else {
+        result.set(i, new ArrayList<ILookupRow<T>>(getDataByKey(call)));
+      }
+    }
+    String preprocessedSql = filterSqlByKey(sql);
+    for (Entry<ILookupCall<T>, List<Integer>> group : groups.entrySet()) {
+      loadDataByKeys(preprocessedSql, keyClass, group.getKey(), group.getValue(), calls, result);
+    }
+    return result;
+  }
+
+  private void loadDataByKeys(String preprocessedSql, Class<?> keyClass, ILookupCall<T> template, List<Integer> indexes, List<ILookupCall<T>> calls, List<List<ILookupRow<T>>> result) {
+    Set<Object> keys = new LinkedHashSet<Object>();
+    for (Integer index : indexes) {
+      keys.add(castKey(calls.get(index).getKey(), keyClass));
+    }
+    List<Object> keyList = new ArrayList<Object>(keys);
+    int chunkSize = Math.max(1, SQL.getSqlStyle().getMaxInListSize());
+    Map<Object, List<ILookupRow<T>>> rowsByKey = new HashMap<Object, List<ILookupRow<T>>>();
+    for (int i = 0; i < keyList.size(); i += chunkSize) {
+      Object[] chunk = keyList.subList(i, Math.min(i + chunkSize, keyList.size())).toArray();
+      for (ILookupRow<T> row : loadLookupRowsByKeys(preprocessedSql, template, chunk)) {
+        List<ILookupRow<T>> rows = rowsByKey.get(row.getKey());
+        if (rows == null) {
+          rows = new ArrayList<ILookupRow<T>>(1);
+          rowsByKey.put(row.getKey(), rows);
+        }
+        rows.add(row);
+      }
+    }
+    int maxRowCount = template.getMaxRowCount();
+    for (Integer index : indexes) {
+      List<ILookupRow<T>> rows = rowsByKey.get(castKey(calls.get(index).getKey(), keyClass));
+      if (rows == null) {
+        rows = new ArrayList<ILookupRow<T>>(0);
+      }
+      else if (maxRowCount > 0 && rows.size() > maxRowCount) {
+        rows = rows.subList(0, maxRowCount);
+      }
+      result.set(index, new ArrayList<ILookupRow<T>>(rows));
+    }
+  }
+
+  private Object castKey(Object key, Class<?> keyClass) {
+    try {
+      return TypeCastUtility.castValue(key, keyClass);
+    }
+    catch (IllegalArgumentException e) {
+      throw new ProcessingException("Key '{}' of lookup service '{}' is not of type {}.", key, getClass().getName(), keyClass.getName(), e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if {@link #getDataByKeys(List)} may resolve several keys with one statement
+   */
+  protected boolean isMultiKeyLookupSupported(String sqlSelect) {
+    if (sqlSelect == null || !MULTI_KEY_TAG_REGEX.matcher(sqlSelect).find()) {
+      return false;
+    }
+    Matcher m = KEY_BIND_REGEX.matcher(filterSqlByKey(sqlSelect));
+    int keyBindCount = 0;
+    while (m.find()) {
+      keyBindCount++;
+    }
+    return keyBindCount == 1
+        && !ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "getDataByKey", new Class[]{ILookupCall.class}, getClass())
+        && !ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "execLoadLookupRows", new Class[]{String.class, String.class, ILookupCall.class}, getClass());
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
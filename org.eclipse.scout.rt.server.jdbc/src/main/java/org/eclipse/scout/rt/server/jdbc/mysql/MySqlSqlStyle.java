@@ -46,6 +46,16 @@ public class MySqlSqlStyle extends AbstractSqlStyle {
     }
   }
 
+  @Override
+  public boolean isMultiRowInsertSupported() {
+    return true;
+  }
+
+  @Override
+  public int getMaxBindParameters() {
+    return 65535;
+  }
+
   @Override
   public boolean isBlobEnabled() {
     return false;
@@ -56,6 +56,16 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
     return super.readBind(rs, meta, type, jdbcBindIndex);
   }
 
+  @Override
+  public boolean isMultiRowInsertSupported() {
+    return true;
+  }
+
+  @Override
+  public int getMaxBindParameters() {
+    return 32767; // older PostgreSQL JDBC drivers send the parameter count as a signed short
+  }
+
   @Override
   public boolean isBlobEnabled() {
     return false;
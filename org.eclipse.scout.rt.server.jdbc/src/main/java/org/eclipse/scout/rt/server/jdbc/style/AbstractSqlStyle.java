@@ -42,6 +42,8 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
   private static final long serialVersionUID = 1L;
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlStyle.class);
 
+  private transient volatile Boolean m_readBindOverridden;
+
   @Override
   public String getConcatOp() {
     return "||";
@@ -526,6 +528,60 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return o;
   }
 
+  @Override
+  public IResultSetColumnReader createColumnReader(ResultSetMetaData meta, int jdbcBindIndex) throws SQLException {
+    int type = meta.getColumnType(jdbcBindIndex);
+    if (isReadBindOverridden()) {
+      // a subclass customized readBind but not the readers
+      return new P_ReadBindColumnReader(this, meta, type, jdbcBindIndex);
+    }
+    switch (type) {
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return new P_DecimalColumnReader(type, jdbcBindIndex, getConfiguredDecimalConversionStrategy());
+      case Types.BIT:
+      case Types.BIGINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.TINYINT:
+        return new P_LongColumnReader(type, jdbcBindIndex);
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL:
+        return new P_DoubleColumnReader(type, jdbcBindIndex);
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.LONGVARCHAR:
+        return new P_StringColumnReader(type, jdbcBindIndex);
+      case Types.DATE:
+      case Types.TIMESTAMP:
+        return new P_TimestampColumnReader(type, jdbcBindIndex);
+      default:
+        return new P_ReadBindColumnReader(this, meta, type, jdbcBindIndex);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if {@link #readBind(ResultSet, ResultSetMetaData, int, int)} is overridden by a more
+   *         specific class than {@link #createColumnReader(ResultSetMetaData, int)}. The column readers then delegate
+   *         to <code>readBind</code>.
+   */
+  protected boolean isReadBindOverridden() {
+    Boolean overridden = m_readBindOverridden;
+    if (overridden == null) {
+      try {
+        Class<?> readBindClass = getClass().getMethod("readBind", ResultSet.class, ResultSetMetaData.class, int.class, int.class).getDeclaringClass();
+        Class<?> readerClass = getClass().getMethod("createColumnReader", ResultSetMetaData.class, int.class).getDeclaringClass();
+        overridden = readBindClass != readerClass && readerClass.isAssignableFrom(readBindClass);
+      }
+      catch (NoSuchMethodException e) {
+        overridden = Boolean.TRUE;
+      }
+      m_readBindOverridden = overridden;
+    }
+    return overridden;
+  }
+
   @Override
   public void registerOutput(CallableStatement cs, int index, Class c) throws SQLException {
     if (c == null) {
@@ -933,6 +989,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
 
   protected abstract int getMaxListSize();
 
+  @Override
+  public int getMaxInListSize() {
+    return getMaxListSize();
+  }
+
   @Override
   public String createInList(String attribute, Object array) {
     return createInList(attribute, false, array);
@@ -1008,6 +1069,26 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return false;
   }
 
+  /**
+   * Style supports inserting several rows with one statement <code>INSERT INTO ... VALUES (...), (...)</code>. This is
+   * an optional hook of this class and not part of {@link ISqlStyle}. Styles not extending this class never use
+   * multi-row inserts.
+   *
+   * @return true if batched single row inserts may be rewritten into multi-row inserts
+   */
+  public boolean isMultiRowInsertSupported() {
+    return false;
+  }
+
+  /**
+   * @return the maximum number of bind parameters the database or driver accepts in one statement. Multi-row inserts
+   *         are split into several statements to not exceed this limit.
+   * @see #isMultiRowInsertSupported()
+   */
+  public int getMaxBindParameters() {
+    return 2000;
+  }
+
   @Override
   public String getSysdateToken() {
     return "SYSDATE";
@@ -1110,4 +1191,101 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     public abstract Object convertDecimalType(BigDecimal bd);
   }
 
+  private abstract static class P_AbstractColumnReader implements IResultSetColumnReader {
+    protected final int m_type;
+    protected final int m_jdbcBindIndex;
+
+    P_AbstractColumnReader(int type, int jdbcBindIndex) {
+      m_type = type;
+      m_jdbcBindIndex = jdbcBindIndex;
+    }
+
+    @Override
+    public int getJdbcType() {
+      return m_type;
+    }
+  }
+
+  private static final class P_DecimalColumnReader extends P_AbstractColumnReader {
+    private final DecimalConversion m_conversion;
+
+    P_DecimalColumnReader(int type, int jdbcBindIndex, DecimalConversion conversion) {
+      super(type, jdbcBindIndex);
+      m_conversion = conversion;
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      BigDecimal d = rs.getBigDecimal(m_jdbcBindIndex);
+      return d == null || rs.wasNull() ? null : m_conversion.convertDecimalType(d);
+    }
+  }
+
+  private static final class P_LongColumnReader extends P_AbstractColumnReader {
+
+    P_LongColumnReader(int type, int jdbcBindIndex) {
+      super(type, jdbcBindIndex);
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      long value = rs.getLong(m_jdbcBindIndex);
+      return rs.wasNull() ? null : Long.valueOf(value);
+    }
+  }
+
+  private static final class P_DoubleColumnReader extends P_AbstractColumnReader {
+
+    P_DoubleColumnReader(int type, int jdbcBindIndex) {
+      super(type, jdbcBindIndex);
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      double value = rs.getDouble(m_jdbcBindIndex);
+      return rs.wasNull() ? null : Double.valueOf(value);
+    }
+  }
+
+  private static final class P_StringColumnReader extends P_AbstractColumnReader {
+
+    P_StringColumnReader(int type, int jdbcBindIndex) {
+      super(type, jdbcBindIndex);
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      String value = rs.getString(m_jdbcBindIndex);
+      return rs.wasNull() ? null : value;
+    }
+  }
+
+  private static final class P_TimestampColumnReader extends P_AbstractColumnReader {
+
+    P_TimestampColumnReader(int type, int jdbcBindIndex) {
+      super(type, jdbcBindIndex);
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      Timestamp value = rs.getTimestamp(m_jdbcBindIndex);
+      return rs.wasNull() ? null : value;
+    }
+  }
+
+  private static final class P_ReadBindColumnReader extends P_AbstractColumnReader {
+    private final ISqlStyle m_style;
+    private final ResultSetMetaData m_meta;
+
+    P_ReadBindColumnReader(ISqlStyle style, ResultSetMetaData meta, int type, int jdbcBindIndex) {
+      super(type, jdbcBindIndex);
+      m_style = style;
+      m_meta = meta;
+    }
+
+    @Override
+    public Object read(ResultSet rs) throws SQLException {
+      return m_style.readBind(rs, m_meta, m_type, m_jdbcBindIndex);
+    }
+  }
 }
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.jdbc.style;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of one column of the current row of a {@link ResultSet}. A reader is created once per result set by
+ * {@link ISqlStyle#createColumnReader(java.sql.ResultSetMetaData, int)} and used for all its rows.
+ *
+ * @since 5.2
+ */
+public interface IResultSetColumnReader {
+
+  /**
+   * @return the JDBC type of the column, see {@link java.sql.Types}
+   */
+  int getJdbcType();
+
+  /**
+   * @return the value of the column in the current row or <code>null</code> if the value is SQL <code>NULL</code>
+   */
+  Object read(ResultSet rs) throws SQLException;
+}
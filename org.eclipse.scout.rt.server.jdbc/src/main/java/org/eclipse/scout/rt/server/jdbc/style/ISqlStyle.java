@@ -149,6 +149,12 @@ public interface ISqlStyle extends Serializable {
    */
   Object readBind(ResultSet rs, ResultSetMetaData meta, int type, int jdbcBindIndex) throws SQLException;
 
+  /**
+   * create a reader for a column of a {@link ResultSet}, which reads the same values as
+   * {@link #readBind(ResultSet, ResultSetMetaData, int, int)} but resolves the column type only once
+   */
+  IResultSetColumnReader createColumnReader(ResultSetMetaData meta, int jdbcBindIndex) throws SQLException;
+
   /**
    * apply out parameter to a stored procedure call in a {@link CallableStatement}
    */
@@ -461,6 +467,12 @@ public interface ISqlStyle extends Serializable {
    */
   String createNotInList(String attribute, boolean plain, Object array);
 
+  /**
+   * @return the maximum number of values in one <code>IN</code> list. Longer lists are split by
+   *         {@link #createInList(String, Object)} into several lists.
+   */
+  int getMaxInListSize();
+
   /**
    * Style can handle arrays as bind or as literal replacement.
    *
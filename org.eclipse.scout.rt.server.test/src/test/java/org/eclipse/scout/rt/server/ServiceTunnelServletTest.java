@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -49,10 +50,14 @@ import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.server.commons.cache.ICacheEntry;
 import org.eclipse.scout.rt.server.commons.cache.StickySessionCacheService;
 import org.eclipse.scout.rt.server.commons.context.ServletRunContexts;
+import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.services.common.security.ILogoutService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
@@ -194,6 +199,50 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  /**
+   * Requests of a batch processed in parallel must not access the HTTP request of the batch.
+   */
+  @Test
+  public void testPostBatch() throws ServletException {
+    final Map<String, Boolean> servletRequestAvailable = new ConcurrentHashMap<>();
+    final ServiceTunnelServlet s = new ServiceTunnelServlet() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected ServiceTunnelResponse invokeService(ServerRunContext serverRunContext, ServiceTunnelRequest serviceTunnelRequest) {
+        String key = serviceTunnelRequest.getServiceInterfaceClassName() + "#" + serviceTunnelRequest.getOperation();
+        servletRequestAvailable.put(key, IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get() != null);
+        return new ServiceTunnelResponse(key, null);
+      }
+    };
+    final List<ServiceTunnelRequest> requests = new ArrayList<>();
+    requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "first", null, null));
+    requests.add(new ServiceTunnelRequest(ILogoutService.class.getName(), "logout", null, null));
+    requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "second", null, null));
+    requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "third", null, null));
+
+    ServiceTunnelBatchResponse batchResponse = ServletRunContexts.copyCurrent()
+        .withServletRequest(m_requestMock)
+        .withServletResponse(m_responseMock)
+        .call(new Callable<ServiceTunnelBatchResponse>() {
+
+          @Override
+          public ServiceTunnelBatchResponse call() throws Exception {
+            return s.doPostBatch(new ServiceTunnelBatchRequest(requests));
+          }
+        });
+
+    List<ServiceTunnelResponse> responses = batchResponse.getResponses();
+    assertEquals(requests.size(), responses.size());
+    for (int i = 0; i < requests.size(); i++) {
+      assertEquals(requests.get(i).getServiceInterfaceClassName() + "#" + requests.get(i).getOperation(), responses.get(i).getData());
+    }
+    assertEquals(Boolean.TRUE, servletRequestAvailable.get(IPingService.class.getName() + "#first"));
+    assertEquals(Boolean.TRUE, servletRequestAvailable.get(ILogoutService.class.getName() + "#logout"));
+    assertEquals(Boolean.FALSE, servletRequestAvailable.get(IPingService.class.getName() + "#second"));
+    assertEquals(Boolean.FALSE, servletRequestAvailable.get(IPingService.class.getName() + "#third"));
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return new Answer<IServerSession>() {
       @Override
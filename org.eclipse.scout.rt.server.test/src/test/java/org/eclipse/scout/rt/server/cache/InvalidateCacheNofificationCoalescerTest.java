@@ -78,6 +78,23 @@ public class InvalidateCacheNofificationCoalescerTest {
     }
   }
 
+  @Test
+  public void testCoalesceManyKeyFilters() {
+    InvalidateCacheNotificationCoalescer coalescer = new InvalidateCacheNotificationCoalescer();
+    List<InvalidateCacheNotification> testList = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      testList.add(new InvalidateCacheNotification(CACHE_ID_1, new KeyCacheEntryFilter<Object, Object>(CollectionUtility.<Object> arrayList(i % 5000))));
+      testList.add(new InvalidateCacheNotification(CACHE_ID_2, new KeyCacheEntryFilter<Object, Object>(CollectionUtility.<Object> arrayList(i))));
+    }
+    testList.add(new InvalidateCacheNotification(CACHE_ID_2, new AllCacheEntryFilter<>()));
+    List<InvalidateCacheNotification> res = coalescer.coalesce(testList);
+    assertEquals(2, res.size());
+    assertEquals(CACHE_ID_1, res.get(0).getCacheId());
+    assertEquals(5000, ((KeyCacheEntryFilter<?, ?>) res.get(0).getFilter()).getKeys().size());
+    assertEquals(CACHE_ID_2, res.get(1).getCacheId());
+    assertTrue(res.get(1).getFilter() instanceof AllCacheEntryFilter);
+  }
+
   class CodeType1 extends AbstractCodeType<Long, Long> {
     private static final long serialVersionUID = 1L;
 
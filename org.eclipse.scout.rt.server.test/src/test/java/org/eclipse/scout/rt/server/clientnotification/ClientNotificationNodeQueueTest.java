@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
@@ -79,6 +80,45 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testConsumeAsyncAvailable() {
+    putTestNotifications(3);
+    P_RecordingConsumer consumer = new P_RecordingConsumer();
+    assertFalse(m_queue.consumeAsync(2, consumer));
+    assertEquals(1, consumer.m_calls);
+    assertEquals(2, consumer.m_notifications.size());
+  }
+
+  @Test
+  public void testConsumeAsyncWaiting() {
+    P_RecordingConsumer consumer = new P_RecordingConsumer();
+    assertTrue(m_queue.consumeAsync(10, consumer));
+    assertEquals(0, consumer.m_calls);
+
+    putTestNotifications(2);
+    assertEquals(1, consumer.m_calls);
+    assertEquals(1, consumer.m_notifications.size());
+    assertEquals("test0", consumer.m_notifications.get(0).getNotification());
+
+    // the consumer is notified once only
+    assertFalse(m_queue.cancelAsync(consumer));
+    assertEquals(1, m_queue.getNotifications(10, 10, TimeUnit.MILLISECONDS).size());
+  }
+
+  @Test
+  public void testConsumeAsyncReplaced() {
+    P_RecordingConsumer consumer1 = new P_RecordingConsumer();
+    P_RecordingConsumer consumer2 = new P_RecordingConsumer();
+    assertTrue(m_queue.consumeAsync(10, consumer1));
+    assertTrue(m_queue.consumeAsync(10, consumer2));
+    assertEquals(1, consumer1.m_calls);
+    assertTrue(consumer1.m_notifications.isEmpty());
+
+    assertTrue(m_queue.cancelAsync(consumer2));
+    putTestNotifications(1);
+    assertEquals(0, consumer2.m_calls);
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -86,4 +126,14 @@ public class ClientNotificationNodeQueueTest {
     }
   }
 
+  private static class P_RecordingConsumer implements IAsyncClientNotificationConsumer {
+    private int m_calls;
+    private List<ClientNotificationMessage> m_notifications;
+
+    @Override
+    public void consume(List<ClientNotificationMessage> notifications) {
+      m_calls++;
+      m_notifications = notifications;
+    }
+  }
 }
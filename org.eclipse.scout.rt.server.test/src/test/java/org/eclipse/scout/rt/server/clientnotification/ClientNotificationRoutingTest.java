@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.clientnotification;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the routing of notifications in {@link ClientNotificationRegistry} with 10'000 sessions on 50 nodes.
+ */
+public class ClientNotificationRoutingTest {
+  private static final int NODE_COUNT = 50;
+  private static final int SESSION_COUNT = 10000;
+  private static final int SESSIONS_PER_USER = 5;
+
+  private ClientNotificationRegistry m_registry;
+
+  @Before
+  public void before() {
+    m_registry = new ClientNotificationRegistry(60 * 60 * 1000);
+    for (int i = 0; i < SESSION_COUNT; i++) {
+      m_registry.registerSession(nodeId(i), "session" + i, "user" + (i / SESSIONS_PER_USER));
+    }
+  }
+
+  /**
+   * Notifications for a single session are routed to the node of the session only.
+   */
+  @Test
+  public void testRoutingToSession() {
+    m_registry.publishWithoutClusterNotification(Collections.singleton(createMessage(ClientNotificationAddress.createSessionAddress(Collections.singleton("session123")))));
+    for (int node = 0; node < NODE_COUNT; node++) {
+      List<ClientNotificationMessage> notifications = consumeNoWait("node" + node);
+      assertEquals(nodeId(123).equals("node" + node) ? 1 : 0, notifications.size());
+    }
+  }
+
+  /**
+   * Notifications for a user are routed to the nodes of the sessions of the user only.
+   */
+  @Test
+  public void testRoutingToUser() {
+    m_registry.publishWithoutClusterNotification(Collections.singleton(createMessage(ClientNotificationAddress.createUserAddress(Collections.singleton("user7")))));
+    for (int node = 0; node < NODE_COUNT; node++) {
+      List<ClientNotificationMessage> notifications = consumeNoWait("node" + node);
+      boolean hasSessionOfUser = false;
+      for (int i = 7 * SESSIONS_PER_USER; i < 8 * SESSIONS_PER_USER; i++) {
+        hasSessionOfUser |= nodeId(i).equals("node" + node);
+      }
+      assertEquals(hasSessionOfUser ? 1 : 0, notifications.size());
+    }
+  }
+
+  /**
+   * Notifications addressed to other sessions and users are not delivered to a node.
+   */
+  @Test
+  public void testRoutingToSessionsAndUsers() {
+    for (int i = 0; i < SESSION_COUNT; i += 10 * NODE_COUNT) {
+      m_registry.publishWithoutClusterNotification(Collections.singleton(createMessage(ClientNotificationAddress.createSessionAddress(Collections.singleton("session" + (i + 1))))));
+      m_registry.publishWithoutClusterNotification(Collections.singleton(createMessage(ClientNotificationAddress.createUserAddress(Collections.singleton("user" + (i / SESSIONS_PER_USER))))));
+    }
+    // the users have their sessions on node0 to node4, the sessions i + 1 are on node1
+    int publishCount = SESSION_COUNT / (10 * NODE_COUNT);
+    assertEquals(publishCount, consumeNoWait("node0").size());
+    assertEquals(2 * publishCount, consumeNoWait("node1").size());
+    for (int node = 2; node < SESSIONS_PER_USER; node++) {
+      assertEquals(publishCount, consumeNoWait("node" + node).size());
+    }
+    for (int node = SESSIONS_PER_USER; node < NODE_COUNT; node++) {
+      assertEquals(0, consumeNoWait("node" + node).size());
+    }
+  }
+
+  /**
+   * Takes all available notifications without waiting for further notifications.
+   */
+  private List<ClientNotificationMessage> consumeNoWait(String nodeId) {
+    final List<ClientNotificationMessage> consumed = new ArrayList<>();
+    IAsyncClientNotificationConsumer consumer = new IAsyncClientNotificationConsumer() {
+
+      @Override
+      public void consume(List<ClientNotificationMessage> notifications) {
+        consumed.addAll(notifications);
+      }
+    };
+    if (m_registry.consumeAsync(nodeId, Integer.MAX_VALUE, consumer)) {
+      m_registry.cancelAsync(nodeId, consumer);
+    }
+    return consumed;
+  }
+
+  private static String nodeId(int session) {
+    return "node" + (session % NODE_COUNT);
+  }
+
+  private static ClientNotificationMessage createMessage(ClientNotificationAddress address) {
+    return new ClientNotificationMessage(address, "notification", false);
+  }
+}
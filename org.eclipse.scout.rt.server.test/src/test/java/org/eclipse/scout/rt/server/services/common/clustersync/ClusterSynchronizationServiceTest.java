@@ -11,14 +11,22 @@
 package org.eclipse.scout.rt.server.services.common.clustersync;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.server.TestServerSession;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.transaction.ITransaction;
@@ -33,6 +41,9 @@ import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 /**
  * Tests for {@link ClusterSynchronizationService} without transactions.
@@ -148,6 +159,138 @@ public class ClusterSynchronizationServiceTest {
     assertEquals(2, m_svc.getStatusInfo().getSentMessageCount());
   }
 
+  /**
+   * Tests that the messages of a batch are unpacked upon receipt.
+   */
+  @Test
+  public void testReceiveBatch() {
+    ClusterNotificationProperties testProps = new ClusterNotificationProperties(TEST_NODE, TEST_USER);
+    ClusterNotificationBatch batch = new ClusterNotificationBatch(CollectionUtility.arrayList(m_message, new ClusterNotificationMessage("notification2", testProps)));
+    m_svc.onMessage(new ClusterNotificationMessage(batch, testProps));
+    assertEquals(2, m_svc.getStatusInfo().getReceivedMessageCount());
+    assertEquals(2, m_svc.getStatusInfo(String.class).getReceivedMessageCount());
+  }
+
+  /**
+   * Tests that the messages of a transaction are not packed into batches by default.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testTransactionalSendWithoutBatches() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      m_svc.publishTransactional("Testnotification" + i);
+    }
+    ITransaction.CURRENT.get().commitPhase1();
+    ITransaction.CURRENT.get().commitPhase2();
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_messageService, times(1)).publishNotifications(captor.capture());
+    List<IClusterNotificationMessage> sentMessages = captor.getValue();
+    assertEquals(3, sentMessages.size());
+    for (IClusterNotificationMessage message : sentMessages) {
+      assertEquals(String.class, message.getNotification().getClass());
+    }
+    assertEquals(3, m_svc.getStatusInfo().getSentMessageCount());
+  }
+
+  /**
+   * Tests that many messages of a transaction are sent packed into batches, if a batch size is configured.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testTransactionalSendBatches() throws Exception {
+    m_svc.disable();
+    m_svc = new ClusterSynchronizationService() {
+      @Override
+      protected int getBatchSize() {
+        return 100;
+      }
+    };
+    m_svc.initializeService();
+    m_svc.enable();
+
+    for (int i = 0; i < 250; i++) {
+      m_svc.publishTransactional("Testnotification" + i);
+    }
+    ITransaction.CURRENT.get().commitPhase1();
+    ITransaction.CURRENT.get().commitPhase2();
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_messageService, times(1)).publishNotifications(captor.capture());
+    List<IClusterNotificationMessage> sentMessages = captor.getValue();
+    assertEquals(3, sentMessages.size());
+    assertEquals(100, ((ClusterNotificationBatch) sentMessages.get(0).getNotification()).getMessages().size());
+    assertEquals(50, ((ClusterNotificationBatch) sentMessages.get(2).getNotification()).getMessages().size());
+    assertEquals(250, m_svc.getStatusInfo().getSentMessageCount());
+  }
+
+  /**
+   * Tests that the messages of several transactions are sent together, if a batch window is configured.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testSendWithBatchWindow() throws Exception {
+    m_svc.disable();
+    m_svc = new ClusterSynchronizationService() {
+      @Override
+      protected long getBatchWindow() {
+        return 100000L;
+      }
+
+      @Override
+      protected int getBatchSize() {
+        return 100;
+      }
+    };
+    m_svc.initializeService();
+    m_svc.enable();
+
+    m_svc.publish("Testnotification1");
+    m_svc.publish("Testnotification2");
+    verify(m_messageService, never()).publishNotifications(any(List.class));
+
+    m_svc.flushBatch();
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_messageService, times(1)).publishNotifications(captor.capture());
+    assertEquals(1, captor.getValue().size());
+    assertEquals(2, m_svc.getStatusInfo().getSentMessageCount());
+  }
+
+  /**
+   * Tests that the messages are sent by a job running in a server run context, when the batch window has elapsed.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testSendWhenBatchWindowElapsed() throws Exception {
+    m_svc.disable();
+    m_svc = new ClusterSynchronizationService() {
+      @Override
+      protected long getBatchWindow() {
+        return 10L;
+      }
+
+      @Override
+      protected int getBatchSize() {
+        return 100;
+      }
+    };
+    m_svc.initializeService();
+    m_svc.enable();
+
+    final AtomicReference<ITransaction> transaction = new AtomicReference<>();
+    final CountDownLatch sent = new CountDownLatch(1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        transaction.set(ITransaction.CURRENT.get());
+        sent.countDown();
+        return null;
+      }
+    }).when(m_messageService).publishNotifications(any(List.class));
+
+    m_svc.publish("Testnotification1");
+    assertTrue(sent.await(10, TimeUnit.SECONDS));
+    assertNotNull(transaction.get());
+  }
+
   @SuppressWarnings("unchecked")
   private void assertNoMessageSent() {
     verify(m_messageService, never()).publishNotifications(any(List.class));
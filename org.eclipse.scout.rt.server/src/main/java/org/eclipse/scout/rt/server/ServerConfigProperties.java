@@ -14,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPortConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
@@ -43,6 +44,43 @@ public final class ServerConfigProperties {
     }
   }
 
+  /**
+   * Maximum number of cluster notifications sent to the other cluster nodes as one message. Default is 1: every
+   * notification is sent as a message of its own.
+   * <p>
+   * Nodes of releases without batch support cannot read batched messages. Only enable batching when all nodes of the
+   * cluster support it (e.g. not during a rolling upgrade).
+   */
+  public static class ClusterSyncBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    protected Integer getDefaultValue() {
+      return Integer.valueOf(1);
+    }
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.clustersync.ClusterSynchronizationService#batchSize";
+    }
+  }
+
+  /**
+   * Time in milliseconds cluster notifications of several transactions are collected before they are sent to the other
+   * cluster nodes. Default is 0: the notifications of a transaction are sent when it is committed.
+   */
+  public static class ClusterSyncBatchWindowProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    protected Long getDefaultValue() {
+      return Long.valueOf(0L);
+    }
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.services.common.clustersync.ClusterSynchronizationService#batchWindow";
+    }
+  }
+
   /**
    * expiration for {@link ServerSessionProviderWithCache} in milliseconds. Default is one day.
    */
@@ -14,10 +14,22 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.security.auth.Subject;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -27,10 +39,18 @@ import javax.servlet.http.HttpSessionBindingListener;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.annotations.Internal;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationCollector;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationService;
+import org.eclipse.scout.rt.server.clientnotification.IAsyncClientNotificationConsumer;
 import org.eclipse.scout.rt.server.commons.cache.IHttpSessionCacheService;
 import org.eclipse.scout.rt.server.commons.context.ServletRunContexts;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
@@ -40,7 +60,12 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistratio
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
+import org.eclipse.scout.rt.shared.services.common.security.ILogoutService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
@@ -59,6 +84,7 @@ public class ServiceTunnelServlet extends HttpServlet {
   private static final Logger LOG = LoggerFactory.getLogger(ServiceTunnelServlet.class);
 
   private transient IServiceTunnelContentHandler m_contentHandler;
+  private final AtomicInteger m_suspendedNotificationRequests = new AtomicInteger();
 
   // === HTTP-GET ===
 
@@ -108,7 +134,18 @@ public class ServiceTunnelServlet extends HttpServlet {
             @Override
             public void run() throws Exception {
               ServiceTunnelRequest serviceRequest = deserializeServiceRequest();
-              ServiceTunnelResponse serviceResponse = doPost(serviceRequest);
+              if (isNotificationRequest(serviceRequest)) {
+                doPostNotificationRequest(serviceRequest);
+                return;
+              }
+
+              ServiceTunnelResponse serviceResponse;
+              if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+                serviceResponse = doPostBatch((ServiceTunnelBatchRequest) serviceRequest);
+              }
+              else {
+                serviceResponse = doPost(serviceRequest);
+              }
               serializeServiceResponse(serviceResponse);
             }
 
@@ -128,6 +165,16 @@ public class ServiceTunnelServlet extends HttpServlet {
 
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) throws ServletException {
     ClientNotificationCollector collector = new ClientNotificationCollector();
+    ServerRunContext serverRunContext = createServiceRunContext(serviceRequest, collector);
+    return doPost(serverRunContext, serviceRequest, collector);
+  }
+
+  /**
+   * Creates the {@link ServerRunContext} to invoke the given service request in. The server session is looked up on
+   * (or created in) the HTTP session, which is why this method must be called in the thread processing the HTTP
+   * request.
+   */
+  protected ServerRunContext createServiceRunContext(ServiceTunnelRequest serviceRequest, ClientNotificationCollector collector) throws ServletException {
     ServerRunContext serverRunContext = ServerRunContexts.copyCurrent()
         .withLocale(serviceRequest.getLocale())
         .withUserAgent(UserAgent.createByIdentifier(serviceRequest.getUserAgent()))
@@ -138,7 +185,14 @@ public class ServiceTunnelServlet extends HttpServlet {
       serverRunContext
           .withSession(lookupServerSessionOnHttpSession(serviceRequest.getSessionId(), serverRunContext));
     }
+    return serverRunContext;
+  }
 
+  /**
+   * Invokes the given service request in the given {@link ServerRunContext}. This method does not access the HTTP
+   * request, and may therefore be called in any thread.
+   */
+  protected ServiceTunnelResponse doPost(ServerRunContext serverRunContext, ServiceTunnelRequest serviceRequest, ClientNotificationCollector collector) {
     final IRegistrationHandle registrationHandle = registerForCancellation(serverRunContext, serviceRequest);
     try {
       ServiceTunnelResponse serviceResponse = invokeService(serverRunContext, serviceRequest);
@@ -151,6 +205,179 @@ public class ServiceTunnelServlet extends HttpServlet {
     }
   }
 
+  /**
+   * Processes the requests of a {@link ServiceTunnelBatchRequest}. Every request runs in its own transaction and
+   * collects its own client notifications, exactly as if it was sent separately.
+   * <p>
+   * The first request is processed in the current thread, so that a new server session is created only once. The
+   * remaining requests are independent of each other and processed in parallel, unless
+   * {@link #isProcessBatchInParallel(ServiceTunnelBatchRequest)} returns <code>false</code>.
+   * <p>
+   * The servlet container does not allow to access the HTTP request and response from several threads. Therefore the
+   * run contexts of all requests are created in the current thread, and the requests processed in parallel do not see
+   * the HTTP request, see {@link IHttpServletRoundtrip}. Requests which require the HTTP request are processed in the
+   * current thread after all others are done, see {@link #isProcessInServletThread(ServiceTunnelRequest)}.
+   */
+  protected ServiceTunnelBatchResponse doPostBatch(ServiceTunnelBatchRequest batchRequest) throws ServletException {
+    List<ServiceTunnelRequest> requests = batchRequest.getRequests();
+    ServiceTunnelResponse[] responses = new ServiceTunnelResponse[requests.size()];
+    if (requests.isEmpty()) {
+      return new ServiceTunnelBatchResponse(Arrays.asList(responses));
+    }
+
+    responses[0] = doPost(requests.get(0));
+    if (!isProcessBatchInParallel(batchRequest)) {
+      for (int i = 1; i < requests.size(); i++) {
+        responses[i] = doPost(requests.get(i));
+      }
+      return new ServiceTunnelBatchResponse(Arrays.asList(responses));
+    }
+
+    Map<Integer, IFuture<ServiceTunnelResponse>> futures = new HashMap<>();
+    for (int i = 1; i < requests.size(); i++) {
+      final ServiceTunnelRequest request = requests.get(i);
+      if (isProcessInServletThread(request)) {
+        continue;
+      }
+      final ClientNotificationCollector collector = new ClientNotificationCollector();
+      final ServerRunContext serverRunContext = createServiceRunContext(request, collector);
+      futures.put(i, Jobs.schedule(new Callable<ServiceTunnelResponse>() {
+
+        @Override
+        public ServiceTunnelResponse call() throws Exception {
+          return doPost(serverRunContext, request, collector);
+        }
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent())
+          .withName("Processing batched service request [seq={}, batchSeq={}]", request.getRequestSequence(), batchRequest.getRequestSequence())));
+    }
+    for (Entry<Integer, IFuture<ServiceTunnelResponse>> future : futures.entrySet()) {
+      try {
+        responses[future.getKey()] = future.getValue().awaitDoneAndGet();
+      }
+      catch (RuntimeException e) {
+        responses[future.getKey()] = new ServiceTunnelResponse(e);
+      }
+    }
+    for (int i = 1; i < requests.size(); i++) {
+      if (responses[i] == null) {
+        responses[i] = doPost(requests.get(i));
+      }
+    }
+    return new ServiceTunnelBatchResponse(Arrays.asList(responses));
+  }
+
+  /**
+   * @return <code>true</code> if the given request of a batch must be processed in the thread of the HTTP request,
+   *         because the invoked service accesses the HTTP request or session, e.g. {@link ILogoutService}.
+   */
+  protected boolean isProcessInServletThread(ServiceTunnelRequest serviceRequest) {
+    return ILogoutService.class.getName().equals(serviceRequest.getServiceInterfaceClassName());
+  }
+
+  /**
+   * @return <code>true</code> to process the requests of the given batch in parallel. The requests of a batch
+   *         originate from different client threads and are therefore independent of each other.
+   */
+  protected boolean isProcessBatchInParallel(ServiceTunnelBatchRequest batchRequest) {
+    return true;
+  }
+
+  /**
+   * @return <code>true</code> if the given request is a long-polling request for client notifications, which may be
+   *         answered asynchronously.
+   */
+  protected boolean isNotificationRequest(ServiceTunnelRequest serviceRequest) {
+    return IClientNotificationService.class.getName().equals(serviceRequest.getServiceInterfaceClassName())
+        && "getNotifications".equals(serviceRequest.getOperation())
+        && serviceRequest.getArgs() != null
+        && serviceRequest.getArgs().length == 1
+        && serviceRequest.getArgs()[0] instanceof String;
+  }
+
+  /**
+   * Processes a long-polling request for client notifications. If no notifications are available, the request is
+   * suspended by the means of Servlet 3.0 asynchronous processing instead of blocking the container thread. It is
+   * answered as soon as notifications are published or the blocking timeout elapses.
+   * <p>
+   * Asynchronous processing is opt-in: the servlet and all filters mapped to it must be registered with
+   * <code>&lt;async-supported&gt;true&lt;/async-supported&gt;</code> by the application. Otherwise, and if the maximum
+   * number of suspended requests is reached, the request is processed synchronously as before.
+   *
+   * @see ClientNotificationProperties.MaxSuspendedNotificationRequests
+   */
+  protected void doPostNotificationRequest(ServiceTunnelRequest serviceRequest) throws Exception {
+    HttpServletRequest servletRequest = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    if (!servletRequest.isAsyncSupported() || !tryAcquireSuspension()) {
+      serializeServiceResponse(doPost(serviceRequest));
+      return;
+    }
+
+    P_AsyncNotificationRequest asyncRequest = new P_AsyncNotificationRequest((String) serviceRequest.getArgs()[0], m_contentHandler);
+    boolean suspended = false;
+    try {
+      ServiceTunnelResponse serviceResponse = consumeNotificationsAsync(serviceRequest, asyncRequest);
+      suspended = asyncRequest.suspend(servletRequest, serviceResponse);
+      if (!suspended) {
+        serializeServiceResponse(asyncRequest.createServiceResponse(serviceResponse));
+      }
+    }
+    finally {
+      if (!suspended) {
+        asyncRequest.cancel();
+        m_suspendedNotificationRequests.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Hands the notifications for the client node of the given request to the given consumer, without blocking the
+   * calling thread. The notifications are consumed in the {@link ServerRunContext} of the request, like any other
+   * service request.
+   *
+   * @return the response to complete with the notifications handed to the consumer. It contains the client
+   *         notifications collected while processing the request, or the exception if processing failed.
+   */
+  protected ServiceTunnelResponse consumeNotificationsAsync(ServiceTunnelRequest serviceRequest, final IAsyncClientNotificationConsumer consumer) throws ServletException {
+    final String nodeId = (String) serviceRequest.getArgs()[0];
+    ClientNotificationCollector collector = new ClientNotificationCollector();
+    ServerRunContext serverRunContext = createServiceRunContext(serviceRequest, collector);
+    ServiceTunnelResponse serviceResponse;
+    try {
+      serverRunContext.run(new IRunnable() {
+
+        @Override
+        public void run() throws Exception {
+          BEANS.get(ClientNotificationService.class).consumeAsync(nodeId, consumer);
+        }
+      });
+      serviceResponse = new ServiceTunnelResponse(new ArrayList<ClientNotificationMessage>(), null);
+    }
+    catch (RuntimeException e) {
+      serviceResponse = new ServiceTunnelResponse(e);
+    }
+    serviceResponse.setNotifications(collector.consume());
+    return serviceResponse;
+  }
+
+  private boolean tryAcquireSuspension() {
+    int maxSuspended = CONFIG.getPropertyValue(ClientNotificationProperties.MaxSuspendedNotificationRequests.class);
+    if (m_suspendedNotificationRequests.incrementAndGet() <= maxSuspended) {
+      return true;
+    }
+    m_suspendedNotificationRequests.decrementAndGet();
+    LOG.debug("Maximum number of suspended notification requests reached [max={}]", maxSuspended);
+    return false;
+  }
+
+  /**
+   * @return the number of long-polling requests for client notifications, which are currently processed
+   *         asynchronously.
+   */
+  public int getSuspendedNotificationRequestCount() {
+    return m_suspendedNotificationRequests.get();
+  }
+
   private IRegistrationHandle registerForCancellation(ServerRunContext runContext, ServiceTunnelRequest req) {
     String sessionId = runContext.getSession() != null ? runContext.getSession().getId() : null;
     return BEANS.get(RunMonitorCancelRegistry.class).register(runContext.getRunMonitor(), sessionId, req.getRequestSequence());
@@ -205,12 +432,20 @@ public class ServiceTunnelServlet extends HttpServlet {
    * Method invoked to serialize a service response to be sent back to the client.
    */
   protected void serializeServiceResponse(ServiceTunnelResponse serviceResponse) throws Exception {
-    HttpServletResponse servletResponse = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE.get();
+    writeServiceResponse(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE.get(), m_contentHandler, serviceResponse);
+  }
+
+  /**
+   * Writes the given service response using the given content handler. Unlike
+   * {@link #serializeServiceResponse(ServiceTunnelResponse)}, this method does not depend on the current HTTP servlet
+   * roundtrip, and is used to answer asynchronously processed requests.
+   */
+  protected void writeServiceResponse(HttpServletResponse servletResponse, IServiceTunnelContentHandler contentHandler, ServiceTunnelResponse serviceResponse) throws Exception {
     servletResponse.setDateHeader("Expires", -1);
     servletResponse.setHeader("Cache-Control", "no-cache");
     servletResponse.setHeader("pragma", "no-cache");
-    servletResponse.setContentType(m_contentHandler.getContentType());
-    m_contentHandler.writeResponse(servletResponse.getOutputStream(), serviceResponse);
+    servletResponse.setContentType(contentHandler.getContentType());
+    contentHandler.writeResponse(servletResponse.getOutputStream(), serviceResponse);
   }
 
   // === INITIALIZATION ===
@@ -298,4 +533,167 @@ public class ServiceTunnelServlet extends HttpServlet {
     }
     return false;
   }
+
+  /**
+   * Long-polling request for client notifications, which is answered asynchronously once notifications are available
+   * or the blocking timeout elapsed.
+   */
+  private class P_AsyncNotificationRequest implements IAsyncClientNotificationConsumer, AsyncListener {
+
+    private final String m_nodeId;
+    private final IServiceTunnelContentHandler m_asyncContentHandler;
+    private final AtomicBoolean m_completing = new AtomicBoolean();
+    private final CountDownLatch m_completed = new CountDownLatch(1);
+
+    private List<ClientNotificationMessage> m_notifications; // guarded by this
+    private AsyncContext m_asyncContext; // guarded by this
+    private ServiceTunnelResponse m_initialResponse; // guarded by this
+
+    P_AsyncNotificationRequest(String nodeId, IServiceTunnelContentHandler contentHandler) {
+      m_nodeId = nodeId;
+      m_asyncContentHandler = contentHandler;
+    }
+
+    @Override
+    public void consume(List<ClientNotificationMessage> notifications) {
+      if (!handOver(notifications)) {
+        return; // not suspended yet: the notifications are written by the request thread
+      }
+      Jobs.schedule(new IRunnable() {
+
+        @Override
+        public void run() throws Exception {
+          complete();
+        }
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.empty())
+          .withName("Answering suspended client notification request [nodeId={}]", m_nodeId));
+    }
+
+    /**
+     * @return <code>true</code> if the request is already suspended and must be completed.
+     */
+    private synchronized boolean handOver(List<ClientNotificationMessage> notifications) {
+      if (m_notifications != null) {
+        return false;
+      }
+      m_notifications = notifications;
+      notifyAll();
+      return m_asyncContext != null;
+    }
+
+    /**
+     * Suspends the request, unless the service invocation failed or notifications were already handed over.
+     *
+     * @return <code>true</code> if the request was suspended.
+     */
+    synchronized boolean suspend(HttpServletRequest servletRequest, ServiceTunnelResponse serviceResponse) {
+      if (serviceResponse.getException() != null || m_notifications != null) {
+        return false;
+      }
+      m_initialResponse = serviceResponse;
+      m_asyncContext = servletRequest.startAsync();
+      m_asyncContext.setTimeout(CONFIG.getPropertyValue(ClientNotificationProperties.MaxNotificationBlockingTimeOut.class));
+      m_asyncContext.addListener(this);
+      return true;
+    }
+
+    synchronized ServiceTunnelResponse createServiceResponse(ServiceTunnelResponse initialResponse) {
+      if (initialResponse.getException() != null) {
+        return initialResponse;
+      }
+      List<ClientNotificationMessage> notifications = (m_notifications != null ? m_notifications : new ArrayList<ClientNotificationMessage>());
+      ServiceTunnelResponse serviceResponse = new ServiceTunnelResponse(notifications, null);
+      serviceResponse.setNotifications(initialResponse.getNotifications());
+      serviceResponse.setProcessingDuration(initialResponse.getProcessingDuration());
+      return serviceResponse;
+    }
+
+    /**
+     * Stops waiting for notifications.
+     */
+    void cancel() {
+      if (BEANS.get(ClientNotificationRegistry.class).cancelAsync(m_nodeId, this)) {
+        handOver(new ArrayList<ClientNotificationMessage>());
+      }
+    }
+
+    private void complete() {
+      if (!m_completing.compareAndSet(false, true)) {
+        awaitCompleted();
+        return;
+      }
+
+      AsyncContext asyncContext;
+      ServiceTunnelResponse serviceResponse;
+      synchronized (this) {
+        awaitNotifications();
+        asyncContext = m_asyncContext;
+        serviceResponse = createServiceResponse(m_initialResponse);
+      }
+      try {
+        writeServiceResponse((HttpServletResponse) asyncContext.getResponse(), m_asyncContentHandler, serviceResponse);
+      }
+      catch (Exception e) {
+        if (isConnectionError(e)) {
+          LOG.debug("Connection Error: ", e);
+        }
+        else {
+          LOG.error("Failed to answer suspended client notification request [nodeId={}]", m_nodeId, e);
+        }
+      }
+      finally {
+        asyncContext.complete();
+        m_completed.countDown();
+      }
+    }
+
+    /**
+     * Waits for notifications which were taken from the queue, but not handed over yet. Must be called while holding
+     * the lock of this object.
+     */
+    private void awaitNotifications() {
+      while (m_notifications == null) {
+        try {
+          wait();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          m_notifications = new ArrayList<>();
+        }
+      }
+    }
+
+    private void awaitCompleted() {
+      try {
+        m_completed.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {
+      cancel();
+      complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) throws IOException {
+      LOG.debug("Suspended client notification request failed [nodeId={}]", m_nodeId, event.getThrowable());
+      cancel();
+      complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) throws IOException {
+      m_suspendedNotificationRequests.decrementAndGet();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) throws IOException {
+      // NOOP
+    }
+  }
 }
@@ -11,15 +11,18 @@
 package org.eclipse.scout.rt.server.cache;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.scout.rt.server.notification.ICoalescer;
 import org.eclipse.scout.rt.shared.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.shared.cache.InvalidateCacheNotification;
+import org.eclipse.scout.rt.shared.cache.KeyCacheEntryFilter;
 
 /**
  * {@link ICoalescer} for {@link InvalidateCacheNotification}
@@ -34,17 +37,41 @@ public class InvalidateCacheNotificationCoalescer implements ICoalescer<Invalida
     if (notifications.isEmpty()) {
       return result;
     }
-    Map<String, List<ICacheEntryFilter<?, ?>>> filterMap = new HashMap<>();
+    // keys of all key filters are collected per cache id first, merging them pairwise would copy the keys again and again
+    Map<String, Set<Object>> keyMap = new LinkedHashMap<>();
+    Map<String, List<ICacheEntryFilter<?, ?>>> filterMap = new LinkedHashMap<>();
     for (InvalidateCacheNotification notification : notifications) {
-      List<ICacheEntryFilter<?, ?>> list = filterMap.get(notification.getCacheId());
+      String cacheId = notification.getCacheId();
+      ICacheEntryFilter<?, ?> filter = notification.getFilter();
+      List<ICacheEntryFilter<?, ?>> list = filterMap.get(cacheId);
       if (list == null) {
         list = new ArrayList<>();
-        list.add(notification.getFilter());
+        filterMap.put(cacheId, list);
+      }
+      if (filter instanceof KeyCacheEntryFilter) {
+        Set<Object> keys = keyMap.get(cacheId);
+        if (keys == null) {
+          keys = new HashSet<>();
+          keyMap.put(cacheId, keys);
+        }
+        keys.addAll(((KeyCacheEntryFilter<?, ?>) filter).getKeys());
+      }
+      else if (list.isEmpty()) {
+        list.add(filter);
+      }
+      else {
+        coalesceFilters(list, filter);
+      }
+    }
+    for (Entry<String, Set<Object>> entry : keyMap.entrySet()) {
+      List<ICacheEntryFilter<?, ?>> list = filterMap.get(entry.getKey());
+      ICacheEntryFilter<?, ?> keyFilter = new KeyCacheEntryFilter<Object, Object>(entry.getValue());
+      if (list.isEmpty()) {
+        list.add(keyFilter);
       }
       else {
-        coalesceFilters(list, notification.getFilter());
+        coalesceFilters(list, keyFilter);
       }
-      filterMap.put(notification.getCacheId(), list);
     }
 
     for (Entry<String, List<ICacheEntryFilter<?, ?>>> entry : filterMap.entrySet()) {
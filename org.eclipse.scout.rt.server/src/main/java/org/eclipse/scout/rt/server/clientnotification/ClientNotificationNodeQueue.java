@@ -12,19 +12,18 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
@@ -48,11 +47,18 @@ public class ClientNotificationNodeQueue {
   private final Integer m_capacity;
   private final BlockingDeque<ClientNotificationMessage> m_notifications;
 
-  private final ReentrantReadWriteLock m_sessionUserCacheLock = new ReentrantReadWriteLock();
-  private final Set<String /*sessionId*/> m_sessions = new HashSet<>();
-  private final Map<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new HashMap<>();
+  /**
+   * Lock for modifications of the registered sessions and users. Reading does not require a lock.
+   */
+  private final Object m_sessionUserCacheLock = new Object();
+  private final Set<String /*sessionId*/> m_sessions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+  private final ConcurrentMap<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new ConcurrentHashMap<>();
   private final AtomicLong m_lastConsumeAccess;
 
+  private final Object m_asyncConsumerLock = new Object();
+  private IAsyncClientNotificationConsumer m_asyncConsumer; // guarded by m_asyncConsumerLock
+  private int m_asyncConsumerMaxAmount; // guarded by m_asyncConsumerLock
+
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(ClientNotificationProperties.NodeQueueCapacity.class));
   }
@@ -81,42 +87,30 @@ public class ClientNotificationNodeQueue {
   public void registerSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
-      m_sessions.add(sessionId);
-      Set<String> userSessions = m_userToSessions.get(sessionId);
+    synchronized (m_sessionUserCacheLock) {
+      Set<String> userSessions = m_userToSessions.get(userId);
       if (userSessions == null) {
-        userSessions = new HashSet<String>();
+        userSessions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
         m_userToSessions.put(userId, userSessions);
       }
       userSessions.add(sessionId);
-    }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
+      m_sessions.add(sessionId);
     }
   }
 
   public void unregisterSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
+    synchronized (m_sessionUserCacheLock) {
       m_sessions.remove(sessionId);
-      Iterator<Entry<String, Set<String>>> iterator = m_userToSessions.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Entry<String, Set<String>> entry = iterator.next();
-        Set<String> sessions = entry.getValue();
-        if (sessions.contains(sessionId)) {
-          sessions.remove(sessionId);
-        }
-        if (sessions.isEmpty()) {
-          iterator.remove();
+      Set<String> userSessions = m_userToSessions.get(userId);
+      if (userSessions != null) {
+        userSessions.remove(sessionId);
+        if (userSessions.isEmpty()) {
+          m_userToSessions.remove(userId);
         }
       }
     }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
-    }
   }
 
   public void put(ClientNotificationMessage notification) {
@@ -126,6 +120,9 @@ public class ClientNotificationNodeQueue {
   public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
     putDroppingOld(notifications);
+    if (!notifications.isEmpty()) {
+      notifyAsyncConsumer();
+    }
   }
 
   /**
@@ -188,6 +185,78 @@ public class ClientNotificationNodeQueue {
     return collected;
   }
 
+  /**
+   * Consumes the notifications without blocking the calling thread. If notifications are available, they are handed to
+   * the given consumer immediately. Otherwise, the consumer is registered and notified as soon as notifications are put
+   * into this queue. At most one consumer is registered at a time: a previously registered consumer is released with
+   * an empty list of notifications.
+   *
+   * @return <code>true</code> if the consumer was registered, <code>false</code> if it was notified immediately.
+   */
+  public boolean consumeAsync(int maxAmount, IAsyncClientNotificationConsumer consumer) {
+    Assertions.assertNotNull(consumer);
+    m_lastConsumeAccess.set(System.currentTimeMillis());
+
+    List<ClientNotificationMessage> available = new ArrayList<>();
+    IAsyncClientNotificationConsumer replaced = null;
+    synchronized (m_asyncConsumerLock) {
+      m_notifications.drainTo(available, maxAmount);
+      if (available.isEmpty()) {
+        replaced = m_asyncConsumer;
+        m_asyncConsumer = consumer;
+        m_asyncConsumerMaxAmount = maxAmount;
+      }
+    }
+
+    if (replaced != null) {
+      replaced.consume(new ArrayList<ClientNotificationMessage>());
+    }
+    if (available.isEmpty()) {
+      return true;
+    }
+    LOG.debug("consumed {} notifications.", available.size());
+    consumer.consume(available);
+    return false;
+  }
+
+  /**
+   * Unregisters a consumer registered by {@link #consumeAsync(int, IAsyncClientNotificationConsumer)}.
+   *
+   * @return <code>true</code> if the consumer was still waiting for notifications, <code>false</code> if it has
+   *         already been notified or was replaced by another consumer.
+   */
+  public boolean cancelAsync(IAsyncClientNotificationConsumer consumer) {
+    synchronized (m_asyncConsumerLock) {
+      if (m_asyncConsumer != consumer) {
+        return false;
+      }
+      m_asyncConsumer = null;
+      return true;
+    }
+  }
+
+  /**
+   * Hands the queued notifications to the registered asynchronous consumer, if any. The consumer is notified outside of
+   * the lock, because it may perform further work.
+   */
+  protected void notifyAsyncConsumer() {
+    IAsyncClientNotificationConsumer consumer;
+    List<ClientNotificationMessage> collected = new ArrayList<>();
+    synchronized (m_asyncConsumerLock) {
+      if (m_asyncConsumer == null) {
+        return;
+      }
+      m_notifications.drainTo(collected, m_asyncConsumerMaxAmount);
+      if (collected.isEmpty()) {
+        return;
+      }
+      consumer = m_asyncConsumer;
+      m_asyncConsumer = null;
+    }
+    LOG.debug("consumed {} notifications.", collected.size());
+    consumer.consume(collected);
+  }
+
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = new ArrayList<ClientNotificationMessage>(notificationInput);
     Iterator<ClientNotificationMessage> it = notifications.iterator();
@@ -200,28 +269,54 @@ public class ClientNotificationNodeQueue {
   }
 
   public boolean isRelevant(ClientNotificationAddress address) {
-    return address.isNotifyAllSessions() || address.isNotifyAllNodes() || CollectionUtility.containsAny(getAllSessionIds(), address.getSessionIds()) || CollectionUtility.containsAny(getAllUserIds(), address.getUserIds());
+    return address.isNotifyAllSessions() || address.isNotifyAllNodes() || containsAny(m_sessions, address.getSessionIds()) || containsAny(m_userToSessions.keySet(), address.getUserIds());
   }
 
-  public Set<String /*sessionId*/> getAllSessionIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<String>(m_sessions);
+  private static boolean containsAny(Set<String> registered, Set<String> addressed) {
+    if (addressed == null) {
+      return false;
     }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
+    for (String id : addressed) {
+      if (registered.contains(id)) {
+        return true;
+      }
     }
+    return false;
   }
 
-  public Set<String> getAllUserIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<String>(m_userToSessions.keySet());
-    }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
-    }
+  /**
+   * @return <code>true</code> if the given session is registered on this node.
+   */
+  public boolean containsSession(String sessionId) {
+    return m_sessions.contains(sessionId);
+  }
+
+  /**
+   * @return <code>true</code> if at least one session of the given user is registered on this node.
+   */
+  public boolean containsUser(String userId) {
+    return m_userToSessions.containsKey(userId);
+  }
+
+  /**
+   * @return <code>true</code> if no session is registered on this node.
+   */
+  public boolean isEmpty() {
+    return m_sessions.isEmpty();
+  }
 
+  /**
+   * @return a copy of all sessions registered on this node.
+   */
+  public Set<String /*sessionId*/> getAllSessionIds() {
+    return new HashSet<String>(m_sessions);
+  }
+
+  /**
+   * @return a copy of all users with at least one session registered on this node.
+   */
+  public Set<String> getAllUserIds() {
+    return new HashSet<String>(m_userToSessions.keySet());
   }
 
 }
@@ -69,6 +69,28 @@ public class ClientNotificationProperties {
     }
   }
 
+  /**
+   * The maximum number of long-polling requests for notifications, which are suspended concurrently while waiting for
+   * notifications. A suspended request does not occupy a container thread. If the limit is reached, further requests
+   * block a container thread while waiting. <code>0</code> disables asynchronous processing.
+   * <p>
+   * Asynchronous processing is opt-in: it is only used if the application registers the service tunnel servlet and
+   * its filters with <code>&lt;async-supported&gt;true&lt;/async-supported&gt;</code> in its web.xml. Otherwise, all
+   * requests block a container thread while waiting.
+   */
+  public static class MaxSuspendedNotificationRequests extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    protected Integer getDefaultValue() {
+      return Integer.valueOf(10000);
+    }
+
+    @Override
+    public String getKey() {
+      return "org.eclipse.scout.rt.server.clientnotification.ClientNotificationService#maxSuspendedRequests";
+    }
+  }
+
   /**
    * If no message is consumed for a certain amount of time, notification queues are removed to avoid overflows and
    * unnecessary memory consumption. This may happen, if a node does not properly unregister (e.g. due to a crash). <br>
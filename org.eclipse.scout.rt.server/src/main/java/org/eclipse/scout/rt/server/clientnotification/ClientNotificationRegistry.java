@@ -11,15 +11,18 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -44,7 +47,20 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<String /*notificationNodeId*/, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private final ConcurrentMap<String /*notificationNodeId*/, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
+
+  /**
+   * Inverted indexes to route notifications addressed to sessions or users directly to the nodes, on which these are
+   * registered.
+   */
+  private final ConcurrentMap<String /*sessionId*/, Set<String /*notificationNodeId*/>> m_sessionToNodes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String /*userId*/, Set<String /*notificationNodeId*/>> m_userToNodes = new ConcurrentHashMap<>();
+
+  /**
+   * Lock for modifications of the queues and the routing indexes. Publishing and consuming notifications does not
+   * require a lock.
+   */
+  private final Object m_registrationLock = new Object();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -64,8 +80,10 @@ public class ClientNotificationRegistry {
    * Register a session with corresponding user for a given node
    */
   protected void registerSession(String nodeId, String sessionId, String userId) {
-    synchronized (m_notificationQueues) {
+    synchronized (m_registrationLock) {
       getQueue(nodeId).registerSession(sessionId, userId);
+      addToIndex(m_sessionToNodes, sessionId, nodeId);
+      addToIndex(m_userToNodes, userId, nodeId);
     }
   }
 
@@ -74,11 +92,18 @@ public class ClientNotificationRegistry {
    * this session.
    */
   void unregisterSession(String nodeId, String sessionId, String userId) {
-    synchronized (m_notificationQueues) {
-      ClientNotificationNodeQueue queue = getQueue(nodeId);
+    synchronized (m_registrationLock) {
+      ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+      if (queue == null) {
+        return;
+      }
       queue.unregisterSession(sessionId, userId);
-      if (queue.getAllSessionIds().isEmpty()) {
-        m_notificationQueues.remove(nodeId);
+      removeFromIndex(m_sessionToNodes, sessionId, nodeId);
+      if (!queue.containsUser(userId)) {
+        removeFromIndex(m_userToNodes, userId, nodeId);
+      }
+      if (queue.isEmpty()) {
+        removeQueue(nodeId);
       }
     }
   }
@@ -89,8 +114,8 @@ public class ClientNotificationRegistry {
    * @param nodeId
    */
   void unregisterNode(String nodeId) {
-    synchronized (m_notificationQueues) {
-      m_notificationQueues.remove(nodeId);
+    synchronized (m_registrationLock) {
+      removeQueue(nodeId);
     }
   }
 
@@ -111,10 +136,34 @@ public class ClientNotificationRegistry {
     return queue.consume(maxAmount, maxWaitTime, unit);
   }
 
+  /**
+   * This method should only be accessed from {@link ClientNotificationService}
+   *
+   * @see ClientNotificationNodeQueue#consumeAsync(int, IAsyncClientNotificationConsumer)
+   */
+  boolean consumeAsync(String notificationNodeId, int maxAmount, IAsyncClientNotificationConsumer consumer) {
+    ClientNotificationNodeQueue queue = getQueue(notificationNodeId);
+    return queue.consumeAsync(maxAmount, consumer);
+  }
+
+  /**
+   * Stops waiting for notifications on behalf of the given consumer, e.g. because the long-polling request timed out.
+   *
+   * @return <code>true</code> if the consumer was still waiting, <code>false</code> if it has already been notified.
+   */
+  public boolean cancelAsync(String notificationNodeId, IAsyncClientNotificationConsumer consumer) {
+    ClientNotificationNodeQueue queue = m_notificationQueues.get(notificationNodeId);
+    return queue != null && queue.cancelAsync(consumer);
+  }
+
   private ClientNotificationNodeQueue getQueue(String nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+    ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+    if (queue != null) {
+      return queue;
+    }
+    synchronized (m_registrationLock) {
+      queue = m_notificationQueues.get(nodeId);
       if (queue == null) {
         // create new
         queue = BEANS.get(ClientNotificationNodeQueue.class);
@@ -125,29 +174,62 @@ public class ClientNotificationRegistry {
     }
   }
 
+  /**
+   * Removes the queue of the given node and its routing entries. Must be called while holding the registration lock.
+   */
+  private void removeQueue(String nodeId) {
+    ClientNotificationNodeQueue queue = m_notificationQueues.remove(nodeId);
+    if (queue == null) {
+      return;
+    }
+    for (String sessionId : queue.getAllSessionIds()) {
+      removeFromIndex(m_sessionToNodes, sessionId, nodeId);
+    }
+    for (String userId : queue.getAllUserIds()) {
+      removeFromIndex(m_userToNodes, userId, nodeId);
+    }
+  }
+
+  /**
+   * Must be called while holding the registration lock.
+   */
+  private static void addToIndex(ConcurrentMap<String, Set<String>> index, String key, String nodeId) {
+    Set<String> nodeIds = index.get(key);
+    if (nodeIds == null) {
+      nodeIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+      index.put(key, nodeIds);
+    }
+    nodeIds.add(nodeId);
+  }
+
+  /**
+   * Must be called while holding the registration lock.
+   */
+  private static void removeFromIndex(ConcurrentMap<String, Set<String>> index, String key, String nodeId) {
+    Set<String> nodeIds = index.get(key);
+    if (nodeIds == null) {
+      return;
+    }
+    nodeIds.remove(nodeId);
+    if (nodeIds.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
   /**
    * To access all session id's having to whom notifications will be provided by this server node.
    *
    * @return
    */
   public Set<String> getRegisteredSessionIds() {
-    Set<String> allSessionIds = new HashSet<>();
-    synchronized (m_notificationQueues) {
-      for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
-
-        allSessionIds.addAll(queue.getAllSessionIds());
-      }
-    }
-    return allSessionIds;
+    return new HashSet<>(m_sessionToNodes.keySet());
   }
 
   /**
    * Nodes that have been registered with {@link #registerSession(String, String, String)}
    */
   public Set<String> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
   }
 
   // put methods
@@ -265,15 +347,63 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, String excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      final Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        final ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
+    // route each message to the nodes which can consume it, keeping the order of the messages per node
+    Map<String /*notificationNodeId*/, List<ClientNotificationMessage>> messagesByNode = new HashMap<>();
+    for (ClientNotificationMessage message : messages) {
+      for (String nodeId : getTargetNodeIds(message.getAddress())) {
+        if (nodeId.equals(excludedUiNodeId)) {
+          continue;
+        }
+        List<ClientNotificationMessage> nodeMessages = messagesByNode.get(nodeId);
+        if (nodeMessages == null) {
+          nodeMessages = new ArrayList<>();
+          messagesByNode.put(nodeId, nodeMessages);
+        }
+        nodeMessages.add(message);
+      }
+    }
+
+    for (Entry<String, List<ClientNotificationMessage>> entry : messagesByNode.entrySet()) {
+      ClientNotificationNodeQueue queue = m_notificationQueues.get(entry.getKey());
+      if (queue != null) {
+        queue.put(entry.getValue());
+      }
+    }
+    removeExpiredQueues();
+  }
+
+  /**
+   * @return the ids of the nodes, which may consume notifications for the given address.
+   */
+  protected Collection<String> getTargetNodeIds(ClientNotificationAddress address) {
+    if (address.isNotifyAllNodes() || address.isNotifyAllSessions()) {
+      return m_notificationQueues.keySet();
+    }
+    Set<String> nodeIds = new HashSet<>();
+    collectNodeIds(m_sessionToNodes, address.getSessionIds(), nodeIds);
+    collectNodeIds(m_userToNodes, address.getUserIds(), nodeIds);
+    return nodeIds;
+  }
+
+  private static void collectNodeIds(ConcurrentMap<String, Set<String>> index, Set<String> keys, Set<String> nodeIds) {
+    if (keys == null) {
+      return;
+    }
+    for (String key : keys) {
+      Set<String> indexedNodeIds = index.get(key);
+      if (indexedNodeIds != null) {
+        nodeIds.addAll(indexedNodeIds);
+      }
+    }
+  }
+
+  private void removeExpiredQueues() {
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      if (isQueueExpired(queue)) {
+        synchronized (m_registrationLock) {
+          if (m_notificationQueues.get(queue.getNodeId()) == queue && isQueueExpired(queue)) {
             LOG.debug("Removing expired queue {}", queue.getNodeId());
-            iter.remove();
+            removeQueue(queue.getNodeId());
           }
         }
       }
@@ -43,4 +43,15 @@ public class ClientNotificationService implements IClientNotificationService {
     return BEANS.get(ClientNotificationRegistry.class).consume(nodeId, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
   }
 
+  /**
+   * Like {@link #getNotifications(String)}, but hands the notifications to the given consumer instead of blocking the
+   * calling thread until notifications are available.
+   *
+   * @return <code>true</code> if the consumer was registered, <code>false</code> if it was notified immediately.
+   * @see ClientNotificationRegistry#consumeAsync(String, int, IAsyncClientNotificationConsumer)
+   */
+  public boolean consumeAsync(String nodeId, IAsyncClientNotificationConsumer consumer) {
+    return BEANS.get(ClientNotificationRegistry.class).consumeAsync(nodeId, m_maxNotifications, consumer);
+  }
+
 }
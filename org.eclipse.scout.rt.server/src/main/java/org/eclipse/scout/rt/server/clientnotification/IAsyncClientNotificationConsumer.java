@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+
+/**
+ * Consumer of client notifications, which does not block a thread while waiting for notifications. Used to answer
+ * long-polling requests for notifications asynchronously.
+ *
+ * @see ClientNotificationService#consumeAsync(String, IAsyncClientNotificationConsumer)
+ * @see ClientNotificationNodeQueue#consumeAsync(int, IAsyncClientNotificationConsumer)
+ * @since 5.2
+ */
+public interface IAsyncClientNotificationConsumer {
+
+  /**
+   * Invoked at most once with the consumed notifications. An empty list is passed if the consumer was replaced by
+   * another one.
+   * <p>
+   * This method is invoked by the thread which published the notifications and must therefore not block.
+   */
+  void consume(List<ClientNotificationMessage> notifications);
+}
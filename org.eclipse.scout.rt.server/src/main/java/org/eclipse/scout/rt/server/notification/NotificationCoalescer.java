@@ -12,7 +12,9 @@ package org.eclipse.scout.rt.server.notification;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.PostConstruct;
 
@@ -37,49 +39,46 @@ public class NotificationCoalescer {
     m_registry.registerBeans(ICoalescer.class, BEANS.all(ICoalescer.class));
   }
 
+  /**
+   * Coalesces each run of consecutive notifications having the same {@link ICoalescer}. The result is built in one
+   * pass, so the effort is linear in the number of notifications (plus the effort of the coalescers).
+   */
   @SuppressWarnings("unchecked")
   public List<? extends Serializable> coalesce(List<? extends Serializable> notificationsIn) {
     if (notificationsIn.size() < 2) {
       return notificationsIn;
     }
     else {
+      List<Serializable> res = new ArrayList<>(notificationsIn.size());
+      Map<Class<?>, List<ICoalescer>> coalescersByClass = new HashMap<>();
       int i = 0;
-      List<? extends Serializable> res = notificationsIn;
-      while (i < res.size()) {
-        final List<ICoalescer> coalescers = m_registry.getBeans(res.get(i).getClass());
+      while (i < notificationsIn.size()) {
+        final List<ICoalescer> coalescers = getCoalescers(coalescersByClass, notificationsIn.get(i).getClass());
         if (coalescers.size() > 0) {
           ICoalescer c = coalescers.get(0);
-          int j = getCoalesceCount(c, res.subList(i, res.size()));
-          res = coalesce(i, i + j, c, res);
+          int j = i + 1;
+          while (j < notificationsIn.size() && getCoalescers(coalescersByClass, notificationsIn.get(j).getClass()).contains(c)) {
+            j++;
+          }
+          res.addAll(c.coalesce(notificationsIn.subList(i, j)));
+          i = j;
+        }
+        else {
+          res.add(notificationsIn.get(i));
+          i++;
         }
-        i++;
       }
       return res;
     }
   }
 
-  private <T extends Serializable> List<? extends Serializable> coalesce(int from, int to, ICoalescer<T> c, List<T> notifications) {
-    List<T> res = new ArrayList<>();
-    res.addAll(notifications.subList(0, from));
-    res.addAll(c.coalesce(notifications.subList(from, to)));
-    res.addAll(notifications.subList(to, notifications.size()));
-    return res;
-  }
-
-  private int getCoalesceCount(ICoalescer<?> c, List<? extends Serializable> notifications) {
-    int i = 0;
-    while (i < notifications.size() && isApplicable(c, notifications, i)) {
-      i++;
+  private List<ICoalescer> getCoalescers(Map<Class<?>, List<ICoalescer>> coalescersByClass, Class<?> notificationClass) {
+    List<ICoalescer> coalescers = coalescersByClass.get(notificationClass);
+    if (coalescers == null) {
+      coalescers = m_registry.getBeans(notificationClass);
+      coalescersByClass.put(notificationClass, coalescers);
     }
-    return i;
-  }
-
-  /**
-   * @return <code>true</code>, if the {@link ICoalescer} is applicable to the message.
-   */
-  private boolean isApplicable(ICoalescer<?> c, List<? extends Serializable> notifications, int i) {
-    Serializable n = notifications.get(i);
-    return m_registry.getBeans(n.getClass()).contains(c);
+    return coalescers;
   }
 
 }
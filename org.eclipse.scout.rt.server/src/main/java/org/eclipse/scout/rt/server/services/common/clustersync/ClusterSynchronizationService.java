@@ -15,11 +15,11 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
 import javax.security.auth.Subject;
@@ -31,16 +31,21 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.security.SimplePrincipal;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.EventListenerList;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchWindowProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncNodeIdProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
@@ -67,6 +72,10 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
   private volatile boolean m_enabled;
   private volatile IPublishSubscribeMessageService m_messageService;
 
+  private final Object m_batchLock = new Object();
+  private List<IClusterNotificationMessage> m_batchQueue = new ArrayList<IClusterNotificationMessage>();
+  private IFuture<Void> m_batchFlushFuture;
+
   public ClusterSynchronizationService() {
     m_subject = new Subject();
     m_subject.getPrincipals().add(new SimplePrincipal(CONFIG.getPropertyValue(ClusterSyncUserProperty.class)));
@@ -219,6 +228,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
     if (!isEnabled()) {
       return true;
     }
+    flushBatch();
     setEnabled(false);
     IPublishSubscribeMessageService messageService = getMessageService();
     if (messageService != null) {
@@ -256,10 +266,90 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
   }
 
   /**
-   * Publish and update status.
+   * Publish and update status. If a batch window is configured (see {@link ClusterSyncBatchWindowProperty}), the
+   * messages are collected and published together with the messages of other transactions when the window has elapsed
+   * or enough messages for a batch are collected (see {@link ClusterSyncBatchSizeProperty}).
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
-    m_messageService.publishNotifications(messages);
+    long batchWindow = getBatchWindow();
+    if (batchWindow <= 0) {
+      sendInternal(messages);
+      return;
+    }
+    List<IClusterNotificationMessage> messagesToSend;
+    synchronized (m_batchLock) {
+      m_batchQueue.addAll(messages);
+      int batchSize = getBatchSize();
+      if (batchSize <= 1 || m_batchQueue.size() < batchSize) {
+        if (m_batchFlushFuture == null) {
+          m_batchFlushFuture = Jobs.schedule(new IRunnable() {
+            @Override
+            public void run() throws Exception {
+              flushBatch();
+            }
+          }, Jobs.newInput()
+              .withName("Publishing cluster notifications")
+              .withRunContext(ServerRunContexts.empty().withSubject(m_subject))
+              .withExecutionTrigger(Jobs.newExecutionTrigger()
+                  .withStartIn(batchWindow, TimeUnit.MILLISECONDS)));
+        }
+        return;
+      }
+      messagesToSend = drainBatchQueue();
+    }
+    sendInternal(messagesToSend);
+  }
+
+  /**
+   * Publishes all messages collected within the batch window.
+   */
+  protected void flushBatch() {
+    List<IClusterNotificationMessage> messagesToSend;
+    synchronized (m_batchLock) {
+      if (m_batchFlushFuture != null && m_batchFlushFuture != IFuture.CURRENT.get()) {
+        m_batchFlushFuture.cancel(false);
+      }
+      m_batchFlushFuture = null;
+      messagesToSend = drainBatchQueue();
+    }
+    if (!messagesToSend.isEmpty() && isEnabled()) {
+      sendInternal(BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(messagesToSend));
+    }
+  }
+
+  private List<IClusterNotificationMessage> drainBatchQueue() {
+    List<IClusterNotificationMessage> messages = m_batchQueue;
+    m_batchQueue = new ArrayList<IClusterNotificationMessage>();
+    return messages;
+  }
+
+  protected long getBatchWindow() {
+    return CONFIG.getPropertyValue(ClusterSyncBatchWindowProperty.class);
+  }
+
+  protected int getBatchSize() {
+    return CONFIG.getPropertyValue(ClusterSyncBatchSizeProperty.class);
+  }
+
+  /**
+   * Sends the messages packed into {@link ClusterNotificationBatch}es of at most {@link #getBatchSize()} messages, and
+   * updates the status.
+   */
+  private void sendInternal(List<IClusterNotificationMessage> messages) {
+    int batchSize = getBatchSize();
+    List<IClusterNotificationMessage> packedMessages;
+    if (batchSize <= 1 || messages.size() <= 1) {
+      packedMessages = messages;
+    }
+    else {
+      packedMessages = new ArrayList<IClusterNotificationMessage>();
+      IClusterNotificationProperties props = new ClusterNotificationProperties(getNodeId(), CONFIG.getPropertyValue(ClusterSyncUserProperty.class));
+      for (int i = 0; i < messages.size(); i += batchSize) {
+        List<IClusterNotificationMessage> batch = messages.subList(i, Math.min(i + batchSize, messages.size()));
+        packedMessages.add(batch.size() == 1 ? batch.get(0) : new ClusterNotificationMessage(new ClusterNotificationBatch(batch), props));
+      }
+    }
+    m_messageService.publishNotifications(packedMessages);
     for (IClusterNotificationMessage im : messages) {
       getStatusInfoInternal().updateSentStatus(im);
       getStatusInfoInternal(im.getNotification().getClass()).updateReceiveStatus(im);
@@ -282,6 +372,13 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
         return;
       }
 
+      if (message.getNotification() instanceof ClusterNotificationBatch) {
+        for (IClusterNotificationMessage m : ((ClusterNotificationBatch) message.getNotification()).getMessages()) {
+          onMessage(m);
+        }
+        return;
+      }
+
       getStatusInfoInternal().updateReceiveStatus(message);
       getStatusInfoInternal(message.getNotification().getClass()).updateReceiveStatus(message);
 
@@ -317,16 +414,27 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
    * ensures that other cluster nodes are not informed too early.
    */
   private class ClusterSynchTransactionMember extends AbstractTransactionMember {
+    private static final int MIN_COALESCE_THRESHOLD = 16;
+
     private List<IClusterNotificationMessage> m_messageQueue;
+    private int m_coalesceThreshold;
 
     public ClusterSynchTransactionMember(String transactionId) {
       super(transactionId);
-      m_messageQueue = new LinkedList<IClusterNotificationMessage>();
+      m_messageQueue = new ArrayList<IClusterNotificationMessage>();
+      m_coalesceThreshold = MIN_COALESCE_THRESHOLD;
     }
 
+    /**
+     * The queue is coalesced whenever its size has doubled since it was last coalesced, so the total effort stays linear
+     * in the number of messages (instead of coalescing the whole queue on every message).
+     */
     public synchronized void addMessage(IClusterNotificationMessage m) {
       m_messageQueue.add(m);
-      m_messageQueue = BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(m_messageQueue);
+      if (m_messageQueue.size() >= m_coalesceThreshold) {
+        m_messageQueue = BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(m_messageQueue);
+        m_coalesceThreshold = Math.max(MIN_COALESCE_THRESHOLD, 2 * m_messageQueue.size());
+      }
     }
 
     @Override
@@ -336,7 +444,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
     @Override
     public synchronized void commitPhase2() {
-      publishInternal(m_messageQueue);
+      publishInternal(BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(m_messageQueue));
     }
 
     @Override
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.server.services.common.clustersync.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationMessage;
+
+/**
+ * Notification containing several {@link IClusterNotificationMessage}s, which are sent to the other cluster nodes as
+ * one message and unpacked by the receiving node.
+ *
+ * @since 5.2
+ */
+public class ClusterNotificationBatch implements Serializable {
+  private static final long serialVersionUID = 1L;
+  private final List<IClusterNotificationMessage> m_messages;
+
+  public ClusterNotificationBatch(List<? extends IClusterNotificationMessage> messages) {
+    m_messages = Collections.unmodifiableList(new ArrayList<IClusterNotificationMessage>(messages));
+  }
+
+  public List<IClusterNotificationMessage> getMessages() {
+    return m_messages;
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNotificationBatch [m_messages=" + m_messages + "]";
+  }
+}
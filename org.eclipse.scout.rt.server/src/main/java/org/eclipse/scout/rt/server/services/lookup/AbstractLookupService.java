@@ -17,14 +17,27 @@ import org.eclipse.scout.rt.platform.util.MatrixUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
-import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.IMultiKeyLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 
 /**
  * <h4>AbstractLookupService</h4>
  */
-public abstract class AbstractLookupService<LOOKUP_ROW_KEY_TYPE> implements ILookupService<LOOKUP_ROW_KEY_TYPE> {
+public abstract class AbstractLookupService<LOOKUP_ROW_KEY_TYPE> implements IMultiKeyLookupService<LOOKUP_ROW_KEY_TYPE> {
+
+  /**
+   * Resolves the calls one by one with {@link #getDataByKey(ILookupCall)}. Subclasses able to resolve several keys at
+   * once should override this method.
+   */
+  @Override
+  public List<List<ILookupRow<LOOKUP_ROW_KEY_TYPE>>> getDataByKeys(List<ILookupCall<LOOKUP_ROW_KEY_TYPE>> calls) {
+    List<List<ILookupRow<LOOKUP_ROW_KEY_TYPE>>> result = new ArrayList<List<ILookupRow<LOOKUP_ROW_KEY_TYPE>>>(calls.size());
+    for (ILookupCall<LOOKUP_ROW_KEY_TYPE> call : calls) {
+      result.add(new ArrayList<ILookupRow<LOOKUP_ROW_KEY_TYPE>>(getDataByKey(call)));
+    }
+    return result;
+  }
 
   /**
    * Convenience function to sort data for later call to {@link #createLookupRowArray(Object[][], LookupCall, Class)}.
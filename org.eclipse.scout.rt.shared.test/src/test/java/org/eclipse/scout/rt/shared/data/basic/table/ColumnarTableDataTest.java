@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.data.basic.table;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.eclipse.scout.rt.shared.data.basic.table.ColumnarTableData.ColumnType;
+import org.junit.Test;
+
+/**
+ * JUnit tests for {@link ColumnarTableData}
+ */
+public class ColumnarTableDataTest {
+
+  private static final Date DATE = new Date(1000000L);
+
+  @Test
+  public void testSetAndGetValues() {
+    ColumnarTableData data = createData();
+    assertEquals(3, data.getRowCount());
+    assertEquals(5, data.getColumnCount());
+    assertArrayEquals(new Object[]{1L, 1.5d, DATE, "a", BigDecimal.ONE}, data.getRow(0));
+    assertArrayEquals(new Object[]{null, null, null, null, null}, data.getRow(1));
+    assertArrayEquals(new Object[]{3L, 3.5d, DATE, "a", null}, data.getRow(2));
+    assertTrue(data.isNull(1, 0));
+    assertEquals(3L, data.getLongAt(2, 0));
+    assertEquals(0L, data.getLongAt(1, 0));
+    assertEquals(3.5d, data.getDoubleAt(2, 1), 0d);
+    assertEquals("NAME", data.getColumnName(3));
+  }
+
+  @Test
+  public void testValueOfOtherType() {
+    ColumnarTableData data = createData();
+    data.setValueAt(1, 0, Integer.valueOf(2));
+    data.setValueAt(1, 3, Boolean.TRUE);
+    assertEquals(ColumnType.OBJECT, data.getColumnType(0));
+    assertEquals(ColumnType.OBJECT, data.getColumnType(3));
+    assertArrayEquals(new Object[]{1L, 2, 3L}, new Object[]{data.getValueAt(0, 0), data.getValueAt(1, 0), data.getValueAt(2, 0)});
+    assertArrayEquals(new Object[]{"a", true, "a"}, new Object[]{data.getValueAt(0, 3), data.getValueAt(1, 3), data.getValueAt(2, 3)});
+    assertEquals(2L, data.getLongAt(1, 0));
+  }
+
+  @Test
+  public void testManyRows() {
+    ColumnarTableData data = new ColumnarTableData(ColumnType.LONG, ColumnType.STRING);
+    for (int i = 0; i < 1000; i++) {
+      int row = data.addRow();
+      data.setValueAt(row, 0, Long.valueOf(i));
+      data.setValueAt(row, 1, "v" + (i % 10));
+    }
+    data.trimToSize();
+    data.setValueAt(data.addRow(), 0, 1000L);
+    assertEquals(1001, data.getRowCount());
+    assertEquals(999L, data.getLongAt(999, 0));
+    assertEquals("v9", data.getValueAt(999, 1));
+    assertNull(data.getValueAt(1000, 1));
+  }
+
+  @Test
+  public void testTimestampValues() {
+    Timestamp timestamp = new Timestamp(2000000L);
+    timestamp.setNanos(123456789);
+    java.sql.Date sqlDate = new java.sql.Date(3000000L);
+    ColumnarTableData data = new ColumnarTableData(ColumnType.DATE, ColumnType.DATE);
+    addRow(data, timestamp, DATE);
+    addRow(data, DATE, sqlDate);
+    assertEquals(ColumnType.DATE, data.getColumnType(0));
+    assertEquals(Timestamp.class, data.getValueAt(0, 0).getClass());
+    assertEquals(timestamp, data.getValueAt(0, 0));
+    assertEquals(Date.class, data.getValueAt(1, 0).getClass());
+    assertEquals(DATE, data.getValueAt(1, 0));
+    // other subclasses are kept as they are
+    assertEquals(ColumnType.OBJECT, data.getColumnType(1));
+    assertSame(sqlDate, data.getValueAt(1, 1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testRowOutOfBounds() {
+    createData().getValueAt(3, 0);
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    ColumnarTableData data = createData();
+    data.trimToSize();
+    ColumnarTableData copy = (ColumnarTableData) deserialize(serialize(data));
+    assertEquals(data.getRowCount(), copy.getRowCount());
+    for (int r = 0; r < data.getRowCount(); r++) {
+      assertArrayEquals(data.getRow(r), copy.getRow(r));
+    }
+    // the dictionary of the string column is rebuilt
+    copy.setValueAt(copy.addRow(), 3, "b");
+    copy.setValueAt(0, 3, "b");
+    assertEquals("b", copy.getValueAt(0, 3));
+    assertEquals("a", copy.getValueAt(2, 3));
+  }
+
+  private static ColumnarTableData createData() {
+    ColumnarTableData data = new ColumnarTableData(
+        new ColumnType[]{ColumnType.LONG, ColumnType.DOUBLE, ColumnType.DATE, ColumnType.STRING, ColumnType.OBJECT},
+        new String[]{"ID", "AMOUNT", "EVT_DATE", "NAME", "DETAIL"});
+    addRow(data, 1L, 1.5d, DATE, "a", BigDecimal.ONE);
+    data.addRow();
+    addRow(data, 3L, 3.5d, DATE, "a", null);
+    return data;
+  }
+
+  private static void addRow(ColumnarTableData data, Object... values) {
+    int row = data.addRow();
+    for (int c = 0; c < values.length; c++) {
+      data.setValueAt(row, c, values[c]);
+    }
+  }
+
+  private Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+    try (ByteArrayInputStream bin = new ByteArrayInputStream(data);
+        ObjectInputStream oin = new ObjectInputStream(bin)) {
+      return oin.readObject();
+    }
+  }
+
+  private byte[] serialize(Object o) throws IOException {
+    try (ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream oout = new ObjectOutputStream(bout)) {
+      oout.writeObject(o);
+      return bout.toByteArray();
+    }
+  }
+}
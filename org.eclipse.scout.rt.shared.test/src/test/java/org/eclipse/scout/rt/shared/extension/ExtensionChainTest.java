@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.shared.extension;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
@@ -182,6 +183,36 @@ public class ExtensionChainTest {
     doTestExtesionAAndExtensionB(chain);
   }
 
+  @Test
+  public void testExtensionChainWithExtensionList() {
+    ExtensionList<IExtension<?>> extensions = new ExtensionList<IExtension<?>>(Arrays.<IExtension<?>> asList(m_otherExtensionA, m_extensionA, m_otherExtensionB, m_extensionB, m_localExtension));
+    doTestExtesionAAndExtensionB(new TestingExtensionChain<TestingExtension>(extensions, TestingExtension.class));
+    // a second chain on the same list starts at the beginning
+    doTestExtesionAAndExtensionB(new TestingExtensionChain<TestingExtension>(extensions, TestingExtension.class));
+
+    TestingExtensionChain<TestingExtension> chain = new TestingExtensionChain<TestingExtension>(extensions, OtherTestingExtension.class);
+    assertNext(chain, m_otherExtensionA);
+    assertNext(chain, m_otherExtensionB);
+    assertNextFails(chain);
+  }
+
+  @Test
+  public void testExtensionListIndexesShared() {
+    ExtensionList<IExtension<?>> extensions1 = new ExtensionList<IExtension<?>>(Arrays.<IExtension<?>> asList(m_extensionA, m_otherExtensionA, m_localExtension));
+    ExtensionList<IExtension<?>> extensions2 = new ExtensionList<IExtension<?>>(Arrays.<IExtension<?>> asList(m_extensionB, m_otherExtensionB, new LocalTestingExtension(m_owner)));
+    ExtensionList<IExtension<?>> extensions3 = new ExtensionList<IExtension<?>>(Arrays.<IExtension<?>> asList(m_otherExtensionB, m_extensionB, m_localExtension));
+
+    assertArrayEquals(new int[]{0, 2}, extensions1.getIndexes(ITestingExtension.class));
+    assertSame(extensions1.getIndexes(ITestingExtension.class), extensions2.getIndexes(ITestingExtension.class));
+    assertArrayEquals(new int[]{1, 2}, extensions3.getIndexes(ITestingExtension.class));
+    assertArrayEquals(new int[]{1}, extensions1.getIndexes(OtherTestingExtension.class));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testExtensionListUnmodifiable() {
+    new ExtensionList<IExtension<?>>(Collections.<IExtension<?>> singletonList(m_extensionA)).add(m_extensionB);
+  }
+
   @Test
   public void testExtensionChainOperationWithLocalExtension() {
     TestingExtensionChain<TestingExtension> chain = new TestingExtensionChain<TestingExtension>(Collections.singletonList(m_localExtension), ITestingExtension.class);
@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.shared.services.lookup;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
@@ -20,6 +21,7 @@ import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -33,6 +35,8 @@ import org.mockito.stubbing.Answer;
 public class BatchLookupTest {
   @BeanMock
   private IFlowerLookupService m_lookupService;
+  @BeanMock
+  private IMultiKeyFlowerLookupService m_multiKeyLookupService;
   private static long m_localInvocations;
 
   @Before
@@ -113,6 +117,42 @@ public class BatchLookupTest {
     testInternal(SubclassedLocalFlowerLookupCallWithMembersWithEqualsOverride.class, 100, 0);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMultiKeyLookupService() throws Exception {
+    Mockito.doAnswer(new Answer<List<List<ILookupRow<Object>>>>() {
+
+      @Override
+      public List<List<ILookupRow<Object>>> answer(InvocationOnMock invocation) throws Throwable {
+        List<List<ILookupRow<Object>>> result = new ArrayList<List<ILookupRow<Object>>>();
+        for (ILookupCall<?> call : (List<ILookupCall<?>>) invocation.getArguments()[0]) {
+          result.add(Collections.<ILookupRow<Object>> singletonList(new LookupRow<Object>(call.getKey(), "Flower " + call.getKey())));
+        }
+        return result;
+      }
+    }).when(m_multiKeyLookupService).getDataByKeys(Mockito.<List<ILookupCall<Object>>> any());
+
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < 1000; i++) {
+      MultiKeyFlowerLookupCall call = new MultiKeyFlowerLookupCall();
+      call.setKey((i / 100) + 1L);
+      batchCall.addLookupCall(call);
+    }
+    List<ILookupCall<?>> callArray = batchCall.getCallBatch();
+    List<List<ILookupRow<?>>> resultArray = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    ArgumentCaptor<List> calls = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(m_multiKeyLookupService, Mockito.times(1)).getDataByKeys(calls.capture());
+    Mockito.verify(m_multiKeyLookupService, Mockito.never()).getDataByKey(Mockito.<ILookupCall<Object>> any());
+    assertEquals(10, calls.getValue().size());
+    assertEquals(callArray.size(), resultArray.size());
+    for (int i = 0; i < resultArray.size(); i++) {
+      assertEquals(1, resultArray.get(i).size());
+      assertEquals(callArray.get(i).getKey(), resultArray.get(i).get(0).getKey());
+      assertEquals("Flower " + callArray.get(i).getKey(), resultArray.get(i).get(0).getText());
+    }
+  }
+
   private void testInternal(Class<? extends IFlowerLookupCall> callClazz, int expectedLocalInvocations, int expectedServerInvocations) throws Exception {
     m_localInvocations = 0;
     BatchLookupCall batchCall = new BatchLookupCall();
@@ -364,6 +404,15 @@ public class BatchLookupTest {
     private static final long serialVersionUID = 1L;
   }
 
+  public static class MultiKeyFlowerLookupCall extends LookupCall<Object> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Object>> getConfiguredService() {
+      return IMultiKeyFlowerLookupService.class;
+    }
+  }
+
   public interface IFlowerLookupCall {
     void setKey(Object key);
 
@@ -374,4 +423,7 @@ public class BatchLookupTest {
 
   public interface IFlowerLookupService extends ILookupService<Object> {
   }
+
+  public interface IMultiKeyFlowerLookupService extends IMultiKeyLookupService<Object> {
+  }
 }
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.services.common.code.CodeRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactBinaryServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactBinaryServiceTunnelContentHandlerTest {
+
+  @Test
+  public void testRequest() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, new ServiceTunnelRequest("test", "op", new Class[]{Long.class}, new Object[]{Long.valueOf(42)}));
+    bos.close();
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertEquals(Long.valueOf(42), readRequest.getArgs()[0]);
+  }
+
+  @Test
+  public void testResponseWithLookupRows() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(createLookupRows(), null);
+
+    CompactBinaryServiceTunnelContentHandler compactHandler = new CompactBinaryServiceTunnelContentHandler();
+    compactHandler.initialize();
+    ByteArrayOutputStream compactBos = new ByteArrayOutputStream();
+    compactHandler.writeResponse(compactBos, response);
+    compactBos.close();
+
+    ServiceTunnelResponse readResponse = compactHandler.readResponse(new ByteArrayInputStream(compactBos.toByteArray()));
+    @SuppressWarnings("unchecked")
+    List<ILookupRow<Long>> rows = (List<ILookupRow<Long>>) readResponse.getData();
+    assertEquals(100, rows.size());
+    assertEquals(Long.valueOf(7), rows.get(7).getKey());
+    assertEquals("Row 7", rows.get(7).getText());
+    assertTrue(rows.get(1) instanceof CodeRow);
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    ByteArrayOutputStream binaryBos = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(binaryBos, response);
+    binaryBos.close();
+
+    assertTrue(String.format("compact: %s, binary: %s", compactBos.size(), binaryBos.size()), compactBos.size() < binaryBos.size());
+  }
+
+  private static List<ILookupRow<Long>> createLookupRows() {
+    List<ILookupRow<Long>> rows = new ArrayList<>();
+    for (long i = 0; i < 100; i++) {
+      if (i % 2 == 0) {
+        rows.add(new LookupRow<Long>(i, "Row " + i));
+      }
+      else {
+        rows.add(new CodeRow<Long>(i, "Row " + i));
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link HttpServiceTunnelBatcher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class HttpServiceTunnelBatcherTest {
+
+  @Test
+  public void testSingleRequestIsNotWrapped() throws Exception {
+    P_RecordingTransport transport = new P_RecordingTransport();
+    AbstractHttpServiceTunnel tunnel = createTunnel(transport);
+    HttpServiceTunnelBatcher batcher = new HttpServiceTunnelBatcher(10, 10);
+
+    ServiceTunnelResponse response = batcher.execute(tunnel, createRequest("service"));
+    assertEquals("service", response.getData());
+    assertEquals(1, transport.m_sentRequests.size());
+    assertEquals("service", transport.m_sentRequests.get(0).getServiceInterfaceClassName());
+  }
+
+  @Test
+  public void testConcurrentRequestsAreCoalesced() throws Exception {
+    P_RecordingTransport transport = new P_RecordingTransport();
+    final AbstractHttpServiceTunnel tunnel = createTunnel(transport);
+    // the batch is sent as soon as it is full, therefore the long window does not delay the test
+    final HttpServiceTunnelBatcher batcher = new HttpServiceTunnelBatcher(60000, 3);
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<Future<ServiceTunnelResponse>> futures = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        final String serviceName = "service" + i;
+        futures.add(executor.submit(new Callable<ServiceTunnelResponse>() {
+
+          @Override
+          public ServiceTunnelResponse call() throws Exception {
+            return batcher.execute(tunnel, createRequest(serviceName));
+          }
+        }));
+      }
+      for (int i = 0; i < 3; i++) {
+        // fails with a TimeoutException if the leader waits for the whole window although the batch is full
+        assertEquals("service" + i, futures.get(i).get(10, TimeUnit.SECONDS).getData());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, transport.m_sentRequests.size());
+    assertTrue(transport.m_sentRequests.get(0) instanceof ServiceTunnelBatchRequest);
+    assertEquals(3, ((ServiceTunnelBatchRequest) transport.m_sentRequests.get(0)).getRequests().size());
+  }
+
+  private static ServiceTunnelRequest createRequest(String serviceName) {
+    ServiceTunnelRequest request = new ServiceTunnelRequest(serviceName, "op", null, null);
+    request.setSessionId("session");
+    return request;
+  }
+
+  private static AbstractHttpServiceTunnel createTunnel(IHttpServiceTunnelTransport transport) throws Exception {
+    AbstractHttpServiceTunnel tunnel = new AbstractHttpServiceTunnel(new URL("http://localhost/process")) {
+    };
+    tunnel.setTransport(transport);
+    return tunnel;
+  }
+
+  /**
+   * Records the sent requests and answers with the service interface name of each request.
+   */
+  private static class P_RecordingTransport implements IHttpServiceTunnelTransport {
+
+    private final List<ServiceTunnelRequest> m_sentRequests = Collections.synchronizedList(new ArrayList<ServiceTunnelRequest>());
+
+    @Override
+    public ServiceTunnelResponse execute(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception {
+      m_sentRequests.add(serviceRequest);
+      if (!(serviceRequest instanceof ServiceTunnelBatchRequest)) {
+        return new ServiceTunnelResponse(serviceRequest.getServiceInterfaceClassName(), null);
+      }
+      List<ServiceTunnelResponse> responses = new ArrayList<>();
+      for (ServiceTunnelRequest request : ((ServiceTunnelBatchRequest) serviceRequest).getRequests()) {
+        responses.add(new ServiceTunnelResponse(request.getServiceInterfaceClassName(), null));
+      }
+      return new ServiceTunnelBatchResponse(responses);
+    }
+  }
+}
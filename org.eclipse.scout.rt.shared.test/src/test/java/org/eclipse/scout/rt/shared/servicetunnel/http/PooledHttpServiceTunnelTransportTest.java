@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.HttpException;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * JUnit test for {@link PooledHttpServiceTunnelTransport}
+ */
+@RunWith(PlatformTestRunner.class)
+public class PooledHttpServiceTunnelTransportTest {
+
+  private HttpServer m_server;
+  private AbstractHttpServiceTunnel m_tunnel;
+
+  @Before
+  public void before() throws Exception {
+    m_server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    m_server.createContext("/process", new P_EchoHandler());
+    m_server.createContext("/fail", new HttpHandler() {
+
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(500, -1);
+        exchange.close();
+      }
+    });
+    m_server.start();
+    m_tunnel = createTunnel("/process");
+  }
+
+  @After
+  public void after() {
+    m_server.stop(0);
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    PooledHttpServiceTunnelTransport transport = new PooledHttpServiceTunnelTransport();
+    for (int i = 0; i < 3; i++) {
+      ServiceTunnelResponse response = transport.execute(m_tunnel, new ServiceTunnelRequest("service" + i, "op", null, null));
+      assertNull(response.getException());
+      assertEquals("service" + i, response.getData());
+    }
+    assertEquals(3, transport.getRequestCount());
+    assertEquals(3, transport.getImmediateLeaseCount());
+    assertEquals(0, transport.getPoolWaitCount());
+    assertEquals(0, transport.getActiveConnectionCount(m_tunnel.getServerUrl()));
+  }
+
+  @Test
+  public void testExecuteHttpError() throws Exception {
+    PooledHttpServiceTunnelTransport transport = new PooledHttpServiceTunnelTransport();
+    AbstractHttpServiceTunnel tunnel = createTunnel("/fail");
+    ServiceTunnelResponse response = transport.execute(tunnel, new ServiceTunnelRequest("service", "op", null, null));
+    assertTrue(response.getException() instanceof HttpException);
+    assertEquals(0, transport.getActiveConnectionCount(tunnel.getServerUrl()));
+  }
+
+  private AbstractHttpServiceTunnel createTunnel(String path) throws Exception {
+    AbstractHttpServiceTunnel tunnel = new AbstractHttpServiceTunnel(new URL("http://localhost:" + m_server.getAddress().getPort() + path)) {
+    };
+    BinaryServiceTunnelContentHandler contentHandler = new BinaryServiceTunnelContentHandler();
+    contentHandler.initialize();
+    tunnel.setContentHandler(contentHandler);
+    return tunnel;
+  }
+
+  /**
+   * Responds with the service interface name of the request.
+   */
+  private static class P_EchoHandler implements HttpHandler {
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+      BinaryServiceTunnelContentHandler contentHandler = new BinaryServiceTunnelContentHandler();
+      contentHandler.initialize();
+      try (InputStream in = exchange.getRequestBody()) {
+        ServiceTunnelRequest request = contentHandler.readRequest(in);
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+          contentHandler.writeResponse(out, new ServiceTunnelResponse(request.getServiceInterfaceClassName(), null, null));
+        }
+      }
+      catch (Exception e) {
+        throw new IOException(e);
+      }
+      finally {
+        exchange.close();
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
 import org.eclipse.scout.rt.shared.services.common.text.ITextProviderService;
 
 /**
@@ -92,6 +93,18 @@ public class ScoutTexts {
     return m_textProviders;
   }
 
+  /**
+   * @return a key which is equal for all {@link ScoutTexts} resolving texts with the same text providers, or
+   *         <code>null</code> if the texts of this instance cannot be compared with others (e.g. a subclass).
+   * @since 5.2
+   */
+  public Object getTextProvidersKey() {
+    if (getClass() != ScoutTexts.class) {
+      return null;
+    }
+    return new CompositeObject(getTextProviders().toArray());
+  }
+
   protected String getTextInternal(Locale locale, String key, String fallback, String... messageArguments) {
     for (ITextProviderService provider : getTextProviders()) {
       String result = provider.getText(locale, key, messageArguments);
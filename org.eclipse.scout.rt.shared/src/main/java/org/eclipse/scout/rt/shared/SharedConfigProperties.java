@@ -17,12 +17,15 @@ import javax.security.auth.Subject;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.security.BasicHierarchyPermission;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.http.PooledHttpServiceTunnelTransport;
 
 public final class SharedConfigProperties {
 
@@ -130,6 +133,77 @@ public final class SharedConfigProperties {
     }
   }
 
+  /**
+   * Maximum number of concurrent service tunnel connections per target host used by
+   * {@link PooledHttpServiceTunnelTransport}. Requests exceeding this limit wait for a free connection. The default is
+   * 10.
+   */
+  public static class ServiceTunnelMaxConnectionsPerHostProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    protected Integer getDefaultValue() {
+      return Integer.valueOf(10);
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxConnectionsPerHost";
+    }
+  }
+
+  /**
+   * Maximum time in milliseconds a service tunnel request waits for a free connection in
+   * {@link PooledHttpServiceTunnelTransport}. The default is 1 minute.
+   */
+  public static class ServiceTunnelConnectionWaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    protected Long getDefaultValue() {
+      return Long.valueOf(TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.connectionWaitTimeout";
+    }
+  }
+
+  /**
+   * Time window in milliseconds in which concurrent service tunnel requests of the same session are coalesced into one
+   * {@link ServiceTunnelBatchRequest}. The default is 0 which disables batching.
+   * <p>
+   * Enable batching only if the server supports {@link ServiceTunnelBatchRequest}s.
+   */
+  public static class ServiceTunnelBatchWindowProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    protected Long getDefaultValue() {
+      return Long.valueOf(0);
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batch.window";
+    }
+  }
+
+  /**
+   * Maximum number of requests in a {@link ServiceTunnelBatchRequest}. A batch is sent immediately once it is full. The
+   * default is 32.
+   */
+  public static class ServiceTunnelBatchMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    protected Integer getDefaultValue() {
+      return Integer.valueOf(32);
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batch.maxSize";
+    }
+  }
+
   /**
    * Property to specify if remote proxy beans should be created for interfaces annotated with {@link TunnelToServer}.
    * Default is <code>true</code>.
@@ -0,0 +1,581 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.data.basic.table;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
+import org.eclipse.scout.rt.platform.holders.ITableBeanRowHolder;
+import org.eclipse.scout.rt.platform.holders.ITableHolder;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+
+/**
+ * Table data stored column by column. Numeric and date values are kept in primitive arrays together with a null bitmap,
+ * string values are dictionary encoded. Compared to an <code>Object[][]</code> matrix this saves an array per row and
+ * an object per cell, which matters for tables with many rows.
+ * <p>
+ * A value not matching the {@link ColumnType} of its column is accepted as well, the column is then converted to a
+ * {@link ColumnType#OBJECT} column.
+ * <p>
+ * Use {@link #exportTo(ITableHolder)} or {@link #exportTo(ITableBeanHolder, String...)} to fill table field data, and
+ * <code>ITable.replaceRowsByMatrix</code> to fill a table.
+ *
+ * @since 5.2
+ */
+public class ColumnarTableData implements Serializable {
+  private static final long serialVersionUID = 1L;
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * Storage type of a column.
+   */
+  public enum ColumnType {
+    /**
+     * {@link Long} values stored as <code>long</code>
+     */
+    LONG,
+    /**
+     * {@link Double} values stored as <code>double</code>
+     */
+    DOUBLE,
+    /**
+     * {@link Date} and {@link Timestamp} values stored as milliseconds and nanoseconds. Values of other subclasses of
+     * {@link Date} turn the column into an {@link #OBJECT} column.
+     */
+    DATE,
+    /**
+     * {@link String} values stored as index into a dictionary of the distinct values of the column
+     */
+    STRING,
+    /**
+     * any values
+     */
+    OBJECT
+  }
+
+  private final String[] m_columnNames;
+  private final P_Column[] m_columns;
+  private int m_rowCount;
+  private int m_capacity;
+
+  public ColumnarTableData(ColumnType... columnTypes) {
+    this(columnTypes, null);
+  }
+
+  /**
+   * @param columnTypes
+   *          the storage type of each column
+   * @param columnNames
+   *          the names of the columns or <code>null</code>
+   */
+  public ColumnarTableData(ColumnType[] columnTypes, String[] columnNames) {
+    if (columnNames != null && columnNames.length != columnTypes.length) {
+      throw new IllegalArgumentException("expected " + columnTypes.length + " column names, actual: " + columnNames.length);
+    }
+    m_columnNames = columnNames != null ? Arrays.copyOf(columnNames, columnNames.length) : new String[columnTypes.length];
+    m_capacity = INITIAL_CAPACITY;
+    m_columns = new P_Column[columnTypes.length];
+    for (int i = 0; i < columnTypes.length; i++) {
+      m_columns[i] = createColumn(columnTypes[i], m_capacity);
+    }
+  }
+
+  public int getRowCount() {
+    return m_rowCount;
+  }
+
+  public int getColumnCount() {
+    return m_columns.length;
+  }
+
+  /**
+   * @return the current storage type of the column, {@link ColumnType#OBJECT} if values of another type were set
+   */
+  public ColumnType getColumnType(int column) {
+    return m_columns[column].getType();
+  }
+
+  /**
+   * @return the name of the column or <code>null</code>
+   */
+  public String getColumnName(int column) {
+    return m_columnNames[column];
+  }
+
+  /**
+   * Appends a row with all values set to <code>null</code>.
+   *
+   * @return the index of the new row
+   */
+  public int addRow() {
+    ensureCapacity(m_rowCount + 1);
+    int row = m_rowCount++;
+    for (P_Column column : m_columns) {
+      column.set(row, null);
+    }
+    return row;
+  }
+
+  public Object getValueAt(int row, int column) {
+    checkRow(row);
+    return m_columns[column].get(row);
+  }
+
+  public void setValueAt(int row, int column, Object value) {
+    checkRow(row);
+    P_Column c = m_columns[column];
+    if (!c.set(row, value)) {
+      P_Column objectColumn = new P_ObjectColumn(m_capacity);
+      for (int r = 0; r < m_rowCount; r++) {
+        objectColumn.set(r, c.get(r));
+      }
+      objectColumn.set(row, value);
+      m_columns[column] = objectColumn;
+    }
+  }
+
+  public boolean isNull(int row, int column) {
+    checkRow(row);
+    return m_columns[column].isNull(row);
+  }
+
+  /**
+   * Reads a numeric value without boxing for {@link ColumnType#LONG} columns.
+   *
+   * @return the value or <code>0</code> if the value is <code>null</code>
+   */
+  public long getLongAt(int row, int column) {
+    checkRow(row);
+    P_Column c = m_columns[column];
+    if (c instanceof P_LongColumn) {
+      return ((P_LongColumn) c).m_values[row];
+    }
+    Object value = c.get(row);
+    return value != null ? ((Number) value).longValue() : 0L;
+  }
+
+  /**
+   * Reads a numeric value without boxing for {@link ColumnType#DOUBLE} columns.
+   *
+   * @return the value or <code>0</code> if the value is <code>null</code>
+   */
+  public double getDoubleAt(int row, int column) {
+    checkRow(row);
+    P_Column c = m_columns[column];
+    if (c instanceof P_DoubleColumn) {
+      return ((P_DoubleColumn) c).m_values[row];
+    }
+    Object value = c.get(row);
+    return value != null ? ((Number) value).doubleValue() : 0d;
+  }
+
+  /**
+   * @return the values of the row
+   */
+  public Object[] getRow(int row) {
+    checkRow(row);
+    Object[] values = new Object[m_columns.length];
+    for (int c = 0; c < m_columns.length; c++) {
+      values[c] = m_columns[c].get(row);
+    }
+    return values;
+  }
+
+  /**
+   * Ensures that the given number of rows can be stored without growing the columns.
+   */
+  public void ensureCapacity(int rowCount) {
+    if (rowCount <= m_capacity) {
+      return;
+    }
+    resize(Math.max(rowCount, m_capacity + (m_capacity >> 1)));
+  }
+
+  /**
+   * Releases the unused capacity of the columns, e.g. before sending the data to another tier.
+   */
+  public void trimToSize() {
+    if (m_capacity > m_rowCount) {
+      resize(m_rowCount);
+    }
+  }
+
+  /**
+   * Appends all rows to the given holder, the columns are mapped by index.
+   */
+  public void exportTo(ITableHolder holder) {
+    for (int r = 0; r < m_rowCount; r++) {
+      int row = holder.addRow();
+      for (int c = 0; c < m_columns.length; c++) {
+        holder.setValueAt(row, c, m_columns[c].get(r));
+      }
+    }
+  }
+
+  /**
+   * Appends all rows to the given holder. The values are cast to the property types like <code>SQL.selectInto</code>
+   * does.
+   *
+   * @param propertyNames
+   *          the name of the row property for each column, <code>null</code> for a column to skip
+   */
+  public void exportTo(ITableBeanHolder holder, String... propertyNames) {
+    if (propertyNames.length != m_columns.length) {
+      throw new IllegalArgumentException("expected " + m_columns.length + " property names, actual: " + propertyNames.length);
+    }
+    Method[] setters = new Method[propertyNames.length];
+    Class<?>[] types = new Class<?>[propertyNames.length];
+    for (int c = 0; c < propertyNames.length; c++) {
+      if (propertyNames[c] == null) {
+        continue;
+      }
+      FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(holder.getRowType(), null).getPropertyDescriptor(propertyNames[c]);
+      if (desc == null || desc.getWriteMethod() == null) {
+        throw new IllegalArgumentException("no writable property '" + propertyNames[c] + "' on " + holder.getRowType().getName());
+      }
+      setters[c] = desc.getWriteMethod();
+      types[c] = desc.getPropertyType();
+    }
+    try {
+      for (int r = 0; r < m_rowCount; r++) {
+        ITableBeanRowHolder row = holder.addRow();
+        for (int c = 0; c < m_columns.length; c++) {
+          if (setters[c] != null) {
+            setters[c].invoke(row, TypeCastUtility.castValue(m_columns[c].get(r), types[c]));
+          }
+        }
+      }
+    }
+    catch (ReflectiveOperationException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= m_rowCount) {
+      throw new IndexOutOfBoundsException("row " + row + ", row count: " + m_rowCount);
+    }
+  }
+
+  private void resize(int capacity) {
+    for (P_Column column : m_columns) {
+      column.resize(capacity);
+    }
+    m_capacity = capacity;
+  }
+
+  private static P_Column createColumn(ColumnType type, int capacity) {
+    switch (type) {
+      case LONG:
+        return new P_LongColumn(capacity);
+      case DOUBLE:
+        return new P_DoubleColumn(capacity);
+      case DATE:
+        return new P_DateColumn(capacity);
+      case STRING:
+        return new P_StringColumn(capacity);
+      default:
+        return new P_ObjectColumn(capacity);
+    }
+  }
+
+  private abstract static class P_Column implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    abstract ColumnType getType();
+
+    abstract Object get(int row);
+
+    abstract boolean isNull(int row);
+
+    /**
+     * @return <code>false</code> if the value does not fit into this column
+     */
+    abstract boolean set(int row, Object value);
+
+    abstract void resize(int capacity);
+  }
+
+  private static final class P_LongColumn extends P_Column {
+    private static final long serialVersionUID = 1L;
+
+    private long[] m_values;
+    private final BitSet m_nulls = new BitSet();
+
+    P_LongColumn(int capacity) {
+      m_values = new long[capacity];
+    }
+
+    @Override
+    ColumnType getType() {
+      return ColumnType.LONG;
+    }
+
+    @Override
+    Object get(int row) {
+      return m_nulls.get(row) ? null : Long.valueOf(m_values[row]);
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return m_nulls.get(row);
+    }
+
+    @Override
+    boolean set(int row, Object value) {
+      if (value == null) {
+        m_values[row] = 0L;
+        m_nulls.set(row);
+        return true;
+      }
+      if (!(value instanceof Long)) {
+        return false;
+      }
+      m_values[row] = ((Long) value).longValue();
+      m_nulls.clear(row);
+      return true;
+    }
+
+    @Override
+    void resize(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+  }
+
+  private static final class P_DoubleColumn extends P_Column {
+    private static final long serialVersionUID = 1L;
+
+    private double[] m_values;
+    private final BitSet m_nulls = new BitSet();
+
+    P_DoubleColumn(int capacity) {
+      m_values = new double[capacity];
+    }
+
+    @Override
+    ColumnType getType() {
+      return ColumnType.DOUBLE;
+    }
+
+    @Override
+    Object get(int row) {
+      return m_nulls.get(row) ? null : Double.valueOf(m_values[row]);
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return m_nulls.get(row);
+    }
+
+    @Override
+    boolean set(int row, Object value) {
+      if (value == null) {
+        m_values[row] = 0d;
+        m_nulls.set(row);
+        return true;
+      }
+      if (!(value instanceof Double)) {
+        return false;
+      }
+      m_values[row] = ((Double) value).doubleValue();
+      m_nulls.clear(row);
+      return true;
+    }
+
+    @Override
+    void resize(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+  }
+
+  private static final class P_DateColumn extends P_Column {
+    private static final long serialVersionUID = 1L;
+
+    private long[] m_values;
+    private final BitSet m_nulls = new BitSet();
+    /**
+     * rows holding a {@link Timestamp}, the nanoseconds are only allocated once a timestamp is set
+     */
+    private final BitSet m_timestamps = new BitSet();
+    private int[] m_nanos;
+
+    P_DateColumn(int capacity) {
+      m_values = new long[capacity];
+    }
+
+    @Override
+    ColumnType getType() {
+      return ColumnType.DATE;
+    }
+
+    @Override
+    Object get(int row) {
+      if (m_nulls.get(row)) {
+        return null;
+      }
+      if (m_timestamps.get(row)) {
+        Timestamp t = new Timestamp(m_values[row]);
+        t.setNanos(m_nanos[row]);
+        return t;
+      }
+      return new Date(m_values[row]);
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return m_nulls.get(row);
+    }
+
+    @Override
+    boolean set(int row, Object value) {
+      if (value == null) {
+        m_values[row] = 0L;
+        m_nulls.set(row);
+        m_timestamps.clear(row);
+        return true;
+      }
+      if (value.getClass() == Timestamp.class) {
+        if (m_nanos == null) {
+          m_nanos = new int[m_values.length];
+        }
+        m_values[row] = ((Timestamp) value).getTime();
+        m_nanos[row] = ((Timestamp) value).getNanos();
+        m_timestamps.set(row);
+      }
+      else if (value.getClass() == Date.class) {
+        m_values[row] = ((Date) value).getTime();
+        m_timestamps.clear(row);
+      }
+      else {
+        return false;
+      }
+      m_nulls.clear(row);
+      return true;
+    }
+
+    @Override
+    void resize(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+      if (m_nanos != null) {
+        m_nanos = Arrays.copyOf(m_nanos, capacity);
+      }
+    }
+  }
+
+  private static final class P_StringColumn extends P_Column {
+    private static final long serialVersionUID = 1L;
+    private static final int NULL_CODE = -1;
+
+    private int[] m_codes;
+    private final ArrayList<String> m_dictionary = new ArrayList<String>();
+    private transient Map<String, Integer> m_dictionaryIndex;
+
+    P_StringColumn(int capacity) {
+      m_codes = new int[capacity];
+    }
+
+    @Override
+    ColumnType getType() {
+      return ColumnType.STRING;
+    }
+
+    @Override
+    Object get(int row) {
+      int code = m_codes[row];
+      return code == NULL_CODE ? null : m_dictionary.get(code);
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return m_codes[row] == NULL_CODE;
+    }
+
+    @Override
+    boolean set(int row, Object value) {
+      if (value == null) {
+        m_codes[row] = NULL_CODE;
+        return true;
+      }
+      if (!(value instanceof String)) {
+        return false;
+      }
+      if (m_dictionaryIndex == null) {
+        // not serialized
+        m_dictionaryIndex = new HashMap<String, Integer>();
+        for (int i = 0; i < m_dictionary.size(); i++) {
+          m_dictionaryIndex.put(m_dictionary.get(i), i);
+        }
+      }
+      Integer code = m_dictionaryIndex.get(value);
+      if (code == null) {
+        code = m_dictionary.size();
+        m_dictionary.add((String) value);
+        m_dictionaryIndex.put((String) value, code);
+      }
+      m_codes[row] = code;
+      return true;
+    }
+
+    @Override
+    void resize(int capacity) {
+      m_codes = Arrays.copyOf(m_codes, capacity);
+      m_dictionary.trimToSize();
+    }
+  }
+
+  private static final class P_ObjectColumn extends P_Column {
+    private static final long serialVersionUID = 1L;
+
+    private Object[] m_values;
+
+    P_ObjectColumn(int capacity) {
+      m_values = new Object[capacity];
+    }
+
+    @Override
+    ColumnType getType() {
+      return ColumnType.OBJECT;
+    }
+
+    @Override
+    Object get(int row) {
+      return m_values[row];
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return m_values[row] == null;
+    }
+
+    @Override
+    boolean set(int row, Object value) {
+      m_values[row] = value;
+      return true;
+    }
+
+    @Override
+    void resize(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+  }
+}
@@ -48,9 +48,7 @@ public abstract class AbstractFormData extends AbstractContributionComposite imp
   }
 
   private List<Class<? extends AbstractFormFieldData>> getConfiguredFieldDatas() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<AbstractFormFieldData>> fca = ConfigurationUtility.filterClasses(dca, AbstractFormFieldData.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), AbstractFormFieldData.class);
   }
 
   @Override
@@ -69,7 +67,7 @@ public abstract class AbstractFormData extends AbstractContributionComposite imp
     // add fields
     List<Class<? extends AbstractFormFieldData>> formFieldDataClazzes = getConfiguredFieldDatas();
     m_fieldMap = new HashMap<Class<? extends AbstractFormFieldData>, AbstractFormFieldData>(formFieldDataClazzes.size());
-    Map<Class<?>, Class<? extends AbstractFormFieldData>> replacements = ConfigurationUtility.getReplacementMapping(formFieldDataClazzes);
+    Map<Class<?>, Class<? extends AbstractFormFieldData>> replacements = ConfigurationUtility.getDeclaredPublicClassesReplacementMapping(getClass(), AbstractFormFieldData.class);
     if (!replacements.isEmpty()) {
       m_fieldDataReplacements = replacements;
     }
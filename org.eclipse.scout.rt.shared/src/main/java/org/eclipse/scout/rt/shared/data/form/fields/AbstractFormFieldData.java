@@ -39,9 +39,7 @@ public abstract class AbstractFormFieldData extends AbstractContributionComposit
   }
 
   private List<Class<? extends AbstractFormFieldData>> getConfiguredFieldDatas() {
-    Class[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
-    List<Class<AbstractFormFieldData>> fca = ConfigurationUtility.filterClasses(dca, AbstractFormFieldData.class);
-    return ConfigurationUtility.removeReplacedClasses(fca);
+    return ConfigurationUtility.getDeclaredPublicClassesWithoutReplaced(getClass(), AbstractFormFieldData.class);
   }
 
   @Override
@@ -68,7 +66,7 @@ public abstract class AbstractFormFieldData extends AbstractContributionComposit
 
     if (!map.isEmpty()) {
       m_fieldMap = map;
-      Map<Class<?>, Class<? extends AbstractFormFieldData>> replacements = ConfigurationUtility.getReplacementMapping(fieldDataClasses);
+      Map<Class<?>, Class<? extends AbstractFormFieldData>> replacements = ConfigurationUtility.getDeclaredPublicClassesReplacementMapping(getClass(), AbstractFormFieldData.class);
       if (!replacements.isEmpty()) {
         m_fieldDataReplacements = replacements;
       }
@@ -10,120 +10,75 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.shared.extension;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
-
-import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import java.util.RandomAccess;
 
 /**
  * The abstract class of all extension delegations from extendible methods.
+ * <p>
+ * The chain walks over the extensions which implement the extension interface of the chain. If the extensions are the
+ * list of an extensible object (see {@link ObjectExtensions#getAllExtensions()}), the applicable extensions are looked
+ * up in a precomputed table, creating a chain does not filter the extensions again.
  */
 public abstract class AbstractExtensionChain<EXTENSION> {
 
-  private final ListIterator<? extends IExtension<?>> m_iterator;
+  private final List<? extends IExtension<?>> m_extensions;
 
   /**
-   * the execution state of every executer.
+   * indexes of the extensions in {@link #m_extensions} which are instances of the filter class
    */
-  private final Map<EXTENSION, MethodState> m_executionStates = new HashMap<EXTENSION, MethodState>();
-
-  private final Class<?> m_filterClass;
+  private final int[] m_indexes;
 
-  private boolean m_hasExtension;
-  private EXTENSION m_currentExtension;
+  /**
+   * position in {@link #m_indexes} of the next extension
+   */
+  private int m_position;
 
   public AbstractExtensionChain(List<? extends IExtension<?>> extensions, Class<? extends IExtension> filterClass) {
-    m_filterClass = filterClass;
-    m_iterator = extensions.listIterator();
+    if (extensions instanceof ExtensionList) {
+      m_extensions = extensions;
+      m_indexes = ((ExtensionList<?>) extensions).getIndexes(filterClass);
+    }
+    else {
+      m_extensions = extensions instanceof RandomAccess ? extensions : new ArrayList<IExtension<?>>(extensions);
+      m_indexes = ExtensionList.computeIndexes(m_extensions, filterClass);
+    }
   }
 
   protected boolean hasNext() {
-    computeNext(true);
-    return m_hasExtension;
+    return m_position < m_indexes.length;
   }
 
+  @SuppressWarnings("unchecked")
   protected EXTENSION next() {
-    computeNext(false);
-    if (!m_hasExtension) {
+    if (!hasNext()) {
       throw new NoSuchElementException();
     }
-    return m_currentExtension;
-  }
-
-  private void computeNext(boolean forceRewind) {
-    m_hasExtension = false;
-    int nextCount = 0;
-    while (m_iterator.hasNext()) {
-      IExtension<?> next = m_iterator.next();
-      nextCount++;
-      if (m_filterClass.isInstance(next)) {
-        m_hasExtension = true;
-        @SuppressWarnings("unchecked")
-        EXTENSION extension = (EXTENSION) next;
-        m_currentExtension = extension;
-        break;
-      }
-    }
-
-    // rewind
-    if (!m_hasExtension || forceRewind) {
-      for (int i = nextCount; i > 0; i--) {
-        m_iterator.previous();
-      }
-    }
+    return (EXTENSION) m_extensions.get(m_indexes[m_position++]);
   }
 
   protected boolean hasPrevious() {
-    computePrevious(true);
-    return m_hasExtension;
+    return m_position > 0;
   }
 
+  @SuppressWarnings("unchecked")
   protected EXTENSION previous() {
-    computePrevious(false);
-    if (!m_hasExtension) {
+    if (!hasPrevious()) {
       throw new NoSuchElementException();
     }
-    return m_currentExtension;
-  }
-
-  private void computePrevious(boolean forceRewind) {
-    m_hasExtension = false;
-    int previousCount = 0;
-    while (m_iterator.hasPrevious()) {
-      IExtension<?> previous = m_iterator.previous();
-      previousCount++;
-      if (m_filterClass.isInstance(previous)) {
-        m_hasExtension = true;
-        @SuppressWarnings("unchecked")
-        EXTENSION extension = (EXTENSION) previous;
-        m_currentExtension = extension;
-        break;
-      }
-    }
-
-    // rewind
-    if (!m_hasExtension || forceRewind) {
-      for (int i = previousCount; i > 0; i--) {
-        m_iterator.next();
-      }
-    }
+    return (EXTENSION) m_extensions.get(m_indexes[--m_position]);
   }
 
   protected void callChain(MethodInvocation<?> methodInvocation, Object... arguments) {
     if (hasNext()) {
       EXTENSION nextExtension = next();
-      MethodState methodState = new MethodState(CollectionUtility.arrayList(arguments));
       try {
-        m_executionStates.put(nextExtension, methodState);
         methodInvocation.callMethod(nextExtension);
-        methodState.setReturnValue(methodInvocation.getReturnValue());
       }
       catch (Exception e) {
         methodInvocation.setException(e);
-        methodState.setException(e);
         if (e instanceof RuntimeException) {
           throw (RuntimeException) e;
         }
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.extension;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable list of the extensions of an extensible object (see {@link ObjectExtensions}). Knows which of its
+ * extensions implement a given extension interface, so that an {@link AbstractExtensionChain} does not have to filter
+ * the extensions every time it is created.
+ * <p>
+ * The indexes of the applicable extensions only depend on the classes of the extensions. They are computed once per
+ * combination of extension classes and extension interface and shared by all lists with the same extension classes.
+ *
+ * @since 5.2
+ */
+final class ExtensionList<EXTENSION> extends AbstractList<EXTENSION> implements RandomAccess, Serializable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Dispatch tables by extension classes. The cache is attached to the class of the last extension, which is the local
+   * extension of the owner for lists created by {@link ObjectExtensions}.
+   */
+  private static final ClassValue<ConcurrentMap<P_ExtensionTypes, P_ExtensionTypes>> EXTENSION_TYPES = new ClassValue<ConcurrentMap<P_ExtensionTypes, P_ExtensionTypes>>() {
+    @Override
+    protected ConcurrentMap<P_ExtensionTypes, P_ExtensionTypes> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private final Object[] m_extensions;
+  private transient P_ExtensionTypes m_types;
+
+  ExtensionList(List<? extends EXTENSION> extensions) {
+    m_extensions = extensions.toArray();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public EXTENSION get(int index) {
+    return (EXTENSION) m_extensions[index];
+  }
+
+  @Override
+  public int size() {
+    return m_extensions.length;
+  }
+
+  /**
+   * @return the indexes of all extensions which are instances of the given class, in list order. The returned array is
+   *         shared and must not be modified.
+   */
+  int[] getIndexes(Class<?> filterClass) {
+    P_ExtensionTypes types = m_types;
+    if (types == null) {
+      types = getExtensionTypes(m_extensions);
+      m_types = types;
+    }
+    return types.getIndexes(filterClass);
+  }
+
+  /**
+   * @return the indexes of all extensions in the given list which are instances of the given class, in list order
+   */
+  static int[] computeIndexes(List<?> extensions, Class<?> filterClass) {
+    int[] indexes = new int[extensions.size()];
+    int count = 0;
+    int i = 0;
+    for (Object extension : extensions) {
+      if (filterClass.isInstance(extension)) {
+        indexes[count++] = i;
+      }
+      i++;
+    }
+    return count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+  }
+
+  private static P_ExtensionTypes getExtensionTypes(Object[] extensions) {
+    Class<?>[] classes = new Class<?>[extensions.length];
+    for (int i = 0; i < extensions.length; i++) {
+      classes[i] = extensions[i] != null ? extensions[i].getClass() : null;
+    }
+    P_ExtensionTypes types = new P_ExtensionTypes(classes);
+    if (classes.length == 0 || classes[classes.length - 1] == null) {
+      return types;
+    }
+    ConcurrentMap<P_ExtensionTypes, P_ExtensionTypes> cache = EXTENSION_TYPES.get(classes[classes.length - 1]);
+    P_ExtensionTypes existingTypes = cache.putIfAbsent(types, types);
+    return existingTypes != null ? existingTypes : types;
+  }
+
+  /**
+   * Classes of the extensions of a list and the indexes of the extensions per extension interface.
+   */
+  private static final class P_ExtensionTypes {
+    private final Class<?>[] m_classes;
+    private final int m_hashCode;
+    private final ConcurrentMap<Class<?>, int[]> m_indexes = new ConcurrentHashMap<>();
+
+    P_ExtensionTypes(Class<?>[] classes) {
+      m_classes = classes;
+      m_hashCode = Arrays.hashCode(classes);
+    }
+
+    int[] getIndexes(Class<?> filterClass) {
+      int[] indexes = m_indexes.get(filterClass);
+      if (indexes == null) {
+        indexes = computeIndexes(filterClass);
+        m_indexes.put(filterClass, indexes);
+      }
+      return indexes;
+    }
+
+    private int[] computeIndexes(Class<?> filterClass) {
+      int[] indexes = new int[m_classes.length];
+      int count = 0;
+      for (int i = 0; i < m_classes.length; i++) {
+        if (m_classes[i] != null && filterClass.isAssignableFrom(m_classes[i])) {
+          indexes[count++] = i;
+        }
+      }
+      return count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      return Arrays.equals(m_classes, ((P_ExtensionTypes) obj).m_classes);
+    }
+  }
+}
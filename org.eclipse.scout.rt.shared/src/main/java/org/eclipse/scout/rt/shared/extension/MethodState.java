@@ -14,6 +14,10 @@ import java.util.List;
 
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
+/**
+ * @deprecated no longer used by {@link AbstractExtensionChain}. Will be removed in Scout 6.1.
+ */
+@Deprecated
 public class MethodState {
 
   private Object m_returnValue;
@@ -11,7 +11,6 @@
 package org.eclipse.scout.rt.shared.extension;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -79,6 +78,6 @@ public class ObjectExtensions<OWNER, EXTENSION extends IExtension<? extends OWNE
   private List<EXTENSION> loadExtensions(EXTENSION localExtension) {
     List<EXTENSION> extensions = BEANS.get(IInternalExtensionRegistry.class).createExtensionsFor(m_owner);
     extensions.add(localExtension);
-    return Collections.unmodifiableList(extensions);
+    return new ExtensionList<EXTENSION>(extensions);
   }
 }
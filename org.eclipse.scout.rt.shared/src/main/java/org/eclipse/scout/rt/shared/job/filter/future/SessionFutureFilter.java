@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.shared.job.filter.future;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.filter.IFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.listener.JobListenerKey;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.shared.ISession;
 
@@ -50,6 +51,9 @@ public class SessionFutureFilter implements IFilter<IFuture<?>>, IAdaptable {
     if (ISession.class.isAssignableFrom(type)) {
       return (T) m_session;
     }
+    if (type == JobListenerKey.class && m_session != null) {
+      return (T) JobListenerKey.forRunContextAdapter(ISession.class, m_session);
+    }
     return null;
   }
 }
@@ -46,6 +46,9 @@ public abstract class AbstractDynamicNlsTextProviderService implements ITextProv
     return instance.getText(locale, key, messageArguments);
   }
 
+  /**
+   * @return an unmodifiable map, which is shared by all callers, see {@link DynamicNls#getTextMap(Locale)}
+   */
   @Override
   public Map<String, String> getTextMap(Locale locale) {
     return instance.getTextMap(locale);
@@ -43,10 +43,14 @@ public interface ITextProviderService extends IService {
 
   /**
    * returns all key/text pairs defined for the given locale.
+   * <p>
+   * The returned map may be cached and shared by all callers, therefore it may be unmodifiable. Callers must not modify
+   * it, but copy it if a modifiable map is required. {@link org.eclipse.scout.rt.shared.ScoutTexts#getTextMap(Locale)}
+   * merges the maps of all text providers into a new map.
    *
    * @param locale
    *          The locale for which the map should be returned (not all locales might have all keys).
-   * @return A <code>java.util.Map</code> containing the key/text pairs.
+   * @return A <code>java.util.Map</code> containing the key/text pairs. Must not be modified.
    */
   Map<String, String> getTextMap(Locale locale);
 }
@@ -11,9 +11,15 @@
 package org.eclipse.scout.rt.shared.services.lookup;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server or in a client-only application. See Bug
@@ -23,18 +29,70 @@ import org.eclipse.scout.rt.platform.Order;
  */
 @Order(5100)
 public class BatchLookupService implements IServerBatchLookupService {
+  private static final ConcurrentMap<Class<?>, Boolean> GET_DATA_BY_KEY_OVERRIDDEN = new ConcurrentHashMap<Class<?>, Boolean>();
 
+  /**
+   * Calls of the same {@link IMultiKeyLookupService} are resolved with one call to
+   * {@link IMultiKeyLookupService#getDataByKeys(List)}, all other calls one by one.
+   */
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<List<ILookupRow<?>>>();
+    List<List<ILookupRow<?>>> result = new ArrayList<List<ILookupRow<?>>>(calls.size());
     BatchLookupResultCache cache = new BatchLookupResultCache();
+    Map<Class<?>, P_MultiKeyLookup> multiKeyLookups = new LinkedHashMap<Class<?>, P_MultiKeyLookup>();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<ILookupRow<?>>(cache.getDataByKey(call)));
+      List<ILookupRow<?>> cachedResult = null;
+      IMultiKeyLookupService<?> service = null;
+      if (call != null && call.getKey() != null) {
+        cachedResult = cache.getCachedResult(call);
+        if (cachedResult == null) {
+          service = getMultiKeyLookupService(call);
+        }
+      }
+      if (service != null) {
+        P_MultiKeyLookup lookup = multiKeyLookups.get(service.getClass());
+        if (lookup == null) {
+          lookup = new P_MultiKeyLookup(service);
+          multiKeyLookups.put(service.getClass(), lookup);
+        }
+        lookup.add(call, result.size());
+        result.add(null);
+      }
+      else if (cachedResult != null) {
+        result.add(cachedResult);
+      }
+      else {
+        result.add(new ArrayList<ILookupRow<?>>(cache.getDataByKey(call)));
+      }
+    }
+    for (P_MultiKeyLookup lookup : multiKeyLookups.values()) {
+      lookup.resolve(result, cache);
     }
     return result;
   }
 
+  /**
+   * @return the service of the call if its keys can be resolved with
+   *         {@link IMultiKeyLookupService#getDataByKeys(List)}, <code>null</code> otherwise
+   */
+  protected IMultiKeyLookupService<?> getMultiKeyLookupService(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall) || isGetDataByKeyOverridden(call.getClass())) {
+      return null;
+    }
+    ILookupService<?> service = ((LookupCall<?>) call).getLookupService();
+    return service instanceof IMultiKeyLookupService ? (IMultiKeyLookupService<?>) service : null;
+  }
+
+  private static boolean isGetDataByKeyOverridden(Class<?> callClass) {
+    Boolean overridden = GET_DATA_BY_KEY_OVERRIDDEN.get(callClass);
+    if (overridden == null) {
+      overridden = ConfigurationUtility.isMethodOverwrite(LookupCall.class, "getDataByKey", new Class[0], callClass);
+      GET_DATA_BY_KEY_OVERRIDDEN.put(callClass, overridden);
+    }
+    return overridden;
+  }
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
@@ -68,4 +126,43 @@ public class BatchLookupService implements IServerBatchLookupService {
     return result;
   }
 
+  /**
+   * The calls of one {@link IMultiKeyLookupService}, equal calls are only resolved once.
+   */
+  private static class P_MultiKeyLookup {
+    private final IMultiKeyLookupService m_service;
+    private final List<ILookupCall> m_calls = new ArrayList<ILookupCall>();
+    private final List<List<Integer>> m_resultIndexes = new ArrayList<List<Integer>>();
+    private final Map<ILookupCall, Integer> m_callIndexes = new HashMap<ILookupCall, Integer>();
+
+    P_MultiKeyLookup(IMultiKeyLookupService<?> service) {
+      m_service = service;
+    }
+
+    void add(ILookupCall<?> call, int resultIndex) {
+      boolean cacheable = BatchLookupResultCache.isCacheable(call.getClass());
+      Integer callIndex = cacheable ? m_callIndexes.get(call) : null;
+      if (callIndex == null) {
+        callIndex = m_calls.size();
+        m_calls.add(call);
+        m_resultIndexes.add(new ArrayList<Integer>(1));
+        if (cacheable) {
+          m_callIndexes.put(call, callIndex);
+        }
+      }
+      m_resultIndexes.get(callIndex).add(resultIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    void resolve(List<List<ILookupRow<?>>> result, BatchLookupResultCache cache) {
+      List<List<ILookupRow<?>>> rows = m_service.getDataByKeys(m_calls);
+      for (int i = 0; i < m_calls.size(); i++) {
+        List<ILookupRow<?>> callRows = rows.get(i);
+        cache.putCachedResult(m_calls.get(i), callRows);
+        for (Integer resultIndex : m_resultIndexes.get(i)) {
+          result.set(resultIndex, new ArrayList<ILookupRow<?>>(callRows));
+        }
+      }
+    }
+  }
 }
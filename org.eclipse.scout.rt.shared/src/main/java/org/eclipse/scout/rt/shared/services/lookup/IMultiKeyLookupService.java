@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.services.lookup;
+
+import java.util.List;
+
+/**
+ * Lookup service resolving the keys of several lookup calls at once, e.g. with one query for all keys instead of one
+ * query per key. Used by {@link BatchLookupService#getBatchDataByKey(BatchLookupCall)}.
+ *
+ * @since 5.2
+ */
+public interface IMultiKeyLookupService<KEY_TYPE> extends ILookupService<KEY_TYPE> {
+
+  /**
+   * Lookup by performing a "key" filter for each call, the result is the same as calling
+   * {@link #getDataByKey(ILookupCall)} for each call.
+   *
+   * @return the rows of each call, in the order of the calls
+   */
+  List<List<ILookupRow<KEY_TYPE>>> getDataByKeys(List<ILookupCall<KEY_TYPE>> calls);
+}
@@ -14,6 +14,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
@@ -25,12 +27,18 @@ import org.slf4j.LoggerFactory;
 
 /**
  * "No frills" implementation for client-server communication with optional compression.
+ * <p>
+ * The {@link Deflater} and {@link Inflater} instances used for compression are pooled and shared by all handlers,
+ * because creating them allocates native memory.
  */
 @Order(5010)
 public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
+  private static final int COMPRESSION_POOL_SIZE = 32;
+  private static final BlockingQueue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(COMPRESSION_POOL_SIZE);
+  private static final BlockingQueue<Inflater> INFLATER_POOL = new ArrayBlockingQueue<>(COMPRESSION_POOL_SIZE);
 
   private Boolean m_receivedCompressed;
 
@@ -59,7 +67,7 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     return readData(in, ServiceTunnelResponse.class);
   }
 
-  private void writeData(OutputStream out, Object msg) throws IOException {
+  protected void writeData(OutputStream out, Object msg) throws IOException {
     Deflater deflater = null;
     boolean compressed = isUseCompression();
     try {
@@ -67,7 +75,7 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
       out.write(compressed ? 1 : 0);
       // build serialized data
       if (compressed) {
-        deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater = acquireDeflater();
         out = new DeflaterOutputStream(out, deflater);
       }
       getObjectSerializer().serialize(out, msg);
@@ -78,16 +86,12 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     }
     finally {
       if (deflater != null) {
-        try {
-          deflater.end();
-        }
-        catch (Throwable fatal) {
-        }
+        releaseDeflater(deflater);
       }
     }
   }
 
-  private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+  protected <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
     Inflater inflater = null;
     try {
       // read compressed flag
@@ -95,18 +99,14 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
       m_receivedCompressed = compressed;
       // decode serial data
       if (compressed) {
-        inflater = new Inflater();
+        inflater = acquireInflater();
         in = new InflaterInputStream(in, inflater);
       }
       return getObjectSerializer().deserialize(in, clazz);
     }
     finally {
       if (inflater != null) {
-        try {
-          inflater.end();
-        }
-        catch (Throwable fatal) {
-        }
+        releaseInflater(inflater);
       }
     }
   }
@@ -121,4 +121,41 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     return true;
   }
 
+  protected static Deflater acquireDeflater() {
+    Deflater deflater = DEFLATER_POOL.poll();
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.BEST_SPEED);
+    }
+    return deflater;
+  }
+
+  protected static void releaseDeflater(Deflater deflater) {
+    try {
+      deflater.reset();
+      if (!DEFLATER_POOL.offer(deflater)) {
+        deflater.end();
+      }
+    }
+    catch (Throwable fatal) {
+    }
+  }
+
+  protected static Inflater acquireInflater() {
+    Inflater inflater = INFLATER_POOL.poll();
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    return inflater;
+  }
+
+  protected static void releaseInflater(Inflater inflater) {
+    try {
+      inflater.reset();
+      if (!INFLATER_POOL.offer(inflater)) {
+        inflater.end();
+      }
+    }
+    catch (Throwable fatal) {
+    }
+  }
 }
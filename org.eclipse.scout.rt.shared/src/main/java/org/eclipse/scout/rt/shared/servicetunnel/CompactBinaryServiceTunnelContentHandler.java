@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.serialization.CompactObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+
+/**
+ * Binary content handler which writes the class descriptors of the types registered in
+ * {@link CompactServiceTunnelTypeDictionary} as a short dictionary index. All other types fall back to standard Java
+ * serialization. This reduces the message size for typical payloads like form data, lookup rows and code rows.
+ * <p>
+ * This handler is not used by default. To use it, replace {@link BinaryServiceTunnelContentHandler} with this handler
+ * on client and server.
+ *
+ * @since 5.2
+ */
+@Order(5020)
+public class CompactBinaryServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  private static final String CONTENT_TYPE = "application/x-scout-compact";
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer(), BEANS.get(CompactServiceTunnelTypeDictionary.class).getTypes());
+  }
+}
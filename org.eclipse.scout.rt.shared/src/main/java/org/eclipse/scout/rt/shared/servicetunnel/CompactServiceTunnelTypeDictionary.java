@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.holders.BeanArrayHolder;
+import org.eclipse.scout.rt.platform.holders.Holder;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.data.basic.FontSpec;
+import org.eclipse.scout.rt.shared.data.basic.MemoryOptimizedObject;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+import org.eclipse.scout.rt.shared.extension.AbstractContributionComposite;
+import org.eclipse.scout.rt.shared.services.common.code.CodeRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+
+/**
+ * Type dictionary used by {@link CompactBinaryServiceTunnelContentHandler}. The class descriptors of these types are
+ * written as a short dictionary index instead of the full descriptor.
+ * <p>
+ * Client and server must use the same dictionary. Replace this bean on both sides to add project specific types, but
+ * never change the order of existing entries.
+ *
+ * @since 5.2
+ */
+@ApplicationScoped
+public class CompactServiceTunnelTypeDictionary {
+
+  public List<Class<?>> getTypes() {
+    return CollectionUtility.<Class<?>> arrayList(
+        // service tunnel
+        ServiceTunnelRequest.class,
+        ServiceTunnelResponse.class,
+        ServiceTunnelBatchRequest.class,
+        ServiceTunnelBatchResponse.class,
+        ClientNotificationMessage.class,
+        ClientNotificationAddress.class,
+        // form data and table rows
+        AbstractContributionComposite.class,
+        AbstractFormData.class,
+        AbstractFormFieldData.class,
+        AbstractValueFieldData.class,
+        AbstractPropertyData.class,
+        AbstractTableFieldData.class,
+        AbstractTableFieldBeanData.class,
+        AbstractTableRowData.class,
+        // lookup and code rows
+        MemoryOptimizedObject.class,
+        LookupRow.class,
+        CodeRow.class,
+        FontSpec.class,
+        // holders
+        Holder.class,
+        BeanArrayHolder.class,
+        // JRE types
+        Object[].class,
+        Class[].class,
+        String[].class,
+        byte[].class,
+        Number.class,
+        Boolean.class,
+        Integer.class,
+        Long.class,
+        Double.class,
+        BigDecimal.class,
+        BigInteger.class,
+        Date.class,
+        Locale.class,
+        ArrayList.class,
+        HashMap.class,
+        LinkedHashMap.class,
+        HashSet.class,
+        TreeMap.class,
+        Throwable.class,
+        Exception.class,
+        RuntimeException.class,
+        StackTraceElement.class,
+        StackTraceElement[].class);
+  }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+
+/**
+ * Envelope to send multiple independent {@link ServiceTunnelRequest}s of the same session within one round trip.
+ * <p>
+ * The server answers with a {@link ServiceTunnelBatchResponse} which contains one response per request, in the same
+ * order as the requests.
+ *
+ * @since 5.2
+ */
+public class ServiceTunnelBatchRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  private final List<ServiceTunnelRequest> m_requests;
+
+  public ServiceTunnelBatchRequest(List<ServiceTunnelRequest> requests) {
+    super(ServiceTunnelBatchRequest.class.getName(), null, null, null);
+    m_requests = new ArrayList<>(requests);
+  }
+
+  /**
+   * @return the requests contained in this batch; is never <code>null</code>.
+   */
+  public List<ServiceTunnelRequest> getRequests() {
+    return CollectionUtility.arrayList(m_requests);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("Remote batch call [");
+    buf.append("requestSequence='").append(getRequestSequence()).append("', ");
+    buf.append("sessionId='").append(getSessionId()).append("', ");
+    buf.append("size='").append(m_requests.size()).append("']");
+    for (ServiceTunnelRequest request : m_requests) {
+      buf.append("\n").append(request);
+    }
+    return buf.toString();
+  }
+}
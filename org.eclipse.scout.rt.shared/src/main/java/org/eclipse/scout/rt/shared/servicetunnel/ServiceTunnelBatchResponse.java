@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Response to a {@link ServiceTunnelBatchRequest}. Contains one {@link ServiceTunnelResponse} per request, in the same
+ * order as the requests. Each response carries its own piggyback client notifications.
+ *
+ * @since 5.2
+ */
+public class ServiceTunnelBatchResponse extends ServiceTunnelResponse {
+  private static final long serialVersionUID = 1L;
+
+  private final List<ServiceTunnelResponse> m_responses;
+
+  public ServiceTunnelBatchResponse(List<ServiceTunnelResponse> responses) {
+    super(null, null, null);
+    m_responses = new ArrayList<>(responses);
+  }
+
+  /**
+   * @return the responses of this batch; is never <code>null</code>.
+   */
+  public List<ServiceTunnelResponse> getResponses() {
+    return CollectionUtility.arrayList(m_responses);
+  }
+
+  @Override
+  public String toString() {
+    ToStringBuilder tsb = new ToStringBuilder(this);
+    tsb.attr("responses", m_responses);
+    return tsb.toString();
+  }
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.Callable;
 import javax.security.auth.Subject;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
@@ -36,6 +37,8 @@ import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledException;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
 import org.eclipse.scout.rt.shared.ScoutTexts;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelBatchMaxSizeProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelBatchWindowProperty;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
@@ -51,8 +54,10 @@ public abstract class AbstractHttpServiceTunnel extends AbstractServiceTunnel {
   public static final String TOKEN_AUTH_HTTP_HEADER = "X-ScoutAccessToken";
 
   private IServiceTunnelContentHandler m_contentHandler;
+  private IHttpServiceTunnelTransport m_transport;
   private final URL m_serverUrl;
   private final boolean m_active;
+  private final HttpServiceTunnelBatcher m_batcher;
 
   public AbstractHttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -61,6 +66,7 @@ public abstract class AbstractHttpServiceTunnel extends AbstractServiceTunnel {
   public AbstractHttpServiceTunnel(URL url) {
     m_serverUrl = url;
     m_active = url != null;
+    m_batcher = createBatcher();
   }
 
   protected static URL getConfiguredServerUrl() {
@@ -95,9 +101,25 @@ public abstract class AbstractHttpServiceTunnel extends AbstractServiceTunnel {
    *          write post data (if required)
    * @throws IOException
    *           override this method to customize the creation of the {@link URLConnection} see
-   *           {@link #addCustomHeaders(URLConnection, String)}
+   *           {@link #addCustomHeaders(URLConnection, String, byte[])}
    */
   protected URLConnection createURLConnection(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    URLConnection urlConn = openURLConnection(call);
+    addCustomHeaders(urlConn, "POST", callData);
+    try (OutputStream httpOut = urlConn.getOutputStream()) {
+      httpOut.write(callData);
+    }
+    return urlConn;
+  }
+
+  /**
+   * Opens and configures the {@link URLConnection} to post the given call to the server. Neither custom headers nor
+   * post data are written yet.
+   *
+   * @param call
+   *          the original call
+   */
+  protected URLConnection openURLConnection(ServiceTunnelRequest call) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -115,10 +137,6 @@ public abstract class AbstractHttpServiceTunnel extends AbstractServiceTunnel {
     urlConn.setDoInput(true);
     urlConn.setDefaultUseCaches(false);
     urlConn.setUseCaches(false);
-    addCustomHeaders(urlConn, "POST", callData);
-    try (OutputStream httpOut = urlConn.getOutputStream()) {
-      httpOut.write(callData);
-    }
     return urlConn;
   }
 
@@ -176,6 +194,55 @@ public abstract class AbstractHttpServiceTunnel extends AbstractServiceTunnel {
     m_contentHandler = e;
   }
 
+  /**
+   * @return transport used to send requests to the server. Default is {@link UrlConnectionHttpServiceTunnelTransport}.
+   * @see #createTransport()
+   */
+  public IHttpServiceTunnelTransport getTransport() {
+    if (m_transport == null) {
+      m_transport = createTransport();
+    }
+    return m_transport;
+  }
+
+  /**
+   * @param transport
+   *          transport used to send requests to the server
+   */
+  public void setTransport(IHttpServiceTunnelTransport transport) {
+    m_transport = transport;
+  }
+
+  /**
+   * Override this method to use another {@link IHttpServiceTunnelTransport}.
+   */
+  protected IHttpServiceTunnelTransport createTransport() {
+    return BEANS.get(UrlConnectionHttpServiceTunnelTransport.class);
+  }
+
+  /**
+   * @return batcher used to coalesce concurrent requests into one round trip, or <code>null</code> if batching is
+   *         disabled.
+   * @see ServiceTunnelBatchWindowProperty
+   */
+  public HttpServiceTunnelBatcher getBatcher() {
+    return m_batcher;
+  }
+
+  /**
+   * Override this method to customize the batching of requests. The default creates a batcher if a
+   * {@link ServiceTunnelBatchWindowProperty} is configured.
+   *
+   * @return batcher or <code>null</code> to disable batching.
+   */
+  protected HttpServiceTunnelBatcher createBatcher() {
+    long windowMillis = CONFIG.getPropertyValue(ServiceTunnelBatchWindowProperty.class);
+    if (windowMillis <= 0) {
+      return null;
+    }
+    return new HttpServiceTunnelBatcher(windowMillis, CONFIG.getPropertyValue(ServiceTunnelBatchMaxSizeProperty.class));
+  }
+
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
     if (m_contentHandler == null) {
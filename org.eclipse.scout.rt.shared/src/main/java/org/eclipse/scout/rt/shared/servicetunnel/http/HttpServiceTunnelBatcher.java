@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
+import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces service requests of the same session, which are issued concurrently within a short time window, into one
+ * {@link ServiceTunnelBatchRequest}.
+ * <p>
+ * The first request of a window becomes the leader of the batch: it waits until the window elapsed or the batch is
+ * full, whichever happens first, sends the batch and hands out the responses to the other requests of the batch. A batch which contains a single
+ * request only is sent as ordinary {@link ServiceTunnelRequest}.
+ *
+ * @since 5.2
+ */
+public class HttpServiceTunnelBatcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpServiceTunnelBatcher.class);
+
+  private final long m_windowMillis;
+  private final int m_maxSize;
+
+  private final Object m_openBatchesLock = new Object();
+  private final Map<String, P_Batch> m_openBatches = new HashMap<>();
+
+  public HttpServiceTunnelBatcher(long windowMillis, int maxSize) {
+    m_windowMillis = windowMillis;
+    m_maxSize = Math.max(1, maxSize);
+  }
+
+  /**
+   * Sends the given request as part of a batch and waits for its response.
+   *
+   * @return {@link ServiceTunnelResponse}; is never <code>null</code>.
+   */
+  public ServiceTunnelResponse execute(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception {
+    if (!isBatchable(serviceRequest)) {
+      return tunnel.getTransport().execute(tunnel, serviceRequest);
+    }
+
+    final String batchKey = createBatchKey(serviceRequest);
+    final P_Batch batch;
+    final int index;
+    final boolean leader;
+    synchronized (m_openBatchesLock) {
+      P_Batch openBatch = m_openBatches.get(batchKey);
+      leader = (openBatch == null);
+      if (leader) {
+        openBatch = new P_Batch(m_maxSize);
+        m_openBatches.put(batchKey, openBatch);
+      }
+      batch = openBatch;
+      index = batch.add(serviceRequest);
+      if (batch.isClosed()) {
+        // full: further requests start a new batch
+        m_openBatches.remove(batchKey);
+      }
+    }
+
+    if (leader) {
+      // returns as soon as the batch is full, the leader does not wait for the whole window in that case
+      final boolean interrupted = batch.awaitClosed(m_windowMillis);
+      synchronized (m_openBatchesLock) {
+        if (m_openBatches.get(batchKey) == batch) {
+          m_openBatches.remove(batchKey);
+        }
+        batch.close();
+      }
+      batch.send(tunnel);
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return batch.awaitResponse(index);
+  }
+
+  /**
+   * @return <code>true</code> if the given request may be coalesced with other requests. Cancellation requests are
+   *         always sent immediately.
+   */
+  protected boolean isBatchable(ServiceTunnelRequest serviceRequest) {
+    return !IRunMonitorCancelService.class.getName().equals(serviceRequest.getServiceInterfaceClassName());
+  }
+
+  /**
+   * Requests are only coalesced if they belong to the same session and client node.
+   */
+  protected String createBatchKey(ServiceTunnelRequest serviceRequest) {
+    return StringUtility.join("|", serviceRequest.getSessionId(), serviceRequest.getClientNodeId(), serviceRequest.getUserAgent());
+  }
+
+  /**
+   * Requests which are coalesced into one round trip.
+   */
+  private static final class P_Batch {
+
+    private final int m_maxSize;
+    private final List<ServiceTunnelRequest> m_requests = new ArrayList<>();
+    private final CountDownLatch m_closedLatch = new CountDownLatch(1);
+    private final CountDownLatch m_doneLatch = new CountDownLatch(1);
+    private volatile List<ServiceTunnelResponse> m_responses;
+    private volatile Exception m_error;
+
+    private P_Batch(int maxSize) {
+      m_maxSize = maxSize;
+    }
+
+    /**
+     * Adds the given request and closes the batch once it is full, which signals the waiting leader. Must be called
+     * while holding the lock of the open batches.
+     *
+     * @return index of the response of the given request
+     */
+    private int add(ServiceTunnelRequest request) {
+      m_requests.add(request);
+      if (m_requests.size() >= m_maxSize) {
+        close();
+      }
+      return m_requests.size() - 1;
+    }
+
+    private boolean isClosed() {
+      return m_closedLatch.getCount() == 0;
+    }
+
+    private void close() {
+      m_closedLatch.countDown();
+    }
+
+    /**
+     * @return <code>true</code> if the current thread was interrupted while waiting. The interruption is deferred
+     *         because the batch must be sent anyway on behalf of the other requests.
+     */
+    private boolean awaitClosed(long timeoutMillis) {
+      try {
+        m_closedLatch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        return false;
+      }
+      catch (InterruptedException e) {
+        return true;
+      }
+    }
+
+    private void send(AbstractHttpServiceTunnel tunnel) {
+      try {
+        if (m_requests.size() == 1) {
+          m_responses = CollectionUtility.arrayList(tunnel.getTransport().execute(tunnel, m_requests.get(0)));
+          return;
+        }
+
+        ServiceTunnelRequest first = m_requests.get(0);
+        ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(m_requests);
+        batchRequest.setSessionId(first.getSessionId());
+        batchRequest.setClientNodeId(first.getClientNodeId());
+        batchRequest.setUserAgent(first.getUserAgent());
+        LOG.debug("Sending batch of {} service requests [batchRequestSequence={}]", m_requests.size(), batchRequest.getRequestSequence());
+
+        ServiceTunnelResponse response = tunnel.getTransport().execute(tunnel, batchRequest);
+        List<ServiceTunnelResponse> responses = new ArrayList<>(m_requests.size());
+        if (response instanceof ServiceTunnelBatchResponse) {
+          responses.addAll(((ServiceTunnelBatchResponse) response).getResponses());
+        }
+        else {
+          // the whole batch failed, e.g. due to a HTTP error
+          for (int i = 0; i < m_requests.size(); i++) {
+            responses.add(new ServiceTunnelResponse(response.getException()));
+          }
+        }
+        m_responses = responses;
+      }
+      catch (Exception e) {
+        m_error = e;
+      }
+      finally {
+        m_doneLatch.countDown();
+      }
+    }
+
+    private ServiceTunnelResponse awaitResponse(int index) throws Exception {
+      try {
+        m_doneLatch.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedException("Interrupted while waiting for the response of a batched service request", e);
+      }
+      if (m_error != null) {
+        throw m_error;
+      }
+      return m_responses.get(index);
+    }
+  }
+}
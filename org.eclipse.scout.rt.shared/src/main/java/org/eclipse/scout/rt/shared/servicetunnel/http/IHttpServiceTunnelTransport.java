@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Transport used by {@link AbstractHttpServiceTunnel} to send a {@link ServiceTunnelRequest} to the server and to
+ * receive the corresponding {@link ServiceTunnelResponse}.
+ * <p>
+ * The transport is only responsible for the HTTP connection handling. Encoding and decoding of the messages is
+ * delegated to the tunnel's {@link AbstractHttpServiceTunnel#getContentHandler() content handler}.
+ *
+ * @see UrlConnectionHttpServiceTunnelTransport
+ * @see PooledHttpServiceTunnelTransport
+ */
+public interface IHttpServiceTunnelTransport {
+
+  /**
+   * Sends the given request to the server of the given tunnel and waits for its response.
+   *
+   * @return {@link ServiceTunnelResponse}; is never <code>null</code>.
+   */
+  ServiceTunnelResponse execute(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception;
+}
@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HandshakeCompletedEvent;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelConnectionWaitTimeoutProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelMaxConnectionsPerHostProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.HttpException;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transport which keeps the HTTP connections to the server alive and streams request and response bodies.
+ * <ul>
+ * <li>The request is written directly into the connection using chunked transfer encoding. Nothing is buffered into a
+ * <code>byte[]</code>.</li>
+ * <li>The response is always consumed completely and closed, also for failed requests. Only then the connection is
+ * returned to the keep-alive cache of the JRE and reused by subsequent requests, which avoids a new TCP connection and
+ * TLS handshake per service call. Idle connections are evicted by the JRE after the keep-alive timeout of the server.
+ * The number of idle connections kept per host is controlled by the system property <code>http.maxConnections</code>.
+ * </li>
+ * <li>The number of concurrent connections per host is bounded by {@link ServiceTunnelMaxConnectionsPerHostProperty}.
+ * Requests exceeding this limit wait at most {@link ServiceTunnelConnectionWaitTimeoutProperty} for a free
+ * connection.</li>
+ * </ul>
+ * This transport is not used by default. A tunnel opts in by overriding
+ * {@link AbstractHttpServiceTunnel#createTransport()}. Because the request is streamed:
+ * <ul>
+ * <li>{@link AbstractHttpServiceTunnel#addCustomHeaders(URLConnection, String, byte[])} is invoked with
+ * <code>null</code> call data. Tunnels that require the request body to compute their headers must use
+ * {@link UrlConnectionHttpServiceTunnelTransport}.</li>
+ * <li>{@link HttpURLConnection} cannot resend the request, so authentication challenges (401) and redirects fail with
+ * a {@link java.net.HttpRetryException}. The server must accept the first request as is.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class PooledHttpServiceTunnelTransport implements IHttpServiceTunnelTransport {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PooledHttpServiceTunnelTransport.class);
+  private static final int DRAIN_BUFFER_SIZE = 4096;
+
+  private final ConcurrentMap<String, Semaphore> m_hostPermits = new ConcurrentHashMap<>();
+  private final ConcurrentMap<SSLSocketFactory, SSLSocketFactory> m_handshakeCountingFactories = new ConcurrentHashMap<>();
+  private final int m_maxConnectionsPerHost;
+  private final long m_waitTimeoutMillis;
+
+  private final AtomicLong m_requestCount = new AtomicLong();
+  private final AtomicLong m_immediateLeaseCount = new AtomicLong();
+  private final AtomicLong m_poolWaitCount = new AtomicLong();
+  private final AtomicLong m_poolWaitTimeoutCount = new AtomicLong();
+  private final AtomicLong m_handshakeCount = new AtomicLong();
+
+  public PooledHttpServiceTunnelTransport() {
+    m_maxConnectionsPerHost = CONFIG.getPropertyValue(ServiceTunnelMaxConnectionsPerHostProperty.class);
+    m_waitTimeoutMillis = CONFIG.getPropertyValue(ServiceTunnelConnectionWaitTimeoutProperty.class);
+  }
+
+  @Override
+  public ServiceTunnelResponse execute(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception {
+    final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
+    m_requestCount.incrementAndGet();
+
+    final Semaphore permits = getHostPermits(tunnel.getServerUrl());
+    acquire(permits);
+    try {
+      return executeInternal(tunnel, serviceRequest);
+    }
+    finally {
+      permits.release();
+      if (LOG.isDebugEnabled()) {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tStart);
+        LOG.debug("TIME {}.{} {}ms", serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation(), elapsedMillis);
+      }
+    }
+  }
+
+  protected ServiceTunnelResponse executeInternal(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception {
+    final URLConnection urlConnection = tunnel.openURLConnection(serviceRequest);
+    installHandshakeListener(urlConnection);
+    if (urlConnection instanceof HttpURLConnection) {
+      ((HttpURLConnection) urlConnection).setChunkedStreamingMode(0); // stream the request using the default chunk size
+    }
+    tunnel.addCustomHeaders(urlConnection, "POST", null);
+
+    try {
+      // Send the request to the server.
+      try (OutputStream out = urlConnection.getOutputStream()) {
+        tunnel.getContentHandler().writeRequest(out, serviceRequest);
+      }
+
+      // Receive the response.
+      final int httpStatusCode = (urlConnection instanceof HttpURLConnection ? ((HttpURLConnection) urlConnection).getResponseCode() : 200);
+      tunnel.interceptHttpResponse(urlConnection, serviceRequest, httpStatusCode);
+      if (httpStatusCode != 0 && (httpStatusCode < 200 || httpStatusCode > 299)) {
+        consumeErrorStream(urlConnection);
+        return new ServiceTunnelResponse(new HttpException(httpStatusCode)); // request failed
+      }
+
+      try (InputStream in = urlConnection.getInputStream()) {
+        final ServiceTunnelResponse response = tunnel.getContentHandler().readResponse(in);
+        drainQuietly(in);
+        return response;
+      }
+    }
+    catch (IOException e) {
+      consumeErrorStream(urlConnection);
+      throw e;
+    }
+  }
+
+  /**
+   * Acquires a connection permit, waiting at most {@link ServiceTunnelConnectionWaitTimeoutProperty} milliseconds.
+   */
+  protected void acquire(Semaphore permits) throws IOException {
+    if (permits.tryAcquire()) {
+      m_immediateLeaseCount.incrementAndGet();
+      return;
+    }
+
+    m_poolWaitCount.incrementAndGet();
+    try {
+      if (!permits.tryAcquire(m_waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        m_poolWaitTimeoutCount.incrementAndGet();
+        throw new IOException("Timeout while waiting for a free service tunnel connection [maxConnectionsPerHost=" + m_maxConnectionsPerHost + ", timeout=" + m_waitTimeoutMillis + "ms]");
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedException("Interrupted while waiting for a free service tunnel connection", e);
+    }
+  }
+
+  protected Semaphore getHostPermits(URL url) {
+    final String hostKey = url.getProtocol() + "://" + url.getHost() + ":" + (url.getPort() != -1 ? url.getPort() : url.getDefaultPort());
+    Semaphore permits = m_hostPermits.get(hostKey);
+    if (permits == null) {
+      permits = new Semaphore(m_maxConnectionsPerHost, true);
+      final Semaphore existing = m_hostPermits.putIfAbsent(hostKey, permits);
+      if (existing != null) {
+        permits = existing;
+      }
+    }
+    return permits;
+  }
+
+  /**
+   * Counts the TLS handshakes of connections using the default {@link SSLSocketFactory}. The same wrapper instance is
+   * used for all connections because the JRE only reuses cached connections created by an identical factory.
+   */
+  protected void installHandshakeListener(URLConnection urlConnection) {
+    if (!(urlConnection instanceof HttpsURLConnection)) {
+      return;
+    }
+    final HttpsURLConnection httpsConnection = (HttpsURLConnection) urlConnection;
+    final SSLSocketFactory delegate = httpsConnection.getSSLSocketFactory();
+    if (delegate == null || delegate instanceof P_HandshakeCountingSocketFactory) {
+      return;
+    }
+    SSLSocketFactory factory = m_handshakeCountingFactories.get(delegate);
+    if (factory == null) {
+      factory = new P_HandshakeCountingSocketFactory(delegate);
+      final SSLSocketFactory existing = m_handshakeCountingFactories.putIfAbsent(delegate, factory);
+      if (existing != null) {
+        factory = existing;
+      }
+    }
+    httpsConnection.setSSLSocketFactory(factory);
+  }
+
+  /**
+   * Reads and closes the error stream so that the underlying connection can be reused.
+   */
+  protected void consumeErrorStream(URLConnection urlConnection) {
+    if (!(urlConnection instanceof HttpURLConnection)) {
+      return;
+    }
+    try (InputStream err = ((HttpURLConnection) urlConnection).getErrorStream()) {
+      if (err != null) {
+        drainQuietly(err);
+      }
+    }
+    catch (IOException e) {
+      LOG.debug("Could not close error stream of service tunnel connection", e);
+    }
+  }
+
+  /**
+   * Discards the remaining bytes of the given stream. If the stream was already closed by the content handler, the JRE
+   * takes care of the remaining bytes itself.
+   */
+  protected void drainQuietly(InputStream in) {
+    final byte[] buf = new byte[DRAIN_BUFFER_SIZE];
+    try {
+      while (in.read(buf) >= 0) {
+        // NOOP: discard remaining bytes
+      }
+    }
+    catch (IOException e) {
+      LOG.debug("Could not consume stream of service tunnel connection", e);
+    }
+  }
+
+  /**
+   * @return total number of requests sent by this transport.
+   */
+  public long getRequestCount() {
+    return m_requestCount.get();
+  }
+
+  /**
+   * @return number of requests which immediately got a connection permit without waiting. This does not tell whether
+   *         the JRE reused a kept-alive connection or had to open a new one; for HTTPS see {@link #getHandshakeCount()}.
+   */
+  public long getImmediateLeaseCount() {
+    return m_immediateLeaseCount.get();
+  }
+
+  /**
+   * @return number of requests which had to wait for a free connection because the per host limit was reached.
+   */
+  public long getPoolWaitCount() {
+    return m_poolWaitCount.get();
+  }
+
+  /**
+   * @return number of requests which failed because no connection became available in time.
+   */
+  public long getPoolWaitTimeoutCount() {
+    return m_poolWaitTimeoutCount.get();
+  }
+
+  /**
+   * @return number of TLS handshakes, i.e. the number of new HTTPS connections established.
+   */
+  public long getHandshakeCount() {
+    return m_handshakeCount.get();
+  }
+
+  /**
+   * @return number of requests currently sent to the given host.
+   */
+  public int getActiveConnectionCount(URL url) {
+    return m_maxConnectionsPerHost - getHostPermits(url).availablePermits();
+  }
+
+  /**
+   * {@link SSLSocketFactory} which counts the completed handshakes of the sockets it creates.
+   */
+  private class P_HandshakeCountingSocketFactory extends SSLSocketFactory {
+
+    private final SSLSocketFactory m_delegate;
+    private final HandshakeCompletedListener m_listener = new HandshakeCompletedListener() {
+
+      @Override
+      public void handshakeCompleted(HandshakeCompletedEvent event) {
+        m_handshakeCount.incrementAndGet();
+      }
+    };
+
+    P_HandshakeCountingSocketFactory(SSLSocketFactory delegate) {
+      m_delegate = delegate;
+    }
+
+    private Socket register(Socket socket) {
+      if (socket instanceof SSLSocket) {
+        ((SSLSocket) socket).addHandshakeCompletedListener(m_listener);
+      }
+      return socket;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+      return m_delegate.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+      return m_delegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return register(m_delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+      return register(m_delegate.createSocket(s, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      return register(m_delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+      return register(m_delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      return register(m_delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+      return register(m_delegate.createSocket(address, port, localAddress, localPort));
+    }
+  }
+}
@@ -10,13 +10,8 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
 import java.lang.reflect.Method;
-import java.net.HttpURLConnection;
-import java.net.URLConnection;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
@@ -25,7 +20,6 @@ import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
 import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
-import org.eclipse.scout.rt.shared.servicetunnel.HttpException;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.slf4j.Logger;
@@ -33,8 +27,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class is a {@link Callable} to invoke the service operation as described by {@link IServiceTunnelRequest}
- * remotely on backend server. The HTTP connection is established based on the {@link AbstractHttpServiceTunnel}.
- * Additionally, this class implements {@link ICancellable} to cancel the ongoing request.
+ * remotely on backend server. The request is sent by the {@link IHttpServiceTunnelTransport} of the
+ * {@link AbstractHttpServiceTunnel}. Additionally, this class implements {@link ICancellable} to cancel the ongoing
+ * request.
  * <p>
  * This class is intended to be given to the job manager for execution and to be registered within the
  * {@link RunMonitor} for cancellation support.
@@ -60,37 +55,11 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
    */
   @Override
   public ServiceTunnelResponse call() throws Exception {
-    long nBytes = 0;
-
-    final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
-    try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
-
-      // Send the request to the server.
-      final URLConnection m_urlConnection = m_tunnel.createURLConnection(m_serviceRequest, requestData);
-
-      // Receive the response.
-      final int httpStatusCode = (m_urlConnection instanceof HttpURLConnection ? ((HttpURLConnection) m_urlConnection).getResponseCode() : 200);
-      m_tunnel.interceptHttpResponse(m_urlConnection, m_serviceRequest, httpStatusCode);
-      if (httpStatusCode != 0 && (httpStatusCode < 200 || httpStatusCode > 299)) {
-        return new ServiceTunnelResponse(new HttpException(httpStatusCode)); // request failed
-      }
-
-      try (InputStream in = m_urlConnection.getInputStream()) {
-        return m_tunnel.getContentHandler().readResponse(in);
-      }
-    }
-    finally {
-      if (LOG.isDebugEnabled()) {
-        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tStart);
-        LOG.debug("TIME {}.{} {}ms {} bytes", m_serviceRequest.getServiceInterfaceClassName(), m_serviceRequest.getOperation(), elapsedMillis, nBytes);
-      }
+    final HttpServiceTunnelBatcher batcher = m_tunnel.getBatcher();
+    if (batcher != null) {
+      return batcher.execute(m_tunnel, m_serviceRequest);
     }
+    return m_tunnel.getTransport().execute(m_tunnel, m_serviceRequest);
   }
 
   /**
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.shared.servicetunnel.HttpException;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transport which buffers the whole request in memory and sends it through a new {@link URLConnection} created by
+ * {@link AbstractHttpServiceTunnel#createURLConnection(ServiceTunnelRequest, byte[])}.
+ * <p>
+ * Use this transport if the tunnel requires the complete request data upfront, e.g. to sign the request body in
+ * {@link AbstractHttpServiceTunnel#addCustomHeaders(URLConnection, String, byte[])}.
+ */
+@ApplicationScoped
+public class UrlConnectionHttpServiceTunnelTransport implements IHttpServiceTunnelTransport {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UrlConnectionHttpServiceTunnelTransport.class);
+
+  @Override
+  public ServiceTunnelResponse execute(AbstractHttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest) throws Exception {
+    long nBytes = 0;
+
+    final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
+    try {
+      // Create the request.
+      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+      tunnel.getContentHandler().writeRequest(requestMessage, serviceRequest);
+      requestMessage.close();
+      final byte[] requestData = requestMessage.toByteArray();
+      nBytes = requestData.length;
+
+      // Send the request to the server.
+      final URLConnection urlConnection = tunnel.createURLConnection(serviceRequest, requestData);
+
+      // Receive the response.
+      final int httpStatusCode = (urlConnection instanceof HttpURLConnection ? ((HttpURLConnection) urlConnection).getResponseCode() : 200);
+      tunnel.interceptHttpResponse(urlConnection, serviceRequest, httpStatusCode);
+      if (httpStatusCode != 0 && (httpStatusCode < 200 || httpStatusCode > 299)) {
+        return new ServiceTunnelResponse(new HttpException(httpStatusCode)); // request failed
+      }
+
+      try (InputStream in = urlConnection.getInputStream()) {
+        return tunnel.getContentHandler().readResponse(in);
+      }
+    }
+    finally {
+      if (LOG.isDebugEnabled()) {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tStart);
+        LOG.debug("TIME {}.{} {}ms {} bytes", serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation(), elapsedMillis, nBytes);
+      }
+    }
+  }
+}
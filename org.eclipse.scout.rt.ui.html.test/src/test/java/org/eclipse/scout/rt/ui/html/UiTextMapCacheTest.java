@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2010-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.shared.ScoutTexts;
+import org.eclipse.scout.rt.shared.services.common.text.ITextProviderService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.shared.TestingUtility;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link UiTextMapCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class UiTextMapCacheTest {
+  private static final String TEXT_KEY = "UiTextMapCacheTestKey";
+
+  private IBean<?> m_contributorBean;
+  private ITextProviderService m_providerA;
+  private ITextProviderService m_providerB;
+  private UiTextMapCache m_cache;
+
+  @Before
+  public void before() {
+    m_contributorBean = TestingUtility.registerBean(new BeanMetaData(IUiTextContributor.class).withInitialInstance(new IUiTextContributor() {
+      @Override
+      public void contributeUiTextKeys(Set<String> textKeys) {
+        textKeys.add(TEXT_KEY);
+      }
+    }).withApplicationScoped(true));
+    m_providerA = createTextProvider("A");
+    m_providerB = createTextProvider("B");
+    m_cache = new UiTextMapCache();
+  }
+
+  @After
+  public void after() {
+    ScoutTexts.CURRENT.remove();
+    TestingUtility.unregisterBean(m_contributorBean);
+  }
+
+  @Test
+  public void testSharedBySameTextProviders() {
+    ScoutTexts.CURRENT.set(new ScoutTexts(Collections.singletonList(m_providerA)));
+    JSONObject map = m_cache.getTextMap(Locale.GERMAN);
+    assertEquals("A", map.getString(TEXT_KEY));
+
+    ScoutTexts.CURRENT.set(new ScoutTexts(Collections.singletonList(m_providerA)));
+    assertSame(map, m_cache.getTextMap(Locale.GERMAN));
+  }
+
+  @Test
+  public void testRebuiltForOtherTextProviders() {
+    ScoutTexts.CURRENT.set(new ScoutTexts(Collections.singletonList(m_providerA)));
+    assertEquals("A", m_cache.getTextMap(Locale.GERMAN).getString(TEXT_KEY));
+
+    ScoutTexts.CURRENT.set(new ScoutTexts(Collections.singletonList(m_providerB)));
+    assertEquals("B", m_cache.getTextMap(Locale.GERMAN).getString(TEXT_KEY));
+  }
+
+  @Test
+  public void testNotCachedForScoutTextsSubclass() {
+    ScoutTexts.CURRENT.set(new ScoutTexts(Collections.singletonList(m_providerA)) {
+    });
+    JSONObject map = m_cache.getTextMap(Locale.GERMAN);
+    assertEquals("A", map.getString(TEXT_KEY));
+    assertNotSame(map, m_cache.getTextMap(Locale.GERMAN));
+  }
+
+  private static ITextProviderService createTextProvider(String text) {
+    ITextProviderService provider = mock(ITextProviderService.class);
+    when(provider.getText(any(Locale.class), anyString())).thenReturn(text);
+    return provider;
+  }
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2014-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class DefaultHttpCacheControlTest {
+
+  private static final int RESOURCE_SIZE = 1000;
+
+  private HttpServletRequest m_req;
+
+  @Before
+  public void before() {
+    HttpSession session = mock(HttpSession.class);
+    when(session.getAttribute(anyString())).thenReturn(Boolean.TRUE);
+    m_req = mock(HttpServletRequest.class);
+    when(m_req.getSession()).thenReturn(session);
+    when(m_req.getSession(false)).thenReturn(session);
+    when(m_req.getDateHeader(IHttpCacheControl.IF_MODIFIED_SINCE)).thenReturn(-1L);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    DefaultHttpCacheControl cacheControl = new P_HttpCacheControl(3 * RESOURCE_SIZE);
+    HttpCacheObject a = createCacheObject("/a.png");
+    HttpCacheObject b = createCacheObject("/b.png");
+    HttpCacheObject c = createCacheObject("/c.png");
+    cacheControl.putCacheObject(m_req, a);
+    cacheControl.putCacheObject(m_req, b);
+    cacheControl.putCacheObject(m_req, c);
+    assertEquals(3 * RESOURCE_SIZE, cacheControl.getCacheSize());
+
+    // a is used again, b is now the least recently used object
+    assertSame(a, cacheControl.getCacheObject(m_req, a.getCacheKey()));
+    HttpCacheObject d = createCacheObject("/d.png");
+    cacheControl.putCacheObject(m_req, d);
+
+    assertSame(a, cacheControl.getCacheObject(m_req, a.getCacheKey()));
+    assertNull(cacheControl.getCacheObject(m_req, b.getCacheKey()));
+    assertSame(c, cacheControl.getCacheObject(m_req, c.getCacheKey()));
+    assertSame(d, cacheControl.getCacheObject(m_req, d.getCacheKey()));
+    assertEquals(3 * RESOURCE_SIZE, cacheControl.getCacheSize());
+  }
+
+  @Test
+  public void testReplaceAndRemove() {
+    DefaultHttpCacheControl cacheControl = new P_HttpCacheControl(3 * RESOURCE_SIZE);
+    HttpCacheObject a = createCacheObject("/a.png");
+    cacheControl.putCacheObject(m_req, a);
+    HttpCacheObject a2 = createCacheObject("/a.png");
+    cacheControl.putCacheObject(m_req, a2);
+    assertEquals(RESOURCE_SIZE, cacheControl.getCacheSize());
+    assertSame(a2, cacheControl.getCacheObject(m_req, a.getCacheKey()));
+
+    assertSame(a2, cacheControl.removeCacheObject(m_req, a.getCacheKey()));
+    assertEquals(0, cacheControl.getCacheSize());
+    assertNull(cacheControl.getCacheObject(m_req, a.getCacheKey()));
+  }
+
+  @Test
+  public void testObjectLargerThanCache() {
+    DefaultHttpCacheControl cacheControl = new P_HttpCacheControl(RESOURCE_SIZE - 1);
+    HttpCacheObject a = createCacheObject("/a.png");
+    cacheControl.putCacheObject(m_req, a);
+    assertNull(cacheControl.getCacheObject(m_req, a.getCacheKey()));
+    assertEquals(0, cacheControl.getCacheSize());
+  }
+
+  @Test
+  public void testGzipVariantCreatedOnce() throws Exception {
+    DefaultHttpCacheControl cacheControl = new P_HttpCacheControl(10 * RESOURCE_SIZE);
+    HttpCacheObject js = createCacheObject("/app.js");
+    assertTrue(js.isCompressible());
+    cacheControl.putCacheObject(m_req, js);
+
+    byte[] gzipContent = js.getGzipContent();
+    assertNotNull(gzipContent);
+    assertSame(gzipContent, js.getGzipContent());
+    assertArrayEquals(js.getResource().getContent(), IOUtility.uncompressGzip(gzipContent));
+    assertEquals(RESOURCE_SIZE + gzipContent.length, cacheControl.getCacheSize());
+
+    HttpCacheObject png = createCacheObject("/a.png");
+    assertFalse(png.isCompressible());
+    assertNull(png.getGzipContent());
+  }
+
+  @Test
+  public void testGzipETag() {
+    DefaultHttpCacheControl cacheControl = new P_HttpCacheControl(10 * RESOURCE_SIZE);
+    HttpCacheObject js = createCacheObject("/app.js");
+
+    // client accepts gzip: strong ETag of the gzip variant
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    assertFalse(cacheControl.checkAndUpdateCacheHeaders(m_req, resp, js));
+    verify(resp).setHeader(IHttpCacheControl.ETAG, js.createGzipETag());
+    verify(resp).setHeader(IHttpCacheControl.VARY, GzipServletFilter.ACCEPT_ENCODING);
+    assertFalse(js.createGzipETag().startsWith("W/"));
+
+    when(m_req.getHeader(IHttpCacheControl.IF_NONE_MATCH)).thenReturn(js.createGzipETag());
+    resp = mock(HttpServletResponse.class);
+    assertTrue(cacheControl.checkAndUpdateCacheHeaders(m_req, resp, js));
+    verify(resp).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+
+    // client does not accept gzip: the ETag of the gzip variant does not match
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(null);
+    resp = mock(HttpServletResponse.class);
+    assertFalse(cacheControl.checkAndUpdateCacheHeaders(m_req, resp, js));
+    verify(resp, never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    verify(resp).setHeader(IHttpCacheControl.ETAG, js.createETag());
+  }
+
+  private static HttpCacheObject createCacheObject(String path) {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < RESOURCE_SIZE) {
+      sb.append("var x = 'abc';\n");
+    }
+    sb.setLength(RESOURCE_SIZE);
+    BinaryResource res = new BinaryResource(path.substring(1), null, sb.toString().getBytes(StandardCharsets.US_ASCII), 1L);
+    return new HttpCacheObject(new HttpCacheKey(path), true, IHttpCacheControl.MAX_AGE_4_HOURS, res);
+  }
+
+  private static class P_HttpCacheControl extends DefaultHttpCacheControl {
+    private static final long serialVersionUID = 1L;
+    private final long m_maxCacheSize;
+
+    P_HttpCacheControl(long maxCacheSize) {
+      m_maxCacheSize = maxCacheSize;
+    }
+
+    @Override
+    protected long getMaxCacheSize() {
+      return m_maxCacheSize;
+    }
+  }
+}
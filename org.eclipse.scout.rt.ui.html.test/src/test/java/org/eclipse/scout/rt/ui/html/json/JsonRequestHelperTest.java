@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2014-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JsonRequestHelper#writeResponse(ServletResponse, JSONObject)} with a large table and tree, which are
+ * streamed to the output stream of the response.
+ */
+public class JsonRequestHelperTest {
+  private ByteArrayOutputStream m_out;
+  private ServletResponse m_servletResponse;
+
+  @Before
+  public void before() throws IOException {
+    m_out = new ByteArrayOutputStream();
+    m_servletResponse = mock(ServletResponse.class);
+    when(m_servletResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+      @Override
+      public void write(int b) {
+        m_out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        m_out.write(b, off, len);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+        // NOP
+      }
+    });
+  }
+
+  @Test
+  public void testWriteLargeTable() throws Exception {
+    assertWrittenResponse(createResponse(createTable(1000, 8)));
+  }
+
+  @Test
+  public void testWriteLargeTree() throws Exception {
+    assertWrittenResponse(createResponse(createTree(3, 10)));
+  }
+
+  private void assertWrittenResponse(JSONObject response) throws IOException {
+    new JsonRequestHelper().writeResponse(m_servletResponse, response);
+    verify(m_servletResponse).setContentType("application/json");
+    verify(m_servletResponse).setCharacterEncoding(StandardCharsets.UTF_8.name());
+    assertArrayEquals(response.toString().getBytes(StandardCharsets.UTF_8), m_out.toByteArray());
+  }
+
+  private static JSONObject createResponse(JSONObject adapter) {
+    JSONObject adapterData = new JSONObject();
+    adapterData.put(adapter.getString("id"), adapter);
+    JSONObject response = new JSONObject();
+    response.put("#", 1L);
+    response.put("adapterData", adapterData);
+    response.put("events", new JSONArray());
+    return response;
+  }
+
+  private static JSONObject createTable(int rowCount, int columnCount) {
+    JSONArray rows = new JSONArray();
+    for (int r = 0; r < rowCount; r++) {
+      JSONArray cells = new JSONArray();
+      for (int c = 0; c < columnCount; c++) {
+        cells.put("Cell text \u00e4 " + r + "/" + c);
+      }
+      JSONObject row = new JSONObject();
+      row.put("id", "r" + r);
+      row.put("cells", cells);
+      row.put("checked", r % 2 == 0);
+      rows.put(row);
+    }
+    JSONObject table = new JSONObject();
+    table.put("id", "1");
+    table.put("objectType", "Table");
+    table.put("rows", rows);
+    return table;
+  }
+
+  private static JSONObject createTree(int depth, int childCount) {
+    JSONObject tree = new JSONObject();
+    tree.put("id", "2");
+    tree.put("objectType", "Tree");
+    tree.put("nodes", createNodes("n", depth, childCount));
+    return tree;
+  }
+
+  private static JSONArray createNodes(String parentId, int depth, int childCount) {
+    JSONArray nodes = new JSONArray();
+    for (int i = 0; i < childCount; i++) {
+      String id = parentId + "-" + i;
+      JSONObject node = new JSONObject();
+      node.put("id", id);
+      node.put("text", "Node " + id);
+      node.put("leaf", depth == 1);
+      if (depth > 1) {
+        node.put("childNodes", createNodes(id, depth - 1, childCount));
+      }
+      nodes.put(node);
+    }
+    return nodes;
+  }
+}
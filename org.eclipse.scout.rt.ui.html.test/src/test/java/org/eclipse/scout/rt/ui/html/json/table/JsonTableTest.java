@@ -1083,6 +1083,177 @@ public class JsonTableTest {
     assertNull(events); // No events should be emitted
   }
 
+  @Test
+  public void testRowWindow() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+
+    JSONObject json = jsonTable.toJson();
+    assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(5, json.getInt(JsonTable.PROP_ROW_COUNT));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(1)));
+    assertNull(jsonTable.getTableRowId(table.getRow(2)));
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, new JSONObject()));
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, events.size());
+    assertEquals(2, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertNotNull(jsonTable.getTableRowId(table.getRow(3)));
+    assertNull(jsonTable.getTableRowId(table.getRow(4)));
+  }
+
+  @Test
+  public void testRowWindow_toJsonWithoutPaging() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(2);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+
+    JSONObject json = jsonTable.toJson();
+    assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertFalse(json.has(JsonTable.PROP_ROW_COUNT));
+  }
+
+  /**
+   * Rows inserted or updated outside of the loaded rows are not sent, only the row count changes.
+   */
+  @Test
+  public void testRowWindow_insertAndUpdate() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+    jsonTable.toJson();
+
+    table.getColumnSet().getColumn(0).setValue(table.getRow(4), "changed");
+    table.fill(2, false);
+    JsonResponse response = m_uiSession.currentJsonResponse();
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED).size());
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_UPDATED).size());
+    assertEquals(Integer.valueOf(7), JsonTestUtility.<Integer> extractProperty(response, jsonTable.getId(), JsonTable.PROP_ROW_COUNT));
+  }
+
+  /**
+   * The rows up to a selected row the UI has not loaded yet are sent along with the selection, in model order.
+   */
+  @Test
+  public void testRowWindow_selection() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(6);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+    jsonTable.toJson();
+
+    table.selectRow(4);
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), null, jsonTable.getId());
+    assertEquals(JsonTable.EVENT_ROWS_INSERTED, events.get(0).getType());
+    assertEquals(JsonTable.EVENT_ROWS_SELECTED, events.get(1).getType());
+    JSONArray jsonRows = events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(3, jsonRows.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(2)), jsonRows.getJSONObject(0).getString("id"));
+    String rowId = jsonTable.getTableRowId(table.getRow(4));
+    assertEquals(rowId, jsonRows.getJSONObject(2).getString("id"));
+    assertEquals(rowId, events.get(1).getData().getJSONArray(JsonTable.PROP_ROW_IDS).getString(0));
+    assertNull(jsonTable.getTableRowId(table.getRow(5)));
+
+    jsonTable.handleUiEvent(createJsonRowsSelectedEvent(rowId));
+    assertTrue(table.getRow(4).isSelected());
+  }
+
+  /**
+   * toJson sends the rows up to the first selected row without gaps.
+   */
+  @Test
+  public void testRowWindow_toJsonWithSelection() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(6);
+    table.initTable();
+    table.selectRow(3);
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+
+    JSONObject json = jsonTable.toJson();
+    JSONArray jsonRows = json.getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(4, jsonRows.length());
+    for (int i = 0; i < jsonRows.length(); i++) {
+      assertEquals(jsonTable.getTableRowId(table.getRow(i)), jsonRows.getJSONObject(i).getString("id"));
+    }
+    assertEquals(jsonTable.getTableRowId(table.getRow(3)), json.getJSONArray(JsonTable.PROP_SELECTED_ROWS).getString(0));
+  }
+
+  /**
+   * Select all selects the rows the UI has not loaded yet as well. Their selection is sent when they are loaded.
+   */
+  @Test
+  public void testRowWindow_selectAll() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.setMultiSelect(true);
+    table.fill(5);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+    jsonTable.toJson();
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_SELECT_ALL, new JSONObject()));
+    assertEquals(5, table.getSelectedRowCount());
+    JsonResponse response = m_uiSession.currentJsonResponse();
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED).size());
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_SELECTED);
+    assertEquals(1, events.size());
+    assertEquals(2, events.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+
+    JsonTestUtility.endRequest(m_uiSession);
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, new JSONObject()));
+    events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), null, jsonTable.getId());
+    assertEquals(JsonTable.EVENT_ROWS_INSERTED, events.get(0).getType());
+    assertEquals(JsonTable.EVENT_ROWS_SELECTED, events.get(1).getType());
+    assertEquals(4, events.get(1).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+  }
+
+  /**
+   * Check all checks the rows the UI has not loaded yet as well, they carry their checked state when they are loaded.
+   */
+  @Test
+  public void testRowWindow_checkAll() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.setCheckable(true);
+    table.fill(5);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+    jsonTable.toJson();
+
+    JSONObject data = new JSONObject();
+    data.put("checked", true);
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_CHECK_ALL, data));
+    assertEquals(5, table.getCheckedRows().size());
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_CHECKED);
+    assertEquals(1, events.size());
+    assertEquals(2, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+
+    JsonTestUtility.endRequest(m_uiSession);
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, new JSONObject()));
+    events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertTrue(events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).getJSONObject(0).getBoolean("checked"));
+  }
+
+  /**
+   * Rows the UI has not loaded yet must not be filtered by the filter of the UI.
+   */
+  @Test
+  public void testRowWindow_rowsFiltered() throws Exception {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.initTable();
+    JsonTable<ITable> jsonTable = newJsonTable(table, 2);
+    jsonTable.toJson();
+
+    jsonTable.handleUiEvent(createJsonRowsFilteredEvent(jsonTable.getTableRowId(table.getRow(0))));
+    assertTrue(table.getRow(0).isFilterAccepted());
+    assertFalse(table.getRow(1).isFilterAccepted());
+    assertTrue(table.getRow(2).isFilterAccepted());
+    assertTrue(table.getRow(4).isFilterAccepted());
+  }
+
   @Test
   public void testOptTableRow() throws Exception {
     JsonTable<ITable> jsonTable = m_uiSession.newJsonAdapter(new TableWith3Cols(), null);
@@ -1095,6 +1266,17 @@ public class JsonTableTest {
     jsonTable.getTableRow("foo");
   }
 
+  private JsonTable<ITable> newJsonTable(ITable table, final int rowWindowSize) {
+    JsonTable<ITable> jsonTable = new JsonTable<ITable>(table, m_uiSession, m_uiSession.createUniqueId(), null) {
+      @Override
+      protected int getRowWindowSize() {
+        return rowWindowSize;
+      }
+    };
+    jsonTable.init();
+    return jsonTable;
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
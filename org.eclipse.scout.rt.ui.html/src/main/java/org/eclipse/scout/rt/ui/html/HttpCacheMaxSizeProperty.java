@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2014-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
+
+/**
+ * Maximum number of bytes held by the servlet-wide cache of web resources (scripts, stylesheets, html files, images
+ * etc.), including their compressed variants. The least recently used resources are removed from the cache when it
+ * grows larger. The default is 64 MB.
+ */
+public class HttpCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+  @Override
+  protected Long getDefaultValue() {
+    return Long.valueOf(64L * 1024L * 1024L);
+  }
+
+  @Override
+  public String getKey() {
+    return "scout.ui.http.cache.max.size";
+  }
+}
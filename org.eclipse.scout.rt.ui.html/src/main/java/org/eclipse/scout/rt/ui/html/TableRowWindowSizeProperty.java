@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2014-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+
+/**
+ * Maximum number of table rows sent to the UI at once. Further rows are sent when the UI scrolls towards the end of the
+ * rows it has already loaded. The default is 1000.
+ */
+public class TableRowWindowSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+  @Override
+  protected Integer getDefaultValue() {
+    return Integer.valueOf(1000);
+  }
+
+  @Override
+  public String getKey() {
+    return "scout.ui.table.row.window.size";
+  }
+}
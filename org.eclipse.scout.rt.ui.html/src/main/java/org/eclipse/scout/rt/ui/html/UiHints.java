@@ -90,6 +90,10 @@ public final class UiHints {
     return calculateHint(req, SESSION_ATTRIBUTE_CACHE_HINT, !Platform.get().inDevelopmentMode());
   }
 
+  public static boolean isCompressHint(HttpServletRequest req) {
+    return calculateHint(req, GzipServletFilter.SESSION_ATTRIBUTE_COMPRESS_HINT, !Platform.get().inDevelopmentMode());
+  }
+
   public static boolean isMinifyHint(HttpServletRequest req) {
     return calculateHint(req, SESSION_ATTRIBUTE_MINIFY_HINT, !Platform.get().inDevelopmentMode());
   }
@@ -14,8 +14,6 @@ import java.security.AccessController;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -52,7 +50,6 @@ import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledException;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedException;
-import org.eclipse.scout.rt.shared.TEXTS;
 import org.eclipse.scout.rt.shared.job.filter.event.SessionJobEventFilter;
 import org.eclipse.scout.rt.shared.job.filter.future.SessionFutureFilter;
 import org.eclipse.scout.rt.shared.ui.IUiDeviceType;
@@ -139,26 +136,11 @@ public class UiSession implements IUiSession, HttpSessionBindingListener {
     return new JsonEventProcessor(this);
   }
 
+  /**
+   * @return the texts sent to the UI, shared by all sessions with the same locale (see {@link UiTextMapCache})
+   */
   protected JSONObject getTextMap(Locale locale) {
-    // Collect textKeys
-    Set<String> textKeys = new TreeSet<String>();
-    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
-      contributor.contributeUiTextKeys(textKeys);
-      LOG.debug("Gathered ui text keys from contributor {}", contributor);
-    }
-
-    // Resolve texts with the given locale
-    JSONObject map = new JSONObject();
-    for (String textKey : textKeys) {
-      String text = TEXTS.getWithFallback(locale, textKey, null);
-      if (text != null) {
-        map.put(textKey, text);
-      }
-      else {
-        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
-      }
-    }
-    return map;
+    return BEANS.get(UiTextMapCache.class).getTextMap(locale);
   }
 
   /**
@@ -171,7 +153,7 @@ public class UiSession implements IUiSession, HttpSessionBindingListener {
     // Ensure no listener is currently registered.
     uninstallUiDataAvailableListener();
 
-    // Register new job listener.
+    // Register new job listener. The session filter provides the key to only notify the listener about events of this session's jobs.
     m_uiDataAvailableListener = Jobs.getJobManager().addListener(
         ModelJobs.newEventFilterBuilder()
             .andMatch(new SessionJobEventFilter(clientSession))
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2014-2015 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.ScoutTexts;
+import org.eclipse.scout.rt.shared.TEXTS;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Application-wide cache of the texts sent to the UI on session startup (see {@link IUiTextContributor}). The text map
+ * of a locale is built once and shared by all {@link UiSession}s resolving texts with the same text providers (see
+ * {@link ScoutTexts#getTextProvidersKey()}). If the text providers change, the text map is built again.
+ *
+ * @since 5.2
+ */
+@ApplicationScoped
+public class UiTextMapCache {
+  private static final Logger LOG = LoggerFactory.getLogger(UiTextMapCache.class);
+
+  private final ConcurrentMap<Locale, P_TextMap> m_textMaps = new ConcurrentHashMap<>();
+
+  /**
+   * @return the texts of all contributed text keys in the given locale, resolved with the current {@link ScoutTexts}.
+   *         The returned object is shared and must not be modified.
+   */
+  public JSONObject getTextMap(Locale locale) {
+    Object textProvidersKey = ScoutTexts.getInstance().getTextProvidersKey();
+    if (locale == null || textProvidersKey == null) {
+      return createTextMap(locale);
+    }
+    P_TextMap textMap = m_textMaps.get(locale);
+    if (textMap == null || !textMap.getTextProvidersKey().equals(textProvidersKey)) {
+      textMap = new P_TextMap(textProvidersKey, createTextMap(locale));
+      m_textMaps.put(locale, textMap);
+    }
+    return textMap.getMap();
+  }
+
+  /**
+   * Removes all cached text maps.
+   */
+  public void clear() {
+    m_textMaps.clear();
+  }
+
+  protected JSONObject createTextMap(Locale locale) {
+    // Collect textKeys
+    Set<String> textKeys = new TreeSet<String>();
+    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
+      contributor.contributeUiTextKeys(textKeys);
+      LOG.debug("Gathered ui text keys from contributor {}", contributor);
+    }
+
+    // Resolve texts with the given locale
+    JSONObject map = new JSONObject();
+    for (String textKey : textKeys) {
+      String text = TEXTS.getWithFallback(locale, textKey, null);
+      if (text != null) {
+        map.put(textKey, text);
+      }
+      else {
+        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
+      }
+    }
+    return map;
+  }
+
+  private static final class P_TextMap {
+    private final Object m_textProvidersKey;
+    private final JSONObject m_map;
+
+    P_TextMap(Object textProvidersKey, JSONObject map) {
+      m_textProvidersKey = textProvidersKey;
+      m_map = map;
+    }
+
+    Object getTextProvidersKey() {
+      return m_textProvidersKey;
+    }
+
+    JSONObject getMap() {
+      return m_map;
+    }
+  }
+}
@@ -10,13 +10,17 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.ui.html.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.ui.html.HttpCacheMaxSizeProperty;
 import org.eclipse.scout.rt.ui.html.UiHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,13 +30,23 @@ public class DefaultHttpCacheControl implements IHttpCacheControl {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpCacheControl.class);
 
   /**
-   * This cache is servlet-wide (all sessions)
+   * This cache is servlet-wide (all sessions). Iteration order is from least to most recently used, access is
+   * synchronized on the map.
    */
-  private Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<HttpCacheKey, HttpCacheObject>());
+  private final Map<HttpCacheKey, HttpCacheObject> m_cache = new LinkedHashMap<HttpCacheKey, HttpCacheObject>(16, 0.75f, true);
+  /**
+   * Sum of {@link HttpCacheObject#getMemorySize()} of all objects in {@link #m_cache}
+   */
+  private long m_cacheSize;
 
   public DefaultHttpCacheControl() {
   }
 
+  /**
+   * Stores the object in the cache. Compressible objects are compressed before they are stored, so their gzip variant
+   * is created only once. If the cache grows larger than {@link #getMaxCacheSize()}, the least recently used objects
+   * are removed.
+   */
   @Override
   public void putCacheObject(HttpServletRequest req, HttpCacheObject obj) {
     if (!UiHints.isCacheHint(req)) {
@@ -41,7 +55,30 @@ public class DefaultHttpCacheControl implements IHttpCacheControl {
     if (!obj.isCachingAllowed()) {
       return;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    obj.getGzipContent();
+    long size = obj.getMemorySize();
+    long maxSize = getMaxCacheSize();
+    if (size > maxSize) {
+      LOG.debug("Object is too large to be cached: {} size={}", obj.getCacheKey(), size);
+      return;
+    }
+    synchronized (m_cache) {
+      HttpCacheObject oldObj = m_cache.put(obj.getCacheKey(), obj);
+      if (oldObj != null) {
+        m_cacheSize -= oldObj.getMemorySize();
+      }
+      m_cacheSize += size;
+      Iterator<Entry<HttpCacheKey, HttpCacheObject>> it = m_cache.entrySet().iterator();
+      while (m_cacheSize > maxSize && it.hasNext()) {
+        HttpCacheObject eldest = it.next().getValue();
+        if (eldest == obj) {
+          continue;
+        }
+        it.remove();
+        m_cacheSize -= eldest.getMemorySize();
+        LOG.debug("Evicted object from cache: {}", eldest.getCacheKey());
+      }
+    }
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
   }
 
@@ -50,7 +87,10 @@ public class DefaultHttpCacheControl implements IHttpCacheControl {
     if (!UiHints.isCacheHint(req)) {
       return null;
     }
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    HttpCacheObject obj;
+    synchronized (m_cache) {
+      obj = m_cache.get(cacheKey);
+    }
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, (obj != null));
     return obj;
   }
@@ -60,7 +100,29 @@ public class DefaultHttpCacheControl implements IHttpCacheControl {
     if (!UiHints.isCacheHint(req)) {
       return null;
     }
-    return m_cache.remove(cacheKey);
+    synchronized (m_cache) {
+      HttpCacheObject obj = m_cache.remove(cacheKey);
+      if (obj != null) {
+        m_cacheSize -= obj.getMemorySize();
+      }
+      return obj;
+    }
+  }
+
+  /**
+   * @return the maximum number of bytes held by the cache, see {@link HttpCacheMaxSizeProperty}
+   */
+  protected long getMaxCacheSize() {
+    return CONFIG.getPropertyValue(HttpCacheMaxSizeProperty.class);
+  }
+
+  /**
+   * @return the number of bytes currently held by the cache
+   */
+  public long getCacheSize() {
+    synchronized (m_cache) {
+      return m_cacheSize;
+    }
   }
 
   @Override
@@ -93,8 +155,13 @@ public class DefaultHttpCacheControl implements IHttpCacheControl {
       // Note: "max-age=0, must-revalidate" would be the same as "no-cache"
       resp.setHeader("cache-control", "private, max-age=0, must-revalidate");
     }
+    if (obj.isCompressible()) {
+      // The content is sent gzip compressed or not, depending on the Accept-Encoding header of the request
+      resp.setHeader(VARY, GzipServletFilter.ACCEPT_ENCODING);
+    }
 
-    String etag = obj.createETag();
+    // The gzip variant is sent as is, therefore it has a strong ETag of its own
+    String etag = obj.isGzipAccepted(req) ? obj.createGzipETag() : obj.createETag();
     String ifNoneMatch = req.getHeader(IF_NONE_MATCH);
     boolean clientSentEtag = (ifNoneMatch != null);
 
@@ -10,27 +10,48 @@
  ******************************************************************************/
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.ui.html.UiHints;
 import org.eclipse.scout.rt.ui.html.UiServlet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Used in {@link IHttpCacheControl}
  */
 public class HttpCacheObject implements Serializable {
   private static final long serialVersionUID = 1L;
+  private static final Logger LOG = LoggerFactory.getLogger(HttpCacheObject.class);
+
+  /**
+   * Resources with these file extensions are sent gzip compressed (same default as {@link GzipServletFilter})
+   */
+  private static final Pattern COMPRESSIBLE_FILENAME_PATTERN = Pattern.compile(".*\\.(html|css|js|json|txt)", Pattern.CASE_INSENSITIVE);
+  /**
+   * Smaller resources are not compressed (same default as {@link GzipServletFilter})
+   */
+  private static final int COMPRESS_MIN_SIZE = 256;
 
   private final HttpCacheKey m_cacheKey;
   private final boolean m_cachingAllowed;
   private final int m_cacheMaxAge;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  /**
+   * gzip compressed content, created once on first use
+   */
+  private transient volatile byte[] m_gzipContent;
 
   public HttpCacheObject(HttpCacheKey cacheKey, boolean cachingAllowed, int cacheMaxAge, BinaryResource resource) {
     m_cacheKey = cacheKey;
@@ -65,6 +86,74 @@ public class HttpCacheObject implements Serializable {
     return null;
   }
 
+  /**
+   * @return a strong ETAG for the bytes of {@link #getGzipContent()} if the resource's {@link #getContentLength()} and
+   *         {@link #getFingerprint()} are both not -1
+   */
+  public String createGzipETag() {
+    if (m_resource.getFingerprint() != -1L && m_resource.getContentLength() != -1L) {
+      return "\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + "-" + GzipServletFilter.GZIP + "\"";
+    }
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if the resource is a text resource (html, css, js, json, txt) large enough to be sent gzip
+   *         compressed
+   */
+  public boolean isCompressible() {
+    return m_resource.getContentLength() >= COMPRESS_MIN_SIZE
+        && m_resource.getFilename() != null
+        && COMPRESSIBLE_FILENAME_PATTERN.matcher(m_resource.getFilename()).matches();
+  }
+
+  /**
+   * The content is compressed only once, on the first call of this method. Subsequent requests for the resource are
+   * served with the same bytes.
+   *
+   * @return the gzip compressed content of the resource or <code>null</code> if the resource is not
+   *         {@link #isCompressible()}
+   */
+  public byte[] getGzipContent() {
+    if (!isCompressible()) {
+      return null;
+    }
+    byte[] gzipContent = m_gzipContent;
+    if (gzipContent == null) {
+      try {
+        gzipContent = IOUtility.compressGzip(m_resource.getContent());
+        m_gzipContent = gzipContent;
+      }
+      catch (IOException e) {
+        LOG.warn("Could not compress resource {}", m_resource, e);
+        return null;
+      }
+    }
+    return gzipContent;
+  }
+
+  /**
+   * @return <code>true</code> if the gzip compressed content should be sent as response to the given request. This is
+   *         the case if the resource is {@link #isCompressible()}, the client accepts gzip encoding and compression is
+   *         not disabled by {@link UiHints#isCompressHint(HttpServletRequest)}.
+   */
+  public boolean isGzipAccepted(HttpServletRequest req) {
+    if (!isCompressible() || !UiHints.isCompressHint(req)) {
+      return false;
+    }
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains(GzipServletFilter.GZIP);
+  }
+
+  /**
+   * @return the approximate number of bytes held in memory by this object, i.e. the size of the content and of its gzip
+   *         compressed variant (if already created)
+   */
+  public long getMemorySize() {
+    byte[] gzipContent = m_gzipContent;
+    return Math.max(0, m_resource.getContentLength()) + (gzipContent != null ? gzipContent.length : 0);
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
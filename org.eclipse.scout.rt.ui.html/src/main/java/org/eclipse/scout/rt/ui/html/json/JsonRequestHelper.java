@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 
 import javax.servlet.ServletRequest;
@@ -20,6 +22,7 @@ import javax.servlet.ServletResponse;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
 import org.eclipse.scout.rt.ui.html.UiException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -102,35 +105,39 @@ public class JsonRequestHelper {
   }
 
   /**
-   * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * Writes the given {@link JSONObject} into the given {@link ServletResponse}. The JSON text is streamed to the output
+   * stream of the response without building a string first. If the GZIP filter is enabled, it buffers responses up to
+   * {@link GzipServletResponseWrapper#STREAMING_THRESHOLD} bytes and compresses larger ones while they are written.
+   * <p>
+   * Only the serialization is streamed: the given {@link JSONObject} tree, including all adapters and events (see
+   * {@link JsonResponse#toJson()}), is completely built in memory before this method is called.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8.name());
-    if (LOG.isDebugEnabled() && !LOG.isTraceEnabled() && jsonText.length() > 10000) {
-      // Truncate log output to not spam the log (and in case of eclipse to not make it freeze: https://bugs.eclipse.org/bugs/show_bug.cgi?id=175888)
-      jsonText = jsonText.substring(0, 10000) + "...";
-    }
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
     servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
     try {
-      servletResponse.getOutputStream().write(data);
+      Writer writer = new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8);
+      jsonResponse.write(writer);
+      writer.flush();
     }
     catch (final EOFException e) {
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
       if (LOG.isDebugEnabled()) {
-        sb.append(": ").append(jsonText);
-      }
-      else {
-        sb.append(" (").append(data.length).append(" bytes)");
+        sb.append(": ").append(jsonResponse.toString());
       }
       LOG.warn(sb.toString());
       return;
     }
-    LOG.debug("Returned: {}", jsonText);
+    if (LOG.isDebugEnabled()) {
+      String jsonText = jsonResponse.toString();
+      if (!LOG.isTraceEnabled() && jsonText.length() > 10000) {
+        // Truncate log output to not spam the log (and in case of eclipse to not make it freeze: https://bugs.eclipse.org/bugs/show_bug.cgi?id=175888)
+        jsonText = jsonText.substring(0, 10000) + "...";
+      }
+      LOG.debug("Returned: {}", jsonText);
+    }
   }
 
   /**
@@ -214,6 +214,9 @@ public class JsonResponse {
    * adapterMap and call toJson() for each adapter, if the adapter would create another adapter in its toJson() method,
    * the adapterMap would grow, which would cause a ConcurrentModificationException. Additionally we should conceptually
    * separate object creation from JSON output creation.
+   * <p>
+   * The returned object holds the complete response in memory. Only its text is streamed to the client, see
+   * {@link JsonRequestHelper#writeResponse(javax.servlet.ServletResponse, JSONObject)}.
    */
   public JSONObject toJson() {
     // Ensure all buffered events are handled. This might cause the addition of more events and adapters to this response.
@@ -42,6 +42,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -50,6 +51,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.shared.services.common.security.ACCESS;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.TableRowWindowSizeProperty;
 import org.eclipse.scout.rt.ui.html.UiException;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonPropertyObserver;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -113,6 +115,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   public static final String EVENT_REMOVE_FILTER = "removeFilter";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_ROWS_FILTERED = "rowsFiltered";
+  public static final String EVENT_ROWS_REQUESTED = "rowsRequested";
+  public static final String EVENT_SELECT_ALL = "selectAll";
+  public static final String EVENT_CHECK_ALL = "checkAll";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -124,6 +129,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  /**
+   * Number of rows of the table if not all of them have been sent to the UI yet, -1 otherwise.
+   */
+  public static final String PROP_ROW_COUNT = "rowCount";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -132,6 +141,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   private final TableEventFilter m_tableEventFilter;
   private final Map<IColumn, JsonColumn> m_jsonColumns;
   private final AbstractEventBuffer<TableEvent> m_eventBuffer;
+  private final int m_rowWindowSize;
+  private boolean m_rowPagingActive;
+  private boolean m_rowCountDirty;
+  private int m_uiRowCount;
+  /**
+   * Index of the model row to start looking for rows which have not been sent to the UI yet. All accepted rows before
+   * this index have been sent.
+   */
+  private int m_rowCursor;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -141,6 +159,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     m_tableEventFilter = new TableEventFilter(this);
     m_jsonColumns = new HashMap<IColumn, JsonColumn>();
     m_eventBuffer = model.createEventBuffer();
+    m_rowWindowSize = CONFIG.getPropertyValue(TableRowWindowSizeProperty.class).intValue();
+    m_uiRowCount = -1;
   }
 
   @Override
@@ -347,6 +367,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   protected void disposeAllRows() {
     m_tableRowIds.clear();
     m_tableRows.clear();
+    m_rowCursor = 0;
   }
 
   protected void disposeRow(ITableRow row) {
@@ -393,7 +414,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    // Only the first window of rows is sent, the UI requests further windows when scrolling (see handleUiRowsRequested).
+    // The UI expects the rows in model order without gaps, hence the rows up to the first selected row are sent as well
+    // if the window does not contain a selected row.
+    JSONArray jsonRows = tableRowsToJson(getRowsForToJson());
+    ITableRow firstSelectedRow = getFirstUnmaterializedSelectedRow(getModel().getSelectedRows());
+    if (firstSelectedRow != null) {
+      for (ITableRow row : getUnmaterializedRowsUpTo(firstSelectedRow)) {
+        jsonRows.put(tableRowToJson(row));
+      }
+    }
+    json.put(PROP_ROWS, jsonRows);
+    m_uiRowCount = calculateRowCount();
+    m_rowPagingActive = m_uiRowCount >= 0;
+    if (m_rowPagingActive) {
+      json.put(PROP_ROW_COUNT, m_uiRowCount);
+    }
     JsonContextMenu<IContextMenu> jsonContextMenu = getAdapter(getModel().getContextMenu());
     if (jsonContextMenu != null) {
       json.put(PROP_MENUS, jsonContextMenu.childActionsToJson());
@@ -487,6 +523,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_ROWS_REQUESTED.equals(event.getType())) {
+      handleUiRowsRequested(event);
+    }
+    else if (EVENT_SELECT_ALL.equals(event.getType())) {
+      handleUiSelectAll(event);
+    }
+    else if (EVENT_CHECK_ALL.equals(event.getType())) {
+      handleUiCheckAll(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -779,10 +824,38 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     }
     else {
       List<ITableRow> tableRows = extractTableRows(event.getData());
+      // The UI can only filter the rows it has already loaded, the other ones stay accepted until they are sent
+      tableRows.addAll(getUnmaterializedRows(Integer.MAX_VALUE));
       getModel().getUIFacade().setFilteredRowsFromUI(tableRows);
     }
   }
 
+  /**
+   * The UI scrolled towards the end of the rows it has loaded so far -> send the next window of rows.
+   */
+  protected void handleUiRowsRequested(JsonEvent event) {
+    sendRowWindow(getUnmaterializedRows(getRowWindowSize()));
+    if (getUnmaterializedRows(1).isEmpty()) {
+      // The UI has all rows now
+      m_rowPagingActive = false;
+    }
+  }
+
+  /**
+   * Sent instead of rowsSelected if the UI has not loaded all rows yet. The selection sent back only contains the
+   * loaded rows, the other ones are marked as selected when they are sent (see {@link #sendRowWindow(Collection)}).
+   */
+  protected void handleUiSelectAll(JsonEvent event) {
+    getModel().getUIFacade().setSelectedRowsFromUI(getModel().getFilteredRows());
+  }
+
+  /**
+   * Sent instead of rowsChecked if the UI has not loaded all rows yet. Rows sent later carry their checked state.
+   */
+  protected void handleUiCheckAll(JsonEvent event) {
+    getModel().getUIFacade().setCheckedRowsFromUI(getModel().getFilteredRows(), event.getData().optBoolean("checked", true));
+  }
+
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONArray jsonCells = new JSONArray();
     for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
@@ -845,6 +918,111 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     return id;
   }
 
+  /**
+   * @return the maximum number of rows sent to the UI at once
+   */
+  protected int getRowWindowSize() {
+    return m_rowWindowSize;
+  }
+
+  /**
+   * A row is materialized if it has been sent to the UI, which is the case if it has an id.
+   *
+   * @return at most <code>maxCount</code> accepted rows which have not been sent to the UI yet, in model order
+   */
+  protected List<ITableRow> getUnmaterializedRows(int maxCount) {
+    return getUnmaterializedRows(maxCount, null);
+  }
+
+  /**
+   * @return the accepted rows which have not been sent to the UI yet up to and including <code>lastRow</code>, in model
+   *         order
+   */
+  protected List<ITableRow> getUnmaterializedRowsUpTo(ITableRow lastRow) {
+    return getUnmaterializedRows(Integer.MAX_VALUE, lastRow);
+  }
+
+  private List<ITableRow> getUnmaterializedRows(int maxCount, ITableRow lastRow) {
+    List<ITableRow> rows = new ArrayList<>();
+    if (maxCount <= 0) {
+      return rows;
+    }
+    List<ITableRow> modelRows = getModel().getRows();
+    int rowCount = modelRows.size();
+    for (int i = Math.max(0, Math.min(m_rowCursor, rowCount)); i < rowCount; i++) {
+      ITableRow row = modelRows.get(i);
+      if (isRowAccepted(row) && !m_tableRowIds.containsKey(row)) {
+        if (rows.isEmpty()) {
+          // the rows before have been sent
+          m_rowCursor = i;
+        }
+        rows.add(row);
+        if (rows.size() >= maxCount || row == lastRow) {
+          break;
+        }
+      }
+    }
+    if (rows.isEmpty()) {
+      m_rowCursor = rowCount;
+    }
+    return rows;
+  }
+
+  /**
+   * @return the row with the lowest index of the given selected rows if none of them has been sent to the UI yet,
+   *         <code>null</code> otherwise. The rows up to this row have to be sent to make the selection visible.
+   */
+  protected ITableRow getFirstUnmaterializedSelectedRow(Collection<ITableRow> selectedRows) {
+    ITableRow firstRow = null;
+    for (ITableRow row : selectedRows) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (getTableRowId(row) != null) {
+        return null;
+      }
+      if (firstRow == null || row.getRowIndex() < firstRow.getRowIndex()) {
+        firstRow = row;
+      }
+    }
+    return firstRow;
+  }
+
+  /**
+   * @return the rows already sent to the UI and the next window of rows, in model order
+   */
+  protected List<ITableRow> getRowsForToJson() {
+    List<ITableRow> rows = new ArrayList<>();
+    int unmaterializedCount = 0;
+    for (ITableRow row : getModel().getRows()) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (getTableRowId(row) == null && ++unmaterializedCount > getRowWindowSize()) {
+        break;
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /**
+   * @return <code>true</code> if the UI has not loaded all rows yet
+   */
+  protected boolean isRowPagingActive() {
+    return m_rowPagingActive;
+  }
+
+  /**
+   * @return the number of rows the UI has to expect if not all rows are sent yet, -1 otherwise
+   */
+  protected int calculateRowCount() {
+    if (getUnmaterializedRows(1).isEmpty()) {
+      return -1;
+    }
+    return getFilteredRowCount();
+  }
+
   protected JSONArray rowIdsToJson(Collection<ITableRow> modelRows) {
     JSONArray jsonRowIds = new JSONArray();
     for (ITableRow row : modelRows) {
@@ -1036,6 +1214,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     for (TableEvent event : coalescedEvents) {
       processEvent(event);
     }
+    if (m_rowPagingActive || m_rowCountDirty) {
+      m_rowCountDirty = false;
+      int rowCount = calculateRowCount();
+      m_rowPagingActive = rowCount >= 0;
+      if (rowCount != m_uiRowCount) {
+        m_uiRowCount = rowCount;
+        addPropertyChangeEvent(PROP_ROW_COUNT, rowCount);
+      }
+    }
   }
 
   protected void processEvent(TableEvent event) {
@@ -1098,6 +1285,29 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   }
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
+    for (ITableRow row : modelRows) {
+      m_rowCursor = Math.min(m_rowCursor, row.getRowIndex());
+    }
+    if (isRowPagingActive()) {
+      // The UI has not loaded all rows yet, the inserted rows are sent when it requests the next window
+      m_rowCountDirty = true;
+      return;
+    }
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : modelRows) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (rows.size() >= getRowWindowSize()) {
+        m_rowCountDirty = true;
+        break;
+      }
+      rows.add(row);
+    }
+    sendRowsInserted(rows);
+  }
+
+  protected void sendRowsInserted(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = tableRowsToJson(modelRows);
     if (jsonRows.length() == 0) {
       return;
@@ -1107,8 +1317,29 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     addActionEvent(EVENT_ROWS_INSERTED, jsonEvent);
   }
 
+  /**
+   * Sends rows the UI has not loaded yet. The selection sent to the UI only contains loaded rows, hence it is sent again
+   * if some of the rows are selected.
+   */
+  protected void sendRowWindow(Collection<ITableRow> modelRows) {
+    sendRowsInserted(modelRows);
+    for (ITableRow row : modelRows) {
+      if (row.isSelected()) {
+        sendRowsSelected(getModel().getSelectedRows());
+        break;
+      }
+    }
+  }
+
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
+    // Rows not sent to the UI yet are sent with their current state when the UI requests them
+    List<ITableRow> rows = new ArrayList<>(modelRows.size());
+    for (ITableRow row : modelRows) {
+      if (getTableRowId(row) != null) {
+        rows.add(row);
+      }
+    }
+    JSONArray jsonRows = tableRowsToJson(rows);
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1121,6 +1352,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
     if (modelRows.isEmpty()) {
       return;
     }
+    // the indexes of the following rows changed
+    m_rowCursor = 0;
     if (getFilteredRowCount() == 0) {
       handleModelAllRowsDeleted();
       return;
@@ -1159,6 +1392,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   }
 
   protected void handleModelAllRowsDeleted() {
+    m_rowCursor = 0;
+    if (m_rowPagingActive) {
+      m_rowPagingActive = false;
+      m_rowCountDirty = true;
+    }
     if (m_tableRows.isEmpty()) {
       return;
     }
@@ -1168,6 +1406,16 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    // The UI expects the rows in model order without gaps. If it has none of the selected rows, the rows up to the first
+    // one are sent before the selection. Further selected rows are marked when they are sent.
+    ITableRow firstRow = getFirstUnmaterializedSelectedRow(modelRows);
+    if (firstRow != null) {
+      sendRowsInserted(getUnmaterializedRowsUpTo(firstRow));
+    }
+    sendRowsSelected(modelRows);
+  }
+
+  protected void sendRowsSelected(Collection<ITableRow> modelRows) {
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1176,7 +1424,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || getTableRowId(row) == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1193,6 +1441,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonPropertyObserver<T>
   }
 
   protected void handleModelRowOrderChanged(Collection<ITableRow> modelRows) {
+    if (isRowPagingActive()) {
+      // The UI only knows some of the rows -> replace them with the first window in the new order
+      disposeAllRows();
+      addActionEvent(EVENT_ALL_ROWS_DELETED);
+      sendRowsInserted(getUnmaterializedRows(getRowWindowSize()));
+      handleModelRowsSelected(getModel().getSelectedRows());
+      return;
+    }
     JSONArray jsonRowIds = new JSONArray();
     for (ITableRow row : modelRows) {
       if (!isRowAccepted(row)) {
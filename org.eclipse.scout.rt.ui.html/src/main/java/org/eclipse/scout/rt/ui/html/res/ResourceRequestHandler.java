@@ -23,6 +23,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.cache.HttpCacheKey;
@@ -97,11 +98,22 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     // set the resp headers only if no 304 (according to spec: http://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html#sec10.3.5)
     setHttpResponseHeaders(resp, binaryResource);
 
+    // Send the gzip variant which is compressed only once per cached resource
+    byte[] content = binaryResource.getContent();
+    if (resource.isGzipAccepted(req)) {
+      byte[] gzipContent = resource.getGzipContent();
+      if (gzipContent != null) {
+        content = gzipContent;
+        resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        resp.setContentLength(content.length);
+      }
+    }
+
     // Apply response interceptors
     resource.applyHttpResponseInterceptors(servlet, req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      resp.getOutputStream().write(content);
     }
     return true;
   }
@@ -19,6 +19,8 @@ scout.Table = function(model) {
   this.menus = [];
   this.rows = [];
   this.rowsMap = {}; // rows by id
+  this.rowCount = -1; // number of rows if the server has not sent all of them yet, see _hasMoreRows
+  this._rowsRequested = false;
   this.rowWidth = 0;
   this.rowBorderWidth; // read-only, set by _calculateRowBorderWidth(), also used in TableLayout.js
   this.rowBorderLeftWidth = 0; // read-only, set by _calculateRowBorderWidth(), also used in TableHeader.js
@@ -531,6 +533,13 @@ scout.Table.prototype.toggleSelection = function() {
 };
 
 scout.Table.prototype.selectAll = function(notifyServer) {
+  notifyServer = scout.nvl(notifyServer, true);
+  if (notifyServer && this._hasMoreRows()) {
+    // The server selects the rows which are not loaded yet as well
+    this.selectRows(this.filteredRows(), false);
+    this._send('selectAll');
+    return;
+  }
   this.selectRows(this.filteredRows(), notifyServer);
 };
 
@@ -540,6 +549,13 @@ scout.Table.prototype.deselectAll = function(notifyServer) {
 
 scout.Table.prototype.checkAll = function(check) {
   check = scout.nvl(check, true);
+  if (this._hasMoreRows()) {
+    // The server checks the rows which are not loaded yet as well and sends the changed rows back
+    this._send('checkAll', {
+      checked: check
+    });
+    return;
+  }
   var rows = this.filteredRows();
   rows.forEach(function(row) {
     this.checkRow(row, check);
@@ -568,7 +584,8 @@ scout.Table.prototype._sort = function(animateAggregateRows) {
   }
 
   // Initialize comparators
-  var clientSideSortingPossible = this.uiSortPossible && this._prepareColumnsForSorting(sortColumns);
+  // Sorting only the loaded rows would be wrong, the server has to sort if there are more rows
+  var clientSideSortingPossible = this.uiSortPossible && !this._hasMoreRows() && this._prepareColumnsForSorting(sortColumns);
   if (!clientSideSortingPossible) {
     return false;
   }
@@ -2818,6 +2835,15 @@ scout.Table.prototype._syncRowIconVisible = function(rowIconVisible, oldValue) {
   }
 };
 
+scout.Table.prototype._syncRowCount = function(rowCount) {
+  this.rowCount = rowCount;
+  this._rowsRequested = false;
+};
+
+scout.Table.prototype._renderRowCount = function() {
+  this._requestRowsIfNecessary();
+};
+
 scout.Table.prototype._syncSelectedRows = function(selectedRowIds) {
   this.selectRows(this._rowsByIds(selectedRowIds), false);
   this.selectionHandler.clearLastSelectedRowMarker();
@@ -3126,6 +3152,28 @@ scout.Table.prototype._calculateViewRangeForRowIndex = function(rowIndex) {
 scout.Table.prototype._renderViewport = function() {
   var viewRange = this._calculateCurrentViewRange();
   this._renderViewRange(viewRange);
+  this._requestRowsIfNecessary();
+};
+
+/**
+ * @returns true if the server has not sent all rows yet
+ */
+scout.Table.prototype._hasMoreRows = function() {
+  return this.rowCount > this.rows.length;
+};
+
+/**
+ * Requests the next window of rows from the server if the rendered rows come close to the end of the loaded rows.
+ */
+scout.Table.prototype._requestRowsIfNecessary = function() {
+  if (this._rowsRequested || !this._hasMoreRows()) {
+    return;
+  }
+  if (this.viewRangeRendered.to < this.filteredRows().length - this.viewRangeSize) {
+    return;
+  }
+  this._rowsRequested = true;
+  this._send('rowsRequested');
 };
 
 scout.Table.prototype._rerenderViewport = function() {
@@ -3256,6 +3304,7 @@ scout.Table.prototype.containsNumberColumn = function() {
 };
 
 scout.Table.prototype._onRowsInserted = function(rows) {
+  this._rowsRequested = false;
   this.insertRows(rows, true);
 };
 
@@ -3265,6 +3314,7 @@ scout.Table.prototype._onRowsDeleted = function(rowIds) {
 };
 
 scout.Table.prototype._onAllRowsDeleted = function() {
+  this._rowsRequested = false;
   this.deleteAllRows();
 };
 
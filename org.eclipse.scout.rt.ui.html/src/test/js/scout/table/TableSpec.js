@@ -658,6 +658,34 @@ describe("Table", function() {
       expect(table.selectedRows.length).toBe(5);
       expect(table.$selectedRows().length).toBe(2);
     });
+
+    it("sends selectAll event if not all rows are loaded", function() {
+      var model = helper.createModelFixture(2, 5);
+      var table = helper.createTable(model);
+      table.rowCount = 10;
+      table.render(session.$entryPoint);
+
+      table.selectAll();
+      expect(table.selectedRows.length).toBe(5);
+      sendQueuedAjaxCalls();
+      expect(mostRecentJsonRequest()).toContainEvents(new scout.Event(table.id, 'selectAll', {}));
+    });
+  });
+
+  describe("checkAll", function() {
+    it("sends checkAll event if not all rows are loaded", function() {
+      var model = helper.createModelFixture(2, 5);
+      model.checkable = true;
+      var table = helper.createTable(model);
+      table.rowCount = 10;
+      table.render(session.$entryPoint);
+
+      table.checkAll(false);
+      sendQueuedAjaxCalls();
+      expect(mostRecentJsonRequest()).toContainEvents(new scout.Event(table.id, 'checkAll', {
+        checked: false
+      }));
+    });
   });
 
   describe("resizeColumn", function() {
@@ -1010,6 +1038,22 @@ describe("Table", function() {
       expect(mostRecentJsonRequest()).toContainEvents(event);
     });
 
+    it("sends sortRows event when not all rows are loaded", function() {
+      prepareTable();
+      table.rowCount = 10;
+      render(table);
+      spyOn(scout.device, "supportsInternationalization").and.returnValue(true);
+
+      table.sort(column0, 'desc');
+      sendQueuedAjaxCalls();
+
+      var event = new scout.Event(table.id, 'sortRows', {
+        columnId: table.columns[0].id,
+        sortAscending: false
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
     it("sends sortRows event when client side sorting is not possible", function() {
       prepareTable();
       render(table);